@@ -54,20 +54,24 @@ import kotlin.CharSequence
 import kotlin.Float
 import kotlin.Function
 import kotlin.Int
+import kotlin.Long
 import kotlin.String
 import kotlin.Suppress
 import kotlin.Unit
 
 fun actionMenuItemView(configure: ActionMenuItemViewScope.() -> Unit = {}) =
-    v<ActionMenuItemView>(configure.bind(ActionMenuItemViewScope))
+    v<ActionMenuItemView, ActionMenuItemViewScope>(ActionMenuItemViewScope, configure)
 abstract class ActionMenuItemViewScope : AppCompatTextViewScope() {
-  fun checkable(arg: Boolean): Unit = attr("checkable", arg)
-  fun checked(arg: Boolean): Unit = attr("checked", arg)
-  fun expandedFormat(arg: Boolean): Unit = attr("expandedFormat", arg)
-  fun icon(arg: Drawable): Unit = attr("icon", arg)
-  fun itemInvoker(arg: MenuBuilder.ItemInvoker): Unit = attr("itemInvoker", arg)
-  fun popupCallback(arg: ActionMenuItemView.PopupCallback): Unit = attr("popupCallback", arg)
-  fun title(arg: CharSequence): Unit = attr("title", arg)
+  fun checkable(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.checkable), arg)
+  fun checked(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.checked), arg)
+  fun expandedFormat(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.expandedFormat), arg)
+  fun icon(arg: Drawable): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.icon), arg)
+  fun itemInvoker(arg: MenuBuilder.ItemInvoker): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.itemInvoker), arg)
+  fun popupCallback(arg: ActionMenuItemView.PopupCallback): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.popupCallback), arg)
+  fun title(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.title), arg)
   companion object : ActionMenuItemViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -75,7 +79,7 @@ abstract class ActionMenuItemViewScope : AppCompatTextViewScope() {
 }
 
 fun expandedMenuView(configure: ExpandedMenuViewScope.() -> Unit = {}) =
-    v<ExpandedMenuView>(configure.bind(ExpandedMenuViewScope))
+    v<ExpandedMenuView, ExpandedMenuViewScope>(ExpandedMenuViewScope, configure)
 abstract class ExpandedMenuViewScope : ListViewScope() {
   companion object : ExpandedMenuViewScope() {
     init {
@@ -84,14 +88,16 @@ abstract class ExpandedMenuViewScope : ListViewScope() {
 }
 
 fun listMenuItemView(configure: ListMenuItemViewScope.() -> Unit = {}) =
-    v<ListMenuItemView>(configure.bind(ListMenuItemViewScope))
+    v<ListMenuItemView, ListMenuItemViewScope>(ListMenuItemViewScope, configure)
 abstract class ListMenuItemViewScope : LinearLayoutScope() {
-  fun checkable(arg: Boolean): Unit = attr("checkable", arg)
-  fun checked(arg: Boolean): Unit = attr("checked", arg)
-  fun forceShowIcon(arg: Boolean): Unit = attr("forceShowIcon", arg)
-  fun groupDividerEnabled(arg: Boolean): Unit = attr("groupDividerEnabled", arg)
-  fun icon(arg: Drawable): Unit = attr("icon", arg)
-  fun title(arg: CharSequence): Unit = attr("title", arg)
+  fun checkable(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.checkable), arg)
+  fun checked(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.checked), arg)
+  fun forceShowIcon(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.forceShowIcon),
+      arg)
+  fun groupDividerEnabled(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.groupDividerEnabled), arg)
+  fun icon(arg: Drawable): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.icon), arg)
+  fun title(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.title), arg)
   companion object : ListMenuItemViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -99,13 +105,18 @@ abstract class ListMenuItemViewScope : LinearLayoutScope() {
 }
 
 fun actionBarContainer(configure: ActionBarContainerScope.() -> Unit = {}) =
-    v<ActionBarContainer>(configure.bind(ActionBarContainerScope))
+    v<ActionBarContainer, ActionBarContainerScope>(ActionBarContainerScope, configure)
 abstract class ActionBarContainerScope : FrameLayoutScope() {
-  fun primaryBackground(arg: Drawable): Unit = attr("primaryBackground", arg)
-  fun splitBackground(arg: Drawable): Unit = attr("splitBackground", arg)
-  fun stackedBackground(arg: Drawable): Unit = attr("stackedBackground", arg)
-  fun tabContainer(arg: ScrollingTabContainerView): Unit = attr("tabContainer", arg)
-  fun transitioning(arg: Boolean): Unit = attr("transitioning", arg)
+  fun primaryBackground(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.primaryBackground), arg)
+  fun splitBackground(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.splitBackground), arg)
+  fun stackedBackground(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.stackedBackground), arg)
+  fun tabContainer(arg: ScrollingTabContainerView): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.tabContainer), arg)
+  fun transitioning(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.transitioning),
+      arg)
   companion object : ActionBarContainerScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -113,21 +124,28 @@ abstract class ActionBarContainerScope : FrameLayoutScope() {
 }
 
 fun actionBarOverlayLayout(configure: ActionBarOverlayLayoutScope.() -> Unit = {}) =
-    v<ActionBarOverlayLayout>(configure.bind(ActionBarOverlayLayoutScope))
+    v<ActionBarOverlayLayout, ActionBarOverlayLayoutScope>(ActionBarOverlayLayoutScope, configure)
 abstract class ActionBarOverlayLayoutScope : ViewGroupScope() {
-  fun actionBarHideOffset(arg: Int): Unit = attr("actionBarHideOffset", arg)
+  fun actionBarHideOffset(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.actionBarHideOffset), arg)
   fun actionBarVisibilityCallback(arg: ActionBarOverlayLayout.ActionBarVisibilityCallback): Unit =
-      attr("actionBarVisibilityCallback", arg)
-  fun hasNonEmbeddedTabs(arg: Boolean): Unit = attr("hasNonEmbeddedTabs", arg)
-  fun hideOnContentScrollEnabled(arg: Boolean): Unit = attr("hideOnContentScrollEnabled", arg)
-  fun icon(arg: Drawable): Unit = attr("icon", arg)
-  fun icon(arg: Int): Unit = attr("icon", arg)
-  fun logo(arg: Int): Unit = attr("logo", arg)
-  fun overlayMode(arg: Boolean): Unit = attr("overlayMode", arg)
-  fun showingForActionMode(arg: Boolean): Unit = attr("showingForActionMode", arg)
-  fun uiOptions(arg: Int): Unit = attr("uiOptions", arg)
-  fun windowCallback(arg: Window.Callback): Unit = attr("windowCallback", arg)
-  fun windowTitle(arg: CharSequence): Unit = attr("windowTitle", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.actionBarVisibilityCallback), arg)
+  fun hasNonEmbeddedTabs(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.hasNonEmbeddedTabs), arg)
+  fun hideOnContentScrollEnabled(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.hideOnContentScrollEnabled), arg)
+  fun icon(arg: Drawable): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.icon), arg)
+  fun icon(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.icon), arg)
+  fun logo(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.logo), arg)
+  fun overlayMode(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.overlayMode),
+      arg)
+  fun showingForActionMode(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.showingForActionMode), arg)
+  fun uiOptions(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.uiOptions), arg)
+  fun windowCallback(arg: Window.Callback): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.windowCallback), arg)
+  fun windowTitle(arg: CharSequence): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.windowTitle), arg)
   companion object : ActionBarOverlayLayoutScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -135,13 +153,17 @@ abstract class ActionBarOverlayLayoutScope : ViewGroupScope() {
 }
 
 fun actionMenuView(configure: ActionMenuViewScope.() -> Unit = {}) =
-    v<ActionMenuView>(configure.bind(ActionMenuViewScope))
+    v<ActionMenuView, ActionMenuViewScope>(ActionMenuViewScope, configure)
 abstract class ActionMenuViewScope : LinearLayoutCompatScope() {
-  fun expandedActionViewsExclusive(arg: Boolean): Unit = attr("expandedActionViewsExclusive", arg)
-  fun onMenuItemClick(arg: ((arg0: MenuItem) -> Boolean)?): Unit = attr("onMenuItemClick", arg)
-  fun overflowIcon(arg: Drawable?): Unit = attr("overflowIcon", arg)
-  fun overflowReserved(arg: Boolean): Unit = attr("overflowReserved", arg)
-  fun popupTheme(arg: Int): Unit = attr("popupTheme", arg)
+  fun expandedActionViewsExclusive(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.expandedActionViewsExclusive), arg)
+  fun onMenuItemClick(arg: ((arg0: MenuItem) -> Boolean)?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.onMenuItemClick), arg)
+  fun overflowIcon(arg: Drawable?): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.overflowIcon),
+      arg)
+  fun overflowReserved(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.overflowReserved), arg)
+  fun popupTheme(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.popupTheme), arg)
   companion object : ActionMenuViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -149,17 +171,21 @@ abstract class ActionMenuViewScope : LinearLayoutCompatScope() {
 }
 
 fun activityChooserView(configure: ActivityChooserViewScope.() -> Unit = {}) =
-    v<ActivityChooserView>(configure.bind(ActivityChooserViewScope))
+    v<ActivityChooserView, ActivityChooserViewScope>(ActivityChooserViewScope, configure)
 abstract class ActivityChooserViewScope : ViewGroupScope() {
   fun defaultActionButtonContentDescription(arg: Int): Unit =
-      attr("defaultActionButtonContentDescription", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.defaultActionButtonContentDescription), arg)
   fun expandActivityOverflowButtonContentDescription(arg: Int): Unit =
-      attr("expandActivityOverflowButtonContentDescription", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.expandActivityOverflowButtonContentDescription),
+      arg)
   fun expandActivityOverflowButtonDrawable(arg: Drawable): Unit =
-      attr("expandActivityOverflowButtonDrawable", arg)
-  fun initialActivityCount(arg: Int): Unit = attr("initialActivityCount", arg)
-  fun onDismiss(arg: (() -> Unit)?): Unit = attr("onDismiss", arg)
-  fun provider(arg: ActionProvider): Unit = attr("provider", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.expandActivityOverflowButtonDrawable), arg)
+  fun initialActivityCount(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.initialActivityCount), arg)
+  fun onDismiss(arg: (() -> Unit)?): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.onDismiss),
+      arg)
+  fun provider(arg: ActionProvider): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.provider),
+      arg)
   companion object : ActivityChooserViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -167,7 +193,7 @@ abstract class ActivityChooserViewScope : ViewGroupScope() {
 }
 
 fun alertDialogLayout(configure: AlertDialogLayoutScope.() -> Unit = {}) =
-    v<AlertDialogLayout>(configure.bind(AlertDialogLayoutScope))
+    v<AlertDialogLayout, AlertDialogLayoutScope>(AlertDialogLayoutScope, configure)
 abstract class AlertDialogLayoutScope : LinearLayoutCompatScope() {
   companion object : AlertDialogLayoutScope() {
     init {
@@ -176,11 +202,12 @@ abstract class AlertDialogLayoutScope : LinearLayoutCompatScope() {
 }
 
 fun appCompatAutoCompleteTextView(configure: AppCompatAutoCompleteTextViewScope.() -> Unit = {}) =
-    v<AppCompatAutoCompleteTextView>(configure.bind(AppCompatAutoCompleteTextViewScope))
+    v<AppCompatAutoCompleteTextView, AppCompatAutoCompleteTextViewScope>(AppCompatAutoCompleteTextViewScope, configure)
 abstract class AppCompatAutoCompleteTextViewScope : AutoCompleteTextViewScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   companion object : AppCompatAutoCompleteTextViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -188,12 +215,14 @@ abstract class AppCompatAutoCompleteTextViewScope : AutoCompleteTextViewScope()
 }
 
 fun appCompatButton(configure: AppCompatButtonScope.() -> Unit = {}) =
-    v<AppCompatButton>(configure.bind(AppCompatButtonScope))
+    v<AppCompatButton, AppCompatButtonScope>(AppCompatButtonScope, configure)
 abstract class AppCompatButtonScope : ButtonScope() {
-  fun supportAllCaps(arg: Boolean): Unit = attr("supportAllCaps", arg)
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun supportAllCaps(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportAllCaps), arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   companion object : AppCompatButtonScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -201,13 +230,16 @@ abstract class AppCompatButtonScope : ButtonScope() {
 }
 
 fun appCompatCheckBox(configure: AppCompatCheckBoxScope.() -> Unit = {}) =
-    v<AppCompatCheckBox>(configure.bind(AppCompatCheckBoxScope))
+    v<AppCompatCheckBox, AppCompatCheckBoxScope>(AppCompatCheckBoxScope, configure)
 abstract class AppCompatCheckBoxScope : CheckBoxScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
-  fun supportButtonTintList(arg: ColorStateList?): Unit = attr("supportButtonTintList", arg)
-  fun supportButtonTintMode(arg: PorterDuff.Mode?): Unit = attr("supportButtonTintMode", arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
+  fun supportButtonTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportButtonTintList), arg)
+  fun supportButtonTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportButtonTintMode), arg)
   companion object : AppCompatCheckBoxScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -215,7 +247,7 @@ abstract class AppCompatCheckBoxScope : CheckBoxScope() {
 }
 
 fun appCompatCheckedTextView(configure: AppCompatCheckedTextViewScope.() -> Unit = {}) =
-    v<AppCompatCheckedTextView>(configure.bind(AppCompatCheckedTextViewScope))
+    v<AppCompatCheckedTextView, AppCompatCheckedTextViewScope>(AppCompatCheckedTextViewScope, configure)
 abstract class AppCompatCheckedTextViewScope : CheckedTextViewScope() {
   companion object : AppCompatCheckedTextViewScope() {
     init {
@@ -224,11 +256,12 @@ abstract class AppCompatCheckedTextViewScope : CheckedTextViewScope() {
 }
 
 fun appCompatEditText(configure: AppCompatEditTextScope.() -> Unit = {}) =
-    v<AppCompatEditText>(configure.bind(AppCompatEditTextScope))
+    v<AppCompatEditText, AppCompatEditTextScope>(AppCompatEditTextScope, configure)
 abstract class AppCompatEditTextScope : EditTextScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   companion object : AppCompatEditTextScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -236,13 +269,16 @@ abstract class AppCompatEditTextScope : EditTextScope() {
 }
 
 fun appCompatImageButton(configure: AppCompatImageButtonScope.() -> Unit = {}) =
-    v<AppCompatImageButton>(configure.bind(AppCompatImageButtonScope))
+    v<AppCompatImageButton, AppCompatImageButtonScope>(AppCompatImageButtonScope, configure)
 abstract class AppCompatImageButtonScope : ImageButtonScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
-  fun supportImageTintList(arg: ColorStateList?): Unit = attr("supportImageTintList", arg)
-  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit = attr("supportImageTintMode", arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
+  fun supportImageTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportImageTintList), arg)
+  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportImageTintMode), arg)
   companion object : AppCompatImageButtonScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -250,13 +286,16 @@ abstract class AppCompatImageButtonScope : ImageButtonScope() {
 }
 
 fun appCompatImageView(configure: AppCompatImageViewScope.() -> Unit = {}) =
-    v<AppCompatImageView>(configure.bind(AppCompatImageViewScope))
+    v<AppCompatImageView, AppCompatImageViewScope>(AppCompatImageViewScope, configure)
 abstract class AppCompatImageViewScope : ImageViewScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
-  fun supportImageTintList(arg: ColorStateList?): Unit = attr("supportImageTintList", arg)
-  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit = attr("supportImageTintMode", arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
+  fun supportImageTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportImageTintList), arg)
+  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportImageTintMode), arg)
   companion object : AppCompatImageViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -265,11 +304,12 @@ abstract class AppCompatImageViewScope : ImageViewScope() {
 
 fun appCompatMultiAutoCompleteTextView(configure: AppCompatMultiAutoCompleteTextViewScope.() -> Unit
     = {}) =
-    v<AppCompatMultiAutoCompleteTextView>(configure.bind(AppCompatMultiAutoCompleteTextViewScope))
+    v<AppCompatMultiAutoCompleteTextView, AppCompatMultiAutoCompleteTextViewScope>(AppCompatMultiAutoCompleteTextViewScope, configure)
 abstract class AppCompatMultiAutoCompleteTextViewScope : MultiAutoCompleteTextViewScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   companion object : AppCompatMultiAutoCompleteTextViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -277,13 +317,16 @@ abstract class AppCompatMultiAutoCompleteTextViewScope : MultiAutoCompleteTextVi
 }
 
 fun appCompatRadioButton(configure: AppCompatRadioButtonScope.() -> Unit = {}) =
-    v<AppCompatRadioButton>(configure.bind(AppCompatRadioButtonScope))
+    v<AppCompatRadioButton, AppCompatRadioButtonScope>(AppCompatRadioButtonScope, configure)
 abstract class AppCompatRadioButtonScope : RadioButtonScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
-  fun supportButtonTintList(arg: ColorStateList?): Unit = attr("supportButtonTintList", arg)
-  fun supportButtonTintMode(arg: PorterDuff.Mode?): Unit = attr("supportButtonTintMode", arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
+  fun supportButtonTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportButtonTintList), arg)
+  fun supportButtonTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportButtonTintMode), arg)
   companion object : AppCompatRadioButtonScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -291,7 +334,7 @@ abstract class AppCompatRadioButtonScope : RadioButtonScope() {
 }
 
 fun appCompatRatingBar(configure: AppCompatRatingBarScope.() -> Unit = {}) =
-    v<AppCompatRatingBar>(configure.bind(AppCompatRatingBarScope))
+    v<AppCompatRatingBar, AppCompatRatingBarScope>(AppCompatRatingBarScope, configure)
 abstract class AppCompatRatingBarScope : RatingBarScope() {
   companion object : AppCompatRatingBarScope() {
     init {
@@ -300,7 +343,7 @@ abstract class AppCompatRatingBarScope : RatingBarScope() {
 }
 
 fun appCompatSeekBar(configure: AppCompatSeekBarScope.() -> Unit = {}) =
-    v<AppCompatSeekBar>(configure.bind(AppCompatSeekBarScope))
+    v<AppCompatSeekBar, AppCompatSeekBarScope>(AppCompatSeekBarScope, configure)
 abstract class AppCompatSeekBarScope : SeekBarScope() {
   companion object : AppCompatSeekBarScope() {
     init {
@@ -309,11 +352,12 @@ abstract class AppCompatSeekBarScope : SeekBarScope() {
 }
 
 fun appCompatSpinner(configure: AppCompatSpinnerScope.() -> Unit = {}) =
-    v<AppCompatSpinner>(configure.bind(AppCompatSpinnerScope))
+    v<AppCompatSpinner, AppCompatSpinnerScope>(AppCompatSpinnerScope, configure)
 abstract class AppCompatSpinnerScope : SpinnerScope() {
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   companion object : AppCompatSpinnerScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -321,18 +365,20 @@ abstract class AppCompatSpinnerScope : SpinnerScope() {
 }
 
 fun appCompatTextView(configure: AppCompatTextViewScope.() -> Unit = {}) =
-    v<AppCompatTextView>(configure.bind(AppCompatTextViewScope))
+    v<AppCompatTextView, AppCompatTextViewScope>(AppCompatTextViewScope, configure)
 abstract class AppCompatTextViewScope : TextViewScope() {
-  fun precomputedText(arg: PrecomputedTextCompat): Unit = attr("precomputedText", arg)
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
-      arg)
+  fun precomputedText(arg: PrecomputedTextCompat): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.precomputedText), arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportBackgroundTintMode), arg)
   fun supportCompoundDrawablesTintList(arg: ColorStateList?): Unit =
-      attr("supportCompoundDrawablesTintList", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportCompoundDrawablesTintList), arg)
   fun supportCompoundDrawablesTintMode(arg: PorterDuff.Mode?): Unit =
-      attr("supportCompoundDrawablesTintMode", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.supportCompoundDrawablesTintMode), arg)
   fun textMetricsParamsCompat(arg: PrecomputedTextCompat.Params): Unit =
-      attr("textMetricsParamsCompat", arg)
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.textMetricsParamsCompat), arg)
   companion object : AppCompatTextViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -340,7 +386,7 @@ abstract class AppCompatTextViewScope : TextViewScope() {
 }
 
 fun appCompatToggleButton(configure: AppCompatToggleButtonScope.() -> Unit = {}) =
-    v<AppCompatToggleButton>(configure.bind(AppCompatToggleButtonScope))
+    v<AppCompatToggleButton, AppCompatToggleButtonScope>(AppCompatToggleButtonScope, configure)
 abstract class AppCompatToggleButtonScope : ToggleButtonScope() {
   companion object : AppCompatToggleButtonScope() {
     init {
@@ -349,9 +395,10 @@ abstract class AppCompatToggleButtonScope : ToggleButtonScope() {
 }
 
 fun buttonBarLayout(configure: ButtonBarLayoutScope.() -> Unit = {}) =
-    v<ButtonBarLayout>(configure.bind(ButtonBarLayoutScope))
+    v<ButtonBarLayout, ButtonBarLayoutScope>(ButtonBarLayoutScope, configure)
 abstract class ButtonBarLayoutScope : LinearLayoutScope() {
-  fun allowStacking(arg: Boolean): Unit = attr("allowStacking", arg)
+  fun allowStacking(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.allowStacking),
+      arg)
   companion object : ButtonBarLayoutScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -359,7 +406,7 @@ abstract class ButtonBarLayoutScope : LinearLayoutScope() {
 }
 
 fun contentFrameLayout(configure: ContentFrameLayoutScope.() -> Unit = {}) =
-    v<ContentFrameLayout>(configure.bind(ContentFrameLayoutScope))
+    v<ContentFrameLayout, ContentFrameLayoutScope>(ContentFrameLayoutScope, configure)
 abstract class ContentFrameLayoutScope : FrameLayoutScope() {
   companion object : ContentFrameLayoutScope() {
     init {
@@ -368,7 +415,7 @@ abstract class ContentFrameLayoutScope : FrameLayoutScope() {
 }
 
 fun dialogTitle(configure: DialogTitleScope.() -> Unit = {}) =
-    v<DialogTitle>(configure.bind(DialogTitleScope))
+    v<DialogTitle, DialogTitleScope>(DialogTitleScope, configure)
 abstract class DialogTitleScope : AppCompatTextViewScope() {
   companion object : DialogTitleScope() {
     init {
@@ -377,9 +424,10 @@ abstract class DialogTitleScope : AppCompatTextViewScope() {
 }
 
 fun fitWindowsFrameLayout(configure: FitWindowsFrameLayoutScope.() -> Unit = {}) =
-    v<FitWindowsFrameLayout>(configure.bind(FitWindowsFrameLayoutScope))
+    v<FitWindowsFrameLayout, FitWindowsFrameLayoutScope>(FitWindowsFrameLayoutScope, configure)
 abstract class FitWindowsFrameLayoutScope : FrameLayoutScope() {
-  fun onFitSystemWindows(arg: ((arg0: Rect) -> Unit)?): Unit = attr("onFitSystemWindows", arg)
+  fun onFitSystemWindows(arg: ((arg0: Rect) -> Unit)?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.onFitSystemWindows), arg)
   companion object : FitWindowsFrameLayoutScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -387,9 +435,10 @@ abstract class FitWindowsFrameLayoutScope : FrameLayoutScope() {
 }
 
 fun fitWindowsLinearLayout(configure: FitWindowsLinearLayoutScope.() -> Unit = {}) =
-    v<FitWindowsLinearLayout>(configure.bind(FitWindowsLinearLayoutScope))
+    v<FitWindowsLinearLayout, FitWindowsLinearLayoutScope>(FitWindowsLinearLayoutScope, configure)
 abstract class FitWindowsLinearLayoutScope : LinearLayoutScope() {
-  fun onFitSystemWindows(arg: ((arg0: Rect) -> Unit)?): Unit = attr("onFitSystemWindows", arg)
+  fun onFitSystemWindows(arg: ((arg0: Rect) -> Unit)?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.onFitSystemWindows), arg)
   companion object : FitWindowsLinearLayoutScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -397,20 +446,26 @@ abstract class FitWindowsLinearLayoutScope : LinearLayoutScope() {
 }
 
 fun linearLayoutCompat(configure: LinearLayoutCompatScope.() -> Unit = {}) =
-    v<LinearLayoutCompat>(configure.bind(LinearLayoutCompatScope))
+    v<LinearLayoutCompat, LinearLayoutCompatScope>(LinearLayoutCompatScope, configure)
 abstract class LinearLayoutCompatScope : ViewGroupScope() {
-  fun baselineAligned(arg: Boolean): Unit = attr("baselineAligned", arg)
-  fun baselineAlignedChildIndex(arg: Int): Unit = attr("baselineAlignedChildIndex", arg)
-  fun dividerDrawable(arg: Drawable): Unit = attr("dividerDrawable", arg)
-  fun dividerPadding(arg: Int): Unit = attr("dividerPadding", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun horizontalGravity(arg: Int): Unit = attr("horizontalGravity", arg)
-  fun measureWithLargestChildEnabled(arg: Boolean): Unit = attr("measureWithLargestChildEnabled",
+  fun baselineAligned(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.baselineAligned), arg)
+  fun baselineAlignedChildIndex(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.baselineAlignedChildIndex), arg)
+  fun dividerDrawable(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.dividerDrawable), arg)
+  fun dividerPadding(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.dividerPadding),
       arg)
-  fun orientation(arg: Int): Unit = attr("orientation", arg)
-  fun showDividers(arg: Int): Unit = attr("showDividers", arg)
-  fun verticalGravity(arg: Int): Unit = attr("verticalGravity", arg)
-  fun weightSum(arg: Float): Unit = attr("weightSum", arg)
+  fun gravity(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.gravity), arg)
+  fun horizontalGravity(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.horizontalGravity), arg)
+  fun measureWithLargestChildEnabled(arg: Boolean): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.measureWithLargestChildEnabled), arg)
+  fun orientation(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.orientation), arg)
+  fun showDividers(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.showDividers), arg)
+  fun verticalGravity(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.verticalGravity),
+      arg)
+  fun weightSum(arg: Float): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.weightSum), arg)
   companion object : LinearLayoutCompatScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -418,11 +473,13 @@ abstract class LinearLayoutCompatScope : ViewGroupScope() {
 }
 
 fun scrollingTabContainerView(configure: ScrollingTabContainerViewScope.() -> Unit = {}) =
-    v<ScrollingTabContainerView>(configure.bind(ScrollingTabContainerViewScope))
+    v<ScrollingTabContainerView, ScrollingTabContainerViewScope>(ScrollingTabContainerViewScope, configure)
 abstract class ScrollingTabContainerViewScope : HorizontalScrollViewScope() {
-  fun allowCollapse(arg: Boolean): Unit = attr("allowCollapse", arg)
-  fun contentHeight(arg: Int): Unit = attr("contentHeight", arg)
-  fun tabSelected(arg: Int): Unit = attr("tabSelected", arg)
+  fun allowCollapse(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.allowCollapse),
+      arg)
+  fun contentHeight(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.contentHeight),
+      arg)
+  fun tabSelected(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.tabSelected), arg)
   companion object : ScrollingTabContainerViewScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -430,65 +487,98 @@ abstract class ScrollingTabContainerViewScope : HorizontalScrollViewScope() {
 }
 
 fun switchCompat(configure: SwitchCompatScope.() -> Unit = {}) =
-    v<SwitchCompat>(configure.bind(SwitchCompatScope))
+    v<SwitchCompat, SwitchCompatScope>(SwitchCompatScope, configure)
 abstract class SwitchCompatScope : CompoundButtonScope() {
-  fun showText(arg: Boolean): Unit = attr("showText", arg)
-  fun splitTrack(arg: Boolean): Unit = attr("splitTrack", arg)
-  fun switchMinWidth(arg: Int): Unit = attr("switchMinWidth", arg)
-  fun switchPadding(arg: Int): Unit = attr("switchPadding", arg)
-  fun switchTypeface(arg: Typeface): Unit = attr("switchTypeface", arg)
-  fun textOff(arg: CharSequence): Unit = attr("textOff", arg)
-  fun textOn(arg: CharSequence): Unit = attr("textOn", arg)
-  fun thumbDrawable(arg: Drawable): Unit = attr("thumbDrawable", arg)
-  fun thumbResource(arg: Int): Unit = attr("thumbResource", arg)
-  fun thumbTextPadding(arg: Int): Unit = attr("thumbTextPadding", arg)
-  fun thumbTintList(arg: ColorStateList?): Unit = attr("thumbTintList", arg)
-  fun thumbTintMode(arg: PorterDuff.Mode?): Unit = attr("thumbTintMode", arg)
-  fun trackDrawable(arg: Drawable): Unit = attr("trackDrawable", arg)
-  fun trackResource(arg: Int): Unit = attr("trackResource", arg)
-  fun trackTintList(arg: ColorStateList?): Unit = attr("trackTintList", arg)
-  fun trackTintMode(arg: PorterDuff.Mode?): Unit = attr("trackTintMode", arg)
+  fun showText(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.showText), arg)
+  fun splitTrack(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.splitTrack), arg)
+  fun switchMinWidth(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.switchMinWidth),
+      arg)
+  fun switchPadding(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.switchPadding),
+      arg)
+  fun switchTypeface(arg: Typeface): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.switchTypeface), arg)
+  fun textOff(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.textOff), arg)
+  fun textOn(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.textOn), arg)
+  fun thumbDrawable(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.thumbDrawable), arg)
+  fun thumbResource(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.thumbResource),
+      arg)
+  fun thumbTextPadding(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.thumbTextPadding), arg)
+  fun thumbTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.thumbTintList), arg)
+  fun thumbTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.thumbTintMode), arg)
+  fun trackDrawable(arg: Drawable): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.trackDrawable), arg)
+  fun trackResource(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.trackResource),
+      arg)
+  fun trackTintList(arg: ColorStateList?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.trackTintList), arg)
+  fun trackTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.trackTintMode), arg)
   companion object : SwitchCompatScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
   }
 }
 
-fun toolbar(configure: ToolbarScope.() -> Unit = {}) = v<Toolbar>(configure.bind(ToolbarScope))
+fun toolbar(configure: ToolbarScope.() -> Unit = {}) = v<Toolbar, ToolbarScope>(ToolbarScope, configure)
 abstract class ToolbarScope : ViewGroupScope() {
-  fun collapseContentDescription(arg: Int): Unit = attr("collapseContentDescription", arg)
-  fun collapseContentDescription(arg: CharSequence?): Unit = attr("collapseContentDescription", arg)
-  fun collapseIcon(arg: Drawable?): Unit = attr("collapseIcon", arg)
-  fun collapseIcon(arg: Int): Unit = attr("collapseIcon", arg)
-  fun collapsible(arg: Boolean): Unit = attr("collapsible", arg)
-  fun contentInsetEndWithActions(arg: Int): Unit = attr("contentInsetEndWithActions", arg)
-  fun contentInsetStartWithNavigation(arg: Int): Unit = attr("contentInsetStartWithNavigation", arg)
-  fun logo(arg: Int): Unit = attr("logo", arg)
-  fun logo(arg: Drawable): Unit = attr("logo", arg)
-  fun logoDescription(arg: Int): Unit = attr("logoDescription", arg)
-  fun logoDescription(arg: CharSequence): Unit = attr("logoDescription", arg)
-  fun navigationContentDescription(arg: Int): Unit = attr("navigationContentDescription", arg)
-  fun navigationContentDescription(arg: CharSequence?): Unit = attr("navigationContentDescription",
+  fun collapseContentDescription(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.collapseContentDescription), arg)
+  fun collapseContentDescription(arg: CharSequence?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.collapseContentDescription), arg)
+  fun collapseIcon(arg: Drawable?): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.collapseIcon),
+      arg)
+  fun collapseIcon(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.collapseIcon), arg)
+  fun collapsible(arg: Boolean): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.collapsible),
+      arg)
+  fun contentInsetEndWithActions(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.contentInsetEndWithActions), arg)
+  fun contentInsetStartWithNavigation(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.contentInsetStartWithNavigation), arg)
+  fun logo(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.logo), arg)
+  fun logo(arg: Drawable): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.logo), arg)
+  fun logoDescription(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.logoDescription),
+      arg)
+  fun logoDescription(arg: CharSequence): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.logoDescription), arg)
+  fun navigationContentDescription(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.navigationContentDescription), arg)
+  fun navigationContentDescription(arg: CharSequence?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.navigationContentDescription), arg)
+  fun navigationIcon(arg: Drawable?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.navigationIcon), arg)
+  fun navigationIcon(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.navigationIcon),
+      arg)
+  fun navigationOnClickListener(arg: View.OnClickListener): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.navigationOnClickListener), arg)
+  fun onMenuItemClick(arg: ((arg0: MenuItem) -> Boolean)?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.onMenuItemClick), arg)
+  fun overflowIcon(arg: Drawable?): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.overflowIcon),
+      arg)
+  fun popupTheme(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.popupTheme), arg)
+  fun subtitle(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.subtitle), arg)
+  fun subtitle(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.subtitle), arg)
+  fun subtitleTextColor(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.subtitleTextColor), arg)
+  fun subtitleTextColor(arg: ColorStateList): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.subtitleTextColor), arg)
+  fun title(arg: CharSequence): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.title), arg)
+  fun title(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.title), arg)
+  fun titleMarginBottom(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleMarginBottom), arg)
+  fun titleMarginEnd(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleMarginEnd),
       arg)
-  fun navigationIcon(arg: Drawable?): Unit = attr("navigationIcon", arg)
-  fun navigationIcon(arg: Int): Unit = attr("navigationIcon", arg)
-  fun navigationOnClickListener(arg: View.OnClickListener): Unit = attr("navigationOnClickListener",
+  fun titleMarginStart(arg: Int): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleMarginStart), arg)
+  fun titleMarginTop(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleMarginTop),
       arg)
-  fun onMenuItemClick(arg: ((arg0: MenuItem) -> Boolean)?): Unit = attr("onMenuItemClick", arg)
-  fun overflowIcon(arg: Drawable?): Unit = attr("overflowIcon", arg)
-  fun popupTheme(arg: Int): Unit = attr("popupTheme", arg)
-  fun subtitle(arg: Int): Unit = attr("subtitle", arg)
-  fun subtitle(arg: CharSequence): Unit = attr("subtitle", arg)
-  fun subtitleTextColor(arg: Int): Unit = attr("subtitleTextColor", arg)
-  fun subtitleTextColor(arg: ColorStateList): Unit = attr("subtitleTextColor", arg)
-  fun title(arg: CharSequence): Unit = attr("title", arg)
-  fun title(arg: Int): Unit = attr("title", arg)
-  fun titleMarginBottom(arg: Int): Unit = attr("titleMarginBottom", arg)
-  fun titleMarginEnd(arg: Int): Unit = attr("titleMarginEnd", arg)
-  fun titleMarginStart(arg: Int): Unit = attr("titleMarginStart", arg)
-  fun titleMarginTop(arg: Int): Unit = attr("titleMarginTop", arg)
-  fun titleTextColor(arg: Int): Unit = attr("titleTextColor", arg)
-  fun titleTextColor(arg: ColorStateList): Unit = attr("titleTextColor", arg)
+  fun titleTextColor(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleTextColor),
+      arg)
+  fun titleTextColor(arg: ColorStateList): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.titleTextColor), arg)
   companion object : ToolbarScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -496,12 +586,15 @@ abstract class ToolbarScope : ViewGroupScope() {
 }
 
 fun viewStubCompat(configure: ViewStubCompatScope.() -> Unit = {}) =
-    v<ViewStubCompat>(configure.bind(ViewStubCompatScope))
+    v<ViewStubCompat, ViewStubCompatScope>(ViewStubCompatScope, configure)
 abstract class ViewStubCompatScope : ViewScope() {
-  fun inflatedId(arg: Int): Unit = attr("inflatedId", arg)
-  fun layoutInflater(arg: LayoutInflater): Unit = attr("layoutInflater", arg)
-  fun layoutResource(arg: Int): Unit = attr("layoutResource", arg)
-  fun onInflate(arg: ((arg0: ViewStubCompat, arg1: View) -> Unit)?): Unit = attr("onInflate", arg)
+  fun inflatedId(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.inflatedId), arg)
+  fun layoutInflater(arg: LayoutInflater): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.layoutInflater), arg)
+  fun layoutResource(arg: Int): Unit = attr(AppCompatv7Setter.id(AppCompatv7Attrs.layoutResource),
+      arg)
+  fun onInflate(arg: ((arg0: ViewStubCompat, arg1: View) -> Unit)?): Unit =
+      attr(AppCompatv7Setter.id(AppCompatv7Attrs.onInflate), arg)
   companion object : ViewStubCompatScope() {
     init {
       Anvil.registerAttributeSetter(AppCompatv7Setter)}
@@ -515,19 +608,56 @@ abstract class ViewStubCompatScope : ViewScope() {
  * It contains views and their setters from the library appcompat-v7.
  * Please, don't edit it manually unless for debugging.
  */
-object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
+object AppCompatv7Setter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("checkable", "checked", "expandedFormat",
+      "icon", "itemInvoker", "popupCallback", "title", "forceShowIcon", "groupDividerEnabled",
+      "primaryBackground", "splitBackground", "stackedBackground", "tabContainer", "transitioning",
+      "actionBarHideOffset", "actionBarVisibilityCallback", "hasNonEmbeddedTabs",
+      "hideOnContentScrollEnabled", "logo", "overlayMode", "showingForActionMode", "uiOptions",
+      "windowCallback", "windowTitle", "expandedActionViewsExclusive", "onMenuItemClick",
+      "overflowIcon", "overflowReserved", "popupTheme", "defaultActionButtonContentDescription",
+      "expandActivityOverflowButtonContentDescription", "expandActivityOverflowButtonDrawable",
+      "initialActivityCount", "onDismiss", "provider", "supportBackgroundTintList",
+      "supportBackgroundTintMode", "supportAllCaps", "supportButtonTintList",
+      "supportButtonTintMode", "supportImageTintList", "supportImageTintMode", "precomputedText",
+      "supportCompoundDrawablesTintList", "supportCompoundDrawablesTintMode",
+      "textMetricsParamsCompat", "allowStacking", "onFitSystemWindows", "baselineAligned",
+      "baselineAlignedChildIndex", "dividerDrawable", "dividerPadding", "gravity",
+      "horizontalGravity", "measureWithLargestChildEnabled", "orientation", "showDividers",
+      "verticalGravity", "weightSum", "allowCollapse", "contentHeight", "tabSelected", "showText",
+      "splitTrack", "switchMinWidth", "switchPadding", "switchTypeface", "textOff", "textOn",
+      "thumbDrawable", "thumbResource", "thumbTextPadding", "thumbTintList", "thumbTintMode",
+      "trackDrawable", "trackResource", "trackTintList", "trackTintMode",
+      "collapseContentDescription", "collapseIcon", "collapsible", "contentInsetEndWithActions",
+      "contentInsetStartWithNavigation", "logoDescription", "navigationContentDescription",
+      "navigationIcon", "navigationOnClickListener", "subtitle", "subtitleTextColor",
+      "titleMarginBottom", "titleMarginEnd", "titleMarginStart", "titleMarginTop", "titleTextColor",
+      "inflatedId", "layoutInflater", "layoutResource", "onInflate")
+
   init {
     Anvil.registerAttributeSetter(this)
     Anvil.registerAttributeSetter(AppcompatV7DslSetter)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [AppCompatv7Attrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "checkable" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    AppCompatv7Attrs.checkable -> when {
       v is ActionMenuItemView && arg is Boolean -> {
         v.setCheckable(arg)
         true
@@ -538,7 +668,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "checked" -> when {
+    AppCompatv7Attrs.checked -> when {
       v is ActionMenuItemView && arg is Boolean -> {
         v.setChecked(arg)
         true
@@ -549,14 +679,14 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "expandedFormat" -> when {
+    AppCompatv7Attrs.expandedFormat -> when {
       v is ActionMenuItemView && arg is Boolean -> {
         v.setExpandedFormat(arg)
         true
       }
       else -> false
     }
-    "icon" -> when {
+    AppCompatv7Attrs.icon -> when {
       v is ActionMenuItemView && arg is Drawable -> {
         v.setIcon(arg)
         true
@@ -575,21 +705,21 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "itemInvoker" -> when {
+    AppCompatv7Attrs.itemInvoker -> when {
       v is ActionMenuItemView && arg is MenuBuilder.ItemInvoker -> {
         v.setItemInvoker(arg)
         true
       }
       else -> false
     }
-    "popupCallback" -> when {
+    AppCompatv7Attrs.popupCallback -> when {
       v is ActionMenuItemView && arg is ActionMenuItemView.PopupCallback -> {
         v.setPopupCallback(arg)
         true
       }
       else -> false
     }
-    "title" -> when {
+    AppCompatv7Attrs.title -> when {
       v is ActionMenuItemView && arg is CharSequence -> {
         v.setTitle(arg)
         true
@@ -608,84 +738,84 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "forceShowIcon" -> when {
+    AppCompatv7Attrs.forceShowIcon -> when {
       v is ListMenuItemView && arg is Boolean -> {
         v.setForceShowIcon(arg)
         true
       }
       else -> false
     }
-    "groupDividerEnabled" -> when {
+    AppCompatv7Attrs.groupDividerEnabled -> when {
       v is ListMenuItemView && arg is Boolean -> {
         v.setGroupDividerEnabled(arg)
         true
       }
       else -> false
     }
-    "primaryBackground" -> when {
+    AppCompatv7Attrs.primaryBackground -> when {
       v is ActionBarContainer && arg is Drawable -> {
         v.setPrimaryBackground(arg)
         true
       }
       else -> false
     }
-    "splitBackground" -> when {
+    AppCompatv7Attrs.splitBackground -> when {
       v is ActionBarContainer && arg is Drawable -> {
         v.setSplitBackground(arg)
         true
       }
       else -> false
     }
-    "stackedBackground" -> when {
+    AppCompatv7Attrs.stackedBackground -> when {
       v is ActionBarContainer && arg is Drawable -> {
         v.setStackedBackground(arg)
         true
       }
       else -> false
     }
-    "tabContainer" -> when {
+    AppCompatv7Attrs.tabContainer -> when {
       v is ActionBarContainer && arg is ScrollingTabContainerView -> {
         v.setTabContainer(arg)
         true
       }
       else -> false
     }
-    "transitioning" -> when {
+    AppCompatv7Attrs.transitioning -> when {
       v is ActionBarContainer && arg is Boolean -> {
         v.setTransitioning(arg)
         true
       }
       else -> false
     }
-    "actionBarHideOffset" -> when {
+    AppCompatv7Attrs.actionBarHideOffset -> when {
       v is ActionBarOverlayLayout && arg is Int -> {
         v.setActionBarHideOffset(arg)
         true
       }
       else -> false
     }
-    "actionBarVisibilityCallback" -> when {
+    AppCompatv7Attrs.actionBarVisibilityCallback -> when {
       v is ActionBarOverlayLayout && arg is ActionBarOverlayLayout.ActionBarVisibilityCallback -> {
         v.setActionBarVisibilityCallback(arg)
         true
       }
       else -> false
     }
-    "hasNonEmbeddedTabs" -> when {
+    AppCompatv7Attrs.hasNonEmbeddedTabs -> when {
       v is ActionBarOverlayLayout && arg is Boolean -> {
         v.setHasNonEmbeddedTabs(arg)
         true
       }
       else -> false
     }
-    "hideOnContentScrollEnabled" -> when {
+    AppCompatv7Attrs.hideOnContentScrollEnabled -> when {
       v is ActionBarOverlayLayout && arg is Boolean -> {
         v.setHideOnContentScrollEnabled(arg)
         true
       }
       else -> false
     }
-    "logo" -> when {
+    AppCompatv7Attrs.logo -> when {
       v is Toolbar && arg is Drawable -> {
         v.setLogo(arg)
         true
@@ -700,58 +830,59 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "overlayMode" -> when {
+    AppCompatv7Attrs.overlayMode -> when {
       v is ActionBarOverlayLayout && arg is Boolean -> {
         v.setOverlayMode(arg)
         true
       }
       else -> false
     }
-    "showingForActionMode" -> when {
+    AppCompatv7Attrs.showingForActionMode -> when {
       v is ActionBarOverlayLayout && arg is Boolean -> {
         v.setShowingForActionMode(arg)
         true
       }
       else -> false
     }
-    "uiOptions" -> when {
+    AppCompatv7Attrs.uiOptions -> when {
       v is ActionBarOverlayLayout && arg is Int -> {
         v.setUiOptions(arg)
         true
       }
       else -> false
     }
-    "windowCallback" -> when {
+    AppCompatv7Attrs.windowCallback -> when {
       v is ActionBarOverlayLayout && arg is Window.Callback -> {
         v.setWindowCallback(arg)
         true
       }
       else -> false
     }
-    "windowTitle" -> when {
+    AppCompatv7Attrs.windowTitle -> when {
       v is ActionBarOverlayLayout && arg is CharSequence -> {
         v.setWindowTitle(arg)
         true
       }
       else -> false
     }
-    "expandedActionViewsExclusive" -> when {
+    AppCompatv7Attrs.expandedActionViewsExclusive -> when {
       v is ActionMenuView && arg is Boolean -> {
         v.setExpandedActionViewsExclusive(arg)
         true
       }
       else -> false
     }
-    "onMenuItemClick" -> when {
+    AppCompatv7Attrs.onMenuItemClick -> when {
       v is ActionMenuView -> when {
         arg == null -> {
           v.setOnMenuItemClickListener(null as? ActionMenuView.OnMenuItemClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MenuItem) -> Boolean
-          v.setOnMenuItemClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnMenuItemClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MenuItem) -> Boolean)?.invoke(arg0)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -763,9 +894,10 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MenuItem) -> Boolean
-          v.setOnMenuItemClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnMenuItemClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MenuItem) -> Boolean)?.invoke(arg0)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -773,7 +905,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "overflowIcon" -> when {
+    AppCompatv7Attrs.overflowIcon -> when {
       v is ActionMenuView && (arg == null || arg is Drawable) -> {
         v.setOverflowIcon(arg as Drawable)
         true
@@ -784,14 +916,14 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "overflowReserved" -> when {
+    AppCompatv7Attrs.overflowReserved -> when {
       v is ActionMenuView && arg is Boolean -> {
         v.setOverflowReserved(arg)
         true
       }
       else -> false
     }
-    "popupTheme" -> when {
+    AppCompatv7Attrs.popupTheme -> when {
       v is ActionMenuView && arg is Int -> {
         v.setPopupTheme(arg)
         true
@@ -802,44 +934,45 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "defaultActionButtonContentDescription" -> when {
+    AppCompatv7Attrs.defaultActionButtonContentDescription -> when {
       v is ActivityChooserView && arg is Int -> {
         v.setDefaultActionButtonContentDescription(arg)
         true
       }
       else -> false
     }
-    "expandActivityOverflowButtonContentDescription" -> when {
+    AppCompatv7Attrs.expandActivityOverflowButtonContentDescription -> when {
       v is ActivityChooserView && arg is Int -> {
         v.setExpandActivityOverflowButtonContentDescription(arg)
         true
       }
       else -> false
     }
-    "expandActivityOverflowButtonDrawable" -> when {
+    AppCompatv7Attrs.expandActivityOverflowButtonDrawable -> when {
       v is ActivityChooserView && arg is Drawable -> {
         v.setExpandActivityOverflowButtonDrawable(arg)
         true
       }
       else -> false
     }
-    "initialActivityCount" -> when {
+    AppCompatv7Attrs.initialActivityCount -> when {
       v is ActivityChooserView && arg is Int -> {
         v.setInitialActivityCount(arg)
         true
       }
       else -> false
     }
-    "onDismiss" -> when {
+    AppCompatv7Attrs.onDismiss -> when {
       v is ActivityChooserView -> when {
         arg == null -> {
           v.setOnDismissListener(null as? PopupWindow.OnDismissListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Unit
-          v.setOnDismissListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnDismissListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Unit)?.invoke()?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -847,14 +980,14 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "provider" -> when {
+    AppCompatv7Attrs.provider -> when {
       v is ActivityChooserView && arg is ActionProvider -> {
         v.setProvider(arg)
         true
       }
       else -> false
     }
-    "supportBackgroundTintList" -> when {
+    AppCompatv7Attrs.supportBackgroundTintList -> when {
       v is AppCompatAutoCompleteTextView && (arg == null || arg is ColorStateList) -> {
         v.setSupportBackgroundTintList(arg as ColorStateList)
         true
@@ -897,7 +1030,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "supportBackgroundTintMode" -> when {
+    AppCompatv7Attrs.supportBackgroundTintMode -> when {
       v is AppCompatAutoCompleteTextView && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportBackgroundTintMode(arg as PorterDuff.Mode)
         true
@@ -940,14 +1073,14 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "supportAllCaps" -> when {
+    AppCompatv7Attrs.supportAllCaps -> when {
       v is AppCompatButton && arg is Boolean -> {
         v.setSupportAllCaps(arg)
         true
       }
       else -> false
     }
-    "supportButtonTintList" -> when {
+    AppCompatv7Attrs.supportButtonTintList -> when {
       v is AppCompatCheckBox && (arg == null || arg is ColorStateList) -> {
         v.setSupportButtonTintList(arg as ColorStateList)
         true
@@ -958,7 +1091,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "supportButtonTintMode" -> when {
+    AppCompatv7Attrs.supportButtonTintMode -> when {
       v is AppCompatCheckBox && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportButtonTintMode(arg as PorterDuff.Mode)
         true
@@ -969,7 +1102,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "supportImageTintList" -> when {
+    AppCompatv7Attrs.supportImageTintList -> when {
       v is AppCompatImageButton && (arg == null || arg is ColorStateList) -> {
         v.setSupportImageTintList(arg as ColorStateList)
         true
@@ -980,7 +1113,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "supportImageTintMode" -> when {
+    AppCompatv7Attrs.supportImageTintMode -> when {
       v is AppCompatImageButton && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportImageTintMode(arg as PorterDuff.Mode)
         true
@@ -991,51 +1124,52 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "precomputedText" -> when {
+    AppCompatv7Attrs.precomputedText -> when {
       v is AppCompatTextView && arg is PrecomputedTextCompat -> {
         v.setPrecomputedText(arg)
         true
       }
       else -> false
     }
-    "supportCompoundDrawablesTintList" -> when {
+    AppCompatv7Attrs.supportCompoundDrawablesTintList -> when {
       v is AppCompatTextView && (arg == null || arg is ColorStateList) -> {
         v.setSupportCompoundDrawablesTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "supportCompoundDrawablesTintMode" -> when {
+    AppCompatv7Attrs.supportCompoundDrawablesTintMode -> when {
       v is AppCompatTextView && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportCompoundDrawablesTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "textMetricsParamsCompat" -> when {
+    AppCompatv7Attrs.textMetricsParamsCompat -> when {
       v is AppCompatTextView && arg is PrecomputedTextCompat.Params -> {
         v.setTextMetricsParamsCompat(arg)
         true
       }
       else -> false
     }
-    "allowStacking" -> when {
+    AppCompatv7Attrs.allowStacking -> when {
       v is ButtonBarLayout && arg is Boolean -> {
         v.setAllowStacking(arg)
         true
       }
       else -> false
     }
-    "onFitSystemWindows" -> when {
+    AppCompatv7Attrs.onFitSystemWindows -> when {
       v is FitWindowsFrameLayout -> when {
         arg == null -> {
           v.setOnFitSystemWindowsListener(null as? FitWindowsViewGroup.OnFitSystemWindowsListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Rect) -> Unit
-          v.setOnFitSystemWindowsListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnFitSystemWindowsListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: Rect) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -1047,9 +1181,10 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Rect) -> Unit
-          v.setOnFitSystemWindowsListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnFitSystemWindowsListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: Rect) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -1057,217 +1192,217 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "baselineAligned" -> when {
+    AppCompatv7Attrs.baselineAligned -> when {
       v is LinearLayoutCompat && arg is Boolean -> {
         v.setBaselineAligned(arg)
         true
       }
       else -> false
     }
-    "baselineAlignedChildIndex" -> when {
+    AppCompatv7Attrs.baselineAlignedChildIndex -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setBaselineAlignedChildIndex(arg)
         true
       }
       else -> false
     }
-    "dividerDrawable" -> when {
+    AppCompatv7Attrs.dividerDrawable -> when {
       v is LinearLayoutCompat && arg is Drawable -> {
         v.setDividerDrawable(arg)
         true
       }
       else -> false
     }
-    "dividerPadding" -> when {
+    AppCompatv7Attrs.dividerPadding -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setDividerPadding(arg)
         true
       }
       else -> false
     }
-    "gravity" -> when {
+    AppCompatv7Attrs.gravity -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setGravity(arg)
         true
       }
       else -> false
     }
-    "horizontalGravity" -> when {
+    AppCompatv7Attrs.horizontalGravity -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setHorizontalGravity(arg)
         true
       }
       else -> false
     }
-    "measureWithLargestChildEnabled" -> when {
+    AppCompatv7Attrs.measureWithLargestChildEnabled -> when {
       v is LinearLayoutCompat && arg is Boolean -> {
         v.setMeasureWithLargestChildEnabled(arg)
         true
       }
       else -> false
     }
-    "orientation" -> when {
+    AppCompatv7Attrs.orientation -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setOrientation(arg)
         true
       }
       else -> false
     }
-    "showDividers" -> when {
+    AppCompatv7Attrs.showDividers -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setShowDividers(arg)
         true
       }
       else -> false
     }
-    "verticalGravity" -> when {
+    AppCompatv7Attrs.verticalGravity -> when {
       v is LinearLayoutCompat && arg is Int -> {
         v.setVerticalGravity(arg)
         true
       }
       else -> false
     }
-    "weightSum" -> when {
+    AppCompatv7Attrs.weightSum -> when {
       v is LinearLayoutCompat && arg is Float -> {
         v.setWeightSum(arg)
         true
       }
       else -> false
     }
-    "allowCollapse" -> when {
+    AppCompatv7Attrs.allowCollapse -> when {
       v is ScrollingTabContainerView && arg is Boolean -> {
         v.setAllowCollapse(arg)
         true
       }
       else -> false
     }
-    "contentHeight" -> when {
+    AppCompatv7Attrs.contentHeight -> when {
       v is ScrollingTabContainerView && arg is Int -> {
         v.setContentHeight(arg)
         true
       }
       else -> false
     }
-    "tabSelected" -> when {
+    AppCompatv7Attrs.tabSelected -> when {
       v is ScrollingTabContainerView && arg is Int -> {
         v.setTabSelected(arg)
         true
       }
       else -> false
     }
-    "showText" -> when {
+    AppCompatv7Attrs.showText -> when {
       v is SwitchCompat && arg is Boolean -> {
         v.setShowText(arg)
         true
       }
       else -> false
     }
-    "splitTrack" -> when {
+    AppCompatv7Attrs.splitTrack -> when {
       v is SwitchCompat && arg is Boolean -> {
         v.setSplitTrack(arg)
         true
       }
       else -> false
     }
-    "switchMinWidth" -> when {
+    AppCompatv7Attrs.switchMinWidth -> when {
       v is SwitchCompat && arg is Int -> {
         v.setSwitchMinWidth(arg)
         true
       }
       else -> false
     }
-    "switchPadding" -> when {
+    AppCompatv7Attrs.switchPadding -> when {
       v is SwitchCompat && arg is Int -> {
         v.setSwitchPadding(arg)
         true
       }
       else -> false
     }
-    "switchTypeface" -> when {
+    AppCompatv7Attrs.switchTypeface -> when {
       v is SwitchCompat && arg is Typeface -> {
         v.setSwitchTypeface(arg)
         true
       }
       else -> false
     }
-    "textOff" -> when {
+    AppCompatv7Attrs.textOff -> when {
       v is SwitchCompat && arg is CharSequence -> {
         v.setTextOff(arg)
         true
       }
       else -> false
     }
-    "textOn" -> when {
+    AppCompatv7Attrs.textOn -> when {
       v is SwitchCompat && arg is CharSequence -> {
         v.setTextOn(arg)
         true
       }
       else -> false
     }
-    "thumbDrawable" -> when {
+    AppCompatv7Attrs.thumbDrawable -> when {
       v is SwitchCompat && arg is Drawable -> {
         v.setThumbDrawable(arg)
         true
       }
       else -> false
     }
-    "thumbResource" -> when {
+    AppCompatv7Attrs.thumbResource -> when {
       v is SwitchCompat && arg is Int -> {
         v.setThumbResource(arg)
         true
       }
       else -> false
     }
-    "thumbTextPadding" -> when {
+    AppCompatv7Attrs.thumbTextPadding -> when {
       v is SwitchCompat && arg is Int -> {
         v.setThumbTextPadding(arg)
         true
       }
       else -> false
     }
-    "thumbTintList" -> when {
+    AppCompatv7Attrs.thumbTintList -> when {
       v is SwitchCompat && (arg == null || arg is ColorStateList) -> {
         v.setThumbTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "thumbTintMode" -> when {
+    AppCompatv7Attrs.thumbTintMode -> when {
       v is SwitchCompat && (arg == null || arg is PorterDuff.Mode) -> {
         v.setThumbTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "trackDrawable" -> when {
+    AppCompatv7Attrs.trackDrawable -> when {
       v is SwitchCompat && arg is Drawable -> {
         v.setTrackDrawable(arg)
         true
       }
       else -> false
     }
-    "trackResource" -> when {
+    AppCompatv7Attrs.trackResource -> when {
       v is SwitchCompat && arg is Int -> {
         v.setTrackResource(arg)
         true
       }
       else -> false
     }
-    "trackTintList" -> when {
+    AppCompatv7Attrs.trackTintList -> when {
       v is SwitchCompat && (arg == null || arg is ColorStateList) -> {
         v.setTrackTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "trackTintMode" -> when {
+    AppCompatv7Attrs.trackTintMode -> when {
       v is SwitchCompat && (arg == null || arg is PorterDuff.Mode) -> {
         v.setTrackTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "collapseContentDescription" -> when {
+    AppCompatv7Attrs.collapseContentDescription -> when {
       v is Toolbar && (arg == null || arg is CharSequence) -> {
         v.setCollapseContentDescription(arg as CharSequence)
         true
@@ -1278,7 +1413,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "collapseIcon" -> when {
+    AppCompatv7Attrs.collapseIcon -> when {
       v is Toolbar && (arg == null || arg is Drawable) -> {
         v.setCollapseIcon(arg as Drawable)
         true
@@ -1289,28 +1424,28 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "collapsible" -> when {
+    AppCompatv7Attrs.collapsible -> when {
       v is Toolbar && arg is Boolean -> {
         v.setCollapsible(arg)
         true
       }
       else -> false
     }
-    "contentInsetEndWithActions" -> when {
+    AppCompatv7Attrs.contentInsetEndWithActions -> when {
       v is Toolbar && arg is Int -> {
         v.setContentInsetEndWithActions(arg)
         true
       }
       else -> false
     }
-    "contentInsetStartWithNavigation" -> when {
+    AppCompatv7Attrs.contentInsetStartWithNavigation -> when {
       v is Toolbar && arg is Int -> {
         v.setContentInsetStartWithNavigation(arg)
         true
       }
       else -> false
     }
-    "logoDescription" -> when {
+    AppCompatv7Attrs.logoDescription -> when {
       v is Toolbar && arg is CharSequence -> {
         v.setLogoDescription(arg)
         true
@@ -1321,7 +1456,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "navigationContentDescription" -> when {
+    AppCompatv7Attrs.navigationContentDescription -> when {
       v is Toolbar && (arg == null || arg is CharSequence) -> {
         v.setNavigationContentDescription(arg as CharSequence)
         true
@@ -1332,7 +1467,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "navigationIcon" -> when {
+    AppCompatv7Attrs.navigationIcon -> when {
       v is Toolbar && (arg == null || arg is Drawable) -> {
         v.setNavigationIcon(arg as Drawable)
         true
@@ -1343,14 +1478,14 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "navigationOnClickListener" -> when {
+    AppCompatv7Attrs.navigationOnClickListener -> when {
       v is Toolbar && arg is View.OnClickListener -> {
         v.setNavigationOnClickListener(arg)
         true
       }
       else -> false
     }
-    "subtitle" -> when {
+    AppCompatv7Attrs.subtitle -> when {
       v is Toolbar && arg is CharSequence -> {
         v.setSubtitle(arg)
         true
@@ -1361,7 +1496,7 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "subtitleTextColor" -> when {
+    AppCompatv7Attrs.subtitleTextColor -> when {
       v is Toolbar && arg is ColorStateList -> {
         v.setSubtitleTextColor(arg)
         true
@@ -1372,35 +1507,35 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "titleMarginBottom" -> when {
+    AppCompatv7Attrs.titleMarginBottom -> when {
       v is Toolbar && arg is Int -> {
         v.setTitleMarginBottom(arg)
         true
       }
       else -> false
     }
-    "titleMarginEnd" -> when {
+    AppCompatv7Attrs.titleMarginEnd -> when {
       v is Toolbar && arg is Int -> {
         v.setTitleMarginEnd(arg)
         true
       }
       else -> false
     }
-    "titleMarginStart" -> when {
+    AppCompatv7Attrs.titleMarginStart -> when {
       v is Toolbar && arg is Int -> {
         v.setTitleMarginStart(arg)
         true
       }
       else -> false
     }
-    "titleMarginTop" -> when {
+    AppCompatv7Attrs.titleMarginTop -> when {
       v is Toolbar && arg is Int -> {
         v.setTitleMarginTop(arg)
         true
       }
       else -> false
     }
-    "titleTextColor" -> when {
+    AppCompatv7Attrs.titleTextColor -> when {
       v is Toolbar && arg is ColorStateList -> {
         v.setTitleTextColor(arg)
         true
@@ -1411,37 +1546,38 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "inflatedId" -> when {
+    AppCompatv7Attrs.inflatedId -> when {
       v is ViewStubCompat && arg is Int -> {
         v.setInflatedId(arg)
         true
       }
       else -> false
     }
-    "layoutInflater" -> when {
+    AppCompatv7Attrs.layoutInflater -> when {
       v is ViewStubCompat && arg is LayoutInflater -> {
         v.setLayoutInflater(arg)
         true
       }
       else -> false
     }
-    "layoutResource" -> when {
+    AppCompatv7Attrs.layoutResource -> when {
       v is ViewStubCompat && arg is Int -> {
         v.setLayoutResource(arg)
         true
       }
       else -> false
     }
-    "onInflate" -> when {
+    AppCompatv7Attrs.onInflate -> when {
       v is ViewStubCompat -> when {
         arg == null -> {
           v.setOnInflateListener(null as? ViewStubCompat.OnInflateListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: ViewStubCompat, arg1: View) -> Unit
-          v.setOnInflateListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnInflateListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: ViewStubCompat, arg1: View) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -1451,4 +1587,576 @@ object AppCompatv7Setter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    AppCompatv7Attrs.icon -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setIcon(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.title -> when {
+      v is Toolbar -> {
+        v.setTitle(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.actionBarHideOffset -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setActionBarHideOffset(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.logo -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setLogo(arg)
+        true
+      }
+      v is Toolbar -> {
+        v.setLogo(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.uiOptions -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setUiOptions(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.popupTheme -> when {
+      v is ActionMenuView -> {
+        v.setPopupTheme(arg)
+        true
+      }
+      v is Toolbar -> {
+        v.setPopupTheme(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.defaultActionButtonContentDescription -> when {
+      v is ActivityChooserView -> {
+        v.setDefaultActionButtonContentDescription(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.expandActivityOverflowButtonContentDescription -> when {
+      v is ActivityChooserView -> {
+        v.setExpandActivityOverflowButtonContentDescription(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.initialActivityCount -> when {
+      v is ActivityChooserView -> {
+        v.setInitialActivityCount(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.baselineAlignedChildIndex -> when {
+      v is LinearLayoutCompat -> {
+        v.setBaselineAlignedChildIndex(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.dividerPadding -> when {
+      v is LinearLayoutCompat -> {
+        v.setDividerPadding(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.gravity -> when {
+      v is LinearLayoutCompat -> {
+        v.setGravity(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.horizontalGravity -> when {
+      v is LinearLayoutCompat -> {
+        v.setHorizontalGravity(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.orientation -> when {
+      v is LinearLayoutCompat -> {
+        v.setOrientation(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.showDividers -> when {
+      v is LinearLayoutCompat -> {
+        v.setShowDividers(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.verticalGravity -> when {
+      v is LinearLayoutCompat -> {
+        v.setVerticalGravity(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.contentHeight -> when {
+      v is ScrollingTabContainerView -> {
+        v.setContentHeight(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.tabSelected -> when {
+      v is ScrollingTabContainerView -> {
+        v.setTabSelected(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.switchMinWidth -> when {
+      v is SwitchCompat -> {
+        v.setSwitchMinWidth(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.switchPadding -> when {
+      v is SwitchCompat -> {
+        v.setSwitchPadding(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.thumbResource -> when {
+      v is SwitchCompat -> {
+        v.setThumbResource(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.thumbTextPadding -> when {
+      v is SwitchCompat -> {
+        v.setThumbTextPadding(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.trackResource -> when {
+      v is SwitchCompat -> {
+        v.setTrackResource(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.collapseContentDescription -> when {
+      v is Toolbar -> {
+        v.setCollapseContentDescription(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.collapseIcon -> when {
+      v is Toolbar -> {
+        v.setCollapseIcon(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.contentInsetEndWithActions -> when {
+      v is Toolbar -> {
+        v.setContentInsetEndWithActions(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.contentInsetStartWithNavigation -> when {
+      v is Toolbar -> {
+        v.setContentInsetStartWithNavigation(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.logoDescription -> when {
+      v is Toolbar -> {
+        v.setLogoDescription(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.navigationContentDescription -> when {
+      v is Toolbar -> {
+        v.setNavigationContentDescription(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.navigationIcon -> when {
+      v is Toolbar -> {
+        v.setNavigationIcon(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.subtitle -> when {
+      v is Toolbar -> {
+        v.setSubtitle(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.subtitleTextColor -> when {
+      v is Toolbar -> {
+        v.setSubtitleTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.titleMarginBottom -> when {
+      v is Toolbar -> {
+        v.setTitleMarginBottom(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.titleMarginEnd -> when {
+      v is Toolbar -> {
+        v.setTitleMarginEnd(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.titleMarginStart -> when {
+      v is Toolbar -> {
+        v.setTitleMarginStart(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.titleMarginTop -> when {
+      v is Toolbar -> {
+        v.setTitleMarginTop(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.titleTextColor -> when {
+      v is Toolbar -> {
+        v.setTitleTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.inflatedId -> when {
+      v is ViewStubCompat -> {
+        v.setInflatedId(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.layoutResource -> when {
+      v is ViewStubCompat -> {
+        v.setLayoutResource(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    AppCompatv7Attrs.weightSum -> when {
+      v is LinearLayoutCompat -> {
+        v.setWeightSum(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    AppCompatv7Attrs.checkable -> when {
+      v is ActionMenuItemView -> {
+        v.setCheckable(arg)
+        true
+      }
+      v is ListMenuItemView -> {
+        v.setCheckable(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.checked -> when {
+      v is ActionMenuItemView -> {
+        v.setChecked(arg)
+        true
+      }
+      v is ListMenuItemView -> {
+        v.setChecked(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.expandedFormat -> when {
+      v is ActionMenuItemView -> {
+        v.setExpandedFormat(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.forceShowIcon -> when {
+      v is ListMenuItemView -> {
+        v.setForceShowIcon(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.groupDividerEnabled -> when {
+      v is ListMenuItemView -> {
+        v.setGroupDividerEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.transitioning -> when {
+      v is ActionBarContainer -> {
+        v.setTransitioning(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.hasNonEmbeddedTabs -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setHasNonEmbeddedTabs(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.hideOnContentScrollEnabled -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setHideOnContentScrollEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.overlayMode -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setOverlayMode(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.showingForActionMode -> when {
+      v is ActionBarOverlayLayout -> {
+        v.setShowingForActionMode(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.expandedActionViewsExclusive -> when {
+      v is ActionMenuView -> {
+        v.setExpandedActionViewsExclusive(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.overflowReserved -> when {
+      v is ActionMenuView -> {
+        v.setOverflowReserved(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.supportAllCaps -> when {
+      v is AppCompatButton -> {
+        v.setSupportAllCaps(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.allowStacking -> when {
+      v is ButtonBarLayout -> {
+        v.setAllowStacking(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.baselineAligned -> when {
+      v is LinearLayoutCompat -> {
+        v.setBaselineAligned(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.measureWithLargestChildEnabled -> when {
+      v is LinearLayoutCompat -> {
+        v.setMeasureWithLargestChildEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.allowCollapse -> when {
+      v is ScrollingTabContainerView -> {
+        v.setAllowCollapse(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.showText -> when {
+      v is SwitchCompat -> {
+        v.setShowText(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.splitTrack -> when {
+      v is SwitchCompat -> {
+        v.setSplitTrack(arg)
+        true
+      }
+      else -> false
+    }
+    AppCompatv7Attrs.collapsible -> when {
+      v is Toolbar -> {
+        v.setCollapsible(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [AppCompatv7Setter].
+ */
+object AppCompatv7Attrs {
+  const val checkable: Int = 0
+  const val checked: Int = 1
+  const val expandedFormat: Int = 2
+  const val icon: Int = 3
+  const val itemInvoker: Int = 4
+  const val popupCallback: Int = 5
+  const val title: Int = 6
+  const val forceShowIcon: Int = 7
+  const val groupDividerEnabled: Int = 8
+  const val primaryBackground: Int = 9
+  const val splitBackground: Int = 10
+  const val stackedBackground: Int = 11
+  const val tabContainer: Int = 12
+  const val transitioning: Int = 13
+  const val actionBarHideOffset: Int = 14
+  const val actionBarVisibilityCallback: Int = 15
+  const val hasNonEmbeddedTabs: Int = 16
+  const val hideOnContentScrollEnabled: Int = 17
+  const val logo: Int = 18
+  const val overlayMode: Int = 19
+  const val showingForActionMode: Int = 20
+  const val uiOptions: Int = 21
+  const val windowCallback: Int = 22
+  const val windowTitle: Int = 23
+  const val expandedActionViewsExclusive: Int = 24
+  const val onMenuItemClick: Int = 25
+  const val overflowIcon: Int = 26
+  const val overflowReserved: Int = 27
+  const val popupTheme: Int = 28
+  const val defaultActionButtonContentDescription: Int = 29
+  const val expandActivityOverflowButtonContentDescription: Int = 30
+  const val expandActivityOverflowButtonDrawable: Int = 31
+  const val initialActivityCount: Int = 32
+  const val onDismiss: Int = 33
+  const val provider: Int = 34
+  const val supportBackgroundTintList: Int = 35
+  const val supportBackgroundTintMode: Int = 36
+  const val supportAllCaps: Int = 37
+  const val supportButtonTintList: Int = 38
+  const val supportButtonTintMode: Int = 39
+  const val supportImageTintList: Int = 40
+  const val supportImageTintMode: Int = 41
+  const val precomputedText: Int = 42
+  const val supportCompoundDrawablesTintList: Int = 43
+  const val supportCompoundDrawablesTintMode: Int = 44
+  const val textMetricsParamsCompat: Int = 45
+  const val allowStacking: Int = 46
+  const val onFitSystemWindows: Int = 47
+  const val baselineAligned: Int = 48
+  const val baselineAlignedChildIndex: Int = 49
+  const val dividerDrawable: Int = 50
+  const val dividerPadding: Int = 51
+  const val gravity: Int = 52
+  const val horizontalGravity: Int = 53
+  const val measureWithLargestChildEnabled: Int = 54
+  const val orientation: Int = 55
+  const val showDividers: Int = 56
+  const val verticalGravity: Int = 57
+  const val weightSum: Int = 58
+  const val allowCollapse: Int = 59
+  const val contentHeight: Int = 60
+  const val tabSelected: Int = 61
+  const val showText: Int = 62
+  const val splitTrack: Int = 63
+  const val switchMinWidth: Int = 64
+  const val switchPadding: Int = 65
+  const val switchTypeface: Int = 66
+  const val textOff: Int = 67
+  const val textOn: Int = 68
+  const val thumbDrawable: Int = 69
+  const val thumbResource: Int = 70
+  const val thumbTextPadding: Int = 71
+  const val thumbTintList: Int = 72
+  const val thumbTintMode: Int = 73
+  const val trackDrawable: Int = 74
+  const val trackResource: Int = 75
+  const val trackTintList: Int = 76
+  const val trackTintMode: Int = 77
+  const val collapseContentDescription: Int = 78
+  const val collapseIcon: Int = 79
+  const val collapsible: Int = 80
+  const val contentInsetEndWithActions: Int = 81
+  const val contentInsetStartWithNavigation: Int = 82
+  const val logoDescription: Int = 83
+  const val navigationContentDescription: Int = 84
+  const val navigationIcon: Int = 85
+  const val navigationOnClickListener: Int = 86
+  const val subtitle: Int = 87
+  const val subtitleTextColor: Int = 88
+  const val titleMarginBottom: Int = 89
+  const val titleMarginEnd: Int = 90
+  const val titleMarginStart: Int = 91
+  const val titleMarginTop: Int = 92
+  const val titleTextColor: Int = 93
+  const val inflatedId: Int = 94
+  const val layoutInflater: Int = 95
+  const val layoutResource: Int = 96
+  const val onInflate: Int = 97
 }
@@ -7,9 +7,9 @@ fun ToolbarScope.layoutGravity(gravity: Int) = attr("layoutGravity", gravity)
 
 object AppcompatV7DslSetter : Anvil.AttributeSetter<Any?> {
     override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean = when(name) {
-        "layoutGravity" -> when {
-            v.layoutParams is Toolbar.LayoutParams && value is Int -> {
-                (v.layoutParams as Toolbar.LayoutParams).gravity = value
+        "layoutGravity" -> when (val p = if (value is Int) Anvil.layoutParams(v) else null) {
+            is Toolbar.LayoutParams -> {
+                p.gravity = value as Int
                 true
             }
             else -> false
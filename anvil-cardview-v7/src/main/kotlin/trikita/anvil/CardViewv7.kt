@@ -9,19 +9,26 @@ import kotlin.Any
 import kotlin.Boolean
 import kotlin.Float
 import kotlin.Int
+import kotlin.Long
 import kotlin.String
 import kotlin.Suppress
 import kotlin.Unit
 
-fun cardView(configure: CardViewScope.() -> Unit = {}) = v<CardView>(configure.bind(CardViewScope))
+fun cardView(configure: CardViewScope.() -> Unit = {}) = v<CardView, CardViewScope>(CardViewScope, configure)
 abstract class CardViewScope : FrameLayoutScope() {
-  fun cardBackgroundColor(arg: ColorStateList?): Unit = attr("cardBackgroundColor", arg)
-  fun cardBackgroundColor(arg: Int): Unit = attr("cardBackgroundColor", arg)
-  fun cardElevation(arg: Float): Unit = attr("cardElevation", arg)
-  fun maxCardElevation(arg: Float): Unit = attr("maxCardElevation", arg)
-  fun preventCornerOverlap(arg: Boolean): Unit = attr("preventCornerOverlap", arg)
-  fun radius(arg: Float): Unit = attr("radius", arg)
-  fun useCompatPadding(arg: Boolean): Unit = attr("useCompatPadding", arg)
+  fun cardBackgroundColor(arg: ColorStateList?): Unit =
+      attr(CardViewv7Setter.id(CardViewv7Attrs.cardBackgroundColor), arg)
+  fun cardBackgroundColor(arg: Int): Unit =
+      attr(CardViewv7Setter.id(CardViewv7Attrs.cardBackgroundColor), arg)
+  fun cardElevation(arg: Float): Unit = attr(CardViewv7Setter.id(CardViewv7Attrs.cardElevation),
+      arg)
+  fun maxCardElevation(arg: Float): Unit =
+      attr(CardViewv7Setter.id(CardViewv7Attrs.maxCardElevation), arg)
+  fun preventCornerOverlap(arg: Boolean): Unit =
+      attr(CardViewv7Setter.id(CardViewv7Attrs.preventCornerOverlap), arg)
+  fun radius(arg: Float): Unit = attr(CardViewv7Setter.id(CardViewv7Attrs.radius), arg)
+  fun useCompatPadding(arg: Boolean): Unit =
+      attr(CardViewv7Setter.id(CardViewv7Attrs.useCompatPadding), arg)
   companion object : CardViewScope() {
     init {
       Anvil.registerAttributeSetter(CardViewv7Setter)}
@@ -35,18 +42,33 @@ abstract class CardViewScope : FrameLayoutScope() {
  * It contains views and their setters from the library cardview-v7.
  * Please, don't edit it manually unless for debugging.
  */
-object CardViewv7Setter : Anvil.AttributeSetter<Any?> {
+object CardViewv7Setter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("cardBackgroundColor", "cardElevation",
+      "maxCardElevation", "preventCornerOverlap", "radius", "useCompatPadding")
+
   init {
     Anvil.registerAttributeSetter(this)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [CardViewv7Attrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "cardBackgroundColor" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    CardViewv7Attrs.cardBackgroundColor -> when {
       v is CardView && (arg == null || arg is ColorStateList) -> {
         v.setCardBackgroundColor(arg as ColorStateList)
         true
@@ -57,35 +79,35 @@ object CardViewv7Setter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "cardElevation" -> when {
+    CardViewv7Attrs.cardElevation -> when {
       v is CardView && arg is Float -> {
         v.setCardElevation(arg)
         true
       }
       else -> false
     }
-    "maxCardElevation" -> when {
+    CardViewv7Attrs.maxCardElevation -> when {
       v is CardView && arg is Float -> {
         v.setMaxCardElevation(arg)
         true
       }
       else -> false
     }
-    "preventCornerOverlap" -> when {
+    CardViewv7Attrs.preventCornerOverlap -> when {
       v is CardView && arg is Boolean -> {
         v.setPreventCornerOverlap(arg)
         true
       }
       else -> false
     }
-    "radius" -> when {
+    CardViewv7Attrs.radius -> when {
       v is CardView && arg is Float -> {
         v.setRadius(arg)
         true
       }
       else -> false
     }
-    "useCompatPadding" -> when {
+    CardViewv7Attrs.useCompatPadding -> when {
       v is CardView && arg is Boolean -> {
         v.setUseCompatPadding(arg)
         true
@@ -94,4 +116,90 @@ object CardViewv7Setter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    CardViewv7Attrs.cardBackgroundColor -> when {
+      v is CardView -> {
+        v.setCardBackgroundColor(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    CardViewv7Attrs.cardElevation -> when {
+      v is CardView -> {
+        v.setCardElevation(arg)
+        true
+      }
+      else -> false
+    }
+    CardViewv7Attrs.maxCardElevation -> when {
+      v is CardView -> {
+        v.setMaxCardElevation(arg)
+        true
+      }
+      else -> false
+    }
+    CardViewv7Attrs.radius -> when {
+      v is CardView -> {
+        v.setRadius(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    CardViewv7Attrs.preventCornerOverlap -> when {
+      v is CardView -> {
+        v.setPreventCornerOverlap(arg)
+        true
+      }
+      else -> false
+    }
+    CardViewv7Attrs.useCompatPadding -> when {
+      v is CardView -> {
+        v.setUseCompatPadding(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [CardViewv7Setter].
+ */
+object CardViewv7Attrs {
+  const val cardBackgroundColor: Int = 0
+  const val cardElevation: Int = 1
+  const val maxCardElevation: Int = 2
+  const val preventCornerOverlap: Int = 3
+  const val radius: Int = 4
+  const val useCompatPadding: Int = 5
 }
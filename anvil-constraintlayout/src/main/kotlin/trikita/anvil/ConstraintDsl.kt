@@ -65,7 +65,7 @@ abstract class ConstraintHelperScope : ViewScope() {
 }
 
 fun barrier(configure: BarrierScope.() -> Unit = {}) =
-    v<Barrier>(configure.bind(BarrierScope))
+    v<Barrier, BarrierScope>(BarrierScope, configure)
 abstract class BarrierScope : ConstraintHelperScope() {
     fun type(arg: Int): Unit = attr("type", arg)
     fun allowsGoneWidget(arg: Boolean): Unit = attr("allowsGoneWidget", arg)
@@ -73,13 +73,13 @@ abstract class BarrierScope : ConstraintHelperScope() {
 }
 
 fun group(configure: GroupScope.() -> Unit = {}) =
-    v<Group>(configure.bind(GroupScope))
+    v<Group, GroupScope>(GroupScope, configure)
 abstract class GroupScope : ConstraintHelperScope() {
     companion object : GroupScope()
 }
 
 fun placeholder(configure: PlaceholderScope.() -> Unit = {}) =
-    v<Placeholder>(configure.bind(PlaceholderScope))
+    v<Placeholder, PlaceholderScope>(PlaceholderScope, configure)
 abstract class PlaceholderScope : ViewGroupScope() {
     fun contentId(contentId: Int): Unit = attr("contentId", contentId)
     fun emptyVisibility(visibility: Int): Unit = attr("emptyVisibility", visibility)
@@ -87,7 +87,7 @@ abstract class PlaceholderScope : ViewGroupScope() {
 }
 
 fun guideline(configure: GuidelineScope.() -> Unit = {}) =
-    v<Guideline>(configure.bind(GuidelineScope))
+    v<Guideline, GuidelineScope>(GuidelineScope, configure)
 abstract class GuidelineScope : ViewGroupScope() {
     fun orientation(orientation: Int): Unit = attr("orientation", orientation)
     fun guideBegin(margin: Int): Unit = attr("guideBegin", margin)
@@ -56,12 +56,12 @@ import kotlin.Suppress
 import kotlin.Unit
 
 fun appBarLayout(configure: AppBarLayoutScope.() -> Unit = {}) =
-    v<AppBarLayout>(configure.bind(AppBarLayoutScope))
+    v<AppBarLayout, AppBarLayoutScope>(AppBarLayoutScope, configure)
 abstract class AppBarLayoutScope : LinearLayoutScope() {
-  fun expanded(arg: Boolean): Unit = attr("expanded", arg)
-  fun liftOnScroll(arg: Boolean): Unit = attr("liftOnScroll", arg)
-  fun liftable(arg: Boolean): Unit = attr("liftable", arg)
-  fun lifted(arg: Boolean): Unit = attr("lifted", arg)
+  fun expanded(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.expanded), arg)
+  fun liftOnScroll(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.liftOnScroll), arg)
+  fun liftable(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.liftable), arg)
+  fun lifted(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.lifted), arg)
   companion object : AppBarLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -69,33 +69,54 @@ abstract class AppBarLayoutScope : LinearLayoutScope() {
 }
 
 fun collapsingToolbarLayout(configure: CollapsingToolbarLayoutScope.() -> Unit = {}) =
-    v<CollapsingToolbarLayout>(configure.bind(CollapsingToolbarLayoutScope))
+    v<CollapsingToolbarLayout, CollapsingToolbarLayoutScope>(CollapsingToolbarLayoutScope, configure)
 abstract class CollapsingToolbarLayoutScope : FrameLayoutScope() {
-  fun collapsedTitleGravity(arg: Int): Unit = attr("collapsedTitleGravity", arg)
-  fun collapsedTitleTextAppearance(arg: Int): Unit = attr("collapsedTitleTextAppearance", arg)
-  fun collapsedTitleTextColor(arg: ColorStateList): Unit = attr("collapsedTitleTextColor", arg)
-  fun collapsedTitleTextColor(arg: Int): Unit = attr("collapsedTitleTextColor", arg)
-  fun collapsedTitleTypeface(arg: Typeface?): Unit = attr("collapsedTitleTypeface", arg)
-  fun contentScrim(arg: Drawable?): Unit = attr("contentScrim", arg)
-  fun contentScrimColor(arg: Int): Unit = attr("contentScrimColor", arg)
-  fun contentScrimResource(arg: Int): Unit = attr("contentScrimResource", arg)
-  fun expandedTitleColor(arg: Int): Unit = attr("expandedTitleColor", arg)
-  fun expandedTitleGravity(arg: Int): Unit = attr("expandedTitleGravity", arg)
-  fun expandedTitleMarginBottom(arg: Int): Unit = attr("expandedTitleMarginBottom", arg)
-  fun expandedTitleMarginEnd(arg: Int): Unit = attr("expandedTitleMarginEnd", arg)
-  fun expandedTitleMarginStart(arg: Int): Unit = attr("expandedTitleMarginStart", arg)
-  fun expandedTitleMarginTop(arg: Int): Unit = attr("expandedTitleMarginTop", arg)
-  fun expandedTitleTextAppearance(arg: Int): Unit = attr("expandedTitleTextAppearance", arg)
-  fun expandedTitleTextColor(arg: ColorStateList): Unit = attr("expandedTitleTextColor", arg)
-  fun expandedTitleTypeface(arg: Typeface?): Unit = attr("expandedTitleTypeface", arg)
-  fun scrimAnimationDuration(arg: Long): Unit = attr("scrimAnimationDuration", arg)
-  fun scrimVisibleHeightTrigger(arg: Int): Unit = attr("scrimVisibleHeightTrigger", arg)
-  fun scrimsShown(arg: Boolean): Unit = attr("scrimsShown", arg)
-  fun statusBarScrim(arg: Drawable?): Unit = attr("statusBarScrim", arg)
-  fun statusBarScrimColor(arg: Int): Unit = attr("statusBarScrimColor", arg)
-  fun statusBarScrimResource(arg: Int): Unit = attr("statusBarScrimResource", arg)
-  fun title(arg: CharSequence?): Unit = attr("title", arg)
-  fun titleEnabled(arg: Boolean): Unit = attr("titleEnabled", arg)
+  fun collapsedTitleGravity(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.collapsedTitleGravity), arg)
+  fun collapsedTitleTextAppearance(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.collapsedTitleTextAppearance), arg)
+  fun collapsedTitleTextColor(arg: ColorStateList): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.collapsedTitleTextColor), arg)
+  fun collapsedTitleTextColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.collapsedTitleTextColor), arg)
+  fun collapsedTitleTypeface(arg: Typeface?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.collapsedTitleTypeface), arg)
+  fun contentScrim(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.contentScrim), arg)
+  fun contentScrimColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.contentScrimColor),
+      arg)
+  fun contentScrimResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.contentScrimResource), arg)
+  fun expandedTitleColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.expandedTitleColor),
+      arg)
+  fun expandedTitleGravity(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleGravity), arg)
+  fun expandedTitleMarginBottom(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleMarginBottom), arg)
+  fun expandedTitleMarginEnd(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleMarginEnd), arg)
+  fun expandedTitleMarginStart(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleMarginStart), arg)
+  fun expandedTitleMarginTop(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleMarginTop), arg)
+  fun expandedTitleTextAppearance(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleTextAppearance), arg)
+  fun expandedTitleTextColor(arg: ColorStateList): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleTextColor), arg)
+  fun expandedTitleTypeface(arg: Typeface?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedTitleTypeface), arg)
+  fun scrimAnimationDuration(arg: Long): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.scrimAnimationDuration), arg)
+  fun scrimVisibleHeightTrigger(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.scrimVisibleHeightTrigger), arg)
+  fun scrimsShown(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.scrimsShown), arg)
+  fun statusBarScrim(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.statusBarScrim),
+      arg)
+  fun statusBarScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.statusBarScrimColor), arg)
+  fun statusBarScrimResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.statusBarScrimResource), arg)
+  fun title(arg: CharSequence?): Unit = attr(MaterialSetter.id(MaterialAttrs.title), arg)
+  fun titleEnabled(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.titleEnabled), arg)
   companion object : CollapsingToolbarLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -103,14 +124,19 @@ abstract class CollapsingToolbarLayoutScope : FrameLayoutScope() {
 }
 
 fun bottomAppBar(configure: BottomAppBarScope.() -> Unit = {}) =
-    v<BottomAppBar>(configure.bind(BottomAppBarScope))
+    v<BottomAppBar, BottomAppBarScope>(BottomAppBarScope, configure)
 abstract class BottomAppBarScope : ToolbarScope() {
-  fun backgroundTint(arg: ColorStateList?): Unit = attr("backgroundTint", arg)
-  fun cradleVerticalOffset(arg: Float): Unit = attr("cradleVerticalOffset", arg)
-  fun fabAlignmentMode(arg: Int): Unit = attr("fabAlignmentMode", arg)
-  fun fabCradleMargin(arg: Float): Unit = attr("fabCradleMargin", arg)
-  fun fabCradleRoundedCornerRadius(arg: Float): Unit = attr("fabCradleRoundedCornerRadius", arg)
-  fun hideOnScroll(arg: Boolean): Unit = attr("hideOnScroll", arg)
+  fun backgroundTint(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.backgroundTint), arg)
+  fun cradleVerticalOffset(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.cradleVerticalOffset), arg)
+  fun fabAlignmentMode(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.fabAlignmentMode),
+      arg)
+  fun fabCradleMargin(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.fabCradleMargin),
+      arg)
+  fun fabCradleRoundedCornerRadius(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.fabCradleRoundedCornerRadius), arg)
+  fun hideOnScroll(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.hideOnScroll), arg)
   companion object : BottomAppBarScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -118,7 +144,7 @@ abstract class BottomAppBarScope : ToolbarScope() {
 }
 
 fun bottomNavigationItemView(configure: BottomNavigationItemViewScope.() -> Unit = {}) =
-    v<BottomNavigationItemView>(configure.bind(BottomNavigationItemViewScope))
+    v<BottomNavigationItemView, BottomNavigationItemViewScope>(BottomNavigationItemViewScope, configure)
 abstract class BottomNavigationItemViewScope : FrameLayoutScope() {
   companion object : BottomNavigationItemViewScope() {
     init {
@@ -127,7 +153,7 @@ abstract class BottomNavigationItemViewScope : FrameLayoutScope() {
 }
 
 fun bottomNavigationMenuView(configure: BottomNavigationMenuViewScope.() -> Unit = {}) =
-    v<BottomNavigationMenuView>(configure.bind(BottomNavigationMenuViewScope))
+    v<BottomNavigationMenuView, BottomNavigationMenuViewScope>(BottomNavigationMenuViewScope, configure)
 abstract class BottomNavigationMenuViewScope : ViewGroupScope() {
   companion object : BottomNavigationMenuViewScope() {
     init {
@@ -136,24 +162,31 @@ abstract class BottomNavigationMenuViewScope : ViewGroupScope() {
 }
 
 fun bottomNavigationView(configure: BottomNavigationViewScope.() -> Unit = {}) =
-    v<BottomNavigationView>(configure.bind(BottomNavigationViewScope))
+    v<BottomNavigationView, BottomNavigationViewScope>(BottomNavigationViewScope, configure)
 abstract class BottomNavigationViewScope : FrameLayoutScope() {
-  fun itemBackground(arg: Drawable?): Unit = attr("itemBackground", arg)
-  fun itemBackgroundResource(arg: Int): Unit = attr("itemBackgroundResource", arg)
+  fun itemBackground(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.itemBackground),
+      arg)
+  fun itemBackgroundResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemBackgroundResource), arg)
   fun itemHorizontalTranslationEnabled(arg: Boolean): Unit =
-      attr("itemHorizontalTranslationEnabled", arg)
-  fun itemIconSize(arg: Int): Unit = attr("itemIconSize", arg)
-  fun itemIconSizeRes(arg: Int): Unit = attr("itemIconSizeRes", arg)
-  fun itemIconTintList(arg: ColorStateList?): Unit = attr("itemIconTintList", arg)
-  fun itemTextAppearanceActive(arg: Int): Unit = attr("itemTextAppearanceActive", arg)
-  fun itemTextAppearanceInactive(arg: Int): Unit = attr("itemTextAppearanceInactive", arg)
-  fun itemTextColor(arg: ColorStateList?): Unit = attr("itemTextColor", arg)
-  fun labelVisibilityMode(arg: Int): Unit = attr("labelVisibilityMode", arg)
+      attr(MaterialSetter.id(MaterialAttrs.itemHorizontalTranslationEnabled), arg)
+  fun itemIconSize(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.itemIconSize), arg)
+  fun itemIconSizeRes(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.itemIconSizeRes), arg)
+  fun itemIconTintList(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemIconTintList), arg)
+  fun itemTextAppearanceActive(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemTextAppearanceActive), arg)
+  fun itemTextAppearanceInactive(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemTextAppearanceInactive), arg)
+  fun itemTextColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemTextColor), arg)
+  fun labelVisibilityMode(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.labelVisibilityMode), arg)
   fun onNavigationItemReselected(arg: ((arg0: MenuItem) -> Unit)?): Unit =
-      attr("onNavigationItemReselected", arg)
+      attr(MaterialSetter.id(MaterialAttrs.onNavigationItemReselected), arg)
   fun onNavigationItemSelected(arg: ((arg0: MenuItem) -> Boolean)?): Unit =
-      attr("onNavigationItemSelected", arg)
-  fun selectedItemId(arg: Int): Unit = attr("selectedItemId", arg)
+      attr(MaterialSetter.id(MaterialAttrs.onNavigationItemSelected), arg)
+  fun selectedItemId(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.selectedItemId), arg)
   companion object : BottomNavigationViewScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -161,24 +194,32 @@ abstract class BottomNavigationViewScope : FrameLayoutScope() {
 }
 
 fun materialButton(configure: MaterialButtonScope.() -> Unit = {}) =
-    v<MaterialButton>(configure.bind(MaterialButtonScope))
+    v<MaterialButton, MaterialButtonScope>(MaterialButtonScope, configure)
 abstract class MaterialButtonScope : AppCompatButtonScope() {
-  fun cornerRadius(arg: Int): Unit = attr("cornerRadius", arg)
-  fun cornerRadiusResource(arg: Int): Unit = attr("cornerRadiusResource", arg)
-  fun icon(arg: Drawable): Unit = attr("icon", arg)
-  fun iconGravity(arg: Int): Unit = attr("iconGravity", arg)
-  fun iconPadding(arg: Int): Unit = attr("iconPadding", arg)
-  fun iconResource(arg: Int): Unit = attr("iconResource", arg)
-  fun iconSize(arg: Int): Unit = attr("iconSize", arg)
-  fun iconTint(arg: ColorStateList?): Unit = attr("iconTint", arg)
-  fun iconTintMode(arg: PorterDuff.Mode): Unit = attr("iconTintMode", arg)
-  fun iconTintResource(arg: Int): Unit = attr("iconTintResource", arg)
-  fun rippleColor(arg: ColorStateList?): Unit = attr("rippleColor", arg)
-  fun rippleColorResource(arg: Int): Unit = attr("rippleColorResource", arg)
-  fun strokeColor(arg: ColorStateList?): Unit = attr("strokeColor", arg)
-  fun strokeColorResource(arg: Int): Unit = attr("strokeColorResource", arg)
-  fun strokeWidth(arg: Int): Unit = attr("strokeWidth", arg)
-  fun strokeWidthResource(arg: Int): Unit = attr("strokeWidthResource", arg)
+  fun cornerRadius(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.cornerRadius), arg)
+  fun cornerRadiusResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.cornerRadiusResource), arg)
+  fun icon(arg: Drawable): Unit = attr(MaterialSetter.id(MaterialAttrs.icon), arg)
+  fun iconGravity(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.iconGravity), arg)
+  fun iconPadding(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.iconPadding), arg)
+  fun iconResource(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.iconResource), arg)
+  fun iconSize(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.iconSize), arg)
+  fun iconTint(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.iconTint), arg)
+  fun iconTintMode(arg: PorterDuff.Mode): Unit = attr(MaterialSetter.id(MaterialAttrs.iconTintMode),
+      arg)
+  fun iconTintResource(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.iconTintResource),
+      arg)
+  fun rippleColor(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.rippleColor),
+      arg)
+  fun rippleColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.rippleColorResource), arg)
+  fun strokeColor(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.strokeColor),
+      arg)
+  fun strokeColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.strokeColorResource), arg)
+  fun strokeWidth(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.strokeWidth), arg)
+  fun strokeWidthResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.strokeWidthResource), arg)
   companion object : MaterialButtonScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -186,78 +227,125 @@ abstract class MaterialButtonScope : AppCompatButtonScope() {
 }
 
 fun materialCardView(configure: MaterialCardViewScope.() -> Unit = {}) =
-    v<MaterialCardView>(configure.bind(MaterialCardViewScope))
+    v<MaterialCardView, MaterialCardViewScope>(MaterialCardViewScope, configure)
 abstract class MaterialCardViewScope : CardViewScope() {
-  fun strokeColor(arg: Int): Unit = attr("strokeColor", arg)
-  fun strokeWidth(arg: Int): Unit = attr("strokeWidth", arg)
+  fun strokeColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.strokeColor), arg)
+  fun strokeWidth(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.strokeWidth), arg)
   companion object : MaterialCardViewScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
   }
 }
 
-fun chip(configure: ChipScope.() -> Unit = {}) = v<Chip>(configure.bind(ChipScope))
+fun chip(configure: ChipScope.() -> Unit = {}) = v<Chip, ChipScope>(ChipScope, configure)
 abstract class ChipScope : AppCompatCheckBoxScope() {
-  fun checkable(arg: Boolean): Unit = attr("checkable", arg)
-  fun checkableResource(arg: Int): Unit = attr("checkableResource", arg)
-  fun checkedIcon(arg: Drawable?): Unit = attr("checkedIcon", arg)
-  fun checkedIconResource(arg: Int): Unit = attr("checkedIconResource", arg)
-  fun checkedIconVisible(arg: Int): Unit = attr("checkedIconVisible", arg)
-  fun checkedIconVisible(arg: Boolean): Unit = attr("checkedIconVisible", arg)
-  fun chipBackgroundColor(arg: ColorStateList?): Unit = attr("chipBackgroundColor", arg)
-  fun chipBackgroundColorResource(arg: Int): Unit = attr("chipBackgroundColorResource", arg)
-  fun chipCornerRadius(arg: Float): Unit = attr("chipCornerRadius", arg)
-  fun chipCornerRadiusResource(arg: Int): Unit = attr("chipCornerRadiusResource", arg)
-  fun chipDrawable(arg: ChipDrawable): Unit = attr("chipDrawable", arg)
-  fun chipEndPadding(arg: Float): Unit = attr("chipEndPadding", arg)
-  fun chipEndPaddingResource(arg: Int): Unit = attr("chipEndPaddingResource", arg)
-  fun chipIcon(arg: Drawable?): Unit = attr("chipIcon", arg)
-  fun chipIconResource(arg: Int): Unit = attr("chipIconResource", arg)
-  fun chipIconSize(arg: Float): Unit = attr("chipIconSize", arg)
-  fun chipIconSizeResource(arg: Int): Unit = attr("chipIconSizeResource", arg)
-  fun chipIconTint(arg: ColorStateList?): Unit = attr("chipIconTint", arg)
-  fun chipIconTintResource(arg: Int): Unit = attr("chipIconTintResource", arg)
-  fun chipIconVisible(arg: Int): Unit = attr("chipIconVisible", arg)
-  fun chipIconVisible(arg: Boolean): Unit = attr("chipIconVisible", arg)
-  fun chipMinHeight(arg: Float): Unit = attr("chipMinHeight", arg)
-  fun chipMinHeightResource(arg: Int): Unit = attr("chipMinHeightResource", arg)
-  fun chipStartPadding(arg: Float): Unit = attr("chipStartPadding", arg)
-  fun chipStartPaddingResource(arg: Int): Unit = attr("chipStartPaddingResource", arg)
-  fun chipStrokeColor(arg: ColorStateList?): Unit = attr("chipStrokeColor", arg)
-  fun chipStrokeColorResource(arg: Int): Unit = attr("chipStrokeColorResource", arg)
-  fun chipStrokeWidth(arg: Float): Unit = attr("chipStrokeWidth", arg)
-  fun chipStrokeWidthResource(arg: Int): Unit = attr("chipStrokeWidthResource", arg)
-  fun closeIcon(arg: Drawable?): Unit = attr("closeIcon", arg)
-  fun closeIconContentDescription(arg: CharSequence?): Unit = attr("closeIconContentDescription",
+  fun checkable(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.checkable), arg)
+  fun checkableResource(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.checkableResource),
+      arg)
+  fun checkedIcon(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.checkedIcon), arg)
+  fun checkedIconResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.checkedIconResource), arg)
+  fun checkedIconVisible(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.checkedIconVisible),
+      arg)
+  fun checkedIconVisible(arg: Boolean): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.checkedIconVisible), arg)
+  fun chipBackgroundColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipBackgroundColor), arg)
+  fun chipBackgroundColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipBackgroundColorResource), arg)
+  fun chipCornerRadius(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipCornerRadius),
+      arg)
+  fun chipCornerRadiusResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipCornerRadiusResource), arg)
+  fun chipDrawable(arg: ChipDrawable): Unit = attr(MaterialSetter.id(MaterialAttrs.chipDrawable),
+      arg)
+  fun chipEndPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipEndPadding), arg)
+  fun chipEndPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipEndPaddingResource), arg)
+  fun chipIcon(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIcon), arg)
+  fun chipIconResource(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIconResource),
+      arg)
+  fun chipIconSize(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIconSize), arg)
+  fun chipIconSizeResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipIconSizeResource), arg)
+  fun chipIconTint(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIconTint),
+      arg)
+  fun chipIconTintResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipIconTintResource), arg)
+  fun chipIconVisible(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIconVisible), arg)
+  fun chipIconVisible(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.chipIconVisible),
       arg)
-  fun closeIconEndPadding(arg: Float): Unit = attr("closeIconEndPadding", arg)
-  fun closeIconEndPaddingResource(arg: Int): Unit = attr("closeIconEndPaddingResource", arg)
-  fun closeIconResource(arg: Int): Unit = attr("closeIconResource", arg)
-  fun closeIconSize(arg: Float): Unit = attr("closeIconSize", arg)
-  fun closeIconSizeResource(arg: Int): Unit = attr("closeIconSizeResource", arg)
-  fun closeIconStartPadding(arg: Float): Unit = attr("closeIconStartPadding", arg)
-  fun closeIconStartPaddingResource(arg: Int): Unit = attr("closeIconStartPaddingResource", arg)
-  fun closeIconTint(arg: ColorStateList?): Unit = attr("closeIconTint", arg)
-  fun closeIconTintResource(arg: Int): Unit = attr("closeIconTintResource", arg)
-  fun closeIconVisible(arg: Int): Unit = attr("closeIconVisible", arg)
-  fun closeIconVisible(arg: Boolean): Unit = attr("closeIconVisible", arg)
-  fun hideMotionSpec(arg: MotionSpec?): Unit = attr("hideMotionSpec", arg)
-  fun hideMotionSpecResource(arg: Int): Unit = attr("hideMotionSpecResource", arg)
-  fun iconEndPadding(arg: Float): Unit = attr("iconEndPadding", arg)
-  fun iconEndPaddingResource(arg: Int): Unit = attr("iconEndPaddingResource", arg)
-  fun iconStartPadding(arg: Float): Unit = attr("iconStartPadding", arg)
-  fun iconStartPaddingResource(arg: Int): Unit = attr("iconStartPaddingResource", arg)
-  fun onCloseIconClick(arg: ((arg0: View) -> Unit)?): Unit = attr("onCloseIconClick", arg)
-  fun rippleColor(arg: ColorStateList?): Unit = attr("rippleColor", arg)
-  fun rippleColorResource(arg: Int): Unit = attr("rippleColorResource", arg)
-  fun showMotionSpec(arg: MotionSpec?): Unit = attr("showMotionSpec", arg)
-  fun showMotionSpecResource(arg: Int): Unit = attr("showMotionSpecResource", arg)
-  fun textAppearance(arg: TextAppearance?): Unit = attr("textAppearance", arg)
-  fun textAppearanceResource(arg: Int): Unit = attr("textAppearanceResource", arg)
-  fun textEndPadding(arg: Float): Unit = attr("textEndPadding", arg)
-  fun textEndPaddingResource(arg: Int): Unit = attr("textEndPaddingResource", arg)
-  fun textStartPadding(arg: Float): Unit = attr("textStartPadding", arg)
-  fun textStartPaddingResource(arg: Int): Unit = attr("textStartPaddingResource", arg)
+  fun chipMinHeight(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipMinHeight), arg)
+  fun chipMinHeightResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipMinHeightResource), arg)
+  fun chipStartPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipStartPadding),
+      arg)
+  fun chipStartPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipStartPaddingResource), arg)
+  fun chipStrokeColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipStrokeColor), arg)
+  fun chipStrokeColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipStrokeColorResource), arg)
+  fun chipStrokeWidth(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.chipStrokeWidth),
+      arg)
+  fun chipStrokeWidthResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipStrokeWidthResource), arg)
+  fun closeIcon(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.closeIcon), arg)
+  fun closeIconContentDescription(arg: CharSequence?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconContentDescription), arg)
+  fun closeIconEndPadding(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconEndPadding), arg)
+  fun closeIconEndPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconEndPaddingResource), arg)
+  fun closeIconResource(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.closeIconResource),
+      arg)
+  fun closeIconSize(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.closeIconSize), arg)
+  fun closeIconSizeResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconSizeResource), arg)
+  fun closeIconStartPadding(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconStartPadding), arg)
+  fun closeIconStartPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconStartPaddingResource), arg)
+  fun closeIconTint(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconTint), arg)
+  fun closeIconTintResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.closeIconTintResource), arg)
+  fun closeIconVisible(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.closeIconVisible),
+      arg)
+  fun closeIconVisible(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.closeIconVisible),
+      arg)
+  fun hideMotionSpec(arg: MotionSpec?): Unit = attr(MaterialSetter.id(MaterialAttrs.hideMotionSpec),
+      arg)
+  fun hideMotionSpecResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.hideMotionSpecResource), arg)
+  fun iconEndPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.iconEndPadding), arg)
+  fun iconEndPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.iconEndPaddingResource), arg)
+  fun iconStartPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.iconStartPadding),
+      arg)
+  fun iconStartPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.iconStartPaddingResource), arg)
+  fun onCloseIconClick(arg: ((arg0: View) -> Unit)?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.onCloseIconClick), arg)
+  fun rippleColor(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.rippleColor),
+      arg)
+  fun rippleColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.rippleColorResource), arg)
+  fun showMotionSpec(arg: MotionSpec?): Unit = attr(MaterialSetter.id(MaterialAttrs.showMotionSpec),
+      arg)
+  fun showMotionSpecResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.showMotionSpecResource), arg)
+  fun textAppearance(arg: TextAppearance?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.textAppearance), arg)
+  fun textAppearanceResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.textAppearanceResource), arg)
+  fun textEndPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.textEndPadding), arg)
+  fun textEndPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.textEndPaddingResource), arg)
+  fun textStartPadding(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.textStartPadding),
+      arg)
+  fun textStartPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.textStartPaddingResource), arg)
   companion object : ChipScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -265,19 +353,25 @@ abstract class ChipScope : AppCompatCheckBoxScope() {
 }
 
 fun chipGroup(configure: ChipGroupScope.() -> Unit = {}) =
-    v<ChipGroup>(configure.bind(ChipGroupScope))
+    v<ChipGroup, ChipGroupScope>(ChipGroupScope, configure)
 abstract class ChipGroupScope : FlowLayoutScope() {
-  fun chipSpacing(arg: Int): Unit = attr("chipSpacing", arg)
-  fun chipSpacingHorizontal(arg: Int): Unit = attr("chipSpacingHorizontal", arg)
-  fun chipSpacingHorizontalResource(arg: Int): Unit = attr("chipSpacingHorizontalResource", arg)
-  fun chipSpacingResource(arg: Int): Unit = attr("chipSpacingResource", arg)
-  fun chipSpacingVertical(arg: Int): Unit = attr("chipSpacingVertical", arg)
-  fun chipSpacingVerticalResource(arg: Int): Unit = attr("chipSpacingVerticalResource", arg)
-  fun onCheckedChange(arg: ((arg0: ChipGroup, arg1: Int) -> Unit)?): Unit = attr("onCheckedChange",
+  fun chipSpacing(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.chipSpacing), arg)
+  fun chipSpacingHorizontal(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipSpacingHorizontal), arg)
+  fun chipSpacingHorizontalResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipSpacingHorizontalResource), arg)
+  fun chipSpacingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipSpacingResource), arg)
+  fun chipSpacingVertical(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipSpacingVertical), arg)
+  fun chipSpacingVerticalResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.chipSpacingVerticalResource), arg)
+  fun onCheckedChange(arg: ((arg0: ChipGroup, arg1: Int) -> Unit)?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.onCheckedChange), arg)
+  fun singleLine(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.singleLine), arg)
+  fun singleSelection(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.singleSelection),
       arg)
-  fun singleLine(arg: Int): Unit = attr("singleLine", arg)
-  fun singleSelection(arg: Boolean): Unit = attr("singleSelection", arg)
-  fun singleSelection(arg: Int): Unit = attr("singleSelection", arg)
+  fun singleSelection(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.singleSelection), arg)
   companion object : ChipGroupScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -285,12 +379,14 @@ abstract class ChipGroupScope : FlowLayoutScope() {
 }
 
 fun circularRevealFrameLayout(configure: CircularRevealFrameLayoutScope.() -> Unit = {}) =
-    v<CircularRevealFrameLayout>(configure.bind(CircularRevealFrameLayoutScope))
+    v<CircularRevealFrameLayout, CircularRevealFrameLayoutScope>(CircularRevealFrameLayoutScope, configure)
 abstract class CircularRevealFrameLayoutScope : FrameLayoutScope() {
-  fun circularRevealOverlayDrawable(arg: Drawable?): Unit = attr("circularRevealOverlayDrawable",
-      arg)
-  fun circularRevealScrimColor(arg: Int): Unit = attr("circularRevealScrimColor", arg)
-  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit = attr("revealInfo", arg)
+  fun circularRevealOverlayDrawable(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealOverlayDrawable), arg)
+  fun circularRevealScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealScrimColor), arg)
+  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.revealInfo), arg)
   companion object : CircularRevealFrameLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -298,12 +394,14 @@ abstract class CircularRevealFrameLayoutScope : FrameLayoutScope() {
 }
 
 fun circularRevealGridLayout(configure: CircularRevealGridLayoutScope.() -> Unit = {}) =
-    v<CircularRevealGridLayout>(configure.bind(CircularRevealGridLayoutScope))
+    v<CircularRevealGridLayout, CircularRevealGridLayoutScope>(CircularRevealGridLayoutScope, configure)
 abstract class CircularRevealGridLayoutScope : GridLayoutScope() {
-  fun circularRevealOverlayDrawable(arg: Drawable?): Unit = attr("circularRevealOverlayDrawable",
-      arg)
-  fun circularRevealScrimColor(arg: Int): Unit = attr("circularRevealScrimColor", arg)
-  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit = attr("revealInfo", arg)
+  fun circularRevealOverlayDrawable(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealOverlayDrawable), arg)
+  fun circularRevealScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealScrimColor), arg)
+  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.revealInfo), arg)
   companion object : CircularRevealGridLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -311,12 +409,14 @@ abstract class CircularRevealGridLayoutScope : GridLayoutScope() {
 }
 
 fun circularRevealLinearLayout(configure: CircularRevealLinearLayoutScope.() -> Unit = {}) =
-    v<CircularRevealLinearLayout>(configure.bind(CircularRevealLinearLayoutScope))
+    v<CircularRevealLinearLayout, CircularRevealLinearLayoutScope>(CircularRevealLinearLayoutScope, configure)
 abstract class CircularRevealLinearLayoutScope : LinearLayoutScope() {
-  fun circularRevealOverlayDrawable(arg: Drawable?): Unit = attr("circularRevealOverlayDrawable",
-      arg)
-  fun circularRevealScrimColor(arg: Int): Unit = attr("circularRevealScrimColor", arg)
-  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit = attr("revealInfo", arg)
+  fun circularRevealOverlayDrawable(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealOverlayDrawable), arg)
+  fun circularRevealScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealScrimColor), arg)
+  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.revealInfo), arg)
   companion object : CircularRevealLinearLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -324,12 +424,14 @@ abstract class CircularRevealLinearLayoutScope : LinearLayoutScope() {
 }
 
 fun circularRevealRelativeLayout(configure: CircularRevealRelativeLayoutScope.() -> Unit = {}) =
-    v<CircularRevealRelativeLayout>(configure.bind(CircularRevealRelativeLayoutScope))
+    v<CircularRevealRelativeLayout, CircularRevealRelativeLayoutScope>(CircularRevealRelativeLayoutScope, configure)
 abstract class CircularRevealRelativeLayoutScope : RelativeLayoutScope() {
-  fun circularRevealOverlayDrawable(arg: Drawable?): Unit = attr("circularRevealOverlayDrawable",
-      arg)
-  fun circularRevealScrimColor(arg: Int): Unit = attr("circularRevealScrimColor", arg)
-  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit = attr("revealInfo", arg)
+  fun circularRevealOverlayDrawable(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealOverlayDrawable), arg)
+  fun circularRevealScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealScrimColor), arg)
+  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.revealInfo), arg)
   companion object : CircularRevealRelativeLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -337,12 +439,14 @@ abstract class CircularRevealRelativeLayoutScope : RelativeLayoutScope() {
 }
 
 fun circularRevealCardView(configure: CircularRevealCardViewScope.() -> Unit = {}) =
-    v<CircularRevealCardView>(configure.bind(CircularRevealCardViewScope))
+    v<CircularRevealCardView, CircularRevealCardViewScope>(CircularRevealCardViewScope, configure)
 abstract class CircularRevealCardViewScope : CardViewScope() {
-  fun circularRevealOverlayDrawable(arg: Drawable?): Unit = attr("circularRevealOverlayDrawable",
-      arg)
-  fun circularRevealScrimColor(arg: Int): Unit = attr("circularRevealScrimColor", arg)
-  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit = attr("revealInfo", arg)
+  fun circularRevealOverlayDrawable(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealOverlayDrawable), arg)
+  fun circularRevealScrimColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.circularRevealScrimColor), arg)
+  fun revealInfo(arg: CircularRevealWidget.RevealInfo?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.revealInfo), arg)
   companion object : CircularRevealCardViewScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -350,33 +454,46 @@ abstract class CircularRevealCardViewScope : CardViewScope() {
 }
 
 fun floatingActionButton(configure: FloatingActionButtonScope.() -> Unit = {}) =
-    v<FloatingActionButton>(configure.bind(FloatingActionButtonScope))
+    v<FloatingActionButton, FloatingActionButtonScope>(FloatingActionButtonScope, configure)
 abstract class FloatingActionButtonScope : VisibilityAwareImageButtonScope() {
-  fun compatElevation(arg: Float): Unit = attr("compatElevation", arg)
-  fun compatElevationResource(arg: Int): Unit = attr("compatElevationResource", arg)
-  fun compatHoveredFocusedTranslationZ(arg: Float): Unit = attr("compatHoveredFocusedTranslationZ",
+  fun compatElevation(arg: Float): Unit = attr(MaterialSetter.id(MaterialAttrs.compatElevation),
       arg)
+  fun compatElevationResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.compatElevationResource), arg)
+  fun compatHoveredFocusedTranslationZ(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.compatHoveredFocusedTranslationZ), arg)
   fun compatHoveredFocusedTranslationZResource(arg: Int): Unit =
-      attr("compatHoveredFocusedTranslationZResource", arg)
-  fun compatPressedTranslationZ(arg: Float): Unit = attr("compatPressedTranslationZ", arg)
-  fun compatPressedTranslationZResource(arg: Int): Unit = attr("compatPressedTranslationZResource",
+      attr(MaterialSetter.id(MaterialAttrs.compatHoveredFocusedTranslationZResource), arg)
+  fun compatPressedTranslationZ(arg: Float): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.compatPressedTranslationZ), arg)
+  fun compatPressedTranslationZResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.compatPressedTranslationZResource), arg)
+  fun customSize(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.customSize), arg)
+  fun expanded(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.expanded), arg)
+  fun expandedComponentIdHint(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.expandedComponentIdHint), arg)
+  fun hideMotionSpec(arg: MotionSpec): Unit = attr(MaterialSetter.id(MaterialAttrs.hideMotionSpec),
+      arg)
+  fun hideMotionSpecResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.hideMotionSpecResource), arg)
+  fun rippleColor(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.rippleColor),
       arg)
-  fun customSize(arg: Int): Unit = attr("customSize", arg)
-  fun expanded(arg: Boolean): Unit = attr("expanded", arg)
-  fun expandedComponentIdHint(arg: Int): Unit = attr("expandedComponentIdHint", arg)
-  fun hideMotionSpec(arg: MotionSpec): Unit = attr("hideMotionSpec", arg)
-  fun hideMotionSpecResource(arg: Int): Unit = attr("hideMotionSpecResource", arg)
-  fun rippleColor(arg: ColorStateList?): Unit = attr("rippleColor", arg)
-  fun rippleColor(arg: Int): Unit = attr("rippleColor", arg)
-  fun showMotionSpec(arg: MotionSpec): Unit = attr("showMotionSpec", arg)
-  fun showMotionSpecResource(arg: Int): Unit = attr("showMotionSpecResource", arg)
-  fun size(arg: Int): Unit = attr("size", arg)
-  fun supportBackgroundTintList(arg: ColorStateList?): Unit = attr("supportBackgroundTintList", arg)
-  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit = attr("supportBackgroundTintMode",
+  fun rippleColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.rippleColor), arg)
+  fun showMotionSpec(arg: MotionSpec): Unit = attr(MaterialSetter.id(MaterialAttrs.showMotionSpec),
+      arg)
+  fun showMotionSpecResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.showMotionSpecResource), arg)
+  fun size(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.size), arg)
+  fun supportBackgroundTintList(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.supportBackgroundTintList), arg)
+  fun supportBackgroundTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.supportBackgroundTintMode), arg)
+  fun supportImageTintList(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.supportImageTintList), arg)
+  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.supportImageTintMode), arg)
+  fun useCompatPadding(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.useCompatPadding),
       arg)
-  fun supportImageTintList(arg: ColorStateList?): Unit = attr("supportImageTintList", arg)
-  fun supportImageTintMode(arg: PorterDuff.Mode?): Unit = attr("supportImageTintMode", arg)
-  fun useCompatPadding(arg: Boolean): Unit = attr("useCompatPadding", arg)
   companion object : FloatingActionButtonScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -384,7 +501,7 @@ abstract class FloatingActionButtonScope : VisibilityAwareImageButtonScope() {
 }
 
 fun baselineLayout(configure: BaselineLayoutScope.() -> Unit = {}) =
-    v<BaselineLayout>(configure.bind(BaselineLayoutScope))
+    v<BaselineLayout, BaselineLayoutScope>(BaselineLayoutScope, configure)
 abstract class BaselineLayoutScope : ViewGroupScope() {
   companion object : BaselineLayoutScope() {
     init {
@@ -393,7 +510,7 @@ abstract class BaselineLayoutScope : ViewGroupScope() {
 }
 
 fun checkableImageButton(configure: CheckableImageButtonScope.() -> Unit = {}) =
-    v<CheckableImageButton>(configure.bind(CheckableImageButtonScope))
+    v<CheckableImageButton, CheckableImageButtonScope>(CheckableImageButtonScope, configure)
 abstract class CheckableImageButtonScope : AppCompatImageButtonScope() {
   companion object : CheckableImageButtonScope() {
     init {
@@ -402,9 +519,9 @@ abstract class CheckableImageButtonScope : AppCompatImageButtonScope() {
 }
 
 fun flowLayout(configure: FlowLayoutScope.() -> Unit = {}) =
-    v<FlowLayout>(configure.bind(FlowLayoutScope))
+    v<FlowLayout, FlowLayoutScope>(FlowLayoutScope, configure)
 abstract class FlowLayoutScope : ViewGroupScope() {
-  fun singleLine(arg: Boolean): Unit = attr("singleLine", arg)
+  fun singleLine(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.singleLine), arg)
   companion object : FlowLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -412,7 +529,7 @@ abstract class FlowLayoutScope : ViewGroupScope() {
 }
 
 fun foregroundLinearLayout(configure: ForegroundLinearLayoutScope.() -> Unit = {}) =
-    v<ForegroundLinearLayout>(configure.bind(ForegroundLinearLayoutScope))
+    v<ForegroundLinearLayout, ForegroundLinearLayoutScope>(ForegroundLinearLayoutScope, configure)
 abstract class ForegroundLinearLayoutScope : LinearLayoutCompatScope() {
   companion object : ForegroundLinearLayoutScope() {
     init {
@@ -421,11 +538,13 @@ abstract class ForegroundLinearLayoutScope : LinearLayoutCompatScope() {
 }
 
 fun navigationMenuItemView(configure: NavigationMenuItemViewScope.() -> Unit = {}) =
-    v<NavigationMenuItemView>(configure.bind(NavigationMenuItemViewScope))
+    v<NavigationMenuItemView, NavigationMenuItemViewScope>(NavigationMenuItemViewScope, configure)
 abstract class NavigationMenuItemViewScope : ForegroundLinearLayoutScope() {
-  fun horizontalPadding(arg: Int): Unit = attr("horizontalPadding", arg)
-  fun needsEmptyIcon(arg: Boolean): Unit = attr("needsEmptyIcon", arg)
-  fun textAppearance(arg: Int): Unit = attr("textAppearance", arg)
+  fun horizontalPadding(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.horizontalPadding),
+      arg)
+  fun needsEmptyIcon(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.needsEmptyIcon),
+      arg)
+  fun textAppearance(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.textAppearance), arg)
   companion object : NavigationMenuItemViewScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -433,7 +552,7 @@ abstract class NavigationMenuItemViewScope : ForegroundLinearLayoutScope() {
 }
 
 fun navigationMenuView(configure: NavigationMenuViewScope.() -> Unit = {}) =
-    v<NavigationMenuView>(configure.bind(NavigationMenuViewScope))
+    v<NavigationMenuView, NavigationMenuViewScope>(NavigationMenuViewScope, configure)
 abstract class NavigationMenuViewScope : RecyclerViewScope() {
   companion object : NavigationMenuViewScope() {
     init {
@@ -442,7 +561,7 @@ abstract class NavigationMenuViewScope : RecyclerViewScope() {
 }
 
 fun scrimInsetsFrameLayout(configure: ScrimInsetsFrameLayoutScope.() -> Unit = {}) =
-    v<ScrimInsetsFrameLayout>(configure.bind(ScrimInsetsFrameLayoutScope))
+    v<ScrimInsetsFrameLayout, ScrimInsetsFrameLayoutScope>(ScrimInsetsFrameLayoutScope, configure)
 abstract class ScrimInsetsFrameLayoutScope : FrameLayoutScope() {
   companion object : ScrimInsetsFrameLayoutScope() {
     init {
@@ -451,7 +570,7 @@ abstract class ScrimInsetsFrameLayoutScope : FrameLayoutScope() {
 }
 
 fun visibilityAwareImageButton(configure: VisibilityAwareImageButtonScope.() -> Unit = {}) =
-    v<VisibilityAwareImageButton>(configure.bind(VisibilityAwareImageButtonScope))
+    v<VisibilityAwareImageButton, VisibilityAwareImageButtonScope>(VisibilityAwareImageButtonScope, configure)
 abstract class VisibilityAwareImageButtonScope : ImageButtonScope() {
   companion object : VisibilityAwareImageButtonScope() {
     init {
@@ -460,21 +579,29 @@ abstract class VisibilityAwareImageButtonScope : ImageButtonScope() {
 }
 
 fun navigationView(configure: NavigationViewScope.() -> Unit = {}) =
-    v<NavigationView>(configure.bind(NavigationViewScope))
+    v<NavigationView, NavigationViewScope>(NavigationViewScope, configure)
 abstract class NavigationViewScope : ScrimInsetsFrameLayoutScope() {
-  fun checkedItem(arg: Int): Unit = attr("checkedItem", arg)
-  fun checkedItem(arg: MenuItem): Unit = attr("checkedItem", arg)
-  fun itemBackground(arg: Drawable?): Unit = attr("itemBackground", arg)
-  fun itemBackgroundResource(arg: Int): Unit = attr("itemBackgroundResource", arg)
-  fun itemHorizontalPadding(arg: Int): Unit = attr("itemHorizontalPadding", arg)
-  fun itemHorizontalPaddingResource(arg: Int): Unit = attr("itemHorizontalPaddingResource", arg)
-  fun itemIconPadding(arg: Int): Unit = attr("itemIconPadding", arg)
-  fun itemIconPaddingResource(arg: Int): Unit = attr("itemIconPaddingResource", arg)
-  fun itemIconTintList(arg: ColorStateList?): Unit = attr("itemIconTintList", arg)
-  fun itemTextAppearance(arg: Int): Unit = attr("itemTextAppearance", arg)
-  fun itemTextColor(arg: ColorStateList?): Unit = attr("itemTextColor", arg)
+  fun checkedItem(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.checkedItem), arg)
+  fun checkedItem(arg: MenuItem): Unit = attr(MaterialSetter.id(MaterialAttrs.checkedItem), arg)
+  fun itemBackground(arg: Drawable?): Unit = attr(MaterialSetter.id(MaterialAttrs.itemBackground),
+      arg)
+  fun itemBackgroundResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemBackgroundResource), arg)
+  fun itemHorizontalPadding(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemHorizontalPadding), arg)
+  fun itemHorizontalPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemHorizontalPaddingResource), arg)
+  fun itemIconPadding(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.itemIconPadding), arg)
+  fun itemIconPaddingResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemIconPaddingResource), arg)
+  fun itemIconTintList(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemIconTintList), arg)
+  fun itemTextAppearance(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.itemTextAppearance),
+      arg)
+  fun itemTextColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.itemTextColor), arg)
   fun navigationItemSelectedListener(arg: NavigationView.OnNavigationItemSelectedListener?): Unit =
-      attr("navigationItemSelectedListener", arg)
+      attr(MaterialSetter.id(MaterialAttrs.navigationItemSelectedListener), arg)
   companion object : NavigationViewScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -482,7 +609,7 @@ abstract class NavigationViewScope : ScrimInsetsFrameLayoutScope() {
 }
 
 fun snackbarContentLayout(configure: SnackbarContentLayoutScope.() -> Unit = {}) =
-    v<SnackbarContentLayout>(configure.bind(SnackbarContentLayoutScope))
+    v<SnackbarContentLayout, SnackbarContentLayoutScope>(SnackbarContentLayoutScope, configure)
 abstract class SnackbarContentLayoutScope : LinearLayoutScope() {
   companion object : SnackbarContentLayoutScope() {
     init {
@@ -490,7 +617,7 @@ abstract class SnackbarContentLayoutScope : LinearLayoutScope() {
   }
 }
 
-fun tabItem(configure: TabItemScope.() -> Unit = {}) = v<TabItem>(configure.bind(TabItemScope))
+fun tabItem(configure: TabItemScope.() -> Unit = {}) = v<TabItem, TabItemScope>(TabItemScope, configure)
 abstract class TabItemScope : ViewScope() {
   companion object : TabItemScope() {
     init {
@@ -499,24 +626,37 @@ abstract class TabItemScope : ViewScope() {
 }
 
 fun tabLayout(configure: TabLayoutScope.() -> Unit = {}) =
-    v<TabLayout>(configure.bind(TabLayoutScope))
+    v<TabLayout, TabLayoutScope>(TabLayoutScope, configure)
 abstract class TabLayoutScope : HorizontalScrollViewScope() {
-  fun inlineLabel(arg: Boolean): Unit = attr("inlineLabel", arg)
-  fun inlineLabelResource(arg: Int): Unit = attr("inlineLabelResource", arg)
-  fun selectedTabIndicator(arg: Drawable?): Unit = attr("selectedTabIndicator", arg)
-  fun selectedTabIndicator(arg: Int): Unit = attr("selectedTabIndicator", arg)
-  fun selectedTabIndicatorColor(arg: Int): Unit = attr("selectedTabIndicatorColor", arg)
-  fun selectedTabIndicatorGravity(arg: Int): Unit = attr("selectedTabIndicatorGravity", arg)
-  fun tabGravity(arg: Int): Unit = attr("tabGravity", arg)
-  fun tabIconTint(arg: ColorStateList?): Unit = attr("tabIconTint", arg)
-  fun tabIconTintResource(arg: Int): Unit = attr("tabIconTintResource", arg)
-  fun tabIndicatorFullWidth(arg: Boolean): Unit = attr("tabIndicatorFullWidth", arg)
-  fun tabMode(arg: Int): Unit = attr("tabMode", arg)
-  fun tabRippleColor(arg: ColorStateList): Unit = attr("tabRippleColor", arg)
-  fun tabRippleColorResource(arg: Int): Unit = attr("tabRippleColorResource", arg)
-  fun tabTextColors(arg: ColorStateList?): Unit = attr("tabTextColors", arg)
-  fun unboundedRipple(arg: Boolean): Unit = attr("unboundedRipple", arg)
-  fun unboundedRippleResource(arg: Int): Unit = attr("unboundedRippleResource", arg)
+  fun inlineLabel(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.inlineLabel), arg)
+  fun inlineLabelResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.inlineLabelResource), arg)
+  fun selectedTabIndicator(arg: Drawable?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.selectedTabIndicator), arg)
+  fun selectedTabIndicator(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.selectedTabIndicator), arg)
+  fun selectedTabIndicatorColor(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.selectedTabIndicatorColor), arg)
+  fun selectedTabIndicatorGravity(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.selectedTabIndicatorGravity), arg)
+  fun tabGravity(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.tabGravity), arg)
+  fun tabIconTint(arg: ColorStateList?): Unit = attr(MaterialSetter.id(MaterialAttrs.tabIconTint),
+      arg)
+  fun tabIconTintResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.tabIconTintResource), arg)
+  fun tabIndicatorFullWidth(arg: Boolean): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.tabIndicatorFullWidth), arg)
+  fun tabMode(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.tabMode), arg)
+  fun tabRippleColor(arg: ColorStateList): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.tabRippleColor), arg)
+  fun tabRippleColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.tabRippleColorResource), arg)
+  fun tabTextColors(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.tabTextColors), arg)
+  fun unboundedRipple(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.unboundedRipple),
+      arg)
+  fun unboundedRippleResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.unboundedRippleResource), arg)
   companion object : TabLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -524,7 +664,7 @@ abstract class TabLayoutScope : HorizontalScrollViewScope() {
 }
 
 fun textInputEditText(configure: TextInputEditTextScope.() -> Unit = {}) =
-    v<TextInputEditText>(configure.bind(TextInputEditTextScope))
+    v<TextInputEditText, TextInputEditTextScope>(TextInputEditTextScope, configure)
 abstract class TextInputEditTextScope : AppCompatEditTextScope() {
   companion object : TextInputEditTextScope() {
     init {
@@ -533,44 +673,57 @@ abstract class TextInputEditTextScope : AppCompatEditTextScope() {
 }
 
 fun textInputLayout(configure: TextInputLayoutScope.() -> Unit = {}) =
-    v<TextInputLayout>(configure.bind(TextInputLayoutScope))
+    v<TextInputLayout, TextInputLayoutScope>(TextInputLayoutScope, configure)
 abstract class TextInputLayoutScope : LinearLayoutScope() {
-  fun boxBackgroundColor(arg: Int): Unit = attr("boxBackgroundColor", arg)
-  fun boxBackgroundColorResource(arg: Int): Unit = attr("boxBackgroundColorResource", arg)
-  fun boxBackgroundMode(arg: Int): Unit = attr("boxBackgroundMode", arg)
-  fun boxStrokeColor(arg: Int): Unit = attr("boxStrokeColor", arg)
-  fun counterEnabled(arg: Boolean): Unit = attr("counterEnabled", arg)
-  fun counterMaxLength(arg: Int): Unit = attr("counterMaxLength", arg)
-  fun defaultHintTextColor(arg: ColorStateList?): Unit = attr("defaultHintTextColor", arg)
-  fun error(arg: CharSequence?): Unit = attr("error", arg)
-  fun errorEnabled(arg: Boolean): Unit = attr("errorEnabled", arg)
-  fun errorTextAppearance(arg: Int): Unit = attr("errorTextAppearance", arg)
-  fun errorTextColor(arg: ColorStateList?): Unit = attr("errorTextColor", arg)
-  fun helperText(arg: CharSequence?): Unit = attr("helperText", arg)
-  fun helperTextColor(arg: ColorStateList?): Unit = attr("helperTextColor", arg)
-  fun helperTextEnabled(arg: Boolean): Unit = attr("helperTextEnabled", arg)
-  fun helperTextTextAppearance(arg: Int): Unit = attr("helperTextTextAppearance", arg)
-  fun hint(arg: CharSequence?): Unit = attr("hint", arg)
-  fun hintAnimationEnabled(arg: Boolean): Unit = attr("hintAnimationEnabled", arg)
-  fun hintEnabled(arg: Boolean): Unit = attr("hintEnabled", arg)
-  fun hintTextAppearance(arg: Int): Unit = attr("hintTextAppearance", arg)
+  fun boxBackgroundColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.boxBackgroundColor),
+      arg)
+  fun boxBackgroundColorResource(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.boxBackgroundColorResource), arg)
+  fun boxBackgroundMode(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.boxBackgroundMode),
+      arg)
+  fun boxStrokeColor(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.boxStrokeColor), arg)
+  fun counterEnabled(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.counterEnabled),
+      arg)
+  fun counterMaxLength(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.counterMaxLength),
+      arg)
+  fun defaultHintTextColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.defaultHintTextColor), arg)
+  fun error(arg: CharSequence?): Unit = attr(MaterialSetter.id(MaterialAttrs.error), arg)
+  fun errorEnabled(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.errorEnabled), arg)
+  fun errorTextAppearance(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.errorTextAppearance), arg)
+  fun errorTextColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.errorTextColor), arg)
+  fun helperText(arg: CharSequence?): Unit = attr(MaterialSetter.id(MaterialAttrs.helperText), arg)
+  fun helperTextColor(arg: ColorStateList?): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.helperTextColor), arg)
+  fun helperTextEnabled(arg: Boolean): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.helperTextEnabled), arg)
+  fun helperTextTextAppearance(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.helperTextTextAppearance), arg)
+  fun hint(arg: CharSequence?): Unit = attr(MaterialSetter.id(MaterialAttrs.hint), arg)
+  fun hintAnimationEnabled(arg: Boolean): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.hintAnimationEnabled), arg)
+  fun hintEnabled(arg: Boolean): Unit = attr(MaterialSetter.id(MaterialAttrs.hintEnabled), arg)
+  fun hintTextAppearance(arg: Int): Unit = attr(MaterialSetter.id(MaterialAttrs.hintTextAppearance),
+      arg)
   fun passwordVisibilityToggleContentDescription(arg: Int): Unit =
-      attr("passwordVisibilityToggleContentDescription", arg)
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleContentDescription), arg)
   fun passwordVisibilityToggleContentDescription(arg: CharSequence?): Unit =
-      attr("passwordVisibilityToggleContentDescription", arg)
-  fun passwordVisibilityToggleDrawable(arg: Int): Unit = attr("passwordVisibilityToggleDrawable",
-      arg)
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleContentDescription), arg)
+  fun passwordVisibilityToggleDrawable(arg: Int): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleDrawable), arg)
   fun passwordVisibilityToggleDrawable(arg: Drawable?): Unit =
-      attr("passwordVisibilityToggleDrawable", arg)
-  fun passwordVisibilityToggleEnabled(arg: Boolean): Unit = attr("passwordVisibilityToggleEnabled",
-      arg)
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleDrawable), arg)
+  fun passwordVisibilityToggleEnabled(arg: Boolean): Unit =
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleEnabled), arg)
   fun passwordVisibilityToggleTintList(arg: ColorStateList?): Unit =
-      attr("passwordVisibilityToggleTintList", arg)
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleTintList), arg)
   fun passwordVisibilityToggleTintMode(arg: PorterDuff.Mode?): Unit =
-      attr("passwordVisibilityToggleTintMode", arg)
+      attr(MaterialSetter.id(MaterialAttrs.passwordVisibilityToggleTintMode), arg)
   fun textInputAccessibilityDelegate(arg: TextInputLayout.AccessibilityDelegate): Unit =
-      attr("textInputAccessibilityDelegate", arg)
-  fun typeface(arg: Typeface?): Unit = attr("typeface", arg)
+      attr(MaterialSetter.id(MaterialAttrs.textInputAccessibilityDelegate), arg)
+  fun typeface(arg: Typeface?): Unit = attr(MaterialSetter.id(MaterialAttrs.typeface), arg)
   companion object : TextInputLayoutScope() {
     init {
       Anvil.registerAttributeSetter(MaterialSetter)}
@@ -578,7 +731,7 @@ abstract class TextInputLayoutScope : LinearLayoutScope() {
 }
 
 fun transformationChildCard(configure: TransformationChildCardScope.() -> Unit = {}) =
-    v<TransformationChildCard>(configure.bind(TransformationChildCardScope))
+    v<TransformationChildCard, TransformationChildCardScope>(TransformationChildCardScope, configure)
 abstract class TransformationChildCardScope : CircularRevealCardViewScope() {
   companion object : TransformationChildCardScope() {
     init {
@@ -587,7 +740,7 @@ abstract class TransformationChildCardScope : CircularRevealCardViewScope() {
 }
 
 fun transformationChildLayout(configure: TransformationChildLayoutScope.() -> Unit = {}) =
-    v<TransformationChildLayout>(configure.bind(TransformationChildLayoutScope))
+    v<TransformationChildLayout, TransformationChildLayoutScope>(TransformationChildLayoutScope, configure)
 abstract class TransformationChildLayoutScope : CircularRevealFrameLayoutScope() {
   companion object : TransformationChildLayoutScope() {
     init {
@@ -602,19 +755,85 @@ abstract class TransformationChildLayoutScope : CircularRevealFrameLayoutScope()
  * It contains views and their setters from the library material.
  * Please, don't edit it manually unless for debugging.
  */
-object MaterialSetter : Anvil.AttributeSetter<Any?> {
+object MaterialSetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("expanded", "liftOnScroll", "liftable",
+      "lifted", "collapsedTitleGravity", "collapsedTitleTextAppearance", "collapsedTitleTextColor",
+      "collapsedTitleTypeface", "contentScrim", "contentScrimColor", "contentScrimResource",
+      "expandedTitleColor", "expandedTitleGravity", "expandedTitleMarginBottom",
+      "expandedTitleMarginEnd", "expandedTitleMarginStart", "expandedTitleMarginTop",
+      "expandedTitleTextAppearance", "expandedTitleTextColor", "expandedTitleTypeface",
+      "scrimAnimationDuration", "scrimVisibleHeightTrigger", "scrimsShown", "statusBarScrim",
+      "statusBarScrimColor", "statusBarScrimResource", "title", "titleEnabled", "backgroundTint",
+      "cradleVerticalOffset", "fabAlignmentMode", "fabCradleMargin", "fabCradleRoundedCornerRadius",
+      "hideOnScroll", "itemBackground", "itemBackgroundResource",
+      "itemHorizontalTranslationEnabled", "itemIconSize", "itemIconSizeRes", "itemIconTintList",
+      "itemTextAppearanceActive", "itemTextAppearanceInactive", "itemTextColor",
+      "labelVisibilityMode", "onNavigationItemReselected", "onNavigationItemSelected",
+      "selectedItemId", "cornerRadius", "cornerRadiusResource", "icon", "iconGravity",
+      "iconPadding", "iconResource", "iconSize", "iconTint", "iconTintMode", "iconTintResource",
+      "rippleColor", "rippleColorResource", "strokeColor", "strokeColorResource", "strokeWidth",
+      "strokeWidthResource", "checkable", "checkableResource", "checkedIcon", "checkedIconResource",
+      "checkedIconVisible", "chipBackgroundColor", "chipBackgroundColorResource",
+      "chipCornerRadius", "chipCornerRadiusResource", "chipDrawable", "chipEndPadding",
+      "chipEndPaddingResource", "chipIcon", "chipIconResource", "chipIconSize",
+      "chipIconSizeResource", "chipIconTint", "chipIconTintResource", "chipIconVisible",
+      "chipMinHeight", "chipMinHeightResource", "chipStartPadding", "chipStartPaddingResource",
+      "chipStrokeColor", "chipStrokeColorResource", "chipStrokeWidth", "chipStrokeWidthResource",
+      "closeIcon", "closeIconContentDescription", "closeIconEndPadding",
+      "closeIconEndPaddingResource", "closeIconResource", "closeIconSize", "closeIconSizeResource",
+      "closeIconStartPadding", "closeIconStartPaddingResource", "closeIconTint",
+      "closeIconTintResource", "closeIconVisible", "hideMotionSpec", "hideMotionSpecResource",
+      "iconEndPadding", "iconEndPaddingResource", "iconStartPadding", "iconStartPaddingResource",
+      "onCloseIconClick", "showMotionSpec", "showMotionSpecResource", "textAppearance",
+      "textAppearanceResource", "textEndPadding", "textEndPaddingResource", "textStartPadding",
+      "textStartPaddingResource", "chipSpacing", "chipSpacingHorizontal",
+      "chipSpacingHorizontalResource", "chipSpacingResource", "chipSpacingVertical",
+      "chipSpacingVerticalResource", "onCheckedChange", "singleLine", "singleSelection",
+      "circularRevealOverlayDrawable", "circularRevealScrimColor", "revealInfo", "compatElevation",
+      "compatElevationResource", "compatHoveredFocusedTranslationZ",
+      "compatHoveredFocusedTranslationZResource", "compatPressedTranslationZ",
+      "compatPressedTranslationZResource", "customSize", "expandedComponentIdHint", "size",
+      "supportBackgroundTintList", "supportBackgroundTintMode", "supportImageTintList",
+      "supportImageTintMode", "useCompatPadding", "horizontalPadding", "needsEmptyIcon",
+      "checkedItem", "itemHorizontalPadding", "itemHorizontalPaddingResource", "itemIconPadding",
+      "itemIconPaddingResource", "itemTextAppearance", "navigationItemSelectedListener",
+      "inlineLabel", "inlineLabelResource", "selectedTabIndicator", "selectedTabIndicatorColor",
+      "selectedTabIndicatorGravity", "tabGravity", "tabIconTint", "tabIconTintResource",
+      "tabIndicatorFullWidth", "tabMode", "tabRippleColor", "tabRippleColorResource",
+      "tabTextColors", "unboundedRipple", "unboundedRippleResource", "boxBackgroundColor",
+      "boxBackgroundColorResource", "boxBackgroundMode", "boxStrokeColor", "counterEnabled",
+      "counterMaxLength", "defaultHintTextColor", "error", "errorEnabled", "errorTextAppearance",
+      "errorTextColor", "helperText", "helperTextColor", "helperTextEnabled",
+      "helperTextTextAppearance", "hint", "hintAnimationEnabled", "hintEnabled",
+      "hintTextAppearance", "passwordVisibilityToggleContentDescription",
+      "passwordVisibilityToggleDrawable", "passwordVisibilityToggleEnabled",
+      "passwordVisibilityToggleTintList", "passwordVisibilityToggleTintMode",
+      "textInputAccessibilityDelegate", "typeface")
+
   init {
     Anvil.registerAttributeSetter(this)
     Anvil.registerAttributeSetter(MaterialDslSetter)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [MaterialAttrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "expanded" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    MaterialAttrs.expanded -> when {
       v is AppBarLayout && arg is Boolean -> {
         v.setExpanded(arg)
         true
@@ -625,42 +844,42 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "liftOnScroll" -> when {
+    MaterialAttrs.liftOnScroll -> when {
       v is AppBarLayout && arg is Boolean -> {
         v.setLiftOnScroll(arg)
         true
       }
       else -> false
     }
-    "liftable" -> when {
+    MaterialAttrs.liftable -> when {
       v is AppBarLayout && arg is Boolean -> {
         v.setLiftable(arg)
         true
       }
       else -> false
     }
-    "lifted" -> when {
+    MaterialAttrs.lifted -> when {
       v is AppBarLayout && arg is Boolean -> {
         v.setLifted(arg)
         true
       }
       else -> false
     }
-    "collapsedTitleGravity" -> when {
+    MaterialAttrs.collapsedTitleGravity -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setCollapsedTitleGravity(arg)
         true
       }
       else -> false
     }
-    "collapsedTitleTextAppearance" -> when {
+    MaterialAttrs.collapsedTitleTextAppearance -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setCollapsedTitleTextAppearance(arg)
         true
       }
       else -> false
     }
-    "collapsedTitleTextColor" -> when {
+    MaterialAttrs.collapsedTitleTextColor -> when {
       v is CollapsingToolbarLayout && arg is ColorStateList -> {
         v.setCollapsedTitleTextColor(arg)
         true
@@ -671,196 +890,196 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "collapsedTitleTypeface" -> when {
+    MaterialAttrs.collapsedTitleTypeface -> when {
       v is CollapsingToolbarLayout && (arg == null || arg is Typeface) -> {
         v.setCollapsedTitleTypeface(arg as Typeface)
         true
       }
       else -> false
     }
-    "contentScrim" -> when {
+    MaterialAttrs.contentScrim -> when {
       v is CollapsingToolbarLayout && (arg == null || arg is Drawable) -> {
         v.setContentScrim(arg as Drawable)
         true
       }
       else -> false
     }
-    "contentScrimColor" -> when {
+    MaterialAttrs.contentScrimColor -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setContentScrimColor(arg)
         true
       }
       else -> false
     }
-    "contentScrimResource" -> when {
+    MaterialAttrs.contentScrimResource -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setContentScrimResource(arg)
         true
       }
       else -> false
     }
-    "expandedTitleColor" -> when {
+    MaterialAttrs.expandedTitleColor -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleColor(arg)
         true
       }
       else -> false
     }
-    "expandedTitleGravity" -> when {
+    MaterialAttrs.expandedTitleGravity -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleGravity(arg)
         true
       }
       else -> false
     }
-    "expandedTitleMarginBottom" -> when {
+    MaterialAttrs.expandedTitleMarginBottom -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleMarginBottom(arg)
         true
       }
       else -> false
     }
-    "expandedTitleMarginEnd" -> when {
+    MaterialAttrs.expandedTitleMarginEnd -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleMarginEnd(arg)
         true
       }
       else -> false
     }
-    "expandedTitleMarginStart" -> when {
+    MaterialAttrs.expandedTitleMarginStart -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleMarginStart(arg)
         true
       }
       else -> false
     }
-    "expandedTitleMarginTop" -> when {
+    MaterialAttrs.expandedTitleMarginTop -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleMarginTop(arg)
         true
       }
       else -> false
     }
-    "expandedTitleTextAppearance" -> when {
+    MaterialAttrs.expandedTitleTextAppearance -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setExpandedTitleTextAppearance(arg)
         true
       }
       else -> false
     }
-    "expandedTitleTextColor" -> when {
+    MaterialAttrs.expandedTitleTextColor -> when {
       v is CollapsingToolbarLayout && arg is ColorStateList -> {
         v.setExpandedTitleTextColor(arg)
         true
       }
       else -> false
     }
-    "expandedTitleTypeface" -> when {
+    MaterialAttrs.expandedTitleTypeface -> when {
       v is CollapsingToolbarLayout && (arg == null || arg is Typeface) -> {
         v.setExpandedTitleTypeface(arg as Typeface)
         true
       }
       else -> false
     }
-    "scrimAnimationDuration" -> when {
+    MaterialAttrs.scrimAnimationDuration -> when {
       v is CollapsingToolbarLayout && arg is Long -> {
         v.setScrimAnimationDuration(arg)
         true
       }
       else -> false
     }
-    "scrimVisibleHeightTrigger" -> when {
+    MaterialAttrs.scrimVisibleHeightTrigger -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setScrimVisibleHeightTrigger(arg)
         true
       }
       else -> false
     }
-    "scrimsShown" -> when {
+    MaterialAttrs.scrimsShown -> when {
       v is CollapsingToolbarLayout && arg is Boolean -> {
         v.setScrimsShown(arg)
         true
       }
       else -> false
     }
-    "statusBarScrim" -> when {
+    MaterialAttrs.statusBarScrim -> when {
       v is CollapsingToolbarLayout && (arg == null || arg is Drawable) -> {
         v.setStatusBarScrim(arg as Drawable)
         true
       }
       else -> false
     }
-    "statusBarScrimColor" -> when {
+    MaterialAttrs.statusBarScrimColor -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setStatusBarScrimColor(arg)
         true
       }
       else -> false
     }
-    "statusBarScrimResource" -> when {
+    MaterialAttrs.statusBarScrimResource -> when {
       v is CollapsingToolbarLayout && arg is Int -> {
         v.setStatusBarScrimResource(arg)
         true
       }
       else -> false
     }
-    "title" -> when {
+    MaterialAttrs.title -> when {
       v is CollapsingToolbarLayout && (arg == null || arg is CharSequence) -> {
         v.setTitle(arg as CharSequence)
         true
       }
       else -> false
     }
-    "titleEnabled" -> when {
+    MaterialAttrs.titleEnabled -> when {
       v is CollapsingToolbarLayout && arg is Boolean -> {
         v.setTitleEnabled(arg)
         true
       }
       else -> false
     }
-    "backgroundTint" -> when {
+    MaterialAttrs.backgroundTint -> when {
       v is BottomAppBar && (arg == null || arg is ColorStateList) -> {
         v.setBackgroundTint(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "cradleVerticalOffset" -> when {
+    MaterialAttrs.cradleVerticalOffset -> when {
       v is BottomAppBar && arg is Float -> {
         v.setCradleVerticalOffset(arg)
         true
       }
       else -> false
     }
-    "fabAlignmentMode" -> when {
+    MaterialAttrs.fabAlignmentMode -> when {
       v is BottomAppBar && arg is Int -> {
         v.setFabAlignmentMode(arg)
         true
       }
       else -> false
     }
-    "fabCradleMargin" -> when {
+    MaterialAttrs.fabCradleMargin -> when {
       v is BottomAppBar && arg is Float -> {
         v.setFabCradleMargin(arg)
         true
       }
       else -> false
     }
-    "fabCradleRoundedCornerRadius" -> when {
+    MaterialAttrs.fabCradleRoundedCornerRadius -> when {
       v is BottomAppBar && arg is Float -> {
         v.setFabCradleRoundedCornerRadius(arg)
         true
       }
       else -> false
     }
-    "hideOnScroll" -> when {
+    MaterialAttrs.hideOnScroll -> when {
       v is BottomAppBar && arg is Boolean -> {
         v.setHideOnScroll(arg)
         true
       }
       else -> false
     }
-    "itemBackground" -> when {
+    MaterialAttrs.itemBackground -> when {
       v is BottomNavigationView && (arg == null || arg is Drawable) -> {
         v.setItemBackground(arg as Drawable)
         true
@@ -871,7 +1090,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "itemBackgroundResource" -> when {
+    MaterialAttrs.itemBackgroundResource -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setItemBackgroundResource(arg)
         true
@@ -882,28 +1101,28 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "itemHorizontalTranslationEnabled" -> when {
+    MaterialAttrs.itemHorizontalTranslationEnabled -> when {
       v is BottomNavigationView && arg is Boolean -> {
         v.setItemHorizontalTranslationEnabled(arg)
         true
       }
       else -> false
     }
-    "itemIconSize" -> when {
+    MaterialAttrs.itemIconSize -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setItemIconSize(arg)
         true
       }
       else -> false
     }
-    "itemIconSizeRes" -> when {
+    MaterialAttrs.itemIconSizeRes -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setItemIconSizeRes(arg)
         true
       }
       else -> false
     }
-    "itemIconTintList" -> when {
+    MaterialAttrs.itemIconTintList -> when {
       v is BottomNavigationView && (arg == null || arg is ColorStateList) -> {
         v.setItemIconTintList(arg as ColorStateList)
         true
@@ -914,21 +1133,21 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "itemTextAppearanceActive" -> when {
+    MaterialAttrs.itemTextAppearanceActive -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setItemTextAppearanceActive(arg)
         true
       }
       else -> false
     }
-    "itemTextAppearanceInactive" -> when {
+    MaterialAttrs.itemTextAppearanceInactive -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setItemTextAppearanceInactive(arg)
         true
       }
       else -> false
     }
-    "itemTextColor" -> when {
+    MaterialAttrs.itemTextColor -> when {
       v is BottomNavigationView && (arg == null || arg is ColorStateList) -> {
         v.setItemTextColor(arg as ColorStateList)
         true
@@ -939,14 +1158,14 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "labelVisibilityMode" -> when {
+    MaterialAttrs.labelVisibilityMode -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setLabelVisibilityMode(arg)
         true
       }
       else -> false
     }
-    "onNavigationItemReselected" -> when {
+    MaterialAttrs.onNavigationItemReselected -> when {
       v is BottomNavigationView -> when {
         arg == null -> {
           v.setOnNavigationItemReselectedListener(null as?
@@ -954,9 +1173,10 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MenuItem) -> Unit
-          v.setOnNavigationItemReselectedListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnNavigationItemReselectedListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MenuItem) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -964,7 +1184,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onNavigationItemSelected" -> when {
+    MaterialAttrs.onNavigationItemSelected -> when {
       v is BottomNavigationView -> when {
         arg == null -> {
           v.setOnNavigationItemSelectedListener(null as?
@@ -972,9 +1192,10 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MenuItem) -> Boolean
-          v.setOnNavigationItemSelectedListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnNavigationItemSelectedListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MenuItem) -> Boolean)?.invoke(arg0)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -982,84 +1203,84 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "selectedItemId" -> when {
+    MaterialAttrs.selectedItemId -> when {
       v is BottomNavigationView && arg is Int -> {
         v.setSelectedItemId(arg)
         true
       }
       else -> false
     }
-    "cornerRadius" -> when {
+    MaterialAttrs.cornerRadius -> when {
       v is MaterialButton && arg is Int -> {
         v.setCornerRadius(arg)
         true
       }
       else -> false
     }
-    "cornerRadiusResource" -> when {
+    MaterialAttrs.cornerRadiusResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setCornerRadiusResource(arg)
         true
       }
       else -> false
     }
-    "icon" -> when {
+    MaterialAttrs.icon -> when {
       v is MaterialButton && arg is Drawable -> {
         v.setIcon(arg)
         true
       }
       else -> false
     }
-    "iconGravity" -> when {
+    MaterialAttrs.iconGravity -> when {
       v is MaterialButton && arg is Int -> {
         v.setIconGravity(arg)
         true
       }
       else -> false
     }
-    "iconPadding" -> when {
+    MaterialAttrs.iconPadding -> when {
       v is MaterialButton && arg is Int -> {
         v.setIconPadding(arg)
         true
       }
       else -> false
     }
-    "iconResource" -> when {
+    MaterialAttrs.iconResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setIconResource(arg)
         true
       }
       else -> false
     }
-    "iconSize" -> when {
+    MaterialAttrs.iconSize -> when {
       v is MaterialButton && arg is Int -> {
         v.setIconSize(arg)
         true
       }
       else -> false
     }
-    "iconTint" -> when {
+    MaterialAttrs.iconTint -> when {
       v is MaterialButton && (arg == null || arg is ColorStateList) -> {
         v.setIconTint(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "iconTintMode" -> when {
+    MaterialAttrs.iconTintMode -> when {
       v is MaterialButton && arg is PorterDuff.Mode -> {
         v.setIconTintMode(arg)
         true
       }
       else -> false
     }
-    "iconTintResource" -> when {
+    MaterialAttrs.iconTintResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setIconTintResource(arg)
         true
       }
       else -> false
     }
-    "rippleColor" -> when {
+    MaterialAttrs.rippleColor -> when {
       v is MaterialButton && (arg == null || arg is ColorStateList) -> {
         v.setRippleColor(arg as ColorStateList)
         true
@@ -1078,7 +1299,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "rippleColorResource" -> when {
+    MaterialAttrs.rippleColorResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setRippleColorResource(arg)
         true
@@ -1089,7 +1310,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "strokeColor" -> when {
+    MaterialAttrs.strokeColor -> when {
       v is MaterialButton && (arg == null || arg is ColorStateList) -> {
         v.setStrokeColor(arg as ColorStateList)
         true
@@ -1100,14 +1321,14 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "strokeColorResource" -> when {
+    MaterialAttrs.strokeColorResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setStrokeColorResource(arg)
         true
       }
       else -> false
     }
-    "strokeWidth" -> when {
+    MaterialAttrs.strokeWidth -> when {
       v is MaterialButton && arg is Int -> {
         v.setStrokeWidth(arg)
         true
@@ -1118,42 +1339,42 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "strokeWidthResource" -> when {
+    MaterialAttrs.strokeWidthResource -> when {
       v is MaterialButton && arg is Int -> {
         v.setStrokeWidthResource(arg)
         true
       }
       else -> false
     }
-    "checkable" -> when {
+    MaterialAttrs.checkable -> when {
       v is Chip && arg is Boolean -> {
         v.setCheckable(arg)
         true
       }
       else -> false
     }
-    "checkableResource" -> when {
+    MaterialAttrs.checkableResource -> when {
       v is Chip && arg is Int -> {
         v.setCheckableResource(arg)
         true
       }
       else -> false
     }
-    "checkedIcon" -> when {
+    MaterialAttrs.checkedIcon -> when {
       v is Chip && (arg == null || arg is Drawable) -> {
         v.setCheckedIcon(arg as Drawable)
         true
       }
       else -> false
     }
-    "checkedIconResource" -> when {
+    MaterialAttrs.checkedIconResource -> when {
       v is Chip && arg is Int -> {
         v.setCheckedIconResource(arg)
         true
       }
       else -> false
     }
-    "checkedIconVisible" -> when {
+    MaterialAttrs.checkedIconVisible -> when {
       v is Chip && arg is Boolean -> {
         v.setCheckedIconVisible(arg)
         true
@@ -1164,98 +1385,98 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "chipBackgroundColor" -> when {
+    MaterialAttrs.chipBackgroundColor -> when {
       v is Chip && (arg == null || arg is ColorStateList) -> {
         v.setChipBackgroundColor(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "chipBackgroundColorResource" -> when {
+    MaterialAttrs.chipBackgroundColorResource -> when {
       v is Chip && arg is Int -> {
         v.setChipBackgroundColorResource(arg)
         true
       }
       else -> false
     }
-    "chipCornerRadius" -> when {
+    MaterialAttrs.chipCornerRadius -> when {
       v is Chip && arg is Float -> {
         v.setChipCornerRadius(arg)
         true
       }
       else -> false
     }
-    "chipCornerRadiusResource" -> when {
+    MaterialAttrs.chipCornerRadiusResource -> when {
       v is Chip && arg is Int -> {
         v.setChipCornerRadiusResource(arg)
         true
       }
       else -> false
     }
-    "chipDrawable" -> when {
+    MaterialAttrs.chipDrawable -> when {
       v is Chip && arg is ChipDrawable -> {
         v.setChipDrawable(arg)
         true
       }
       else -> false
     }
-    "chipEndPadding" -> when {
+    MaterialAttrs.chipEndPadding -> when {
       v is Chip && arg is Float -> {
         v.setChipEndPadding(arg)
         true
       }
       else -> false
     }
-    "chipEndPaddingResource" -> when {
+    MaterialAttrs.chipEndPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setChipEndPaddingResource(arg)
         true
       }
       else -> false
     }
-    "chipIcon" -> when {
+    MaterialAttrs.chipIcon -> when {
       v is Chip && (arg == null || arg is Drawable) -> {
         v.setChipIcon(arg as Drawable)
         true
       }
       else -> false
     }
-    "chipIconResource" -> when {
+    MaterialAttrs.chipIconResource -> when {
       v is Chip && arg is Int -> {
         v.setChipIconResource(arg)
         true
       }
       else -> false
     }
-    "chipIconSize" -> when {
+    MaterialAttrs.chipIconSize -> when {
       v is Chip && arg is Float -> {
         v.setChipIconSize(arg)
         true
       }
       else -> false
     }
-    "chipIconSizeResource" -> when {
+    MaterialAttrs.chipIconSizeResource -> when {
       v is Chip && arg is Int -> {
         v.setChipIconSizeResource(arg)
         true
       }
       else -> false
     }
-    "chipIconTint" -> when {
+    MaterialAttrs.chipIconTint -> when {
       v is Chip && (arg == null || arg is ColorStateList) -> {
         v.setChipIconTint(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "chipIconTintResource" -> when {
+    MaterialAttrs.chipIconTintResource -> when {
       v is Chip && arg is Int -> {
         v.setChipIconTintResource(arg)
         true
       }
       else -> false
     }
-    "chipIconVisible" -> when {
+    MaterialAttrs.chipIconVisible -> when {
       v is Chip && arg is Boolean -> {
         v.setChipIconVisible(arg)
         true
@@ -1266,140 +1487,140 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "chipMinHeight" -> when {
+    MaterialAttrs.chipMinHeight -> when {
       v is Chip && arg is Float -> {
         v.setChipMinHeight(arg)
         true
       }
       else -> false
     }
-    "chipMinHeightResource" -> when {
+    MaterialAttrs.chipMinHeightResource -> when {
       v is Chip && arg is Int -> {
         v.setChipMinHeightResource(arg)
         true
       }
       else -> false
     }
-    "chipStartPadding" -> when {
+    MaterialAttrs.chipStartPadding -> when {
       v is Chip && arg is Float -> {
         v.setChipStartPadding(arg)
         true
       }
       else -> false
     }
-    "chipStartPaddingResource" -> when {
+    MaterialAttrs.chipStartPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setChipStartPaddingResource(arg)
         true
       }
       else -> false
     }
-    "chipStrokeColor" -> when {
+    MaterialAttrs.chipStrokeColor -> when {
       v is Chip && (arg == null || arg is ColorStateList) -> {
         v.setChipStrokeColor(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "chipStrokeColorResource" -> when {
+    MaterialAttrs.chipStrokeColorResource -> when {
       v is Chip && arg is Int -> {
         v.setChipStrokeColorResource(arg)
         true
       }
       else -> false
     }
-    "chipStrokeWidth" -> when {
+    MaterialAttrs.chipStrokeWidth -> when {
       v is Chip && arg is Float -> {
         v.setChipStrokeWidth(arg)
         true
       }
       else -> false
     }
-    "chipStrokeWidthResource" -> when {
+    MaterialAttrs.chipStrokeWidthResource -> when {
       v is Chip && arg is Int -> {
         v.setChipStrokeWidthResource(arg)
         true
       }
       else -> false
     }
-    "closeIcon" -> when {
+    MaterialAttrs.closeIcon -> when {
       v is Chip && (arg == null || arg is Drawable) -> {
         v.setCloseIcon(arg as Drawable)
         true
       }
       else -> false
     }
-    "closeIconContentDescription" -> when {
+    MaterialAttrs.closeIconContentDescription -> when {
       v is Chip && (arg == null || arg is CharSequence) -> {
         v.setCloseIconContentDescription(arg as CharSequence)
         true
       }
       else -> false
     }
-    "closeIconEndPadding" -> when {
+    MaterialAttrs.closeIconEndPadding -> when {
       v is Chip && arg is Float -> {
         v.setCloseIconEndPadding(arg)
         true
       }
       else -> false
     }
-    "closeIconEndPaddingResource" -> when {
+    MaterialAttrs.closeIconEndPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setCloseIconEndPaddingResource(arg)
         true
       }
       else -> false
     }
-    "closeIconResource" -> when {
+    MaterialAttrs.closeIconResource -> when {
       v is Chip && arg is Int -> {
         v.setCloseIconResource(arg)
         true
       }
       else -> false
     }
-    "closeIconSize" -> when {
+    MaterialAttrs.closeIconSize -> when {
       v is Chip && arg is Float -> {
         v.setCloseIconSize(arg)
         true
       }
       else -> false
     }
-    "closeIconSizeResource" -> when {
+    MaterialAttrs.closeIconSizeResource -> when {
       v is Chip && arg is Int -> {
         v.setCloseIconSizeResource(arg)
         true
       }
       else -> false
     }
-    "closeIconStartPadding" -> when {
+    MaterialAttrs.closeIconStartPadding -> when {
       v is Chip && arg is Float -> {
         v.setCloseIconStartPadding(arg)
         true
       }
       else -> false
     }
-    "closeIconStartPaddingResource" -> when {
+    MaterialAttrs.closeIconStartPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setCloseIconStartPaddingResource(arg)
         true
       }
       else -> false
     }
-    "closeIconTint" -> when {
+    MaterialAttrs.closeIconTint -> when {
       v is Chip && (arg == null || arg is ColorStateList) -> {
         v.setCloseIconTint(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "closeIconTintResource" -> when {
+    MaterialAttrs.closeIconTintResource -> when {
       v is Chip && arg is Int -> {
         v.setCloseIconTintResource(arg)
         true
       }
       else -> false
     }
-    "closeIconVisible" -> when {
+    MaterialAttrs.closeIconVisible -> when {
       v is Chip && arg is Boolean -> {
         v.setCloseIconVisible(arg)
         true
@@ -1410,7 +1631,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "hideMotionSpec" -> when {
+    MaterialAttrs.hideMotionSpec -> when {
       v is Chip && (arg == null || arg is MotionSpec) -> {
         v.setHideMotionSpec(arg as MotionSpec)
         true
@@ -1421,7 +1642,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "hideMotionSpecResource" -> when {
+    MaterialAttrs.hideMotionSpecResource -> when {
       v is Chip && arg is Int -> {
         v.setHideMotionSpecResource(arg)
         true
@@ -1432,44 +1653,45 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "iconEndPadding" -> when {
+    MaterialAttrs.iconEndPadding -> when {
       v is Chip && arg is Float -> {
         v.setIconEndPadding(arg)
         true
       }
       else -> false
     }
-    "iconEndPaddingResource" -> when {
+    MaterialAttrs.iconEndPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setIconEndPaddingResource(arg)
         true
       }
       else -> false
     }
-    "iconStartPadding" -> when {
+    MaterialAttrs.iconStartPadding -> when {
       v is Chip && arg is Float -> {
         v.setIconStartPadding(arg)
         true
       }
       else -> false
     }
-    "iconStartPaddingResource" -> when {
+    MaterialAttrs.iconStartPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setIconStartPaddingResource(arg)
         true
       }
       else -> false
     }
-    "onCloseIconClick" -> when {
+    MaterialAttrs.onCloseIconClick -> when {
       v is Chip -> when {
         arg == null -> {
           v.setOnCloseIconClickListener(null as? View.OnClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: View) -> Unit
-          v.setOnCloseIconClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCloseIconClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: View) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -1477,7 +1699,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "showMotionSpec" -> when {
+    MaterialAttrs.showMotionSpec -> when {
       v is Chip && (arg == null || arg is MotionSpec) -> {
         v.setShowMotionSpec(arg as MotionSpec)
         true
@@ -1488,7 +1710,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "showMotionSpecResource" -> when {
+    MaterialAttrs.showMotionSpecResource -> when {
       v is Chip && arg is Int -> {
         v.setShowMotionSpecResource(arg)
         true
@@ -1499,7 +1721,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "textAppearance" -> when {
+    MaterialAttrs.textAppearance -> when {
       v is NavigationMenuItemView && arg is Int -> {
         v.setTextAppearance(arg)
         true
@@ -1510,93 +1732,94 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "textAppearanceResource" -> when {
+    MaterialAttrs.textAppearanceResource -> when {
       v is Chip && arg is Int -> {
         v.setTextAppearanceResource(arg)
         true
       }
       else -> false
     }
-    "textEndPadding" -> when {
+    MaterialAttrs.textEndPadding -> when {
       v is Chip && arg is Float -> {
         v.setTextEndPadding(arg)
         true
       }
       else -> false
     }
-    "textEndPaddingResource" -> when {
+    MaterialAttrs.textEndPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setTextEndPaddingResource(arg)
         true
       }
       else -> false
     }
-    "textStartPadding" -> when {
+    MaterialAttrs.textStartPadding -> when {
       v is Chip && arg is Float -> {
         v.setTextStartPadding(arg)
         true
       }
       else -> false
     }
-    "textStartPaddingResource" -> when {
+    MaterialAttrs.textStartPaddingResource -> when {
       v is Chip && arg is Int -> {
         v.setTextStartPaddingResource(arg)
         true
       }
       else -> false
     }
-    "chipSpacing" -> when {
+    MaterialAttrs.chipSpacing -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacing(arg)
         true
       }
       else -> false
     }
-    "chipSpacingHorizontal" -> when {
+    MaterialAttrs.chipSpacingHorizontal -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacingHorizontal(arg)
         true
       }
       else -> false
     }
-    "chipSpacingHorizontalResource" -> when {
+    MaterialAttrs.chipSpacingHorizontalResource -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacingHorizontalResource(arg)
         true
       }
       else -> false
     }
-    "chipSpacingResource" -> when {
+    MaterialAttrs.chipSpacingResource -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacingResource(arg)
         true
       }
       else -> false
     }
-    "chipSpacingVertical" -> when {
+    MaterialAttrs.chipSpacingVertical -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacingVertical(arg)
         true
       }
       else -> false
     }
-    "chipSpacingVerticalResource" -> when {
+    MaterialAttrs.chipSpacingVerticalResource -> when {
       v is ChipGroup && arg is Int -> {
         v.setChipSpacingVerticalResource(arg)
         true
       }
       else -> false
     }
-    "onCheckedChange" -> when {
+    MaterialAttrs.onCheckedChange -> when {
       v is ChipGroup -> when {
         arg == null -> {
           v.setOnCheckedChangeListener(null as? ChipGroup.OnCheckedChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: ChipGroup, arg1: Int) -> Unit
-          v.setOnCheckedChangeListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCheckedChangeListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: ChipGroup, arg1: Int) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -1604,7 +1827,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "singleLine" -> when {
+    MaterialAttrs.singleLine -> when {
       v is FlowLayout && arg is Boolean -> {
         v.setSingleLine(arg)
         true
@@ -1615,7 +1838,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "singleSelection" -> when {
+    MaterialAttrs.singleSelection -> when {
       v is ChipGroup && arg is Boolean -> {
         v.setSingleSelection(arg)
         true
@@ -1626,7 +1849,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "circularRevealOverlayDrawable" -> when {
+    MaterialAttrs.circularRevealOverlayDrawable -> when {
       v is CircularRevealFrameLayout && (arg == null || arg is Drawable) -> {
         v.setCircularRevealOverlayDrawable(arg as Drawable)
         true
@@ -1649,7 +1872,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "circularRevealScrimColor" -> when {
+    MaterialAttrs.circularRevealScrimColor -> when {
       v is CircularRevealFrameLayout && arg is Int -> {
         v.setCircularRevealScrimColor(arg)
         true
@@ -1672,7 +1895,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "revealInfo" -> when {
+    MaterialAttrs.revealInfo -> when {
       v is CircularRevealFrameLayout && (arg == null || arg is CircularRevealWidget.RevealInfo) -> {
         v.setRevealInfo(arg as CircularRevealWidget.RevealInfo)
         true
@@ -1697,119 +1920,119 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "compatElevation" -> when {
+    MaterialAttrs.compatElevation -> when {
       v is FloatingActionButton && arg is Float -> {
         v.setCompatElevation(arg)
         true
       }
       else -> false
     }
-    "compatElevationResource" -> when {
+    MaterialAttrs.compatElevationResource -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setCompatElevationResource(arg)
         true
       }
       else -> false
     }
-    "compatHoveredFocusedTranslationZ" -> when {
+    MaterialAttrs.compatHoveredFocusedTranslationZ -> when {
       v is FloatingActionButton && arg is Float -> {
         v.setCompatHoveredFocusedTranslationZ(arg)
         true
       }
       else -> false
     }
-    "compatHoveredFocusedTranslationZResource" -> when {
+    MaterialAttrs.compatHoveredFocusedTranslationZResource -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setCompatHoveredFocusedTranslationZResource(arg)
         true
       }
       else -> false
     }
-    "compatPressedTranslationZ" -> when {
+    MaterialAttrs.compatPressedTranslationZ -> when {
       v is FloatingActionButton && arg is Float -> {
         v.setCompatPressedTranslationZ(arg)
         true
       }
       else -> false
     }
-    "compatPressedTranslationZResource" -> when {
+    MaterialAttrs.compatPressedTranslationZResource -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setCompatPressedTranslationZResource(arg)
         true
       }
       else -> false
     }
-    "customSize" -> when {
+    MaterialAttrs.customSize -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setCustomSize(arg)
         true
       }
       else -> false
     }
-    "expandedComponentIdHint" -> when {
+    MaterialAttrs.expandedComponentIdHint -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setExpandedComponentIdHint(arg)
         true
       }
       else -> false
     }
-    "size" -> when {
+    MaterialAttrs.size -> when {
       v is FloatingActionButton && arg is Int -> {
         v.setSize(arg)
         true
       }
       else -> false
     }
-    "supportBackgroundTintList" -> when {
+    MaterialAttrs.supportBackgroundTintList -> when {
       v is FloatingActionButton && (arg == null || arg is ColorStateList) -> {
         v.setSupportBackgroundTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "supportBackgroundTintMode" -> when {
+    MaterialAttrs.supportBackgroundTintMode -> when {
       v is FloatingActionButton && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportBackgroundTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "supportImageTintList" -> when {
+    MaterialAttrs.supportImageTintList -> when {
       v is FloatingActionButton && (arg == null || arg is ColorStateList) -> {
         v.setSupportImageTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "supportImageTintMode" -> when {
+    MaterialAttrs.supportImageTintMode -> when {
       v is FloatingActionButton && (arg == null || arg is PorterDuff.Mode) -> {
         v.setSupportImageTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "useCompatPadding" -> when {
+    MaterialAttrs.useCompatPadding -> when {
       v is FloatingActionButton && arg is Boolean -> {
         v.setUseCompatPadding(arg)
         true
       }
       else -> false
     }
-    "horizontalPadding" -> when {
+    MaterialAttrs.horizontalPadding -> when {
       v is NavigationMenuItemView && arg is Int -> {
         v.setHorizontalPadding(arg)
         true
       }
       else -> false
     }
-    "needsEmptyIcon" -> when {
+    MaterialAttrs.needsEmptyIcon -> when {
       v is NavigationMenuItemView && arg is Boolean -> {
         v.setNeedsEmptyIcon(arg)
         true
       }
       else -> false
     }
-    "checkedItem" -> when {
+    MaterialAttrs.checkedItem -> when {
       v is NavigationView && arg is Int -> {
         v.setCheckedItem(arg)
         true
@@ -1820,42 +2043,42 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "itemHorizontalPadding" -> when {
+    MaterialAttrs.itemHorizontalPadding -> when {
       v is NavigationView && arg is Int -> {
         v.setItemHorizontalPadding(arg)
         true
       }
       else -> false
     }
-    "itemHorizontalPaddingResource" -> when {
+    MaterialAttrs.itemHorizontalPaddingResource -> when {
       v is NavigationView && arg is Int -> {
         v.setItemHorizontalPaddingResource(arg)
         true
       }
       else -> false
     }
-    "itemIconPadding" -> when {
+    MaterialAttrs.itemIconPadding -> when {
       v is NavigationView && arg is Int -> {
         v.setItemIconPadding(arg)
         true
       }
       else -> false
     }
-    "itemIconPaddingResource" -> when {
+    MaterialAttrs.itemIconPaddingResource -> when {
       v is NavigationView && arg is Int -> {
         v.setItemIconPaddingResource(arg)
         true
       }
       else -> false
     }
-    "itemTextAppearance" -> when {
+    MaterialAttrs.itemTextAppearance -> when {
       v is NavigationView && arg is Int -> {
         v.setItemTextAppearance(arg)
         true
       }
       else -> false
     }
-    "navigationItemSelectedListener" -> when {
+    MaterialAttrs.navigationItemSelectedListener -> when {
       v is NavigationView && (arg == null || arg is
           NavigationView.OnNavigationItemSelectedListener) -> {
         v.setNavigationItemSelectedListener(arg as NavigationView.OnNavigationItemSelectedListener)
@@ -1863,21 +2086,21 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "inlineLabel" -> when {
+    MaterialAttrs.inlineLabel -> when {
       v is TabLayout && arg is Boolean -> {
         v.setInlineLabel(arg)
         true
       }
       else -> false
     }
-    "inlineLabelResource" -> when {
+    MaterialAttrs.inlineLabelResource -> when {
       v is TabLayout && arg is Int -> {
         v.setInlineLabelResource(arg)
         true
       }
       else -> false
     }
-    "selectedTabIndicator" -> when {
+    MaterialAttrs.selectedTabIndicator -> when {
       v is TabLayout && (arg == null || arg is Drawable) -> {
         v.setSelectedTabIndicator(arg as Drawable)
         true
@@ -1888,224 +2111,224 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "selectedTabIndicatorColor" -> when {
+    MaterialAttrs.selectedTabIndicatorColor -> when {
       v is TabLayout && arg is Int -> {
         v.setSelectedTabIndicatorColor(arg)
         true
       }
       else -> false
     }
-    "selectedTabIndicatorGravity" -> when {
+    MaterialAttrs.selectedTabIndicatorGravity -> when {
       v is TabLayout && arg is Int -> {
         v.setSelectedTabIndicatorGravity(arg)
         true
       }
       else -> false
     }
-    "tabGravity" -> when {
+    MaterialAttrs.tabGravity -> when {
       v is TabLayout && arg is Int -> {
         v.setTabGravity(arg)
         true
       }
       else -> false
     }
-    "tabIconTint" -> when {
+    MaterialAttrs.tabIconTint -> when {
       v is TabLayout && (arg == null || arg is ColorStateList) -> {
         v.setTabIconTint(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "tabIconTintResource" -> when {
+    MaterialAttrs.tabIconTintResource -> when {
       v is TabLayout && arg is Int -> {
         v.setTabIconTintResource(arg)
         true
       }
       else -> false
     }
-    "tabIndicatorFullWidth" -> when {
+    MaterialAttrs.tabIndicatorFullWidth -> when {
       v is TabLayout && arg is Boolean -> {
         v.setTabIndicatorFullWidth(arg)
         true
       }
       else -> false
     }
-    "tabMode" -> when {
+    MaterialAttrs.tabMode -> when {
       v is TabLayout && arg is Int -> {
         v.setTabMode(arg)
         true
       }
       else -> false
     }
-    "tabRippleColor" -> when {
+    MaterialAttrs.tabRippleColor -> when {
       v is TabLayout && arg is ColorStateList -> {
         v.setTabRippleColor(arg)
         true
       }
       else -> false
     }
-    "tabRippleColorResource" -> when {
+    MaterialAttrs.tabRippleColorResource -> when {
       v is TabLayout && arg is Int -> {
         v.setTabRippleColorResource(arg)
         true
       }
       else -> false
     }
-    "tabTextColors" -> when {
+    MaterialAttrs.tabTextColors -> when {
       v is TabLayout && (arg == null || arg is ColorStateList) -> {
         v.setTabTextColors(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "unboundedRipple" -> when {
+    MaterialAttrs.unboundedRipple -> when {
       v is TabLayout && arg is Boolean -> {
         v.setUnboundedRipple(arg)
         true
       }
       else -> false
     }
-    "unboundedRippleResource" -> when {
+    MaterialAttrs.unboundedRippleResource -> when {
       v is TabLayout && arg is Int -> {
         v.setUnboundedRippleResource(arg)
         true
       }
       else -> false
     }
-    "boxBackgroundColor" -> when {
+    MaterialAttrs.boxBackgroundColor -> when {
       v is TextInputLayout && arg is Int -> {
         v.setBoxBackgroundColor(arg)
         true
       }
       else -> false
     }
-    "boxBackgroundColorResource" -> when {
+    MaterialAttrs.boxBackgroundColorResource -> when {
       v is TextInputLayout && arg is Int -> {
         v.setBoxBackgroundColorResource(arg)
         true
       }
       else -> false
     }
-    "boxBackgroundMode" -> when {
+    MaterialAttrs.boxBackgroundMode -> when {
       v is TextInputLayout && arg is Int -> {
         v.setBoxBackgroundMode(arg)
         true
       }
       else -> false
     }
-    "boxStrokeColor" -> when {
+    MaterialAttrs.boxStrokeColor -> when {
       v is TextInputLayout && arg is Int -> {
         v.setBoxStrokeColor(arg)
         true
       }
       else -> false
     }
-    "counterEnabled" -> when {
+    MaterialAttrs.counterEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setCounterEnabled(arg)
         true
       }
       else -> false
     }
-    "counterMaxLength" -> when {
+    MaterialAttrs.counterMaxLength -> when {
       v is TextInputLayout && arg is Int -> {
         v.setCounterMaxLength(arg)
         true
       }
       else -> false
     }
-    "defaultHintTextColor" -> when {
+    MaterialAttrs.defaultHintTextColor -> when {
       v is TextInputLayout && (arg == null || arg is ColorStateList) -> {
         v.setDefaultHintTextColor(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "error" -> when {
+    MaterialAttrs.error -> when {
       v is TextInputLayout && (arg == null || arg is CharSequence) -> {
         v.setError(arg as CharSequence)
         true
       }
       else -> false
     }
-    "errorEnabled" -> when {
+    MaterialAttrs.errorEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setErrorEnabled(arg)
         true
       }
       else -> false
     }
-    "errorTextAppearance" -> when {
+    MaterialAttrs.errorTextAppearance -> when {
       v is TextInputLayout && arg is Int -> {
         v.setErrorTextAppearance(arg)
         true
       }
       else -> false
     }
-    "errorTextColor" -> when {
+    MaterialAttrs.errorTextColor -> when {
       v is TextInputLayout && (arg == null || arg is ColorStateList) -> {
         v.setErrorTextColor(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "helperText" -> when {
+    MaterialAttrs.helperText -> when {
       v is TextInputLayout && (arg == null || arg is CharSequence) -> {
         v.setHelperText(arg as CharSequence)
         true
       }
       else -> false
     }
-    "helperTextColor" -> when {
+    MaterialAttrs.helperTextColor -> when {
       v is TextInputLayout && (arg == null || arg is ColorStateList) -> {
         v.setHelperTextColor(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "helperTextEnabled" -> when {
+    MaterialAttrs.helperTextEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setHelperTextEnabled(arg)
         true
       }
       else -> false
     }
-    "helperTextTextAppearance" -> when {
+    MaterialAttrs.helperTextTextAppearance -> when {
       v is TextInputLayout && arg is Int -> {
         v.setHelperTextTextAppearance(arg)
         true
       }
       else -> false
     }
-    "hint" -> when {
+    MaterialAttrs.hint -> when {
       v is TextInputLayout && (arg == null || arg is CharSequence) -> {
         v.setHint(arg as CharSequence)
         true
       }
       else -> false
     }
-    "hintAnimationEnabled" -> when {
+    MaterialAttrs.hintAnimationEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setHintAnimationEnabled(arg)
         true
       }
       else -> false
     }
-    "hintEnabled" -> when {
+    MaterialAttrs.hintEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setHintEnabled(arg)
         true
       }
       else -> false
     }
-    "hintTextAppearance" -> when {
+    MaterialAttrs.hintTextAppearance -> when {
       v is TextInputLayout && arg is Int -> {
         v.setHintTextAppearance(arg)
         true
       }
       else -> false
     }
-    "passwordVisibilityToggleContentDescription" -> when {
+    MaterialAttrs.passwordVisibilityToggleContentDescription -> when {
       v is TextInputLayout && (arg == null || arg is CharSequence) -> {
         v.setPasswordVisibilityToggleContentDescription(arg as CharSequence)
         true
@@ -2116,7 +2339,7 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "passwordVisibilityToggleDrawable" -> when {
+    MaterialAttrs.passwordVisibilityToggleDrawable -> when {
       v is TextInputLayout && (arg == null || arg is Drawable) -> {
         v.setPasswordVisibilityToggleDrawable(arg as Drawable)
         true
@@ -2127,35 +2350,35 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "passwordVisibilityToggleEnabled" -> when {
+    MaterialAttrs.passwordVisibilityToggleEnabled -> when {
       v is TextInputLayout && arg is Boolean -> {
         v.setPasswordVisibilityToggleEnabled(arg)
         true
       }
       else -> false
     }
-    "passwordVisibilityToggleTintList" -> when {
+    MaterialAttrs.passwordVisibilityToggleTintList -> when {
       v is TextInputLayout && (arg == null || arg is ColorStateList) -> {
         v.setPasswordVisibilityToggleTintList(arg as ColorStateList)
         true
       }
       else -> false
     }
-    "passwordVisibilityToggleTintMode" -> when {
+    MaterialAttrs.passwordVisibilityToggleTintMode -> when {
       v is TextInputLayout && (arg == null || arg is PorterDuff.Mode) -> {
         v.setPasswordVisibilityToggleTintMode(arg as PorterDuff.Mode)
         true
       }
       else -> false
     }
-    "textInputAccessibilityDelegate" -> when {
+    MaterialAttrs.textInputAccessibilityDelegate -> when {
       v is TextInputLayout && arg is TextInputLayout.AccessibilityDelegate -> {
         v.setTextInputAccessibilityDelegate(arg)
         true
       }
       else -> false
     }
-    "typeface" -> when {
+    MaterialAttrs.typeface -> when {
       v is TextInputLayout && (arg == null || arg is Typeface) -> {
         v.setTypeface(arg as Typeface)
         true
@@ -2164,4 +2387,1325 @@ object MaterialSetter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    MaterialAttrs.collapsedTitleGravity -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setCollapsedTitleGravity(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.collapsedTitleTextAppearance -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setCollapsedTitleTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.collapsedTitleTextColor -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setCollapsedTitleTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.contentScrimColor -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setContentScrimColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.contentScrimResource -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setContentScrimResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleColor -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleGravity -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleGravity(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleMarginBottom -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleMarginBottom(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleMarginEnd -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleMarginEnd(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleMarginStart -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleMarginStart(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleMarginTop -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleMarginTop(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedTitleTextAppearance -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setExpandedTitleTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.scrimVisibleHeightTrigger -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setScrimVisibleHeightTrigger(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.statusBarScrimColor -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setStatusBarScrimColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.statusBarScrimResource -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setStatusBarScrimResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.fabAlignmentMode -> when {
+      v is BottomAppBar -> {
+        v.setFabAlignmentMode(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemBackgroundResource -> when {
+      v is BottomNavigationView -> {
+        v.setItemBackgroundResource(arg)
+        true
+      }
+      v is NavigationView -> {
+        v.setItemBackgroundResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemIconSize -> when {
+      v is BottomNavigationView -> {
+        v.setItemIconSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemIconSizeRes -> when {
+      v is BottomNavigationView -> {
+        v.setItemIconSizeRes(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemTextAppearanceActive -> when {
+      v is BottomNavigationView -> {
+        v.setItemTextAppearanceActive(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemTextAppearanceInactive -> when {
+      v is BottomNavigationView -> {
+        v.setItemTextAppearanceInactive(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.labelVisibilityMode -> when {
+      v is BottomNavigationView -> {
+        v.setLabelVisibilityMode(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.selectedItemId -> when {
+      v is BottomNavigationView -> {
+        v.setSelectedItemId(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.cornerRadius -> when {
+      v is MaterialButton -> {
+        v.setCornerRadius(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.cornerRadiusResource -> when {
+      v is MaterialButton -> {
+        v.setCornerRadiusResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconGravity -> when {
+      v is MaterialButton -> {
+        v.setIconGravity(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconPadding -> when {
+      v is MaterialButton -> {
+        v.setIconPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconResource -> when {
+      v is MaterialButton -> {
+        v.setIconResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconSize -> when {
+      v is MaterialButton -> {
+        v.setIconSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconTintResource -> when {
+      v is MaterialButton -> {
+        v.setIconTintResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.rippleColor -> when {
+      v is FloatingActionButton -> {
+        v.setRippleColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.rippleColorResource -> when {
+      v is MaterialButton -> {
+        v.setRippleColorResource(arg)
+        true
+      }
+      v is Chip -> {
+        v.setRippleColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.strokeColor -> when {
+      v is MaterialCardView -> {
+        v.setStrokeColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.strokeColorResource -> when {
+      v is MaterialButton -> {
+        v.setStrokeColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.strokeWidth -> when {
+      v is MaterialButton -> {
+        v.setStrokeWidth(arg)
+        true
+      }
+      v is MaterialCardView -> {
+        v.setStrokeWidth(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.strokeWidthResource -> when {
+      v is MaterialButton -> {
+        v.setStrokeWidthResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkableResource -> when {
+      v is Chip -> {
+        v.setCheckableResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkedIconResource -> when {
+      v is Chip -> {
+        v.setCheckedIconResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkedIconVisible -> when {
+      v is Chip -> {
+        v.setCheckedIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipBackgroundColorResource -> when {
+      v is Chip -> {
+        v.setChipBackgroundColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipCornerRadiusResource -> when {
+      v is Chip -> {
+        v.setChipCornerRadiusResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipEndPaddingResource -> when {
+      v is Chip -> {
+        v.setChipEndPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconResource -> when {
+      v is Chip -> {
+        v.setChipIconResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconSizeResource -> when {
+      v is Chip -> {
+        v.setChipIconSizeResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconTintResource -> when {
+      v is Chip -> {
+        v.setChipIconTintResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconVisible -> when {
+      v is Chip -> {
+        v.setChipIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipMinHeightResource -> when {
+      v is Chip -> {
+        v.setChipMinHeightResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipStartPaddingResource -> when {
+      v is Chip -> {
+        v.setChipStartPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipStrokeColorResource -> when {
+      v is Chip -> {
+        v.setChipStrokeColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipStrokeWidthResource -> when {
+      v is Chip -> {
+        v.setChipStrokeWidthResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconEndPaddingResource -> when {
+      v is Chip -> {
+        v.setCloseIconEndPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconResource -> when {
+      v is Chip -> {
+        v.setCloseIconResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconSizeResource -> when {
+      v is Chip -> {
+        v.setCloseIconSizeResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconStartPaddingResource -> when {
+      v is Chip -> {
+        v.setCloseIconStartPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconTintResource -> when {
+      v is Chip -> {
+        v.setCloseIconTintResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconVisible -> when {
+      v is Chip -> {
+        v.setCloseIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.hideMotionSpecResource -> when {
+      v is Chip -> {
+        v.setHideMotionSpecResource(arg)
+        true
+      }
+      v is FloatingActionButton -> {
+        v.setHideMotionSpecResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconEndPaddingResource -> when {
+      v is Chip -> {
+        v.setIconEndPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconStartPaddingResource -> when {
+      v is Chip -> {
+        v.setIconStartPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.showMotionSpecResource -> when {
+      v is Chip -> {
+        v.setShowMotionSpecResource(arg)
+        true
+      }
+      v is FloatingActionButton -> {
+        v.setShowMotionSpecResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textAppearance -> when {
+      v is NavigationMenuItemView -> {
+        v.setTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textAppearanceResource -> when {
+      v is Chip -> {
+        v.setTextAppearanceResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textEndPaddingResource -> when {
+      v is Chip -> {
+        v.setTextEndPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textStartPaddingResource -> when {
+      v is Chip -> {
+        v.setTextStartPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacing -> when {
+      v is ChipGroup -> {
+        v.setChipSpacing(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacingHorizontal -> when {
+      v is ChipGroup -> {
+        v.setChipSpacingHorizontal(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacingHorizontalResource -> when {
+      v is ChipGroup -> {
+        v.setChipSpacingHorizontalResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacingResource -> when {
+      v is ChipGroup -> {
+        v.setChipSpacingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacingVertical -> when {
+      v is ChipGroup -> {
+        v.setChipSpacingVertical(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipSpacingVerticalResource -> when {
+      v is ChipGroup -> {
+        v.setChipSpacingVerticalResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.singleLine -> when {
+      v is ChipGroup -> {
+        v.setSingleLine(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.singleSelection -> when {
+      v is ChipGroup -> {
+        v.setSingleSelection(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.circularRevealScrimColor -> when {
+      v is CircularRevealFrameLayout -> {
+        v.setCircularRevealScrimColor(arg)
+        true
+      }
+      v is CircularRevealGridLayout -> {
+        v.setCircularRevealScrimColor(arg)
+        true
+      }
+      v is CircularRevealLinearLayout -> {
+        v.setCircularRevealScrimColor(arg)
+        true
+      }
+      v is CircularRevealRelativeLayout -> {
+        v.setCircularRevealScrimColor(arg)
+        true
+      }
+      v is CircularRevealCardView -> {
+        v.setCircularRevealScrimColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatElevationResource -> when {
+      v is FloatingActionButton -> {
+        v.setCompatElevationResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatHoveredFocusedTranslationZResource -> when {
+      v is FloatingActionButton -> {
+        v.setCompatHoveredFocusedTranslationZResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatPressedTranslationZResource -> when {
+      v is FloatingActionButton -> {
+        v.setCompatPressedTranslationZResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.customSize -> when {
+      v is FloatingActionButton -> {
+        v.setCustomSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.expandedComponentIdHint -> when {
+      v is FloatingActionButton -> {
+        v.setExpandedComponentIdHint(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.size -> when {
+      v is FloatingActionButton -> {
+        v.setSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.horizontalPadding -> when {
+      v is NavigationMenuItemView -> {
+        v.setHorizontalPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkedItem -> when {
+      v is NavigationView -> {
+        v.setCheckedItem(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemHorizontalPadding -> when {
+      v is NavigationView -> {
+        v.setItemHorizontalPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemHorizontalPaddingResource -> when {
+      v is NavigationView -> {
+        v.setItemHorizontalPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemIconPadding -> when {
+      v is NavigationView -> {
+        v.setItemIconPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemIconPaddingResource -> when {
+      v is NavigationView -> {
+        v.setItemIconPaddingResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemTextAppearance -> when {
+      v is NavigationView -> {
+        v.setItemTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.inlineLabelResource -> when {
+      v is TabLayout -> {
+        v.setInlineLabelResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.selectedTabIndicator -> when {
+      v is TabLayout -> {
+        v.setSelectedTabIndicator(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.selectedTabIndicatorColor -> when {
+      v is TabLayout -> {
+        v.setSelectedTabIndicatorColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.selectedTabIndicatorGravity -> when {
+      v is TabLayout -> {
+        v.setSelectedTabIndicatorGravity(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.tabGravity -> when {
+      v is TabLayout -> {
+        v.setTabGravity(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.tabIconTintResource -> when {
+      v is TabLayout -> {
+        v.setTabIconTintResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.tabMode -> when {
+      v is TabLayout -> {
+        v.setTabMode(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.tabRippleColorResource -> when {
+      v is TabLayout -> {
+        v.setTabRippleColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.unboundedRippleResource -> when {
+      v is TabLayout -> {
+        v.setUnboundedRippleResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.boxBackgroundColor -> when {
+      v is TextInputLayout -> {
+        v.setBoxBackgroundColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.boxBackgroundColorResource -> when {
+      v is TextInputLayout -> {
+        v.setBoxBackgroundColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.boxBackgroundMode -> when {
+      v is TextInputLayout -> {
+        v.setBoxBackgroundMode(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.boxStrokeColor -> when {
+      v is TextInputLayout -> {
+        v.setBoxStrokeColor(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.counterMaxLength -> when {
+      v is TextInputLayout -> {
+        v.setCounterMaxLength(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.errorTextAppearance -> when {
+      v is TextInputLayout -> {
+        v.setErrorTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.helperTextTextAppearance -> when {
+      v is TextInputLayout -> {
+        v.setHelperTextTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.hintTextAppearance -> when {
+      v is TextInputLayout -> {
+        v.setHintTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.passwordVisibilityToggleContentDescription -> when {
+      v is TextInputLayout -> {
+        v.setPasswordVisibilityToggleContentDescription(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.passwordVisibilityToggleDrawable -> when {
+      v is TextInputLayout -> {
+        v.setPasswordVisibilityToggleDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    MaterialAttrs.cradleVerticalOffset -> when {
+      v is BottomAppBar -> {
+        v.setCradleVerticalOffset(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.fabCradleMargin -> when {
+      v is BottomAppBar -> {
+        v.setFabCradleMargin(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.fabCradleRoundedCornerRadius -> when {
+      v is BottomAppBar -> {
+        v.setFabCradleRoundedCornerRadius(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipCornerRadius -> when {
+      v is Chip -> {
+        v.setChipCornerRadius(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipEndPadding -> when {
+      v is Chip -> {
+        v.setChipEndPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconSize -> when {
+      v is Chip -> {
+        v.setChipIconSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipMinHeight -> when {
+      v is Chip -> {
+        v.setChipMinHeight(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipStartPadding -> when {
+      v is Chip -> {
+        v.setChipStartPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipStrokeWidth -> when {
+      v is Chip -> {
+        v.setChipStrokeWidth(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconEndPadding -> when {
+      v is Chip -> {
+        v.setCloseIconEndPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconSize -> when {
+      v is Chip -> {
+        v.setCloseIconSize(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconStartPadding -> when {
+      v is Chip -> {
+        v.setCloseIconStartPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconEndPadding -> when {
+      v is Chip -> {
+        v.setIconEndPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.iconStartPadding -> when {
+      v is Chip -> {
+        v.setIconStartPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textEndPadding -> when {
+      v is Chip -> {
+        v.setTextEndPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.textStartPadding -> when {
+      v is Chip -> {
+        v.setTextStartPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatElevation -> when {
+      v is FloatingActionButton -> {
+        v.setCompatElevation(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatHoveredFocusedTranslationZ -> when {
+      v is FloatingActionButton -> {
+        v.setCompatHoveredFocusedTranslationZ(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.compatPressedTranslationZ -> when {
+      v is FloatingActionButton -> {
+        v.setCompatPressedTranslationZ(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    MaterialAttrs.expanded -> when {
+      v is AppBarLayout -> {
+        v.setExpanded(arg)
+        true
+      }
+      v is FloatingActionButton -> {
+        v.setExpanded(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.liftOnScroll -> when {
+      v is AppBarLayout -> {
+        v.setLiftOnScroll(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.liftable -> when {
+      v is AppBarLayout -> {
+        v.setLiftable(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.lifted -> when {
+      v is AppBarLayout -> {
+        v.setLifted(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.scrimsShown -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setScrimsShown(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.titleEnabled -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setTitleEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.hideOnScroll -> when {
+      v is BottomAppBar -> {
+        v.setHideOnScroll(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.itemHorizontalTranslationEnabled -> when {
+      v is BottomNavigationView -> {
+        v.setItemHorizontalTranslationEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkable -> when {
+      v is Chip -> {
+        v.setCheckable(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.checkedIconVisible -> when {
+      v is Chip -> {
+        v.setCheckedIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.chipIconVisible -> when {
+      v is Chip -> {
+        v.setChipIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.closeIconVisible -> when {
+      v is Chip -> {
+        v.setCloseIconVisible(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.singleLine -> when {
+      v is FlowLayout -> {
+        v.setSingleLine(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.singleSelection -> when {
+      v is ChipGroup -> {
+        v.setSingleSelection(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.useCompatPadding -> when {
+      v is FloatingActionButton -> {
+        v.setUseCompatPadding(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.needsEmptyIcon -> when {
+      v is NavigationMenuItemView -> {
+        v.setNeedsEmptyIcon(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.inlineLabel -> when {
+      v is TabLayout -> {
+        v.setInlineLabel(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.tabIndicatorFullWidth -> when {
+      v is TabLayout -> {
+        v.setTabIndicatorFullWidth(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.unboundedRipple -> when {
+      v is TabLayout -> {
+        v.setUnboundedRipple(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.counterEnabled -> when {
+      v is TextInputLayout -> {
+        v.setCounterEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.errorEnabled -> when {
+      v is TextInputLayout -> {
+        v.setErrorEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.helperTextEnabled -> when {
+      v is TextInputLayout -> {
+        v.setHelperTextEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.hintAnimationEnabled -> when {
+      v is TextInputLayout -> {
+        v.setHintAnimationEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.hintEnabled -> when {
+      v is TextInputLayout -> {
+        v.setHintEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    MaterialAttrs.passwordVisibilityToggleEnabled -> when {
+      v is TextInputLayout -> {
+        v.setPasswordVisibilityToggleEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    MaterialAttrs.scrimAnimationDuration -> when {
+      v is CollapsingToolbarLayout -> {
+        v.setScrimAnimationDuration(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [MaterialSetter].
+ */
+object MaterialAttrs {
+  const val expanded: Int = 0
+  const val liftOnScroll: Int = 1
+  const val liftable: Int = 2
+  const val lifted: Int = 3
+  const val collapsedTitleGravity: Int = 4
+  const val collapsedTitleTextAppearance: Int = 5
+  const val collapsedTitleTextColor: Int = 6
+  const val collapsedTitleTypeface: Int = 7
+  const val contentScrim: Int = 8
+  const val contentScrimColor: Int = 9
+  const val contentScrimResource: Int = 10
+  const val expandedTitleColor: Int = 11
+  const val expandedTitleGravity: Int = 12
+  const val expandedTitleMarginBottom: Int = 13
+  const val expandedTitleMarginEnd: Int = 14
+  const val expandedTitleMarginStart: Int = 15
+  const val expandedTitleMarginTop: Int = 16
+  const val expandedTitleTextAppearance: Int = 17
+  const val expandedTitleTextColor: Int = 18
+  const val expandedTitleTypeface: Int = 19
+  const val scrimAnimationDuration: Int = 20
+  const val scrimVisibleHeightTrigger: Int = 21
+  const val scrimsShown: Int = 22
+  const val statusBarScrim: Int = 23
+  const val statusBarScrimColor: Int = 24
+  const val statusBarScrimResource: Int = 25
+  const val title: Int = 26
+  const val titleEnabled: Int = 27
+  const val backgroundTint: Int = 28
+  const val cradleVerticalOffset: Int = 29
+  const val fabAlignmentMode: Int = 30
+  const val fabCradleMargin: Int = 31
+  const val fabCradleRoundedCornerRadius: Int = 32
+  const val hideOnScroll: Int = 33
+  const val itemBackground: Int = 34
+  const val itemBackgroundResource: Int = 35
+  const val itemHorizontalTranslationEnabled: Int = 36
+  const val itemIconSize: Int = 37
+  const val itemIconSizeRes: Int = 38
+  const val itemIconTintList: Int = 39
+  const val itemTextAppearanceActive: Int = 40
+  const val itemTextAppearanceInactive: Int = 41
+  const val itemTextColor: Int = 42
+  const val labelVisibilityMode: Int = 43
+  const val onNavigationItemReselected: Int = 44
+  const val onNavigationItemSelected: Int = 45
+  const val selectedItemId: Int = 46
+  const val cornerRadius: Int = 47
+  const val cornerRadiusResource: Int = 48
+  const val icon: Int = 49
+  const val iconGravity: Int = 50
+  const val iconPadding: Int = 51
+  const val iconResource: Int = 52
+  const val iconSize: Int = 53
+  const val iconTint: Int = 54
+  const val iconTintMode: Int = 55
+  const val iconTintResource: Int = 56
+  const val rippleColor: Int = 57
+  const val rippleColorResource: Int = 58
+  const val strokeColor: Int = 59
+  const val strokeColorResource: Int = 60
+  const val strokeWidth: Int = 61
+  const val strokeWidthResource: Int = 62
+  const val checkable: Int = 63
+  const val checkableResource: Int = 64
+  const val checkedIcon: Int = 65
+  const val checkedIconResource: Int = 66
+  const val checkedIconVisible: Int = 67
+  const val chipBackgroundColor: Int = 68
+  const val chipBackgroundColorResource: Int = 69
+  const val chipCornerRadius: Int = 70
+  const val chipCornerRadiusResource: Int = 71
+  const val chipDrawable: Int = 72
+  const val chipEndPadding: Int = 73
+  const val chipEndPaddingResource: Int = 74
+  const val chipIcon: Int = 75
+  const val chipIconResource: Int = 76
+  const val chipIconSize: Int = 77
+  const val chipIconSizeResource: Int = 78
+  const val chipIconTint: Int = 79
+  const val chipIconTintResource: Int = 80
+  const val chipIconVisible: Int = 81
+  const val chipMinHeight: Int = 82
+  const val chipMinHeightResource: Int = 83
+  const val chipStartPadding: Int = 84
+  const val chipStartPaddingResource: Int = 85
+  const val chipStrokeColor: Int = 86
+  const val chipStrokeColorResource: Int = 87
+  const val chipStrokeWidth: Int = 88
+  const val chipStrokeWidthResource: Int = 89
+  const val closeIcon: Int = 90
+  const val closeIconContentDescription: Int = 91
+  const val closeIconEndPadding: Int = 92
+  const val closeIconEndPaddingResource: Int = 93
+  const val closeIconResource: Int = 94
+  const val closeIconSize: Int = 95
+  const val closeIconSizeResource: Int = 96
+  const val closeIconStartPadding: Int = 97
+  const val closeIconStartPaddingResource: Int = 98
+  const val closeIconTint: Int = 99
+  const val closeIconTintResource: Int = 100
+  const val closeIconVisible: Int = 101
+  const val hideMotionSpec: Int = 102
+  const val hideMotionSpecResource: Int = 103
+  const val iconEndPadding: Int = 104
+  const val iconEndPaddingResource: Int = 105
+  const val iconStartPadding: Int = 106
+  const val iconStartPaddingResource: Int = 107
+  const val onCloseIconClick: Int = 108
+  const val showMotionSpec: Int = 109
+  const val showMotionSpecResource: Int = 110
+  const val textAppearance: Int = 111
+  const val textAppearanceResource: Int = 112
+  const val textEndPadding: Int = 113
+  const val textEndPaddingResource: Int = 114
+  const val textStartPadding: Int = 115
+  const val textStartPaddingResource: Int = 116
+  const val chipSpacing: Int = 117
+  const val chipSpacingHorizontal: Int = 118
+  const val chipSpacingHorizontalResource: Int = 119
+  const val chipSpacingResource: Int = 120
+  const val chipSpacingVertical: Int = 121
+  const val chipSpacingVerticalResource: Int = 122
+  const val onCheckedChange: Int = 123
+  const val singleLine: Int = 124
+  const val singleSelection: Int = 125
+  const val circularRevealOverlayDrawable: Int = 126
+  const val circularRevealScrimColor: Int = 127
+  const val revealInfo: Int = 128
+  const val compatElevation: Int = 129
+  const val compatElevationResource: Int = 130
+  const val compatHoveredFocusedTranslationZ: Int = 131
+  const val compatHoveredFocusedTranslationZResource: Int = 132
+  const val compatPressedTranslationZ: Int = 133
+  const val compatPressedTranslationZResource: Int = 134
+  const val customSize: Int = 135
+  const val expandedComponentIdHint: Int = 136
+  const val size: Int = 137
+  const val supportBackgroundTintList: Int = 138
+  const val supportBackgroundTintMode: Int = 139
+  const val supportImageTintList: Int = 140
+  const val supportImageTintMode: Int = 141
+  const val useCompatPadding: Int = 142
+  const val horizontalPadding: Int = 143
+  const val needsEmptyIcon: Int = 144
+  const val checkedItem: Int = 145
+  const val itemHorizontalPadding: Int = 146
+  const val itemHorizontalPaddingResource: Int = 147
+  const val itemIconPadding: Int = 148
+  const val itemIconPaddingResource: Int = 149
+  const val itemTextAppearance: Int = 150
+  const val navigationItemSelectedListener: Int = 151
+  const val inlineLabel: Int = 152
+  const val inlineLabelResource: Int = 153
+  const val selectedTabIndicator: Int = 154
+  const val selectedTabIndicatorColor: Int = 155
+  const val selectedTabIndicatorGravity: Int = 156
+  const val tabGravity: Int = 157
+  const val tabIconTint: Int = 158
+  const val tabIconTintResource: Int = 159
+  const val tabIndicatorFullWidth: Int = 160
+  const val tabMode: Int = 161
+  const val tabRippleColor: Int = 162
+  const val tabRippleColorResource: Int = 163
+  const val tabTextColors: Int = 164
+  const val unboundedRipple: Int = 165
+  const val unboundedRippleResource: Int = 166
+  const val boxBackgroundColor: Int = 167
+  const val boxBackgroundColorResource: Int = 168
+  const val boxBackgroundMode: Int = 169
+  const val boxStrokeColor: Int = 170
+  const val counterEnabled: Int = 171
+  const val counterMaxLength: Int = 172
+  const val defaultHintTextColor: Int = 173
+  const val error: Int = 174
+  const val errorEnabled: Int = 175
+  const val errorTextAppearance: Int = 176
+  const val errorTextColor: Int = 177
+  const val helperText: Int = 178
+  const val helperTextColor: Int = 179
+  const val helperTextEnabled: Int = 180
+  const val helperTextTextAppearance: Int = 181
+  const val hint: Int = 182
+  const val hintAnimationEnabled: Int = 183
+  const val hintEnabled: Int = 184
+  const val hintTextAppearance: Int = 185
+  const val passwordVisibilityToggleContentDescription: Int = 186
+  const val passwordVisibilityToggleDrawable: Int = 187
+  const val passwordVisibilityToggleEnabled: Int = 188
+  const val passwordVisibilityToggleTintList: Int = 189
+  const val passwordVisibilityToggleTintMode: Int = 190
+  const val textInputAccessibilityDelegate: Int = 191
+  const val typeface: Int = 192
 }
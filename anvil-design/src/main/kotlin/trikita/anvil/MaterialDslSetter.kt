@@ -19,23 +19,23 @@ fun AppBarLayoutScope.appBarElevation(elevation: Float) = attr("appBarElevation"
 
 object MaterialDslSetter : Anvil.AttributeSetter<Any?> {
     override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean = when(name) {
-        "collapseMode" -> when {
-            v.layoutParams is CollapsingToolbarLayout.LayoutParams && value is Int -> {
-                (v.layoutParams as CollapsingToolbarLayout.LayoutParams).collapseMode = value
+        "collapseMode" -> when (val p = if (value is Int) Anvil.layoutParams(v) else null) {
+            is CollapsingToolbarLayout.LayoutParams -> {
+                p.collapseMode = value as Int
                 true
             }
             else -> false
         }
-        "scrollFlags" -> when {
-            v.layoutParams is AppBarLayout.LayoutParams && value is Int -> {
-                (v.layoutParams as AppBarLayout.LayoutParams).scrollFlags = value
+        "scrollFlags" -> when (val p = if (value is Int) Anvil.layoutParams(v) else null) {
+            is AppBarLayout.LayoutParams -> {
+                p.scrollFlags = value as Int
                 true
             }
             else -> false
         }
-        "behavior" -> when {
-            v.layoutParams is CoordinatorLayout.LayoutParams && value is CoordinatorLayout.Behavior<*>? -> {
-                (v.layoutParams as CoordinatorLayout.LayoutParams).behavior = value
+        "behavior" -> when (val p = if (value is CoordinatorLayout.Behavior<*>?) Anvil.layoutParams(v) else null) {
+            is CoordinatorLayout.LayoutParams -> {
+                p.behavior = value as CoordinatorLayout.Behavior<*>?
                 true
             }
             else -> false
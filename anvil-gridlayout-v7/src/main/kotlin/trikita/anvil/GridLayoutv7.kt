@@ -7,22 +7,28 @@ import android.view.View
 import androidx.gridlayout.widget.GridLayout
 import kotlin.Any
 import kotlin.Boolean
+import kotlin.Float
 import kotlin.Int
+import kotlin.Long
 import kotlin.String
 import kotlin.Suppress
 import kotlin.Unit
 
 fun gridLayout(configure: GridLayoutScope.() -> Unit = {}) =
-    v<GridLayout>(configure.bind(GridLayoutScope))
+    v<GridLayout, GridLayoutScope>(GridLayoutScope, configure)
 abstract class GridLayoutScope : ViewGroupScope() {
-  fun alignmentMode(arg: Int): Unit = attr("alignmentMode", arg)
-  fun columnCount(arg: Int): Unit = attr("columnCount", arg)
-  fun columnOrderPreserved(arg: Boolean): Unit = attr("columnOrderPreserved", arg)
-  fun orientation(arg: Int): Unit = attr("orientation", arg)
-  fun printer(arg: Printer): Unit = attr("printer", arg)
-  fun rowCount(arg: Int): Unit = attr("rowCount", arg)
-  fun rowOrderPreserved(arg: Boolean): Unit = attr("rowOrderPreserved", arg)
-  fun useDefaultMargins(arg: Boolean): Unit = attr("useDefaultMargins", arg)
+  fun alignmentMode(arg: Int): Unit = attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.alignmentMode),
+      arg)
+  fun columnCount(arg: Int): Unit = attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.columnCount), arg)
+  fun columnOrderPreserved(arg: Boolean): Unit =
+      attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.columnOrderPreserved), arg)
+  fun orientation(arg: Int): Unit = attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.orientation), arg)
+  fun printer(arg: Printer): Unit = attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.printer), arg)
+  fun rowCount(arg: Int): Unit = attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.rowCount), arg)
+  fun rowOrderPreserved(arg: Boolean): Unit =
+      attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.rowOrderPreserved), arg)
+  fun useDefaultMargins(arg: Boolean): Unit =
+      attr(GridLayoutv7Setter.id(GridLayoutv7Attrs.useDefaultMargins), arg)
   companion object : GridLayoutScope() {
     init {
       Anvil.registerAttributeSetter(GridLayoutv7Setter)}
@@ -36,67 +42,83 @@ abstract class GridLayoutScope : ViewGroupScope() {
  * It contains views and their setters from the library gridlayout-v7.
  * Please, don't edit it manually unless for debugging.
  */
-object GridLayoutv7Setter : Anvil.AttributeSetter<Any?> {
+object GridLayoutv7Setter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("alignmentMode", "columnCount",
+      "columnOrderPreserved", "orientation", "printer", "rowCount", "rowOrderPreserved",
+      "useDefaultMargins")
+
   init {
     Anvil.registerAttributeSetter(this)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [GridLayoutv7Attrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "alignmentMode" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    GridLayoutv7Attrs.alignmentMode -> when {
       v is GridLayout && arg is Int -> {
         v.setAlignmentMode(arg)
         true
       }
       else -> false
     }
-    "columnCount" -> when {
+    GridLayoutv7Attrs.columnCount -> when {
       v is GridLayout && arg is Int -> {
         v.setColumnCount(arg)
         true
       }
       else -> false
     }
-    "columnOrderPreserved" -> when {
+    GridLayoutv7Attrs.columnOrderPreserved -> when {
       v is GridLayout && arg is Boolean -> {
         v.setColumnOrderPreserved(arg)
         true
       }
       else -> false
     }
-    "orientation" -> when {
+    GridLayoutv7Attrs.orientation -> when {
       v is GridLayout && arg is Int -> {
         v.setOrientation(arg)
         true
       }
       else -> false
     }
-    "printer" -> when {
+    GridLayoutv7Attrs.printer -> when {
       v is GridLayout && arg is Printer -> {
         v.setPrinter(arg)
         true
       }
       else -> false
     }
-    "rowCount" -> when {
+    GridLayoutv7Attrs.rowCount -> when {
       v is GridLayout && arg is Int -> {
         v.setRowCount(arg)
         true
       }
       else -> false
     }
-    "rowOrderPreserved" -> when {
+    GridLayoutv7Attrs.rowOrderPreserved -> when {
       v is GridLayout && arg is Boolean -> {
         v.setRowOrderPreserved(arg)
         true
       }
       else -> false
     }
-    "useDefaultMargins" -> when {
+    GridLayoutv7Attrs.useDefaultMargins -> when {
       v is GridLayout && arg is Boolean -> {
         v.setUseDefaultMargins(arg)
         true
@@ -105,4 +127,99 @@ object GridLayoutv7Setter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    GridLayoutv7Attrs.alignmentMode -> when {
+      v is GridLayout -> {
+        v.setAlignmentMode(arg)
+        true
+      }
+      else -> false
+    }
+    GridLayoutv7Attrs.columnCount -> when {
+      v is GridLayout -> {
+        v.setColumnCount(arg)
+        true
+      }
+      else -> false
+    }
+    GridLayoutv7Attrs.orientation -> when {
+      v is GridLayout -> {
+        v.setOrientation(arg)
+        true
+      }
+      else -> false
+    }
+    GridLayoutv7Attrs.rowCount -> when {
+      v is GridLayout -> {
+        v.setRowCount(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    GridLayoutv7Attrs.columnOrderPreserved -> when {
+      v is GridLayout -> {
+        v.setColumnOrderPreserved(arg)
+        true
+      }
+      else -> false
+    }
+    GridLayoutv7Attrs.rowOrderPreserved -> when {
+      v is GridLayout -> {
+        v.setRowOrderPreserved(arg)
+        true
+      }
+      else -> false
+    }
+    GridLayoutv7Attrs.useDefaultMargins -> when {
+      v is GridLayout -> {
+        v.setUseDefaultMargins(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [GridLayoutv7Setter].
+ */
+object GridLayoutv7Attrs {
+  const val alignmentMode: Int = 0
+  const val columnCount: Int = 1
+  const val columnOrderPreserved: Int = 2
+  const val orientation: Int = 3
+  const val printer: Int = 4
+  const val rowCount: Int = 5
+  const val rowOrderPreserved: Int = 6
+  const val useDefaultMargins: Int = 7
 }
@@ -7,33 +7,47 @@ import androidx.recyclerview.widget.RecyclerView
 import androidx.recyclerview.widget.RecyclerViewAccessibilityDelegate
 import kotlin.Any
 import kotlin.Boolean
+import kotlin.Float
 import kotlin.Function
 import kotlin.Int
+import kotlin.Long
 import kotlin.String
 import kotlin.Suppress
 import kotlin.Unit
 
 fun recyclerView(configure: RecyclerViewScope.() -> Unit = {}) =
-    v<RecyclerView>(configure.bind(RecyclerViewScope))
+    v<RecyclerView, RecyclerViewScope>(RecyclerViewScope, configure)
 abstract class RecyclerViewScope : ViewGroupScope() {
   fun accessibilityDelegateCompat(arg: RecyclerViewAccessibilityDelegate?): Unit =
-      attr("accessibilityDelegateCompat", arg)
-  fun adapter(arg: RecyclerView.Adapter<RecyclerView.ViewHolder>?): Unit = attr("adapter", arg)
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.accessibilityDelegateCompat), arg)
+  fun adapter(arg: RecyclerView.Adapter<RecyclerView.ViewHolder>?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.adapter), arg)
   fun childDrawingOrderCallback(arg: RecyclerView.ChildDrawingOrderCallback?): Unit =
-      attr("childDrawingOrderCallback", arg)
-  fun edgeEffectFactory(arg: RecyclerView.EdgeEffectFactory): Unit = attr("edgeEffectFactory", arg)
-  fun hasFixedSize(arg: Boolean): Unit = attr("hasFixedSize", arg)
-  fun itemAnimator(arg: RecyclerView.ItemAnimator?): Unit = attr("itemAnimator", arg)
-  fun itemViewCacheSize(arg: Int): Unit = attr("itemViewCacheSize", arg)
-  fun layoutFrozen(arg: Boolean): Unit = attr("layoutFrozen", arg)
-  fun layoutManager(arg: RecyclerView.LayoutManager?): Unit = attr("layoutManager", arg)
-  fun onFling(arg: ((arg0: Int, arg1: Int) -> Boolean)?): Unit = attr("onFling", arg)
-  fun preserveFocusAfterLayout(arg: Boolean): Unit = attr("preserveFocusAfterLayout", arg)
-  fun recycledViewPool(arg: RecyclerView.RecycledViewPool?): Unit = attr("recycledViewPool", arg)
-  fun recyclerListener(arg: RecyclerView.RecyclerListener?): Unit = attr("recyclerListener", arg)
-  fun scrollingTouchSlop(arg: Int): Unit = attr("scrollingTouchSlop", arg)
-  fun viewCacheExtension(arg: RecyclerView.ViewCacheExtension?): Unit = attr("viewCacheExtension",
-      arg)
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.childDrawingOrderCallback), arg)
+  fun edgeEffectFactory(arg: RecyclerView.EdgeEffectFactory): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.edgeEffectFactory), arg)
+  fun hasFixedSize(arg: Boolean): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.hasFixedSize), arg)
+  fun itemAnimator(arg: RecyclerView.ItemAnimator?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.itemAnimator), arg)
+  fun itemViewCacheSize(arg: Int): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.itemViewCacheSize), arg)
+  fun layoutFrozen(arg: Boolean): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.layoutFrozen), arg)
+  fun layoutManager(arg: RecyclerView.LayoutManager?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.layoutManager), arg)
+  fun onFling(arg: ((arg0: Int, arg1: Int) -> Boolean)?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.onFling), arg)
+  fun preserveFocusAfterLayout(arg: Boolean): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.preserveFocusAfterLayout), arg)
+  fun recycledViewPool(arg: RecyclerView.RecycledViewPool?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.recycledViewPool), arg)
+  fun recyclerListener(arg: RecyclerView.RecyclerListener?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.recyclerListener), arg)
+  fun scrollingTouchSlop(arg: Int): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.scrollingTouchSlop), arg)
+  fun viewCacheExtension(arg: RecyclerView.ViewCacheExtension?): Unit =
+      attr(RecyclerViewv7Setter.id(RecyclerViewv7Attrs.viewCacheExtension), arg)
   companion object : RecyclerViewScope() {
     init {
       Anvil.registerAttributeSetter(RecyclerViewv7Setter)}
@@ -47,128 +61,145 @@ abstract class RecyclerViewScope : ViewGroupScope() {
  * It contains views and their setters from the library recyclerview-v7.
  * Please, don't edit it manually unless for debugging.
  */
-object RecyclerViewv7Setter : Anvil.AttributeSetter<Any?> {
+object RecyclerViewv7Setter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("accessibilityDelegateCompat", "adapter",
+      "childDrawingOrderCallback", "edgeEffectFactory", "hasFixedSize", "itemAnimator",
+      "itemViewCacheSize", "layoutFrozen", "layoutManager", "onFling", "preserveFocusAfterLayout",
+      "recycledViewPool", "recyclerListener", "scrollingTouchSlop", "viewCacheExtension")
+
   init {
     Anvil.registerAttributeSetter(this)
     Anvil.registerAttributeSetter(RecyclerViewDslSetter)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [RecyclerViewv7Attrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "accessibilityDelegateCompat" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    RecyclerViewv7Attrs.accessibilityDelegateCompat -> when {
       v is RecyclerView && (arg == null || arg is RecyclerViewAccessibilityDelegate) -> {
         v.setAccessibilityDelegateCompat(arg as RecyclerViewAccessibilityDelegate)
         true
       }
       else -> false
     }
-    "adapter" -> when {
+    RecyclerViewv7Attrs.adapter -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.Adapter<*>) -> {
         v.setAdapter(arg as RecyclerView.Adapter<RecyclerView.ViewHolder>)
         true
       }
       else -> false
     }
-    "childDrawingOrderCallback" -> when {
+    RecyclerViewv7Attrs.childDrawingOrderCallback -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.ChildDrawingOrderCallback) -> {
         v.setChildDrawingOrderCallback(arg as RecyclerView.ChildDrawingOrderCallback)
         true
       }
       else -> false
     }
-    "edgeEffectFactory" -> when {
+    RecyclerViewv7Attrs.edgeEffectFactory -> when {
       v is RecyclerView && arg is RecyclerView.EdgeEffectFactory -> {
         v.setEdgeEffectFactory(arg)
         true
       }
       else -> false
     }
-    "hasFixedSize" -> when {
+    RecyclerViewv7Attrs.hasFixedSize -> when {
       v is RecyclerView && arg is Boolean -> {
         v.setHasFixedSize(arg)
         true
       }
       else -> false
     }
-    "itemAnimator" -> when {
+    RecyclerViewv7Attrs.itemAnimator -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.ItemAnimator) -> {
         v.setItemAnimator(arg as RecyclerView.ItemAnimator)
         true
       }
       else -> false
     }
-    "itemViewCacheSize" -> when {
+    RecyclerViewv7Attrs.itemViewCacheSize -> when {
       v is RecyclerView && arg is Int -> {
         v.setItemViewCacheSize(arg)
         true
       }
       else -> false
     }
-    "layoutFrozen" -> when {
+    RecyclerViewv7Attrs.layoutFrozen -> when {
       v is RecyclerView && arg is Boolean -> {
         v.setLayoutFrozen(arg)
         true
       }
       else -> false
     }
-    "layoutManager" -> when {
+    RecyclerViewv7Attrs.layoutManager -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.LayoutManager) -> {
         v.setLayoutManager(arg as RecyclerView.LayoutManager)
         true
       }
       else -> false
     }
-    "onFling" -> when {
+    RecyclerViewv7Attrs.onFling -> when {
       v is RecyclerView -> when {
         arg == null -> {
           v.setOnFlingListener(null as? RecyclerView.OnFlingListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Int, arg1: Int) -> Boolean
-          v.setOnFlingListener(object : RecyclerView.OnFlingListener() {
-            override fun onFling(arg0: Int, arg1: Int): Boolean = arg(arg0, arg1).also {
-                Anvil.render() }
-          })
+          if (old !is Function<*>) {
+            v.setOnFlingListener(object : RecyclerView.OnFlingListener() {
+              override fun onFling(arg0: Int, arg1: Int): Boolean = (Anvil.attrValue(v, id) as? (arg0: Int, arg1: Int) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "preserveFocusAfterLayout" -> when {
+    RecyclerViewv7Attrs.preserveFocusAfterLayout -> when {
       v is RecyclerView && arg is Boolean -> {
         v.setPreserveFocusAfterLayout(arg)
         true
       }
       else -> false
     }
-    "recycledViewPool" -> when {
+    RecyclerViewv7Attrs.recycledViewPool -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.RecycledViewPool) -> {
         v.setRecycledViewPool(arg as RecyclerView.RecycledViewPool)
         true
       }
       else -> false
     }
-    "recyclerListener" -> when {
+    RecyclerViewv7Attrs.recyclerListener -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.RecyclerListener) -> {
         v.setRecyclerListener(arg as RecyclerView.RecyclerListener)
         true
       }
       else -> false
     }
-    "scrollingTouchSlop" -> when {
+    RecyclerViewv7Attrs.scrollingTouchSlop -> when {
       v is RecyclerView && arg is Int -> {
         v.setScrollingTouchSlop(arg)
         true
       }
       else -> false
     }
-    "viewCacheExtension" -> when {
+    RecyclerViewv7Attrs.viewCacheExtension -> when {
       v is RecyclerView && (arg == null || arg is RecyclerView.ViewCacheExtension) -> {
         v.setViewCacheExtension(arg as RecyclerView.ViewCacheExtension)
         true
@@ -177,4 +208,92 @@ object RecyclerViewv7Setter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    RecyclerViewv7Attrs.itemViewCacheSize -> when {
+      v is RecyclerView -> {
+        v.setItemViewCacheSize(arg)
+        true
+      }
+      else -> false
+    }
+    RecyclerViewv7Attrs.scrollingTouchSlop -> when {
+      v is RecyclerView -> {
+        v.setScrollingTouchSlop(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    RecyclerViewv7Attrs.hasFixedSize -> when {
+      v is RecyclerView -> {
+        v.setHasFixedSize(arg)
+        true
+      }
+      else -> false
+    }
+    RecyclerViewv7Attrs.layoutFrozen -> when {
+      v is RecyclerView -> {
+        v.setLayoutFrozen(arg)
+        true
+      }
+      else -> false
+    }
+    RecyclerViewv7Attrs.preserveFocusAfterLayout -> when {
+      v is RecyclerView -> {
+        v.setPreserveFocusAfterLayout(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [RecyclerViewv7Setter].
+ */
+object RecyclerViewv7Attrs {
+  const val accessibilityDelegateCompat: Int = 0
+  const val adapter: Int = 1
+  const val childDrawingOrderCallback: Int = 2
+  const val edgeEffectFactory: Int = 3
+  const val hasFixedSize: Int = 4
+  const val itemAnimator: Int = 5
+  const val itemViewCacheSize: Int = 6
+  const val layoutFrozen: Int = 7
+  const val layoutManager: Int = 8
+  const val onFling: Int = 9
+  const val preserveFocusAfterLayout: Int = 10
+  const val recycledViewPool: Int = 11
+  const val recyclerListener: Int = 12
+  const val scrollingTouchSlop: Int = 13
+  const val viewCacheExtension: Int = 14
 }
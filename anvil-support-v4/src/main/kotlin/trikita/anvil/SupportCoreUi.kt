@@ -20,16 +20,20 @@ import kotlin.Float
 import kotlin.Function
 import kotlin.Int
 import kotlin.IntArray
+import kotlin.Long
 import kotlin.String
 import kotlin.Suppress
 import kotlin.Unit
 
 fun coordinatorLayout(configure: CoordinatorLayoutScope.() -> Unit = {}) =
-    v<CoordinatorLayout>(configure.bind(CoordinatorLayoutScope))
+    v<CoordinatorLayout, CoordinatorLayoutScope>(CoordinatorLayoutScope, configure)
 abstract class CoordinatorLayoutScope : ViewGroupScope() {
-  fun statusBarBackground(arg: Drawable?): Unit = attr("statusBarBackground", arg)
-  fun statusBarBackgroundColor(arg: Int): Unit = attr("statusBarBackgroundColor", arg)
-  fun statusBarBackgroundResource(arg: Int): Unit = attr("statusBarBackgroundResource", arg)
+  fun statusBarBackground(arg: Drawable?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackground), arg)
+  fun statusBarBackgroundColor(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackgroundColor), arg)
+  fun statusBarBackgroundResource(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackgroundResource), arg)
   companion object : CoordinatorLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -37,7 +41,7 @@ abstract class CoordinatorLayoutScope : ViewGroupScope() {
 }
 
 fun contentLoadingProgressBar(configure: ContentLoadingProgressBarScope.() -> Unit = {}) =
-    v<ContentLoadingProgressBar>(configure.bind(ContentLoadingProgressBarScope))
+    v<ContentLoadingProgressBar, ContentLoadingProgressBarScope>(ContentLoadingProgressBarScope, configure)
 abstract class ContentLoadingProgressBarScope : ProgressBarScope() {
   companion object : ContentLoadingProgressBarScope() {
     init {
@@ -46,10 +50,12 @@ abstract class ContentLoadingProgressBarScope : ProgressBarScope() {
 }
 
 fun nestedScrollView(configure: NestedScrollViewScope.() -> Unit = {}) =
-    v<NestedScrollView>(configure.bind(NestedScrollViewScope))
+    v<NestedScrollView, NestedScrollViewScope>(NestedScrollViewScope, configure)
 abstract class NestedScrollViewScope : FrameLayoutScope() {
-  fun fillViewport(arg: Boolean): Unit = attr("fillViewport", arg)
-  fun smoothScrollingEnabled(arg: Boolean): Unit = attr("smoothScrollingEnabled", arg)
+  fun fillViewport(arg: Boolean): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.fillViewport), arg)
+  fun smoothScrollingEnabled(arg: Boolean): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.smoothScrollingEnabled), arg)
   companion object : NestedScrollViewScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -57,14 +63,19 @@ abstract class NestedScrollViewScope : FrameLayoutScope() {
 }
 
 fun drawerLayout(configure: DrawerLayoutScope.() -> Unit = {}) =
-    v<DrawerLayout>(configure.bind(DrawerLayoutScope))
+    v<DrawerLayout, DrawerLayoutScope>(DrawerLayoutScope, configure)
 abstract class DrawerLayoutScope : ViewGroupScope() {
-  fun drawerElevation(arg: Float): Unit = attr("drawerElevation", arg)
-  fun drawerLockMode(arg: Int): Unit = attr("drawerLockMode", arg)
-  fun scrimColor(arg: Int): Unit = attr("scrimColor", arg)
-  fun statusBarBackground(arg: Drawable?): Unit = attr("statusBarBackground", arg)
-  fun statusBarBackground(arg: Int): Unit = attr("statusBarBackground", arg)
-  fun statusBarBackgroundColor(arg: Int): Unit = attr("statusBarBackgroundColor", arg)
+  fun drawerElevation(arg: Float): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.drawerElevation), arg)
+  fun drawerLockMode(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.drawerLockMode), arg)
+  fun scrimColor(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.scrimColor), arg)
+  fun statusBarBackground(arg: Drawable?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackground), arg)
+  fun statusBarBackground(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackground), arg)
+  fun statusBarBackgroundColor(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.statusBarBackgroundColor), arg)
   companion object : DrawerLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -72,17 +83,24 @@ abstract class DrawerLayoutScope : ViewGroupScope() {
 }
 
 fun slidingPaneLayout(configure: SlidingPaneLayoutScope.() -> Unit = {}) =
-    v<SlidingPaneLayout>(configure.bind(SlidingPaneLayoutScope))
+    v<SlidingPaneLayout, SlidingPaneLayoutScope>(SlidingPaneLayoutScope, configure)
 abstract class SlidingPaneLayoutScope : ViewGroupScope() {
-  fun coveredFadeColor(arg: Int): Unit = attr("coveredFadeColor", arg)
+  fun coveredFadeColor(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.coveredFadeColor), arg)
   fun panelSlideListener(arg: SlidingPaneLayout.PanelSlideListener?): Unit =
-      attr("panelSlideListener", arg)
-  fun parallaxDistance(arg: Int): Unit = attr("parallaxDistance", arg)
-  fun shadowDrawableLeft(arg: Drawable?): Unit = attr("shadowDrawableLeft", arg)
-  fun shadowDrawableRight(arg: Drawable?): Unit = attr("shadowDrawableRight", arg)
-  fun shadowResourceLeft(arg: Int): Unit = attr("shadowResourceLeft", arg)
-  fun shadowResourceRight(arg: Int): Unit = attr("shadowResourceRight", arg)
-  fun sliderFadeColor(arg: Int): Unit = attr("sliderFadeColor", arg)
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.panelSlideListener), arg)
+  fun parallaxDistance(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.parallaxDistance), arg)
+  fun shadowDrawableLeft(arg: Drawable?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.shadowDrawableLeft), arg)
+  fun shadowDrawableRight(arg: Drawable?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.shadowDrawableRight), arg)
+  fun shadowResourceLeft(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.shadowResourceLeft), arg)
+  fun shadowResourceRight(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.shadowResourceRight), arg)
+  fun sliderFadeColor(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.sliderFadeColor), arg)
   companion object : SlidingPaneLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -90,21 +108,27 @@ abstract class SlidingPaneLayoutScope : ViewGroupScope() {
 }
 
 fun swipeRefreshLayout(configure: SwipeRefreshLayoutScope.() -> Unit = {}) =
-    v<SwipeRefreshLayout>(configure.bind(SwipeRefreshLayoutScope))
+    v<SwipeRefreshLayout, SwipeRefreshLayoutScope>(SwipeRefreshLayoutScope, configure)
 abstract class SwipeRefreshLayoutScope : ViewGroupScope() {
-  fun colorSchemeColors(arg: IntArray): Unit = attr("colorSchemeColors", arg)
-  fun colorSchemeResources(arg: IntArray): Unit = attr("colorSchemeResources", arg)
-  fun distanceToTriggerSync(arg: Int): Unit = attr("distanceToTriggerSync", arg)
+  fun colorSchemeColors(arg: IntArray): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.colorSchemeColors), arg)
+  fun colorSchemeResources(arg: IntArray): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.colorSchemeResources), arg)
+  fun distanceToTriggerSync(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.distanceToTriggerSync), arg)
   fun onChildScrollUpCallback(arg: SwipeRefreshLayout.OnChildScrollUpCallback?): Unit =
-      attr("onChildScrollUpCallback", arg)
-  fun onRefresh(arg: (() -> Unit)?): Unit = attr("onRefresh", arg)
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.onChildScrollUpCallback), arg)
+  fun onRefresh(arg: (() -> Unit)?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.onRefresh), arg)
   fun progressBackgroundColorSchemeColor(arg: Int): Unit =
-      attr("progressBackgroundColorSchemeColor", arg)
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.progressBackgroundColorSchemeColor), arg)
   fun progressBackgroundColorSchemeResource(arg: Int): Unit =
-      attr("progressBackgroundColorSchemeResource", arg)
-  fun refreshing(arg: Boolean): Unit = attr("refreshing", arg)
-  fun size(arg: Int): Unit = attr("size", arg)
-  fun slingshotDistance(arg: Int): Unit = attr("slingshotDistance", arg)
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.progressBackgroundColorSchemeResource), arg)
+  fun refreshing(arg: Boolean): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.refreshing),
+      arg)
+  fun size(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.size), arg)
+  fun slingshotDistance(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.slingshotDistance), arg)
   companion object : SwipeRefreshLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -112,11 +136,14 @@ abstract class SwipeRefreshLayoutScope : ViewGroupScope() {
 }
 
 fun pagerTabStrip(configure: PagerTabStripScope.() -> Unit = {}) =
-    v<PagerTabStrip>(configure.bind(PagerTabStripScope))
+    v<PagerTabStrip, PagerTabStripScope>(PagerTabStripScope, configure)
 abstract class PagerTabStripScope : PagerTitleStripScope() {
-  fun drawFullUnderline(arg: Boolean): Unit = attr("drawFullUnderline", arg)
-  fun tabIndicatorColor(arg: Int): Unit = attr("tabIndicatorColor", arg)
-  fun tabIndicatorColorResource(arg: Int): Unit = attr("tabIndicatorColorResource", arg)
+  fun drawFullUnderline(arg: Boolean): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.drawFullUnderline), arg)
+  fun tabIndicatorColor(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.tabIndicatorColor), arg)
+  fun tabIndicatorColorResource(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.tabIndicatorColorResource), arg)
   companion object : PagerTabStripScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -124,12 +151,14 @@ abstract class PagerTabStripScope : PagerTitleStripScope() {
 }
 
 fun pagerTitleStrip(configure: PagerTitleStripScope.() -> Unit = {}) =
-    v<PagerTitleStrip>(configure.bind(PagerTitleStripScope))
+    v<PagerTitleStrip, PagerTitleStripScope>(PagerTitleStripScope, configure)
 abstract class PagerTitleStripScope : ViewGroupScope() {
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun nonPrimaryAlpha(arg: Float): Unit = attr("nonPrimaryAlpha", arg)
-  fun textColor(arg: Int): Unit = attr("textColor", arg)
-  fun textSpacing(arg: Int): Unit = attr("textSpacing", arg)
+  fun gravity(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.gravity), arg)
+  fun nonPrimaryAlpha(arg: Float): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.nonPrimaryAlpha), arg)
+  fun textColor(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.textColor), arg)
+  fun textSpacing(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.textSpacing),
+      arg)
   companion object : PagerTitleStripScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -137,14 +166,19 @@ abstract class PagerTitleStripScope : ViewGroupScope() {
 }
 
 fun viewPager(configure: ViewPagerScope.() -> Unit = {}) =
-    v<ViewPager>(configure.bind(ViewPagerScope))
+    v<ViewPager, ViewPagerScope>(ViewPagerScope, configure)
 abstract class ViewPagerScope : ViewGroupScope() {
-  fun adapter(arg: PagerAdapter): Unit = attr("adapter", arg)
-  fun currentItem(arg: Int): Unit = attr("currentItem", arg)
-  fun offscreenPageLimit(arg: Int): Unit = attr("offscreenPageLimit", arg)
-  fun pageMargin(arg: Int): Unit = attr("pageMargin", arg)
-  fun pageMarginDrawable(arg: Drawable?): Unit = attr("pageMarginDrawable", arg)
-  fun pageMarginDrawable(arg: Int): Unit = attr("pageMarginDrawable", arg)
+  fun adapter(arg: PagerAdapter): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.adapter),
+      arg)
+  fun currentItem(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.currentItem),
+      arg)
+  fun offscreenPageLimit(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.offscreenPageLimit), arg)
+  fun pageMargin(arg: Int): Unit = attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.pageMargin), arg)
+  fun pageMarginDrawable(arg: Drawable?): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.pageMarginDrawable), arg)
+  fun pageMarginDrawable(arg: Int): Unit =
+      attr(SupportCoreUiSetter.id(SupportCoreUiAttrs.pageMarginDrawable), arg)
   companion object : ViewPagerScope() {
     init {
       Anvil.registerAttributeSetter(SupportCoreUiSetter)}
@@ -158,18 +192,42 @@ abstract class ViewPagerScope : ViewGroupScope() {
  * It contains views and their setters from the library support-core-ui.
  * Please, don't edit it manually unless for debugging.
  */
-object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
+object SupportCoreUiSetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("statusBarBackground",
+      "statusBarBackgroundColor", "statusBarBackgroundResource", "fillViewport",
+      "smoothScrollingEnabled", "drawerElevation", "drawerLockMode", "scrimColor",
+      "coveredFadeColor", "panelSlideListener", "parallaxDistance", "shadowDrawableLeft",
+      "shadowDrawableRight", "shadowResourceLeft", "shadowResourceRight", "sliderFadeColor",
+      "colorSchemeColors", "colorSchemeResources", "distanceToTriggerSync",
+      "onChildScrollUpCallback", "onRefresh", "progressBackgroundColorSchemeColor",
+      "progressBackgroundColorSchemeResource", "refreshing", "size", "slingshotDistance",
+      "drawFullUnderline", "tabIndicatorColor", "tabIndicatorColorResource", "gravity",
+      "nonPrimaryAlpha", "textColor", "textSpacing", "adapter", "currentItem", "offscreenPageLimit",
+      "pageMargin", "pageMarginDrawable")
+
   init {
     Anvil.registerAttributeSetter(this)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [SupportCoreUiAttrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "statusBarBackground" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    SupportCoreUiAttrs.statusBarBackground -> when {
       v is CoordinatorLayout && (arg == null || arg is Drawable) -> {
         v.setStatusBarBackground(arg as Drawable)
         true
@@ -184,7 +242,7 @@ object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "statusBarBackgroundColor" -> when {
+    SupportCoreUiAttrs.statusBarBackgroundColor -> when {
       v is CoordinatorLayout && arg is Int -> {
         v.setStatusBarBackgroundColor(arg)
         true
@@ -195,126 +253,126 @@ object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "statusBarBackgroundResource" -> when {
+    SupportCoreUiAttrs.statusBarBackgroundResource -> when {
       v is CoordinatorLayout && arg is Int -> {
         v.setStatusBarBackgroundResource(arg)
         true
       }
       else -> false
     }
-    "fillViewport" -> when {
+    SupportCoreUiAttrs.fillViewport -> when {
       v is NestedScrollView && arg is Boolean -> {
         v.setFillViewport(arg)
         true
       }
       else -> false
     }
-    "smoothScrollingEnabled" -> when {
+    SupportCoreUiAttrs.smoothScrollingEnabled -> when {
       v is NestedScrollView && arg is Boolean -> {
         v.setSmoothScrollingEnabled(arg)
         true
       }
       else -> false
     }
-    "drawerElevation" -> when {
+    SupportCoreUiAttrs.drawerElevation -> when {
       v is DrawerLayout && arg is Float -> {
         v.setDrawerElevation(arg)
         true
       }
       else -> false
     }
-    "drawerLockMode" -> when {
+    SupportCoreUiAttrs.drawerLockMode -> when {
       v is DrawerLayout && arg is Int -> {
         v.setDrawerLockMode(arg)
         true
       }
       else -> false
     }
-    "scrimColor" -> when {
+    SupportCoreUiAttrs.scrimColor -> when {
       v is DrawerLayout && arg is Int -> {
         v.setScrimColor(arg)
         true
       }
       else -> false
     }
-    "coveredFadeColor" -> when {
+    SupportCoreUiAttrs.coveredFadeColor -> when {
       v is SlidingPaneLayout && arg is Int -> {
         v.setCoveredFadeColor(arg)
         true
       }
       else -> false
     }
-    "panelSlideListener" -> when {
+    SupportCoreUiAttrs.panelSlideListener -> when {
       v is SlidingPaneLayout && (arg == null || arg is SlidingPaneLayout.PanelSlideListener) -> {
         v.setPanelSlideListener(arg as SlidingPaneLayout.PanelSlideListener)
         true
       }
       else -> false
     }
-    "parallaxDistance" -> when {
+    SupportCoreUiAttrs.parallaxDistance -> when {
       v is SlidingPaneLayout && arg is Int -> {
         v.setParallaxDistance(arg)
         true
       }
       else -> false
     }
-    "shadowDrawableLeft" -> when {
+    SupportCoreUiAttrs.shadowDrawableLeft -> when {
       v is SlidingPaneLayout && (arg == null || arg is Drawable) -> {
         v.setShadowDrawableLeft(arg as Drawable)
         true
       }
       else -> false
     }
-    "shadowDrawableRight" -> when {
+    SupportCoreUiAttrs.shadowDrawableRight -> when {
       v is SlidingPaneLayout && (arg == null || arg is Drawable) -> {
         v.setShadowDrawableRight(arg as Drawable)
         true
       }
       else -> false
     }
-    "shadowResourceLeft" -> when {
+    SupportCoreUiAttrs.shadowResourceLeft -> when {
       v is SlidingPaneLayout && arg is Int -> {
         v.setShadowResourceLeft(arg)
         true
       }
       else -> false
     }
-    "shadowResourceRight" -> when {
+    SupportCoreUiAttrs.shadowResourceRight -> when {
       v is SlidingPaneLayout && arg is Int -> {
         v.setShadowResourceRight(arg)
         true
       }
       else -> false
     }
-    "sliderFadeColor" -> when {
+    SupportCoreUiAttrs.sliderFadeColor -> when {
       v is SlidingPaneLayout && arg is Int -> {
         v.setSliderFadeColor(arg)
         true
       }
       else -> false
     }
-    "colorSchemeColors" -> when {
+    SupportCoreUiAttrs.colorSchemeColors -> when {
       v is SwipeRefreshLayout && arg is IntArray -> {
         v.setColorSchemeColors(*arg)
         true
       }
       else -> false
     }
-    "colorSchemeResources" -> when {
+    SupportCoreUiAttrs.colorSchemeResources -> when {
       v is SwipeRefreshLayout && arg is IntArray -> {
         v.setColorSchemeResources(*arg)
         true
       }
       else -> false
     }
-    "distanceToTriggerSync" -> when {
+    SupportCoreUiAttrs.distanceToTriggerSync -> when {
       v is SwipeRefreshLayout && arg is Int -> {
         v.setDistanceToTriggerSync(arg)
         true
       }
       else -> false
     }
-    "onChildScrollUpCallback" -> when {
+    SupportCoreUiAttrs.onChildScrollUpCallback -> when {
       v is SwipeRefreshLayout && (arg == null || arg is
           SwipeRefreshLayout.OnChildScrollUpCallback) -> {
         v.setOnChildScrollUpCallback(arg as SwipeRefreshLayout.OnChildScrollUpCallback)
@@ -322,16 +380,17 @@ object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onRefresh" -> when {
+    SupportCoreUiAttrs.onRefresh -> when {
       v is SwipeRefreshLayout -> when {
         arg == null -> {
           v.setOnRefreshListener(null as? SwipeRefreshLayout.OnRefreshListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Unit
-          v.setOnRefreshListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnRefreshListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Unit)?.invoke()?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -339,119 +398,119 @@ object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "progressBackgroundColorSchemeColor" -> when {
+    SupportCoreUiAttrs.progressBackgroundColorSchemeColor -> when {
       v is SwipeRefreshLayout && arg is Int -> {
         v.setProgressBackgroundColorSchemeColor(arg)
         true
       }
       else -> false
     }
-    "progressBackgroundColorSchemeResource" -> when {
+    SupportCoreUiAttrs.progressBackgroundColorSchemeResource -> when {
       v is SwipeRefreshLayout && arg is Int -> {
         v.setProgressBackgroundColorSchemeResource(arg)
         true
       }
       else -> false
     }
-    "refreshing" -> when {
+    SupportCoreUiAttrs.refreshing -> when {
       v is SwipeRefreshLayout && arg is Boolean -> {
         v.setRefreshing(arg)
         true
       }
       else -> false
     }
-    "size" -> when {
+    SupportCoreUiAttrs.size -> when {
       v is SwipeRefreshLayout && arg is Int -> {
         v.setSize(arg)
         true
       }
       else -> false
     }
-    "slingshotDistance" -> when {
+    SupportCoreUiAttrs.slingshotDistance -> when {
       v is SwipeRefreshLayout && arg is Int -> {
         v.setSlingshotDistance(arg)
         true
       }
       else -> false
     }
-    "drawFullUnderline" -> when {
+    SupportCoreUiAttrs.drawFullUnderline -> when {
       v is PagerTabStrip && arg is Boolean -> {
         v.setDrawFullUnderline(arg)
         true
       }
       else -> false
     }
-    "tabIndicatorColor" -> when {
+    SupportCoreUiAttrs.tabIndicatorColor -> when {
       v is PagerTabStrip && arg is Int -> {
         v.setTabIndicatorColor(arg)
         true
       }
       else -> false
     }
-    "tabIndicatorColorResource" -> when {
+    SupportCoreUiAttrs.tabIndicatorColorResource -> when {
       v is PagerTabStrip && arg is Int -> {
         v.setTabIndicatorColorResource(arg)
         true
       }
       else -> false
     }
-    "gravity" -> when {
+    SupportCoreUiAttrs.gravity -> when {
       v is PagerTitleStrip && arg is Int -> {
         v.setGravity(arg)
         true
       }
       else -> false
     }
-    "nonPrimaryAlpha" -> when {
+    SupportCoreUiAttrs.nonPrimaryAlpha -> when {
       v is PagerTitleStrip && arg is Float -> {
         v.setNonPrimaryAlpha(arg)
         true
       }
       else -> false
     }
-    "textColor" -> when {
+    SupportCoreUiAttrs.textColor -> when {
       v is PagerTitleStrip && arg is Int -> {
         v.setTextColor(arg)
         true
       }
       else -> false
     }
-    "textSpacing" -> when {
+    SupportCoreUiAttrs.textSpacing -> when {
       v is PagerTitleStrip && arg is Int -> {
         v.setTextSpacing(arg)
         true
       }
       else -> false
     }
-    "adapter" -> when {
+    SupportCoreUiAttrs.adapter -> when {
       v is ViewPager && arg is PagerAdapter -> {
         v.setAdapter(arg)
         true
       }
       else -> false
     }
-    "currentItem" -> when {
+    SupportCoreUiAttrs.currentItem -> when {
       v is ViewPager && arg is Int -> {
         v.setCurrentItem(arg)
         true
       }
       else -> false
     }
-    "offscreenPageLimit" -> when {
+    SupportCoreUiAttrs.offscreenPageLimit -> when {
       v is ViewPager && arg is Int -> {
         v.setOffscreenPageLimit(arg)
         true
       }
       else -> false
     }
-    "pageMargin" -> when {
+    SupportCoreUiAttrs.pageMargin -> when {
       v is ViewPager && arg is Int -> {
         v.setPageMargin(arg)
         true
       }
       else -> false
     }
-    "pageMarginDrawable" -> when {
+    SupportCoreUiAttrs.pageMarginDrawable -> when {
       v is ViewPager && (arg == null || arg is Drawable) -> {
         v.setPageMarginDrawable(arg as Drawable)
         true
@@ -464,4 +523,294 @@ object SupportCoreUiSetter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    SupportCoreUiAttrs.statusBarBackground -> when {
+      v is DrawerLayout -> {
+        v.setStatusBarBackground(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.statusBarBackgroundColor -> when {
+      v is CoordinatorLayout -> {
+        v.setStatusBarBackgroundColor(arg)
+        true
+      }
+      v is DrawerLayout -> {
+        v.setStatusBarBackgroundColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.statusBarBackgroundResource -> when {
+      v is CoordinatorLayout -> {
+        v.setStatusBarBackgroundResource(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.drawerLockMode -> when {
+      v is DrawerLayout -> {
+        v.setDrawerLockMode(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.scrimColor -> when {
+      v is DrawerLayout -> {
+        v.setScrimColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.coveredFadeColor -> when {
+      v is SlidingPaneLayout -> {
+        v.setCoveredFadeColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.parallaxDistance -> when {
+      v is SlidingPaneLayout -> {
+        v.setParallaxDistance(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.shadowResourceLeft -> when {
+      v is SlidingPaneLayout -> {
+        v.setShadowResourceLeft(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.shadowResourceRight -> when {
+      v is SlidingPaneLayout -> {
+        v.setShadowResourceRight(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.sliderFadeColor -> when {
+      v is SlidingPaneLayout -> {
+        v.setSliderFadeColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.distanceToTriggerSync -> when {
+      v is SwipeRefreshLayout -> {
+        v.setDistanceToTriggerSync(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.progressBackgroundColorSchemeColor -> when {
+      v is SwipeRefreshLayout -> {
+        v.setProgressBackgroundColorSchemeColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.progressBackgroundColorSchemeResource -> when {
+      v is SwipeRefreshLayout -> {
+        v.setProgressBackgroundColorSchemeResource(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.size -> when {
+      v is SwipeRefreshLayout -> {
+        v.setSize(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.slingshotDistance -> when {
+      v is SwipeRefreshLayout -> {
+        v.setSlingshotDistance(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.tabIndicatorColor -> when {
+      v is PagerTabStrip -> {
+        v.setTabIndicatorColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.tabIndicatorColorResource -> when {
+      v is PagerTabStrip -> {
+        v.setTabIndicatorColorResource(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.gravity -> when {
+      v is PagerTitleStrip -> {
+        v.setGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.textColor -> when {
+      v is PagerTitleStrip -> {
+        v.setTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.textSpacing -> when {
+      v is PagerTitleStrip -> {
+        v.setTextSpacing(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.currentItem -> when {
+      v is ViewPager -> {
+        v.setCurrentItem(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.offscreenPageLimit -> when {
+      v is ViewPager -> {
+        v.setOffscreenPageLimit(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.pageMargin -> when {
+      v is ViewPager -> {
+        v.setPageMargin(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.pageMarginDrawable -> when {
+      v is ViewPager -> {
+        v.setPageMarginDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    SupportCoreUiAttrs.drawerElevation -> when {
+      v is DrawerLayout -> {
+        v.setDrawerElevation(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.nonPrimaryAlpha -> when {
+      v is PagerTitleStrip -> {
+        v.setNonPrimaryAlpha(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    SupportCoreUiAttrs.fillViewport -> when {
+      v is NestedScrollView -> {
+        v.setFillViewport(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.smoothScrollingEnabled -> when {
+      v is NestedScrollView -> {
+        v.setSmoothScrollingEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.refreshing -> when {
+      v is SwipeRefreshLayout -> {
+        v.setRefreshing(arg)
+        true
+      }
+      else -> false
+    }
+    SupportCoreUiAttrs.drawFullUnderline -> when {
+      v is PagerTabStrip -> {
+        v.setDrawFullUnderline(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [SupportCoreUiSetter].
+ */
+object SupportCoreUiAttrs {
+  const val statusBarBackground: Int = 0
+  const val statusBarBackgroundColor: Int = 1
+  const val statusBarBackgroundResource: Int = 2
+  const val fillViewport: Int = 3
+  const val smoothScrollingEnabled: Int = 4
+  const val drawerElevation: Int = 5
+  const val drawerLockMode: Int = 6
+  const val scrimColor: Int = 7
+  const val coveredFadeColor: Int = 8
+  const val panelSlideListener: Int = 9
+  const val parallaxDistance: Int = 10
+  const val shadowDrawableLeft: Int = 11
+  const val shadowDrawableRight: Int = 12
+  const val shadowResourceLeft: Int = 13
+  const val shadowResourceRight: Int = 14
+  const val sliderFadeColor: Int = 15
+  const val colorSchemeColors: Int = 16
+  const val colorSchemeResources: Int = 17
+  const val distanceToTriggerSync: Int = 18
+  const val onChildScrollUpCallback: Int = 19
+  const val onRefresh: Int = 20
+  const val progressBackgroundColorSchemeColor: Int = 21
+  const val progressBackgroundColorSchemeResource: Int = 22
+  const val refreshing: Int = 23
+  const val size: Int = 24
+  const val slingshotDistance: Int = 25
+  const val drawFullUnderline: Int = 26
+  const val tabIndicatorColor: Int = 27
+  const val tabIndicatorColorResource: Int = 28
+  const val gravity: Int = 29
+  const val nonPrimaryAlpha: Int = 30
+  const val textColor: Int = 31
+  const val textSpacing: Int = 32
+  const val adapter: Int = 33
+  const val currentItem: Int = 34
+  const val offscreenPageLimit: Int = 35
+  const val pageMargin: Int = 36
+  const val pageMarginDrawable: Int = 37
 }
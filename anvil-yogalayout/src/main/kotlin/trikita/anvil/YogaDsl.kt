@@ -7,7 +7,7 @@ import com.facebook.yoga.*
 import com.facebook.yoga.android.YogaLayout
 
 fun yogaLayout(configure: YogaLayoutScope.() -> Unit = {}) =
-    v<YogaLayout>(configure.bind(YogaLayoutScope))
+    v<YogaLayout, YogaLayoutScope>(YogaLayoutScope, configure)
 abstract class YogaLayoutScope : ViewGroupScope() {
     fun flexDirection(direction: YogaFlexDirection?): Unit = attr("flexDirection", direction)
     fun alignItems(align: YogaAlign?): Unit = attr("alignItems", align)
@@ -0,0 +1,102 @@
+package trikita.anvil;
+
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.view.View;
+
+/**
+ * AnimatedValue is a float attribute value which changes over time without
+ * re-running renderables. When passed to {@code attr()} it's bound to the
+ * view attribute once, then every frame of the animation updates only the
+ * bound attributes through the regular attribute setters.
+ *
+ * A binding lasts while the attribute keeps the same AnimatedValue: once the
+ * renderable passes a different value, or the view is recycled, the value
+ * stops updating it. Must be used from the UI thread.
+ */
+public final class AnimatedValue implements Anvil.Bindable, ValueAnimator.AnimatorUpdateListener {
+
+    private float value;
+    // Animation goes from one value to another, updated with the animated fraction
+    private float from;
+    private float to;
+    private long duration = 300;
+    private TimeInterpolator interpolator;
+    private ValueAnimator animator;
+
+    private final Bindings bindings = new Bindings(this);
+
+    public AnimatedValue(float value) {
+        this.value = value;
+    }
+
+    /** Returns the current value */
+    public float get() {
+        return value;
+    }
+
+    /** Sets the duration of the following animations, in milliseconds */
+    public AnimatedValue setDuration(long duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /** Sets the interpolator of the following animations, null for the default one */
+    public AnimatedValue setInterpolator(TimeInterpolator interpolator) {
+        this.interpolator = interpolator;
+        return this;
+    }
+
+    /** Animates the value from the current one to the target */
+    public void animateTo(float target) {
+        if (animator == null) {
+            animator = new ValueAnimator();
+            animator.setFloatValues(0f, 1f);
+            animator.addUpdateListener(this);
+        }
+        animator.cancel();
+        from = value;
+        to = target;
+        animator.setDuration(duration);
+        if (interpolator != null) {
+            animator.setInterpolator(interpolator);
+        }
+        animator.start();
+    }
+
+    /** Cancels the running animation and changes the value immediately */
+    public void snapTo(float target) {
+        if (animator != null) {
+            animator.cancel();
+        }
+        set(target);
+    }
+
+    /** Returns true if the value is being animated */
+    public boolean isRunning() {
+        return animator != null && animator.isRunning();
+    }
+
+    public void onAnimationUpdate(ValueAnimator animation) {
+        // Fraction is read instead of the animated value to avoid boxing on every frame
+        set(from + (to - from) * animation.getAnimatedFraction());
+    }
+
+    void set(float value) {
+        this.value = value;
+        int size = bindings.compact();
+        for (int i = 0; i < size; i++) {
+            View v = bindings.view(i);
+            if (v != null) {
+                Anvil.applyFloat(v, bindings.id(i), value);
+            }
+        }
+    }
+
+    public void bind(AttrStore s, int id) {
+        View v = s.view.get();
+        if (bindings.add(s, id) && v != null) {
+            Anvil.applyFloat(v, id, value);
+        }
+    }
+}
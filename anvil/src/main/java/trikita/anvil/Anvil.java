@@ -1,17 +1,30 @@
 package trikita.anvil;
 
 import android.annotation.SuppressLint;
+import android.annotation.TargetApi;
 import android.content.Context;
+import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
 import androidx.annotation.Nullable;
 
 import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Anvil class is a namespace for top-level static methods and interfaces. Most
@@ -24,8 +37,19 @@ import java.util.*;
 public final class Anvil {
 
     private final static Map<View, Mount> mounts = new WeakHashMap<>();
+
+    /** Mounts ordered by their depth, so that parents are rendered before the
+     * mounts nested in them. UI thread only. */
+    private final static ArrayList<Mount> registry = new ArrayList<>();
+    /** Nesting level of registry iterations, removed mounts are nulled out while iterating */
+    private static int registryIterations = 0;
+    /** Incremented by every full render pass, mounts rendered during the pass are stamped with it */
+    private static int renderEpoch = 0;
     private static Mount currentMount = null;
 
+    /** Mounts that were invalidated since the last render pass, may be filled from any thread */
+    private final static Queue<Mount> dirtyMounts = new ConcurrentLinkedQueue<>();
+
     private static Handler anvilUIHandler = null;
 
     /** Renderable can be mounted and rendered using Anvil library. */
@@ -63,6 +87,18 @@ public final class Anvil {
         }
     };
 
+    private static ViewPool viewPool = null;
+
+    /**
+     * Sets a pool of views to be reused when views are removed and created
+     * again during rendering, or null to disable pooling, which is the default.
+     * Must be called from the UI thread.
+     * @param pool view pool to use
+     */
+    public static void setViewPool(@Nullable ViewPool pool) {
+        viewPool = pool;
+    }
+
     public static void registerViewFactory(ViewFactory viewFactory) {
         if (!viewFactories.contains(viewFactory)) {
             viewFactories.add(0, viewFactory);
@@ -73,14 +109,258 @@ public final class Anvil {
 
     private final static Runnable anvilRenderRunnable = new Runnable() {
         public void run() {
-            Anvil.render();
+            renderPass(PASS_FULL);
+        }
+    };
+
+    private final static Runnable anvilRenderDirtyRunnable = new Runnable() {
+        public void run() {
+            renderPass(PASS_DIRTY);
         }
     };
 
+    /** Render policy: each {@code Anvil.render()} call on the UI thread renders
+     * immediately, calls from other threads are posted to the UI thread. This is the default. */
+    public final static int RENDER_IMMEDIATE = 0;
+    /** Render policy: render requests from any thread are coalesced into at
+     * most one render pass per frame, aligned with vsync via Choreographer. */
+    public final static int RENDER_ON_FRAME = 1;
+
+    /** Event scope: an event handled by a DSL listener renders all mounts, like
+     * {@code Anvil.render()}. This is the default. */
+    public final static int EVENTS_RENDER_ALL = 0;
+    /** Event scope: an event handled by a DSL listener only renders the mount
+     * owning the view the event came from. */
+    public final static int EVENTS_RENDER_OWNER = 1;
+
+    private final static int PASS_FULL = 1;
+    private final static int PASS_DIRTY = 2;
+
+    private static volatile int renderPolicy = RENDER_IMMEDIATE;
+    private static volatile int eventScope = EVENTS_RENDER_ALL;
+    /** Passes requested since the last frame callback, updated from any thread */
+    private final static AtomicInteger framePasses = new AtomicInteger(0);
+
+    /** Nesting level of Anvil.batch() calls, UI thread only */
+    private static int batchDepth = 0;
+    /** Passes requested inside of the current batch, UI thread only */
+    private static int batchPasses = 0;
+
+    private final static Runnable anvilFrameRunnable = new Runnable() {
+        public void run() {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                FrameRenderer.INSTANCE.schedule();
+            } else {
+                renderFrame();
+            }
+        }
+    };
+
+    /** Choreographer is only available since API 16, so it's kept in a
+     * separate class which is never loaded on older platforms. */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private final static class FrameRenderer implements Choreographer.FrameCallback {
+        final static FrameRenderer INSTANCE = new FrameRenderer();
+
+        void schedule() {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        public void doFrame(long frameTimeNanos) {
+            renderFrame();
+        }
+    }
+
+    /** Renders the passes requested since the last frame with {@code RENDER_ON_FRAME} policy */
+    static void renderFrame() {
+        renderPass(framePasses.getAndSet(0));
+    }
+
+    /**
+     * Sets the way render requests are dispatched, either
+     * {@code RENDER_IMMEDIATE} or {@code RENDER_ON_FRAME}.
+     * @param policy new render policy
+     */
+    public static void setRenderPolicy(int policy) {
+        if (policy != RENDER_IMMEDIATE && policy != RENDER_ON_FRAME) {
+            throw new IllegalArgumentException("unknown render policy: " + policy);
+        }
+        renderPolicy = policy;
+    }
+
+    /**
+     * Sets what is rendered after an event handled by a DSL listener, either
+     * {@code EVENTS_RENDER_ALL} or {@code EVENTS_RENDER_OWNER}. With the
+     * owner scope the state changed by a listener must only be used by the
+     * mount the view belongs to, otherwise the listener has to call
+     * {@code Anvil.render()} itself.
+     * @param scope new event scope
+     */
+    public static void setEventScope(int scope) {
+        if (scope != EVENTS_RENDER_ALL && scope != EVENTS_RENDER_OWNER) {
+            throw new IllegalArgumentException("unknown event scope: " + scope);
+        }
+        eventScope = scope;
+    }
+
+    /**
+     * Runs the given block as a single render transaction: all render
+     * requests made on the UI thread while it runs are merged into one render
+     * pass performed when the outermost batch completes.
+     * @param r a block of code which may request renders
+     */
+    public static void batch(Runnable r) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            r.run();
+            return;
+        }
+        batchDepth++;
+        try {
+            r.run();
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && batchPasses != 0) {
+                int passes = batchPasses;
+                batchPasses = 0;
+                requestPass(passes);
+            }
+        }
+    }
+
     public interface AttributeSetter<T> {
         boolean set(View v, String name, @Nullable T value, @Nullable T prevValue);
     }
 
+    /**
+     * Attribute setter which receives interned attribute ids (see
+     * {@code attrId()}) instead of names. Generated setters implement this
+     * interface, the name-based method remains for compatibility.
+     */
+    public interface AttributeIdSetter<T> extends AttributeSetter<T> {
+        boolean set(View v, int id, @Nullable T value, @Nullable T prevValue);
+    }
+
+    /**
+     * Attribute setter with primitive-typed entry points, which allows to
+     * apply numeric and boolean attributes without boxing. If none of the
+     * primitive setters accepts the value it's passed boxed to the regular
+     * {@code set()} methods.
+     */
+    public interface PrimitiveAttributeSetter {
+        boolean setInt(View v, int id, int value);
+        boolean setFloat(View v, int id, float value);
+        boolean setBoolean(View v, int id, boolean value);
+        boolean setLong(View v, int id, long value);
+    }
+
+    /**
+     * AttrTable maps process-wide attribute ids to ordinals local to a single
+     * setter. Ordinals are assigned when the setter is generated, which
+     * allows the setter to dispatch an attribute id with a table switch.
+     */
+    public final static class AttrTable {
+        private final int[] ids;
+        // Ordinal + 1 for every attribute id, zero for unknown ids
+        private final int[] ordinals;
+
+        public AttrTable(String... names) {
+            ids = new int[names.length];
+            int max = -1;
+            for (int i = 0; i < names.length; i++) {
+                ids[i] = attrId(names[i]);
+                max = Math.max(max, ids[i]);
+            }
+            ordinals = new int[max + 1];
+            for (int i = 0; i < ids.length; i++) {
+                ordinals[ids[i]] = i + 1;
+            }
+        }
+
+        /** Returns attribute id for the given ordinal */
+        public int id(int ordinal) {
+            return ids[ordinal];
+        }
+
+        /** Returns ordinal of the given attribute id, or -1 if it's not in the table */
+        public int ordinal(int id) {
+            return id < ordinals.length ? ordinals[id] - 1 : -1;
+        }
+    }
+
+    /** Falls back to the generic setter entry point, boxing happens only when value has changed */
+    @SuppressWarnings("unchecked")
+    private static boolean setBoxed(AttributeSetter setter, View v, int id, Object value, Object prevValue) {
+        if (setter instanceof AttributeIdSetter) {
+            return ((AttributeIdSetter) setter).set(v, id, value, prevValue);
+        }
+        return setter.set(v, attrName(id), value, prevValue);
+    }
+
+    /**
+     * Attribute value which updates the attribute by itself once it's bound
+     * to a view, see AnimatedValue and Signal. A binding lasts while the
+     * view's store keeps the value for that attribute.
+     */
+    interface Bindable {
+        void bind(AttrStore s, int id);
+    }
+
+    /** Passes a value of a bound attribute through the setters outside of a render */
+    static boolean apply(View v, int id, Object value, Object prevValue) {
+        applying = true;
+        try {
+            for (int i = 0; i < attributeSetters.size(); i++) {
+                if (setBoxed(attributeSetters.get(i), v, id, value, prevValue)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            endApply();
+        }
+    }
+
+    /** Posts a runnable to the UI thread */
+    static void post(Runnable r) {
+        uiHandler().post(r);
+    }
+
+    /** Passes a float value of a bound attribute through the setters outside of a render */
+    static boolean applyFloat(View v, int id, float value) {
+        applying = true;
+        try {
+            for (int i = 0; i < attributeSetters.size(); i++) {
+                AttributeSetter setter = attributeSetters.get(i);
+                boolean handled = setter instanceof PrimitiveAttributeSetter &&
+                        ((PrimitiveAttributeSetter) setter).setFloat(v, id, value);
+                if (!handled) {
+                    handled = setBoxed(setter, v, id, value, null);
+                }
+                if (handled) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            endApply();
+        }
+    }
+
+    // True while a bound value is passed through the setters outside of a
+    // render, and the view whose layout params a setter has asked for
+    // meanwhile. The params are set back once the setter has changed them.
+    private static boolean applying;
+    private static View paramsView;
+
+    private static void endApply() {
+        applying = false;
+        View v = paramsView;
+        if (v != null) {
+            paramsView = null;
+            v.setLayoutParams(v.getLayoutParams());
+        }
+    }
+
     private final static List<AttributeSetter> attributeSetters =
             new ArrayList<AttributeSetter>() {{ add(new PropertySetter()); }};
 
@@ -90,47 +370,376 @@ public final class Anvil {
         }
     }
 
-    /** Tags: arbitrary data bound to specific views, such as last cached attribute values */
-    private static Map<View, Map<String, Object>> tags = new WeakHashMap<>();
+    /** Interned attribute names, id is the index in attrNames */
+    private final static Map<String, Integer> attrIds = new ConcurrentHashMap<>();
+    private static volatile String[] attrNames = new String[256];
 
-    public static void set(View v, String key, Object value) {
-        Map<String, Object> attrs = tags.get(v);
-        if (attrs == null) {
-            attrs = new HashMap<>();
-            tags.put(v, attrs);
+    /**
+     * Returns a small integer id uniquely identifying the given attribute
+     * name within the process. The same name always maps to the same id.
+     * @param name attribute name
+     * @return interned attribute id
+     */
+    public static int attrId(String name) {
+        Integer id = attrIds.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (attrIds) {
+            id = attrIds.get(name);
+            if (id == null) {
+                id = attrIds.size();
+                if (id == attrNames.length) {
+                    attrNames = Arrays.copyOf(attrNames, id * 2);
+                }
+                attrNames[id] = name;
+                attrIds.put(name, id);
+            }
+            return id;
+        }
+    }
+
+    /** Returns the attribute name which has been interned as the given id */
+    public static String attrName(int id) {
+        return attrNames[id];
+    }
+
+    /** Per-view state, such as last cached attribute values */
+    private final static Map<View, AttrStore> stores = new WeakHashMap<>();
+
+    static AttrStore store(View v) {
+        Map<View, AttrStore> map = stores();
+        AttrStore store = map.get(v);
+        if (store == null) {
+            store = new AttrStore();
+            store.view = new WeakReference<>(v);
+            store.viewClass = v.getClass();
+            map.put(v, store);
         }
-        attrs.put(key, value);
+        return store;
+    }
+
+    @Nullable
+    static AttrStore peekStore(View v) {
+        return stores().get(v);
+    }
+
+    /** Views prepared on a worker thread keep their stores apart until they are adopted */
+    private static Map<View, AttrStore> stores() {
+        Thread t = Thread.currentThread();
+        if (t instanceof RenderWorker && ((RenderWorker) t).stores != null) {
+            return ((RenderWorker) t).stores;
+        }
+        return stores;
+    }
+
+    /**
+     * Returns layout params of the view for an attribute setter to modify.
+     * While the view is being rendered, all changes made to its params are
+     * committed with a single {@code setLayoutParams()} call when the view's
+     * node ends, so that several layout attributes cause a single layout
+     * request. The same happens once the setter returns when a bound value,
+     * such as a Signal or an AnimatedValue, is applied outside of a render.
+     * Other callers get the params as they are and must set them back with
+     * {@code setLayoutParams()} after changing them.
+     * @param v view to modify layout params of
+     * @return current layout params of the view
+     */
+    public static ViewGroup.LayoutParams layoutParams(View v) {
+        Mount m = currentMount();
+        if (m != null && m.iterator.deferLayoutParams(v)) {
+            ViewGroup.LayoutParams p = m.iterator.pendingParams[m.iterator.depth];
+            return p != null ? p : v.getLayoutParams();
+        }
+        ViewGroup.LayoutParams p = v.getLayoutParams();
+        if (p != null && applying) {
+            paramsView = v;
+        }
+        return p;
+    }
+
+    /**
+     * Replaces layout params of the view, like {@code layoutParams()} the
+     * change is committed when the view's node ends if it's being rendered.
+     * @param v view to set layout params to
+     * @param p new layout params
+     */
+    public static void setLayoutParams(View v, ViewGroup.LayoutParams p) {
+        Mount m = currentMount();
+        if (m != null && m.iterator.deferLayoutParams(v)) {
+            m.iterator.pendingParams[m.iterator.depth] = p;
+        } else {
+            v.setLayoutParams(p);
+        }
+    }
+
+    /** Tags: arbitrary data bound to specific views */
+    public static void set(View v, String key, Object value) {
+        store(v).put(attrId(key), value);
     }
 
     public static Object get(View v, String key) {
-        Map<String, Object> attrs = tags.get(v);
-        if (attrs == null) {
+        AttrStore store = peekStore(v);
+        if (store == null) {
             return null;
         }
-        return attrs.get(key);
+        return store.get(attrId(key));
+    }
+
+    /**
+     * Returns the value the attribute of the view has been rendered with.
+     * Listeners installed by the generated setters are installed once per
+     * view and dispatch every event to the value rendered last.
+     */
+    public static Object attrValue(View v, int id) {
+        AttrStore store = peekStore(v);
+        return store != null ? store.get(id) : null;
     }
 
     /** Starts the new rendering cycle updating all mounted
      * renderables. Update happens in a lazy manner, only the values that has
      * been changed since last rendering cycle will be actually updated in the
      * views. This method can be called from any thread, so it's safe to use
-     * {@code Anvil.render()} in background services. */
+     * {@code Anvil.render()} in background services. With
+     * {@code RENDER_ON_FRAME} policy the actual rendering is postponed until
+     * the next frame. */
     public static void render() {
-        // If Anvil.render() is called on a non-UI thread, use UI Handler
-        if (Looper.myLooper() != Looper.getMainLooper()) {
-            synchronized (Anvil.class) {
-                if (anvilUIHandler == null) {
-                    anvilUIHandler = new Handler(Looper.getMainLooper());
+        requestPass(PASS_FULL);
+    }
+
+    /**
+     * Marks the renderable mounted into the given view as dirty and requests
+     * a render pass that only visits dirty mounts. Other mounts remain
+     * untouched. Like {@code render()} this method can be called from any
+     * thread, the pass itself always happens on the UI thread.
+     * @param v a mount point to invalidate
+     */
+    public static void invalidate(View v) {
+        Mount m = mountOf(v);
+        if (m != null && m.markDirty()) {
+            requestPass(PASS_DIRTY);
+        }
+    }
+
+    /**
+     * Requests a render after an event of the given view. Depending on the
+     * event scope either all mounts are rendered, or only the mount owning
+     * the view is invalidated. Views outside of any mount render all mounts.
+     * @param v a view the event came from
+     */
+    public static void renderFrom(View v) {
+        Mount m = eventScope == EVENTS_RENDER_OWNER ? owner(v) : null;
+        if (m == null) {
+            render();
+        } else if (m.markDirty()) {
+            requestPass(PASS_DIRTY);
+        }
+    }
+
+    /** Returns the mount of the nearest mounted ancestor of the view, or the
+     * view itself. The result is cached in the view's store while the mount
+     * stays registered. */
+    static Mount owner(View v) {
+        AttrStore s = peekStore(v);
+        if (s != null && s.owner != null) {
+            Mount m = s.owner.get();
+            if (m != null && isRegistered(m)) {
+                return m;
+            }
+            s.owner = null;
+        }
+        Mount m = null;
+        synchronized (mounts) {
+            for (Object p = v; p instanceof View && m == null; p = ((View) p).getParent()) {
+                m = mounts.get(p);
+            }
+        }
+        if (m != null && s != null) {
+            s.owner = new WeakReference<>(m);
+        }
+        return m;
+    }
+
+    private static boolean isRegistered(Mount m) {
+        View root = m.rootView.get();
+        return root != null && mountOf(root) == m;
+    }
+
+    /** Mounts are looked up by invalidate() and render workers off the UI thread,
+     * every access to the map is synchronized */
+    private static Mount mountOf(View v) {
+        synchronized (mounts) {
+            return mounts.get(v);
+        }
+    }
+
+    /** Starts the new rendering cycle updating only the mounts that have been
+     * invalidated since they were rendered last time. Must be called from the
+     * UI thread. */
+    public static void renderDirty() {
+        Mount m;
+        while ((m = dirtyMounts.poll()) != null) {
+            if (m.dirty.get()) {
+                dispatch(m);
+            }
+        }
+    }
+
+    private static void renderAll() {
+        renderEpoch++;
+        registryIterations++;
+        try {
+            // Mounts may be added while rendering, so the size is checked on every step
+            for (int i = 0; i < registry.size(); i++) {
+                Mount m = registry.get(i);
+                if (m == null || m.epoch == renderEpoch) {
+                    continue;
                 }
+                if (m.rootView.get() == null) {
+                    registry.set(i, null);
+                } else {
+                    dispatch(m);
+                }
+            }
+        } finally {
+            endRegistryIteration();
+            pruneDirtyMounts();
+        }
+    }
+
+    /** Drops queued mounts that have been rendered by a full pass, so that the
+     * queue doesn't grow when dirty passes are merged into full ones. Mounts
+     * invalidated again since then stay queued. */
+    private static void pruneDirtyMounts() {
+        for (Iterator<Mount> it = dirtyMounts.iterator(); it.hasNext(); ) {
+            if (!it.next().dirty.get()) {
+                it.remove();
             }
-            anvilUIHandler.removeCallbacksAndMessages(null);
-            anvilUIHandler.post(anvilRenderRunnable);
+        }
+    }
+
+    /** Returns the number of mounts waiting for a dirty pass */
+    static int dirtyMountCount() {
+        return dirtyMounts.size();
+    }
+
+    private static void endRegistryIteration() {
+        if (--registryIterations > 0) {
             return;
         }
-        Set<Mount> set = new HashSet<>();
-        set.addAll(mounts.values());
-        for (Mount m : set) {
-            render(m);
+        int j = 0;
+        for (int i = 0; i < registry.size(); i++) {
+            Mount m = registry.get(i);
+            if (m != null) {
+                registry.set(j++, m);
+            }
+        }
+        while (registry.size() > j) {
+            registry.remove(registry.size() - 1);
+        }
+    }
+
+    /** Adds a new mount to the registry, replacing the previous mount of the same view */
+    private static void register(View v, Mount m) {
+        for (ViewParent p = v.getParent(); p instanceof View; p = p.getParent()) {
+            Mount parent = mountOf((View) p);
+            if (parent != null) {
+                m.parent = parent;
+                m.depth = parent.depth + 1;
+                break;
+            }
+        }
+        Mount old;
+        synchronized (mounts) {
+            old = mounts.put(v, m);
+        }
+        int i = old != null ? registry.indexOf(old) : -1;
+        if (old != null) {
+            for (int j = 0; j < registry.size(); j++) {
+                Mount nested = registry.get(j);
+                if (nested != null && nested.parent == old) {
+                    nested.parent = m;
+                }
+            }
+        }
+        if (i >= 0 && old.depth == m.depth) {
+            registry.set(i, m);
+            return;
+        }
+        if (i >= 0) {
+            unregister(old);
+        }
+        int position = registry.size();
+        while (position > 0 && (registry.get(position - 1) == null ||
+                registry.get(position - 1).depth > m.depth)) {
+            position--;
+        }
+        registry.add(position, m);
+    }
+
+    private static void unregister(Mount m) {
+        int i = registry.indexOf(m);
+        if (i < 0) {
+            return;
+        }
+        if (registryIterations > 0) {
+            registry.set(i, null);
+        } else {
+            registry.remove(i);
+        }
+    }
+
+    private static void renderPass(int passes) {
+        if ((passes & PASS_FULL) != 0) {
+            renderAll();
+        } else if ((passes & PASS_DIRTY) != 0) {
+            renderDirty();
+        }
+    }
+
+    private static void requestPass(int pass) {
+        boolean uiThread = Looper.myLooper() == Looper.getMainLooper();
+        if (uiThread && batchDepth > 0) {
+            batchPasses |= pass;
+            return;
+        }
+        if (renderPolicy == RENDER_ON_FRAME) {
+            int prev;
+            do {
+                prev = framePasses.get();
+            } while (!framePasses.compareAndSet(prev, prev | pass));
+            // Only the first request since the last frame has to schedule one
+            if (prev == 0) {
+                if (uiThread && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                    FrameRenderer.INSTANCE.schedule();
+                } else {
+                    uiHandler().post(anvilFrameRunnable);
+                }
+            }
+            return;
+        }
+        // If Anvil.render() is called on a non-UI thread, use UI Handler
+        if (!uiThread) {
+            Handler handler = uiHandler();
+            if ((pass & PASS_FULL) != 0) {
+                handler.removeCallbacks(anvilRenderRunnable);
+                handler.removeCallbacks(anvilRenderDirtyRunnable);
+                handler.post(anvilRenderRunnable);
+            } else {
+                handler.removeCallbacks(anvilRenderDirtyRunnable);
+                handler.post(anvilRenderDirtyRunnable);
+            }
+            return;
+        }
+        renderPass(pass);
+    }
+
+    private static Handler uiHandler() {
+        synchronized (Anvil.class) {
+            if (anvilUIHandler == null) {
+                anvilUIHandler = new Handler(Looper.getMainLooper());
+            }
+            return anvilUIHandler;
         }
     }
 
@@ -143,8 +752,8 @@ public final class Anvil {
      */
     public static <T extends View> T mount(T v, Renderable r) {
         Mount m = new Mount(v, r);
-        mounts.put(v, m);
-        render(v);
+        register(v, m);
+        render(m);
         return v;
     }
 
@@ -158,21 +767,51 @@ public final class Anvil {
     }
 
     public static void unmount(View v, boolean removeChildren) {
-        Mount m = mounts.get(v);
+        Mount m;
+        synchronized (mounts) {
+            m = mounts.remove(v);
+        }
         if (m != null) {
-            mounts.remove(v);
-            if (v instanceof ViewGroup) {
+            m.dirty.set(false);
+            registryIterations++;
+            try {
+                unregister(m);
+                // Only mounts nested deeper than this one may belong to it. Mounts
+                // without a parent link have been mounted before their parent
+                // or outside of the hierarchy, their views are looked up instead.
+                for (int i = 0; i < registry.size(); i++) {
+                    Mount nested = registry.get(i);
+                    if (nested == null) {
+                        continue;
+                    }
+                    View nestedView = nested.rootView.get();
+                    if (nested.depth > m.depth && nested.isNestedIn(m) ||
+                            nested.parent == null && nestedView != null && isDescendant(nestedView, v)) {
+                        if (nestedView != null) {
+                            unmount(nestedView);
+                        } else {
+                            registry.set(i, null);
+                        }
+                    }
+                }
+            } finally {
+                endRegistryIteration();
+            }
+            if (removeChildren && v instanceof ViewGroup) {
                 ViewGroup viewGroup = (ViewGroup) v;
+                viewGroup.removeViews(0, viewGroup.getChildCount());
+            }
+        }
+    }
 
-                int childCount = viewGroup.getChildCount();
-                for (int i = 0; i < childCount; i++) {
-                    unmount(viewGroup.getChildAt(i));
-                }
-                if (removeChildren) {
-                    viewGroup.removeViews(0, childCount);
-                }
+    /** Returns true if the view is inside of the given ancestor */
+    private static boolean isDescendant(View v, View ancestor) {
+        for (ViewParent p = v.getParent(); p instanceof View; p = p.getParent()) {
+            if (p == ancestor) {
+                return true;
             }
         }
+        return false;
     }
 
     /**
@@ -181,9 +820,19 @@ public final class Anvil {
      * @return current mount point
      */
     static Mount currentMount() {
+        Thread t = Thread.currentThread();
+        if (t instanceof RenderWorker) {
+            return ((RenderWorker) t).mount;
+        }
         return currentMount;
     }
 
+    /** Returns the number of views the current renderable has declared in its mount root so far */
+    static int rootChildCount() {
+        Mount m = currentMount();
+        return m != null ? m.iterator.rootChildCount() : 0;
+    }
+
     /**
      * Returns currently rendered View. It allows to access the real view from
      * inside the Renderable.
@@ -191,18 +840,101 @@ public final class Anvil {
      */
     @SuppressWarnings("unchecked")
     public static <T extends View> T currentView() {
-        if (currentMount == null) {
+        Mount m = currentMount();
+        if (m == null) {
             return null;
         }
-        return (T) currentMount.iterator.currentView();
+        return (T) m.iterator.currentView();
     }
 
     public static void render(View v) {
-        Mount m = mounts.get(v);
+        Mount m = mountOf(v);
         if (m == null) {
             return;
         }
-        render(m);
+        dispatch(m);
+    }
+
+    /**
+     * Suspends rendering of the renderable mounted into the given view and
+     * of the mounts nested in it, e.g. when the view can't be seen because
+     * its activity is stopped or it is hidden. Render requests only mark a
+     * suspended mount as missed, it catches up with a single render when it
+     * is resumed. Must be called from the UI thread.
+     * @param v a mount point to suspend
+     */
+    public static void suspend(View v) {
+        Mount m = mountOf(v);
+        if (m != null) {
+            m.suspended = true;
+        }
+    }
+
+    /** Returns true if the mount point has been suspended with {@code suspend()} */
+    static boolean isSuspended(View v) {
+        Mount m = mountOf(v);
+        return m != null && m.suspended;
+    }
+
+    /**
+     * Resumes rendering of a suspended mount point. If it or its nested
+     * mounts have missed render requests, they are rendered right away.
+     * Must be called from the UI thread.
+     * @param v a mount point to resume
+     */
+    public static void resume(View v) {
+        Mount m = mountOf(v);
+        if (m == null || !m.suspended) {
+            return;
+        }
+        m.suspended = false;
+        if (m.isSuspended()) {
+            // An ancestor mount is still suspended, it will catch up with this one
+            return;
+        }
+        if (m.missed) {
+            m.missed = false;
+            dispatch(m);
+        }
+        registryIterations++;
+        try {
+            for (int i = 0; i < registry.size(); i++) {
+                Mount nested = registry.get(i);
+                if (nested != null && nested.missed && nested.isNestedIn(m) && !nested.isSuspended()) {
+                    nested.missed = false;
+                    dispatch(nested);
+                }
+            }
+        } finally {
+            endRegistryIteration();
+        }
+    }
+
+    /** Renders a mounted renderable on the UI thread, or on a render worker
+     * if background rendering is enabled */
+    private static void dispatch(Mount m) {
+        if (m.isSuspended()) {
+            m.missed = true;
+            m.dirty.set(false);
+            m.epoch = renderEpoch;
+            return;
+        }
+        ExecutorService executor = renderExecutor;
+        if (executor != null) {
+            m.dirty.set(false);
+            m.epoch = renderEpoch;
+            if (m.backgroundRequests.getAndIncrement() == 0) {
+                try {
+                    executor.execute(m.backgroundRender);
+                } catch (RejectedExecutionException e) {
+                    // Background rendering has been disabled in the meantime
+                    m.backgroundRequests.set(0);
+                    render(m);
+                }
+            }
+        } else {
+            render(m);
+        }
     }
 
     static void render(Mount m) {
@@ -210,151 +942,930 @@ public final class Anvil {
             return;
         }
         m.lock = true;
+        m.dirty.set(false);
+        m.missed = false;
+        m.epoch = renderEpoch;
+        // Background renders can't rely on their last log any more
+        m.log = null;
         Mount prev = currentMount;
         currentMount = m;
-        m.iterator.start();
-        if (m.renderable != null) {
-            m.renderable.view();
+        try {
+            m.iterator.start();
+            if (m.renderable != null) {
+                m.renderable.view();
+            }
+            m.iterator.end();
+        } finally {
+            // A renderable has thrown, the next render starts from the root again
+            m.iterator.abort();
+            currentMount = prev;
+            m.lock = false;
+        }
+    }
+
+    private static volatile ExecutorService renderExecutor = null;
+    private static ExecutorService prepareExecutor = null;
+
+    private static ExecutorService newWorkerPool(int threads) {
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                return new RenderWorker(r);
+            }
+        });
+    }
+
+    /**
+     * Enables or disables background rendering. When enabled, renderables
+     * of mounted views are executed on worker threads, independent mounts in
+     * parallel. Only the changes to the views are applied on the UI thread.
+     * The first render of a mount still happens synchronously in
+     * {@code mount()}.
+     *
+     * Renderables rendered in background must only declare views and
+     * attributes, {@code Anvil.currentView()} returns the mount point there.
+     * @param enabled true to execute renderables on worker threads
+     */
+    public static void setBackgroundRendering(boolean enabled) {
+        synchronized (Anvil.class) {
+            if (enabled && renderExecutor == null) {
+                int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+                renderExecutor = newWorkerPool(threads);
+            } else if (!enabled && renderExecutor != null) {
+                renderExecutor.shutdown();
+                renderExecutor = null;
+            }
+        }
+    }
+
+    /** Thread of the background rendering pool, keeps the mount it is currently
+     * recording or preparing, and the stores of the views it's preparing */
+    final static class RenderWorker extends Thread {
+        Mount mount;
+        Map<View, AttrStore> stores;
+
+        RenderWorker(Runnable r) {
+            super(r, "anvil-render");
+            setDaemon(true);
+            setPriority(Thread.NORM_PRIORITY - 1);
+        }
+    }
+
+    /**
+     * Starts building the views of the renderable on a worker thread, so that
+     * reflective construction, inflation and the first application of all
+     * attributes don't happen on the UI thread. The result can be mounted
+     * into a view group later, see {@code Prepared.mount()}.
+     * @param c context to create views with
+     * @param r renderable to prepare
+     * @return a handle to the views being prepared
+     */
+    public static Prepared prepareAsync(Context c, Renderable r) {
+        return prepareAsync(c, FrameLayout.class, r);
+    }
+
+    /**
+     * Starts building the views of the renderable on a worker thread inside
+     * of a view group of the given class, so that the top-level views get
+     * layout params of the view group the renderable will be mounted into.
+     * @param c context to create views with
+     * @param hostClass class of the view group the views will be mounted into
+     * @param r renderable to prepare
+     * @return a handle to the views being prepared
+     */
+    public static Prepared prepareAsync(Context c, Class<? extends ViewGroup> hostClass, Renderable r) {
+        Prepared p = new Prepared(c, hostClass, r);
+        synchronized (Anvil.class) {
+            if (prepareExecutor == null) {
+                prepareExecutor = newWorkerPool(1);
+            }
+            prepareExecutor.execute(p);
+        }
+        return p;
+    }
+
+    /** Views of a renderable built on a worker thread and not yet attached */
+    public final static class Prepared implements Runnable {
+        private final Context context;
+        private final Class<? extends ViewGroup> hostClass;
+        private final Renderable renderable;
+        private final Map<View, AttrStore> stores = new WeakHashMap<>();
+        private final AtomicBoolean claimed = new AtomicBoolean(false);
+        private volatile ViewGroup host;
+
+        private Prepared(Context c, Class<? extends ViewGroup> hostClass, Renderable r) {
+            context = c;
+            this.hostClass = hostClass;
+            renderable = r;
+        }
+
+        /** Returns true if the views have been built and can be adopted */
+        public boolean isReady() {
+            return host != null;
+        }
+
+        /**
+         * Mounts the renderable into the given view group, which is assumed to
+         * be empty. The prepared views are adopted only if they are ready and
+         * have been created with the context of the view group, as theme and
+         * resources come from the context. Otherwise preparation is abandoned
+         * and the renderable is mounted synchronously. If the view group is of
+         * another class than the prepared host, the adopted views keep their
+         * instances but all their attributes are applied again, so that they
+         * get layout params of the actual view group. Must be called from the
+         * UI thread.
+         * @param v a view group to mount the renderable into
+         */
+        public <T extends ViewGroup> T mount(T v) {
+            ViewGroup prepared = host;
+            if (!claimed.compareAndSet(false, true) || prepared == null || context != v.getContext()) {
+                host = null;
+                return Anvil.mount(v, renderable);
+            }
+            host = null;
+            stores.remove(prepared);
+            Anvil.stores.putAll(stores);
+            // Layout params may have been built for another class of view group, then
+            // the attributes of the top-level views are applied again for v
+            boolean sameHost = prepared.getClass().equals(v.getClass());
+            while (prepared.getChildCount() > 0) {
+                View child = prepared.getChildAt(0);
+                prepared.removeView(child);
+                v.addView(child, v.getChildCount());
+                AttrStore s = stores.get(child);
+                if (s != null && !sameHost) {
+                    s.clearValues();
+                }
+            }
+            Mount m = new Mount(v, renderable);
+            register(v, m);
+            // Also catches up with the state changes since the preparation has started
+            render(m);
+            return v;
+        }
+
+        public void run() {
+            if (claimed.get()) {
+                return;
+            }
+            RenderWorker worker = (RenderWorker) Thread.currentThread();
+            ViewGroup root = newHost();
+            Mount m = new Mount(root, renderable);
+            m.detached = true;
+            worker.mount = m;
+            worker.stores = stores;
+            try {
+                m.iterator.start();
+                if (renderable != null) {
+                    renderable.view();
+                }
+                m.iterator.end();
+                host = root;
+            } catch (RuntimeException e) {
+                // Mounting synchronously will report the error
+            } finally {
+                worker.mount = null;
+                worker.stores = null;
+            }
+        }
+
+        private ViewGroup newHost() {
+            for (int i = 0; i < viewFactories.size(); i++) {
+                View v = viewFactories.get(i).fromClass(context, hostClass);
+                if (v instanceof ViewGroup) {
+                    return (ViewGroup) v;
+                }
+            }
+            return new FrameLayout(context);
+        }
+    }
+
+    /**
+     * Executes the renderable on the current render worker, recording what it
+     * declares. The log is compared with the one of the previous background
+     * render: if only attribute values have changed they are applied as a
+     * patch, otherwise the whole log is replayed on the UI thread.
+     */
+    private static void recordInBackground(final Mount m) {
+        RenderWorker worker = (RenderWorker) Thread.currentThread();
+        final RenderLog prev = m.log;
+        final RenderLog log = new RenderLog(prev != null ? prev.size() : 0);
+        Mount recorder = m.recorder;
+        if (recorder == null) {
+            // Background renders of a mount are sequential, so it's created once
+            recorder = m.recorder = new Mount(m.rootView, m.renderable);
         }
+        recorder.iterator.log = log;
+        worker.mount = recorder;
+        try {
+            if (m.renderable != null) {
+                m.renderable.view();
+            }
+        } finally {
+            worker.mount = null;
+            recorder.iterator.log = null;
+        }
+        m.log = log;
+        uiHandler().post(new Runnable() {
+            public void run() {
+                applyLog(m, prev, log);
+            }
+        });
+    }
+
+    /** Applies a background render. Logs are compared on the UI thread, since
+     * equals() of some attribute values has side effects, e.g. AnimatorPair
+     * cancels the previous animator. */
+    private static void applyLog(Mount m, RenderLog prev, RenderLog log) {
+        if (prev != null && log.sameStructure(prev)) {
+            int[] patch = log.diff(prev);
+            if (patch[0] > 0) {
+                applyPatch(m, log, patch);
+            }
+        } else {
+            replay(m, log);
+        }
+    }
+
+    private static void replay(Mount m, RenderLog log) {
+        View root = m.rootView.get();
+        if (root == null || mountOf(root) != m || m.lock) {
+            return;
+        }
+        m.lock = true;
+        Mount prev = currentMount;
+        currentMount = m;
+        m.iterator.start();
+        replayNodes = log.replay(m.iterator, replayNodes);
         m.iterator.end();
+        m.keepNodes(replayNodes, log.nodeCount());
+        Arrays.fill(replayNodes, null);
         currentMount = prev;
         m.lock = false;
     }
 
+    private static void applyPatch(Mount m, RenderLog log, int[] patch) {
+        View root = m.rootView.get();
+        if (root == null || mountOf(root) != m || m.lock) {
+            return;
+        }
+        if (m.nodes == null || m.nodes[0].get() == null) {
+            // The tree has been rendered on the UI thread only, so views are not known by ordinals
+            replay(m, log);
+            return;
+        }
+        Mount prev = currentMount;
+        currentMount = m;
+        for (int k = 0; k < patch[0]; k++) {
+            int node = patch[k * 2 + 1];
+            View v = node < m.nodes.length ? m.nodes[node].get() : null;
+            if (v != null) {
+                m.iterator.push(v, store(v));
+                log.applyAttr(m.iterator, patch[k * 2 + 2]);
+                m.iterator.commitLayoutParams();
+                m.iterator.pop();
+            }
+        }
+        currentMount = prev;
+    }
+
+    /** Views of the log being replayed by their ordinals, UI thread only */
+    private static View[] replayNodes = new View[16];
+
     /** Mount describes a mount point. Mount point is a Renderable function
      * attached to some ViewGroup. Mount point keeps track of the virtual layout
      * declared by Renderable */
     static class Mount {
         private boolean lock = false;
+        private final AtomicBoolean dirty = new AtomicBoolean(false);
 
         private final WeakReference<View> rootView;
         private final Renderable renderable;
 
         final Iterator iterator = new Iterator();
 
+        // Background rendering state: pending requests, the recording
+        // counterpart of this mount, created by the first background render,
+        // the last recorded log and the views of the last replayed log by
+        // their ordinals. Views are held weakly, the mount must not keep
+        // its tree alive.
+        private final AtomicInteger backgroundRequests = new AtomicInteger(0);
+        private volatile RenderLog log;
+        private WeakReference<View>[] nodes;
+        private Mount recorder;
+        // True if the mount point is not attached yet and being built on a worker
+        private boolean detached;
+
+        // Nearest mount of an ancestor view and the number of such mounts above
+        private Mount parent;
+        private int depth;
+        // Render epoch of the last render, see renderAll()
+        private int epoch;
+        // Suspended mounts skip renders, remembering that they have missed some
+        private boolean suspended;
+        private boolean missed;
+
+        private final Runnable backgroundRender = new Runnable() {
+            public void run() {
+                int requests;
+                do {
+                    requests = backgroundRequests.get();
+                    try {
+                        recordInBackground(Mount.this);
+                    } catch (final RuntimeException e) {
+                        // Don't swallow errors of renderables, rethrow them on the UI thread
+                        backgroundRequests.set(0);
+                        uiHandler().post(new Runnable() {
+                            public void run() {
+                                throw e;
+                            }
+                        });
+                        return;
+                    }
+                } while (backgroundRequests.addAndGet(-requests) > 0);
+            }
+        };
+
         Mount(View v, Renderable r) {
             this.renderable = r;
             this.rootView = new WeakReference<>(v);
         }
 
+        /** Recording counterpart of a mount, its iterator only writes a render log */
+        private Mount(WeakReference<View> rootView, Renderable r) {
+            this.renderable = r;
+            this.rootView = rootView;
+        }
+
+        /** Remembers the replayed views by their ordinals, reusing the references of unchanged nodes */
+        @SuppressWarnings("unchecked")
+        void keepNodes(View[] views, int count) {
+            if (nodes == null || nodes.length != count) {
+                WeakReference<View>[] prev = nodes;
+                nodes = new WeakReference[count];
+                if (prev != null) {
+                    System.arraycopy(prev, 0, nodes, 0, Math.min(prev.length, count));
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                if (nodes[i] == null || nodes[i].get() != views[i]) {
+                    nodes[i] = new WeakReference<>(views[i]);
+                }
+            }
+        }
+
+        /** Returns true if this mount or any of the mounts it's nested in is suspended */
+        boolean isSuspended() {
+            for (Mount m = this; m != null; m = m.parent) {
+                if (m.suspended) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isNestedIn(Mount m) {
+            for (Mount p = parent; p != null; p = p.parent) {
+                if (p == m) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Marks this mount as requiring a render. Lock-free, so it's safe to
+         * call from any thread. Returns false if the mount was already dirty.
+         */
+        boolean markDirty() {
+            if (dirty.compareAndSet(false, true)) {
+                dirtyMounts.offer(this);
+                return true;
+            }
+            return false;
+        }
+
         @SuppressLint("Assert")
         class Iterator {
-            Deque<View> views = new ArrayDeque<>();
-            Deque<Integer> indices = new ArrayDeque<>();
+            // Traversal stacks, one entry per nesting level. They are reused
+            // across renders, so that rendering an unchanged layout doesn't
+            // allocate. View and store are null below a detached root.
+            private View[] views = new View[16];
+            private AttrStore[] stores = new AttrStore[16];
+            private int[] indices = new int[16];
+            // Number of memo() blocks started on each level
+            private int[] memoOrdinals = new int[16];
+            // Layout params changed by the attributes on each level, and the
+            // params object replacing the current one, if any
+            private boolean[] paramsChanged = new boolean[16];
+            private ViewGroup.LayoutParams[] pendingParams = new ViewGroup.LayoutParams[16];
+            // True once the shadow children of the level are checked against the view group
+            private boolean[] synced = new boolean[16];
+            private int depth = -1;
+
+            // memo() blocks being executed, null for blocks below a detached root
+            private AttrStore.Memo[] memos = new AttrStore.Memo[16];
+            private int memoDepth = -1;
+
+            private void push(View v, AttrStore s) {
+                depth++;
+                if (depth == views.length) {
+                    views = Arrays.copyOf(views, depth * 2);
+                    stores = Arrays.copyOf(stores, depth * 2);
+                    indices = Arrays.copyOf(indices, depth * 2);
+                    memoOrdinals = Arrays.copyOf(memoOrdinals, depth * 2);
+                    paramsChanged = Arrays.copyOf(paramsChanged, depth * 2);
+                    pendingParams = Arrays.copyOf(pendingParams, depth * 2);
+                    synced = Arrays.copyOf(synced, depth * 2);
+                }
+                views[depth] = v;
+                stores[depth] = s;
+                indices[depth] = 0;
+                memoOrdinals[depth] = 0;
+                paramsChanged[depth] = false;
+                synced[depth] = false;
+            }
+
+            private void pop() {
+                views[depth] = null;
+                stores[depth] = null;
+                pendingParams[depth] = null;
+                depth--;
+            }
+
+            /** Drops the state of an unfinished render */
+            private void abort() {
+                while (depth >= 0) {
+                    pop();
+                }
+                while (memoDepth >= 0) {
+                    memos[memoDepth--] = null;
+                }
+            }
+
+            /** Returns true if the view is the one being rendered, then its
+             * layout params will be committed when its node ends */
+            private boolean deferLayoutParams(View v) {
+                if (log != null || depth < 0 || views[depth] != v) {
+                    return false;
+                }
+                paramsChanged[depth] = true;
+                return true;
+            }
+
+            private void commitLayoutParams() {
+                if (paramsChanged[depth]) {
+                    paramsChanged[depth] = false;
+                    View v = views[depth];
+                    ViewGroup.LayoutParams p = pendingParams[depth];
+                    v.setLayoutParams(p != null ? p : v.getLayoutParams());
+                }
+            }
+
+            // Key of the next view to be started, see key()
+            private Object nextKey;
+
+            // Non-null if the iterator records a render log instead of updating views
+            RenderLog log;
 
             private void start() {
-                assert views.size() == 0;
-                assert indices.size() == 0;
-                indices.push(0);
+                assert depth == -1;
+                nextKey = null;
+                memoDepth = -1;
                 View v = rootView.get();
-                if (v != null) {
-                    views.push(v);
-                }
+                push(v, v != null ? store(v) : null);
             }
 
             void start(Class<? extends View> c, int layoutId) {
-                int i = indices.peek();
-                View parentView = views.peek();
+                if (log != null) {
+                    log.start(c, layoutId);
+                    return;
+                }
+                Object key = nextKey;
+                nextKey = null;
+                View parentView = views[depth];
                 if (parentView == null) {
+                    push(null, null);
                     return;
                 }
                 if (!(parentView instanceof ViewGroup)) {
                     throw new RuntimeException("child views are allowed only inside view groups");
                 }
+                int i = indices[depth];
                 ViewGroup vg = (ViewGroup) parentView;
+                AttrStore shadow = children();
                 View v = null;
-                if (i < vg.getChildCount()) {
-                    v = vg.getChildAt(i);
+                AttrStore s = null;
+                if (i < shadow.childCount) {
+                    s = shadow.children[i];
+                    v = s != null ? s.view.get() : null;
+                    if (v == null || v.getParent() != vg) {
+                        // Foreign view, or children have been changed outside of Anvil
+                        v = vg.getChildAt(i);
+                        if (!shadow.isChild(i, v)) {
+                            shadow.rebuildChildren(vg);
+                        }
+                        s = v != null && shadow.isChild(i, v) ? shadow.children[i] : null;
+                    }
+                }
+                if (key != null && (s == null || !key.equals(s.key))) {
+                    int j = indexOfKey(shadow, key, i + 1);
+                    if (j >= 0) {
+                        // Keyed view has been rendered further down, move it into place
+                        s = shadow.children[j];
+                        v = s.view.get();
+                        vg.removeView(v);
+                        vg.addView(v, i);
+                        shadow.removeChildren(j, 1);
+                        shadow.addChild(i, s);
+                    } else if (s != null && s.key != null) {
+                        // Current view belongs to another key, keep it for the following siblings
+                        v = null;
+                        s = null;
+                    }
                 }
                 Context context = rootView.get().getContext();
-                if (c != null && (v == null || !v.getClass().equals(c))) {
-                    vg.removeView(v);
-                    for (ViewFactory vf : viewFactories) {
-                        v = vf.fromClass(context, c);
+                // Class of a rendered view is taken from its store, only foreign views are looked at
+                if (c != null && (v == null || (s != null ? s.viewClass != c : !v.getClass().equals(c)))) {
+                    removeChild(vg, shadow, i, v, s);
+                    v = viewPool != null && !detached ? viewPool.take(context, c) : null;
+                    if (v != null) {
+                        s = store(v);
+                        vg.addView(v, i);
+                        shadow.addChild(i, s);
+                    }
+                    for (int j = 0; v == null && j < viewFactories.size(); j++) {
+                        v = viewFactories.get(j).fromClass(context, c);
                         if (v != null) {
-                            set(v, "_anvil", 1);
+                            s = store(v);
+                            s.anvil = true;
                             vg.addView(v, i);
+                            shadow.addChild(i, s);
                             break;
                         }
                     }
-                } else if (c == null && (v == null || !Integer.valueOf(layoutId).equals(get(v, "_layoutId")))) {
-                    vg.removeView(v);
-                    for (ViewFactory vf : viewFactories) {
-                        v = vf.fromXml(vg, layoutId);
+                } else if (c == null && (v == null || s == null || s.layoutId != layoutId)) {
+                    removeChild(vg, shadow, i, v, s);
+                    for (int j = 0; j < viewFactories.size(); j++) {
+                        v = viewFactories.get(j).fromXml(vg, layoutId);
                         if (v != null) {
-                            set(v, "_anvil", 1);
-                            set(v, "_layoutId", layoutId);
+                            s = store(v);
+                            s.anvil = true;
+                            s.layoutId = layoutId;
                             vg.addView(v, i);
+                            shadow.addChild(i, s);
                             break;
                         }
                     }
                 }
                 assert v != null;
-                views.push(v);
-                indices.push(indices.pop() + 1);
-                indices.push(0);
+                if (s == null) {
+                    // A view added outside of Anvil is now rendered by it
+                    s = store(v);
+                    shadow.children[i] = s;
+                }
+                s.key = key;
+                indices[depth] = i + 1;
+                push(v, s);
+            }
+
+            void key(Object key) {
+                if (log != null) {
+                    log.key(key);
+                    return;
+                }
+                nextKey = key;
+            }
+
+            private int indexOfKey(AttrStore shadow, Object key, int from) {
+                for (int j = from; j < shadow.childCount; j++) {
+                    AttrStore s = shadow.children[j];
+                    if (s != null && s.anvil && key.equals(s.key)) {
+                        return j;
+                    }
+                }
+                return -1;
+            }
+
+            /** Returns the store of the current view group, with its shadow
+             * children checked against the view group once per render */
+            private AttrStore children() {
+                AttrStore s = stores[depth];
+                if (!synced[depth]) {
+                    s.syncChildren((ViewGroup) views[depth]);
+                    synced[depth] = true;
+                }
+                return s;
+            }
+
+            private void removeChild(ViewGroup vg, AttrStore shadow, int i, View v, AttrStore s) {
+                if (v != null) {
+                    vg.removeView(v);
+                    shadow.removeChildren(i, 1);
+                    recycle(v, s);
+                }
+            }
+
+            /** Children of a view mounted separately belong to that mount */
+            private boolean ownsChildren(View v) {
+                Mount m = mountOf(v);
+                return m == null || m == Mount.this;
             }
 
             void end() {
-                int index = indices.peek();
-                View v = views.peek();
+                if (log != null) {
+                    log.end();
+                    return;
+                }
+                nextKey = null;
+                commitLayoutParams();
+                int index = indices[depth];
+                View v = views[depth];
                 if (v != null && v instanceof ViewGroup &&
-                        get(v, "_layoutId") == null &&
-                        (mounts.get(v) == null || mounts.get(v) == Mount.this)) {
-                    ViewGroup vg = (ViewGroup) v;
-                    if (index < vg.getChildCount()) {
-                        removeNonAnvilViews(vg, index, vg.getChildCount() - index);
+                        stores[depth].layoutId == 0 && (detached || ownsChildren(v))) {
+                    AttrStore shadow = children();
+                    if (index < shadow.childCount) {
+                        checkChildren((ViewGroup) v, shadow, index);
+                    }
+                    if (index < shadow.childCount) {
+                        removeNonAnvilViews((ViewGroup) v, shadow, index, shadow.childCount - index);
                     }
                 }
-                indices.pop();
-                if (v != null){
-                    views.pop();
+                pop();
+            }
+
+            /**
+             * Starts a memo() block with the given dependencies. Returns false
+             * if the dependencies are equal to the ones from the last render,
+             * then the child views of the block are skipped and the block
+             * must not be executed. Otherwise the block must be executed and
+             * followed by endMemo().
+             */
+            boolean beginMemo(Object[] deps) {
+                if (log != null) {
+                    // Unchanged values are filtered out when logs are compared
+                    return true;
+                }
+                int ordinal = memoOrdinals[depth]++;
+                AttrStore parent = stores[depth];
+                AttrStore.Memo m = null;
+                if (parent != null) {
+                    m = parent.memo(ordinal);
+                    int index = indices[depth];
+                    if (m.deps != null && m.start == index && Arrays.equals(m.deps, deps) &&
+                            index + m.count <= childCount()) {
+                        indices[depth] = index + m.count;
+                        memoOrdinals[depth] += m.nested;
+                        return false;
+                    }
+                    m.deps = null;
+                    m.start = index;
+                }
+                memoDepth++;
+                if (memoDepth == memos.length) {
+                    memos = Arrays.copyOf(memos, memoDepth * 2);
+                }
+                memos[memoDepth] = m;
+                if (m != null) {
+                    // Ordinal the nested blocks are counted from
+                    m.nested = memoOrdinals[depth];
+                    m.pending = deps;
+                }
+                return true;
+            }
+
+            private int childCount() {
+                return views[depth] instanceof ViewGroup ? children().childCount : 0;
+            }
+
+            void endMemo() {
+                if (log != null) {
+                    return;
+                }
+                AttrStore.Memo m = memos[memoDepth];
+                memos[memoDepth] = null;
+                memoDepth--;
+                if (m != null) {
+                    m.deps = m.pending;
+                    m.pending = null;
+                    m.count = indices[depth] - m.start;
+                    m.nested = memoOrdinals[depth] - m.nested;
                 }
             }
 
             <T> void attr(String name, T value) {
-                View currentView = views.peek();
+                attr(attrId(name), value);
+            }
+
+            @SuppressWarnings("unchecked")
+            <T> void attr(int id, T value) {
+                if (log != null) {
+                    log.attr(id, value);
+                    return;
+                }
+                View currentView = views[depth];
                 if (currentView == null) {
                     return;
                 }
-                @SuppressWarnings("unchecked")
-                T currentValue = (T) get(currentView, name);
+                AttrStore store = stores[depth];
+                T currentValue = (T) store.get(id);
+                if (value instanceof Bindable) {
+                    if (currentValue != value) {
+                        // Bound once, further changes are applied by the value itself
+                        store.put(id, value);
+                        ((Bindable) value).bind(store, id);
+                    }
+                    return;
+                }
                 if (currentValue == null || !currentValue.equals(value)) {
-                    for (AttributeSetter setter : attributeSetters) {
-                        if (setter.set(currentView, name, value, currentValue)) {
-                            set(currentView, name, value);
+                    if (currentValue instanceof Bindable) {
+                        // Unbind the previous value even if no setter accepts the new one
+                        store.put(id, null);
+                    }
+                    for (int i = 0; i < attributeSetters.size(); i++) {
+                        if (setBoxed(attributeSetters.get(i), currentView, id, value, currentValue)) {
+                            store.put(id, value);
                             return;
                         }
                     }
                 }
             }
 
-            private void removeNonAnvilViews(ViewGroup vg, int start, int count) {
-                final int end = start + count - 1;
+            void attrInt(int id, int value) {
+                if (log != null) {
+                    log.attrPrimitive(RenderLog.ATTR_INT, id, value);
+                    return;
+                }
+                AttrStore store = stores[depth];
+                if (store == null || store.samePrimitive(id, AttrStore.INT, value)) {
+                    return;
+                }
+                View v = views[depth];
+                for (int i = 0; i < attributeSetters.size(); i++) {
+                    AttributeSetter setter = attributeSetters.get(i);
+                    // Values rejected by the primitive entry point are passed boxed, see PrimitiveAttributeSetter
+                    boolean handled = setter instanceof PrimitiveAttributeSetter &&
+                            ((PrimitiveAttributeSetter) setter).setInt(v, id, value);
+                    if (!handled) {
+                        handled = setBoxed(setter, v, id, value, store.get(id));
+                    }
+                    if (handled) {
+                        store.putPrimitive(id, AttrStore.INT, value);
+                        return;
+                    }
+                }
+            }
 
-                for (int i = end; i >= start; i--) {
-                    View v = vg.getChildAt(i);
-                    if (get(v, "_anvil") != null) {
-                        vg.removeView(v);
+            void attrFloat(int id, float value) {
+                int bits = Float.floatToIntBits(value);
+                if (log != null) {
+                    log.attrPrimitive(RenderLog.ATTR_FLOAT, id, bits);
+                    return;
+                }
+                AttrStore store = stores[depth];
+                if (store == null || store.samePrimitive(id, AttrStore.FLOAT, bits)) {
+                    return;
+                }
+                View v = views[depth];
+                for (int i = 0; i < attributeSetters.size(); i++) {
+                    AttributeSetter setter = attributeSetters.get(i);
+                    // Values rejected by the primitive entry point are passed boxed, see PrimitiveAttributeSetter
+                    boolean handled = setter instanceof PrimitiveAttributeSetter &&
+                            ((PrimitiveAttributeSetter) setter).setFloat(v, id, value);
+                    if (!handled) {
+                        handled = setBoxed(setter, v, id, value, store.get(id));
+                    }
+                    if (handled) {
+                        store.putPrimitive(id, AttrStore.FLOAT, bits);
+                        return;
                     }
                 }
             }
 
+            void attrBoolean(int id, boolean value) {
+                if (log != null) {
+                    log.attrPrimitive(RenderLog.ATTR_BOOLEAN, id, value ? 1 : 0);
+                    return;
+                }
+                AttrStore store = stores[depth];
+                if (store == null || store.samePrimitive(id, AttrStore.BOOLEAN, value ? 1 : 0)) {
+                    return;
+                }
+                View v = views[depth];
+                for (int i = 0; i < attributeSetters.size(); i++) {
+                    AttributeSetter setter = attributeSetters.get(i);
+                    // Values rejected by the primitive entry point are passed boxed, see PrimitiveAttributeSetter
+                    boolean handled = setter instanceof PrimitiveAttributeSetter &&
+                            ((PrimitiveAttributeSetter) setter).setBoolean(v, id, value);
+                    if (!handled) {
+                        handled = setBoxed(setter, v, id, value, store.get(id));
+                    }
+                    if (handled) {
+                        store.putPrimitive(id, AttrStore.BOOLEAN, value ? 1 : 0);
+                        return;
+                    }
+                }
+            }
+
+            void attrLong(int id, long value) {
+                if (log != null) {
+                    log.attrPrimitive(RenderLog.ATTR_LONG, id, value);
+                    return;
+                }
+                AttrStore store = stores[depth];
+                if (store == null || store.samePrimitive(id, AttrStore.LONG, value)) {
+                    return;
+                }
+                View v = views[depth];
+                for (int i = 0; i < attributeSetters.size(); i++) {
+                    AttributeSetter setter = attributeSetters.get(i);
+                    // Values rejected by the primitive entry point are passed boxed, see PrimitiveAttributeSetter
+                    boolean handled = setter instanceof PrimitiveAttributeSetter &&
+                            ((PrimitiveAttributeSetter) setter).setLong(v, id, value);
+                    if (!handled) {
+                        handled = setBoxed(setter, v, id, value, store.get(id));
+                    }
+                    if (handled) {
+                        store.putPrimitive(id, AttrStore.LONG, value);
+                        return;
+                    }
+                }
+            }
+
+            /** Returns the cached value of the attribute of the current view, null while recording */
+            Object cachedAttr(int id) {
+                AttrStore store = log == null ? stores[depth] : null;
+                return store != null ? store.get(id) : null;
+            }
+
+            /** Rebuilds the shadow if the children from the given index have been
+             * replaced outside of Anvil, without changing their number */
+            private void checkChildren(ViewGroup vg, AttrStore shadow, int from) {
+                for (int i = from; i < shadow.childCount; i++) {
+                    if (!shadow.isChild(i, vg.getChildAt(i))) {
+                        shadow.rebuildChildren(vg);
+                        return;
+                    }
+                }
+            }
+
+            /** Removes Anvil-owned views in the given range, adjacent views are removed at once */
+            private void removeNonAnvilViews(ViewGroup vg, AttrStore shadow, int start, int count) {
+                int i = start + count - 1;
+                while (i >= start) {
+                    int last = i;
+                    while (i >= start && shadow.isAnvilChild(i)) {
+                        recycle(shadow.children[i].view.get(), shadow.children[i]);
+                        i--;
+                    }
+                    if (i < last) {
+                        vg.removeViews(i + 1, last - i);
+                        shadow.removeChildren(i + 1, last - i);
+                    } else {
+                        i--;
+                    }
+                }
+            }
+
+            /** Offers a view removed from its parent to the view pool, if there is one */
+            private void recycle(View v, AttrStore s) {
+                if (viewPool != null && !detached && v != null && s != null && s.anvil &&
+                        s.layoutId == 0 && mountOf(v) == null) {
+                    viewPool.release(v, s);
+                }
+            }
+
             public void skip() {
+                if (log != null) {
+                    log.skip();
+                    return;
+                }
                 int i;
-                ViewGroup vg = (ViewGroup) views.peek();
-                for (i = indices.pop(); i < vg.getChildCount(); i++) {
-                    View v = vg.getChildAt(i);
-                    if (get(v, "_anvil") != null) {
-                        indices.push(i);
-                        return;
+                AttrStore shadow = children();
+                ViewGroup vg = (ViewGroup) views[depth];
+                for (i = indices[depth]; i < shadow.childCount; i++) {
+                    if (!shadow.isChild(i, vg.getChildAt(i))) {
+                        shadow.rebuildChildren(vg);
+                    }
+                    if (shadow.isAnvilChild(i)) {
+                        break;
                     }
                 }
-                indices.push(i);
+                indices[depth] = i;
             }
 
             public View currentView() {
-                return views.peek();
+                if (log != null) {
+                    return rootView.get();
+                }
+                return depth < 0 ? null : views[depth];
+            }
+
+            /** Returns the number of views declared so far directly inside of the mount root */
+            int rootChildCount() {
+                if (log != null) {
+                    return log.rootCount();
+                }
+                return depth < 0 ? 0 : indices[0];
             }
         }
     }
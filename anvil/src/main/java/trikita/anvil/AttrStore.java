@@ -0,0 +1,265 @@
+package trikita.anvil;
+
+import android.text.TextWatcher;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * AttrStore keeps Anvil's per-view state: the markers describing how the view
+ * was created and the last rendered value of each attribute.
+ *
+ * Attribute values are kept in a small open-addressed table keyed by
+ * interned attribute ids (see {@code Anvil.attrId()}), so a lookup is a
+ * couple of int comparisons and there are no entry objects per attribute.
+ * Primitive values are kept unboxed as raw bits, their slot value is one of
+ * the type markers below.
+ */
+final class AttrStore {
+    private final static int INITIAL_CAPACITY = 8;
+
+    final static Object INT = new Object();
+    final static Object FLOAT = new Object();
+    final static Object BOOLEAN = new Object();
+    final static Object LONG = new Object();
+
+    /** True if the view has been created by Anvil and may be removed by it */
+    boolean anvil;
+    /** Layout resource the view has been inflated from, 0 for views created from class */
+    int layoutId;
+    /** True once the init() attribute has been called for the view */
+    boolean initialized;
+    /** Key the view has been rendered with, or null if it's matched by position */
+    Object key;
+    /** memo() blocks rendered directly inside of this view, by their order */
+    Memo[] memos;
+
+    /** View the store belongs to */
+    WeakReference<View> view;
+    /** Class of the view, so that reconciliation doesn't need to look at the view itself */
+    Class<?> viewClass;
+    /** Mount owning the view, cached by {@code Anvil.owner()} */
+    WeakReference<Anvil.Mount> owner;
+    /** Text watcher the DSL has added to the view, it stays added while the view is recycled */
+    WeakReference<TextWatcher> textWatcher;
+
+    // Shadow of the children of a view group as Anvil has left them: the
+    // stores of the child views by their index, so that reconciliation walks
+    // a flat array instead of looking stores up by views. Null until the
+    // children are reconciled for the first time.
+    AttrStore[] children;
+    int childCount;
+
+    // Keys are stored as id + 1, so that zero means an empty slot
+    private int[] keys;
+    private Object[] values;
+    // Raw bits of primitive values, allocated with the first primitive
+    private long[] bits;
+    private int size;
+
+    /** Returns the last value of the attribute, or null if it has never been set */
+    Object get(int id) {
+        int i = slot(id);
+        if (i < 0) {
+            return null;
+        }
+        Object value = values[i];
+        if (value == INT) {
+            return (int) bits[i];
+        } else if (value == FLOAT) {
+            return Float.intBitsToFloat((int) bits[i]);
+        } else if (value == BOOLEAN) {
+            return bits[i] != 0;
+        } else if (value == LONG) {
+            return bits[i];
+        }
+        return value;
+    }
+
+    void put(int id, Object value) {
+        values[insert(id)] = value;
+    }
+
+    /** Returns true if the attribute holds the primitive of the given type and bits */
+    boolean samePrimitive(int id, Object type, long value) {
+        int i = slot(id);
+        return i >= 0 && values[i] == type && bits[i] == value;
+    }
+
+    void putPrimitive(int id, Object type, long value) {
+        int i = insert(id);
+        if (bits == null) {
+            bits = new long[keys.length];
+        }
+        values[i] = type;
+        bits[i] = value;
+    }
+
+    /** Forgets all cached attribute values, the key and the init() marker,
+     * keeping the table for reuse */
+    void clear() {
+        initialized = false;
+        key = null;
+        memos = null;
+        owner = null;
+        clearValues();
+    }
+
+    /** Forgets cached attribute values only, so that all of them are applied again */
+    void clearValues() {
+        if (keys != null) {
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    /** Returns memo record for the given order of memo() block, creating it if needed */
+    Memo memo(int ordinal) {
+        if (memos == null) {
+            memos = new Memo[Math.max(4, ordinal + 1)];
+        } else if (ordinal >= memos.length) {
+            memos = Arrays.copyOf(memos, Math.max(memos.length * 2, ordinal + 1));
+        }
+        Memo m = memos[ordinal];
+        if (m == null) {
+            m = memos[ordinal] = new Memo();
+        }
+        return m;
+    }
+
+    /**
+     * Makes the shadow children mirror the children of the view group, if
+     * their number has been changed outside of Anvil. Returns true if the
+     * shadow has been rebuilt.
+     */
+    boolean syncChildren(ViewGroup vg) {
+        if (children != null && childCount == vg.getChildCount()) {
+            return false;
+        }
+        rebuildChildren(vg);
+        return true;
+    }
+
+    /**
+     * Rebuilds the shadow children from the children of the view group.
+     * Views Anvil doesn't know about get no store, their slots are null.
+     */
+    void rebuildChildren(ViewGroup vg) {
+        int count = vg.getChildCount();
+        if (children == null || children.length < count) {
+            children = new AttrStore[Math.max(4, count)];
+        } else if (count < childCount) {
+            Arrays.fill(children, count, childCount, null);
+        }
+        for (int i = 0; i < count; i++) {
+            children[i] = Anvil.peekStore(vg.getChildAt(i));
+        }
+        childCount = count;
+    }
+
+    /** Returns true if the shadow child at the given index matches the view */
+    boolean isChild(int i, View v) {
+        if (i >= childCount) {
+            return false;
+        }
+        AttrStore s = children[i];
+        return s != null ? s.view.get() == v : Anvil.peekStore(v) == null;
+    }
+
+    /** Returns true if the shadow child at the given index has been created by Anvil */
+    boolean isAnvilChild(int i) {
+        return children[i] != null && children[i].anvil;
+    }
+
+    void addChild(int i, AttrStore s) {
+        if (childCount == children.length) {
+            children = Arrays.copyOf(children, childCount * 2);
+        }
+        System.arraycopy(children, i, children, i + 1, childCount - i);
+        children[i] = s;
+        childCount++;
+    }
+
+    void removeChildren(int start, int count) {
+        System.arraycopy(children, start + count, children, start, childCount - start - count);
+        Arrays.fill(children, childCount - count, childCount, null);
+        childCount -= count;
+    }
+
+    /** Dependencies and the child views of a memo() block from the last render */
+    final static class Memo {
+        Object[] deps;
+        /** Dependencies of the block being executed, recorded once it completes */
+        Object[] pending;
+        /** Index of the first child view rendered by the block */
+        int start;
+        /** Number of child views rendered by the block */
+        int count;
+        /** Number of memo() blocks nested on the same level */
+        int nested;
+    }
+
+    private int slot(int id) {
+        if (keys == null) {
+            return -1;
+        }
+        int mask = keys.length - 1;
+        int key = id + 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            } else if (k == 0) {
+                return -1;
+            }
+        }
+    }
+
+    private int insert(int id) {
+        if (keys == null) {
+            keys = new int[INITIAL_CAPACITY];
+            values = new Object[INITIAL_CAPACITY];
+        } else if ((size + 1) * 4 > keys.length * 3) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int key = id + 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            } else if (k == 0) {
+                keys[i] = key;
+                size++;
+                return i;
+            }
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        long[] oldBits = bits;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        bits = oldBits == null ? null : new long[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int j = insert(oldKeys[i] - 1);
+                values[j] = oldValues[i];
+                if (oldBits != null) {
+                    bits[j] = oldBits[i];
+                }
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        // Attribute ids are dense small integers, spread them a bit
+        return key * 0x9E3779B9 >>> 16 ^ key;
+    }
+}
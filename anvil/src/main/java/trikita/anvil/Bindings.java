@@ -0,0 +1,69 @@
+package trikita.anvil;
+
+import android.view.View;
+
+import java.util.Arrays;
+
+/**
+ * Bindings keeps the view attributes a bindable value has been passed to,
+ * as pairs of stores and attribute ids. Views are referenced weakly through
+ * their stores. A binding is dropped once the view is gone or the attribute
+ * has been rendered with another value. UI thread only.
+ */
+final class Bindings {
+
+    private final Object value;
+    private AttrStore[] stores = new AttrStore[2];
+    private int[] ids = new int[2];
+    private int size;
+
+    Bindings(Object value) {
+        this.value = value;
+    }
+
+    /** Adds a binding, returns false if the attribute has been bound already */
+    boolean add(AttrStore s, int id) {
+        // Stale entries are dropped here as well, otherwise a value which is
+        // rebound without changing would keep the stores of all past views
+        compact();
+        for (int i = 0; i < size; i++) {
+            if (stores[i] == s && ids[i] == id) {
+                return false;
+            }
+        }
+        if (size == stores.length) {
+            stores = Arrays.copyOf(stores, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        stores[size] = s;
+        ids[size] = id;
+        size++;
+        return true;
+    }
+
+    /** Drops the stale bindings and returns the number of the remaining ones */
+    int compact() {
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            AttrStore s = stores[i];
+            if (s.view.get() == null || s.get(ids[i]) != value) {
+                continue;
+            }
+            stores[j] = s;
+            ids[j] = ids[i];
+            j++;
+        }
+        Arrays.fill(stores, j, size, null);
+        size = j;
+        return size;
+    }
+
+    /** Returns the view of the i-th binding, or null if it's gone since the last compact() */
+    View view(int i) {
+        return stores[i].view.get();
+    }
+
+    int id(int i) {
+        return ids[i];
+    }
+}
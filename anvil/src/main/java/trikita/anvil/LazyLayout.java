@@ -0,0 +1,230 @@
+package trikita.anvil;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
+import android.widget.LinearLayout;
+
+/**
+ * LazyLayout is a container for a long list of items of the same extent,
+ * meant to be placed into a ScrollView or a HorizontalScrollView. It's
+ * measured as if all the items were present, but only the items
+ * intersecting its visible part, plus a prefetch margin, are created and
+ * rendered. The items are rendered by a mount of their own, so rendering
+ * the enclosing layout only re-renders the visible items.
+ *
+ * Child views are recycled between positions: position p is rendered into
+ * the child number p % window, so when the list is scrolled by one item only
+ * one child gets its attributes changed and is moved to the new position.
+ */
+public class LazyLayout extends ViewGroup implements Anvil.Renderable,
+        ViewTreeObserver.OnPreDrawListener {
+
+    /** Renderable of a single item, it must declare exactly one view */
+    public interface Item {
+        void view(int position);
+    }
+
+    private int orientation = LinearLayout.VERTICAL;
+    private int count;
+    private int itemSize;
+    private int prefetch = 2;
+    private Item item;
+
+    // Rendered positions are first..first+window, position of every child
+    private int first;
+    private int window;
+    private int[] positions = new int[0];
+
+    private boolean mounted;
+    private final Rect visible = new Rect();
+    private int crossMeasureSpec;
+
+    public LazyLayout(Context c) {
+        super(c);
+    }
+
+    /** Sets the scrolling direction, either LinearLayout.VERTICAL or LinearLayout.HORIZONTAL */
+    public void setOrientation(int orientation) {
+        if (this.orientation != orientation) {
+            this.orientation = orientation;
+            requestLayout();
+        }
+    }
+
+    /** Sets the number of invisible items to render before and after the visible ones */
+    public void setPrefetch(int items) {
+        prefetch = items;
+    }
+
+    /**
+     * Sets the items of the layout and re-renders the visible ones.
+     * @param count number of items
+     * @param itemSize extent of every item along the scrolling direction, in pixels
+     * @param item renderable of a single item
+     */
+    public void setItems(int count, int itemSize, Item item) {
+        if (count != this.count || itemSize != this.itemSize) {
+            this.count = count;
+            this.itemSize = itemSize;
+            window = Math.min(window, count);
+            first = clamp(first, 0, count - window);
+            requestLayout();
+        }
+        this.item = item;
+        if (!mounted) {
+            mounted = true;
+            Anvil.mount(this, this);
+        } else {
+            Anvil.render(this);
+        }
+    }
+
+    public void view() {
+        if (item == null) {
+            return;
+        }
+        if (positions.length < window) {
+            positions = new int[window];
+        }
+        for (int slot = 0; slot < window; slot++) {
+            int p = first + ((slot - first) % window + window) % window;
+            positions[slot] = p;
+            // Children are matched with positions by index, see layoutChildren()
+            int before = Anvil.rootChildCount();
+            item.view(p);
+            int views = Anvil.rootChildCount() - before;
+            if (views != 1) {
+                throw new IllegalStateException("item " + p + " has rendered " + views + " views instead of one");
+            }
+        }
+    }
+
+    /**
+     * Updates the rendered range for the visible part of the layout, given
+     * in pixels along the scrolling direction. Returns true if the range has
+     * changed and the items have to be rendered again.
+     */
+    boolean setViewport(int start, int end) {
+        if (itemSize <= 0) {
+            return false;
+        }
+        // The window only grows, so that children keep their positions while scrolling
+        int needed = (end - start + itemSize - 1) / itemSize + 1 + 2 * prefetch;
+        int w = Math.min(count, Math.max(window, needed));
+        int f = clamp(start / itemSize - prefetch, 0, count - w);
+        if (w == window && f == first) {
+            return false;
+        }
+        window = w;
+        first = f;
+        return true;
+    }
+
+    /** Returns the position rendered by the child at the given index */
+    int positionOf(int index) {
+        return positions[index];
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getViewTreeObserver().addOnPreDrawListener(this);
+        if (item != null && !mounted) {
+            mounted = true;
+            Anvil.mount(this, this);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        getViewTreeObserver().removeOnPreDrawListener(this);
+        Anvil.unmount(this, false);
+        mounted = false;
+    }
+
+    public boolean onPreDraw() {
+        if (item == null || !getLocalVisibleRect(visible)) {
+            return true;
+        }
+        boolean vertical = orientation == LinearLayout.VERTICAL;
+        if (!setViewport(vertical ? visible.top : visible.left, vertical ? visible.bottom : visible.right)) {
+            return true;
+        }
+        Anvil.render(this);
+        if (isLayoutRequested()) {
+            // New children have been added, skip this frame until they are measured
+            return false;
+        }
+        // Recycled children only move, lay them out without a layout pass
+        layoutChildren();
+        invalidate();
+        return true;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        boolean vertical = orientation == LinearLayout.VERTICAL;
+        int crossPadding = vertical ? getPaddingLeft() + getPaddingRight() : getPaddingTop() + getPaddingBottom();
+        int mainPadding = vertical ? getPaddingTop() + getPaddingBottom() : getPaddingLeft() + getPaddingRight();
+        crossMeasureSpec = vertical ? widthMeasureSpec : heightMeasureSpec;
+        int cross = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            measureItem(child, crossPadding);
+            cross = Math.max(cross, vertical ? child.getMeasuredWidth() : child.getMeasuredHeight());
+        }
+        int main = count * itemSize + mainPadding;
+        cross += crossPadding;
+        setMeasuredDimension(
+                resolveSize(vertical ? cross : main, widthMeasureSpec),
+                resolveSize(vertical ? main : cross, heightMeasureSpec));
+    }
+
+    private void measureItem(View child, int crossPadding) {
+        LayoutParams p = child.getLayoutParams();
+        int mainSpec = MeasureSpec.makeMeasureSpec(itemSize, MeasureSpec.EXACTLY);
+        if (orientation == LinearLayout.VERTICAL) {
+            child.measure(getChildMeasureSpec(crossMeasureSpec, crossPadding, p.width), mainSpec);
+        } else {
+            child.measure(mainSpec, getChildMeasureSpec(crossMeasureSpec, crossPadding, p.height));
+        }
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        layoutChildren();
+    }
+
+    private void layoutChildren() {
+        boolean vertical = orientation == LinearLayout.VERTICAL;
+        for (int i = 0; i < getChildCount() && i < window; i++) {
+            View child = getChildAt(i);
+            if (child.isLayoutRequested()) {
+                measureItem(child, vertical ? getPaddingLeft() + getPaddingRight() : getPaddingTop() + getPaddingBottom());
+            }
+            int offset = positions[i] * itemSize;
+            if (vertical) {
+                int top = getPaddingTop() + offset;
+                child.layout(getPaddingLeft(), top, getPaddingLeft() + child.getMeasuredWidth(), top + itemSize);
+            } else {
+                int left = getPaddingLeft() + offset;
+                child.layout(left, getPaddingTop(), left + itemSize, getPaddingTop() + child.getMeasuredHeight());
+            }
+        }
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return orientation == LinearLayout.VERTICAL ?
+                new LayoutParams(LayoutParams.MATCH_PARENT, itemSize) :
+                new LayoutParams(itemSize, LayoutParams.MATCH_PARENT);
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(value, max));
+    }
+}
@@ -0,0 +1,244 @@
+package trikita.anvil;
+
+import android.view.View;
+
+import java.util.Arrays;
+
+/**
+ * RenderLog is a flat record of a single Renderable execution: the views it
+ * declared, their keys and attribute values. Logs are recorded on background
+ * threads, then compared with the log of the previous render on the UI
+ * thread and either replayed or applied as a patch.
+ *
+ * Every operation is a single entry in parallel arrays. Primitive attribute
+ * values are kept as raw bits, like in AttrStore.
+ */
+final class RenderLog {
+    final static int START = 0;
+    final static int END = 1;
+    final static int KEY = 2;
+    final static int SKIP = 3;
+    final static int ATTR = 4;
+    final static int ATTR_INT = 5;
+    final static int ATTR_FLOAT = 6;
+    final static int ATTR_BOOLEAN = 7;
+    final static int ATTR_LONG = 8;
+
+    private int[] ops;
+    // Layout id for START, attribute id for ATTR_*
+    private int[] args;
+    // View class for START, key for KEY, value for ATTR
+    private Object[] values;
+    private long[] bits;
+    private int size;
+    // Nesting of the views being declared, and the number of the top-level ones
+    private int depth;
+    private int rootCount;
+
+    RenderLog(int capacity) {
+        capacity = Math.max(capacity, 16);
+        ops = new int[capacity];
+        args = new int[capacity];
+        values = new Object[capacity];
+        bits = new long[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Returns the number of views declared by the log, including the mount root */
+    int nodeCount() {
+        int count = 1;
+        for (int i = 0; i < size; i++) {
+            if (ops[i] == START) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Returns the number of views declared so far directly inside of the mount root */
+    int rootCount() {
+        return rootCount;
+    }
+
+    void start(Class<?> c, int layoutId) {
+        if (depth++ == 0) {
+            rootCount++;
+        }
+        add(START, layoutId, c, 0);
+    }
+
+    void end() {
+        depth--;
+        add(END, 0, null, 0);
+    }
+
+    void key(Object key) {
+        add(KEY, 0, key, 0);
+    }
+
+    void skip() {
+        add(SKIP, 0, null, 0);
+    }
+
+    void attr(int id, Object value) {
+        add(ATTR, id, value, 0);
+    }
+
+    void attrPrimitive(int op, int id, long value) {
+        add(op, id, null, value);
+    }
+
+    /**
+     * Returns true if both logs declare the same views in the same order with
+     * the same keys and the same attributes, so they only differ in attribute
+     * values.
+     */
+    boolean sameStructure(RenderLog other) {
+        if (other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            int op = ops[i];
+            if (op != other.ops[i] || args[i] != other.args[i]) {
+                return false;
+            }
+            if ((op == START || op == KEY) && !equal(values[i], other.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares attribute values with the log of the same structure. Returns
+     * pairs of node ordinal and operation index for every changed attribute,
+     * packed into an array with the pair count in its first element. Node
+     * ordinal is the order of the view in the log, zero is the mount root.
+     */
+    int[] diff(RenderLog prev) {
+        int[] patch = null;
+        int count = 0;
+        int[] nodes = new int[16];
+        int depth = 0;
+        int node = 0;
+        for (int i = 0; i < size; i++) {
+            switch (ops[i]) {
+                case START:
+                    depth++;
+                    if (depth == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, depth * 2);
+                    }
+                    nodes[depth] = ++node;
+                    break;
+                case END:
+                    depth--;
+                    break;
+                case KEY:
+                case SKIP:
+                    break;
+                default:
+                    if (!changed(prev, i)) {
+                        break;
+                    }
+                    if (patch == null) {
+                        patch = new int[17];
+                    } else if (count * 2 + 2 >= patch.length) {
+                        patch = Arrays.copyOf(patch, patch.length * 2);
+                    }
+                    patch[count * 2 + 1] = nodes[depth];
+                    patch[count * 2 + 2] = i;
+                    count++;
+            }
+        }
+        if (patch == null) {
+            return new int[1];
+        }
+        patch[0] = count;
+        return patch;
+    }
+
+    private boolean changed(RenderLog prev, int i) {
+        if (ops[i] == ATTR) {
+            // Null values are always passed to the setters, like during rendering
+            return values[i] == null || !values[i].equals(prev.values[i]);
+        }
+        return bits[i] != prev.bits[i];
+    }
+
+    /** Applies the attribute operation at the given index to the current view of the iterator */
+    void applyAttr(Anvil.Mount.Iterator it, int i) {
+        switch (ops[i]) {
+            case ATTR:
+                it.attr(args[i], values[i]);
+                break;
+            case ATTR_INT:
+                it.attrInt(args[i], (int) bits[i]);
+                break;
+            case ATTR_FLOAT:
+                it.attrFloat(args[i], Float.intBitsToFloat((int) bits[i]));
+                break;
+            case ATTR_BOOLEAN:
+                it.attrBoolean(args[i], bits[i] != 0);
+                break;
+            case ATTR_LONG:
+                it.attrLong(args[i], bits[i]);
+                break;
+        }
+    }
+
+    /**
+     * Replays all operations into the iterator, which must be started. Views
+     * are stored into nodes by their ordinals, the array is grown if needed.
+     */
+    @SuppressWarnings("unchecked")
+    View[] replay(Anvil.Mount.Iterator it, View[] nodes) {
+        int node = 0;
+        nodes[0] = it.currentView();
+        for (int i = 0; i < size; i++) {
+            switch (ops[i]) {
+                case START:
+                    it.start((Class) values[i], args[i]);
+                    if (++node == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, node * 2);
+                    }
+                    nodes[node] = it.currentView();
+                    break;
+                case END:
+                    it.end();
+                    break;
+                case KEY:
+                    it.key(values[i]);
+                    break;
+                case SKIP:
+                    it.skip();
+                    break;
+                default:
+                    applyAttr(it, i);
+            }
+        }
+        Arrays.fill(nodes, node + 1, nodes.length, null);
+        return nodes;
+    }
+
+    private void add(int op, int arg, Object value, long raw) {
+        if (size == ops.length) {
+            int capacity = size * 2;
+            ops = Arrays.copyOf(ops, capacity);
+            args = Arrays.copyOf(args, capacity);
+            values = Arrays.copyOf(values, capacity);
+            bits = Arrays.copyOf(bits, capacity);
+        }
+        ops[size] = op;
+        args[size] = arg;
+        values[size] = value;
+        bits[size] = raw;
+        size++;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
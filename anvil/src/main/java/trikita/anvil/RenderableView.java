@@ -2,6 +2,7 @@ package trikita.anvil;
 
 import android.content.Context;
 import android.util.AttributeSet;
+import android.view.View;
 import android.widget.FrameLayout;
 
 // TODO: add method children() to render all child renderables
@@ -9,6 +10,12 @@ import android.widget.FrameLayout;
 public abstract class RenderableView extends FrameLayout
     implements Anvil.Renderable {
 
+    private Anvil.Prepared prepared;
+    private boolean suspendWhenHidden;
+    // True if the mount is suspended by the view itself, suspensions made
+    // by the app with Anvil.suspend() are left to the app
+    private boolean suspendedBySelf;
+
     public RenderableView(Context context) {
         super(context);
     }
@@ -21,15 +28,67 @@ public abstract class RenderableView extends FrameLayout
         super(context, attrs, defStyleAttr);
     }
 
+    /**
+     * Starts building the child views on a worker thread, they are adopted
+     * when the view is attached. view() is called from the worker thread, so
+     * it must not depend on state that is initialized later.
+     */
+    public void prepareAsync() {
+        prepared = Anvil.prepareAsync(getContext(), this);
+    }
+
+    /**
+     * Makes the view skip renders while it's not shown, i.e. while it or one
+     * of its ancestors is not visible, or its window is hidden. The missed
+     * renders are caught up with a single render when the view is shown.
+     */
+    public void setSuspendWhenHidden(boolean suspend) {
+        suspendWhenHidden = suspend;
+        updateSuspension();
+    }
+
     @Override
     public void onAttachedToWindow() {
         super.onAttachedToWindow();
-        Anvil.mount(this, this);
+        if (prepared != null) {
+            prepared.mount(this);
+            prepared = null;
+        } else {
+            Anvil.mount(this, this);
+        }
+        // The mount is new, a suspension made before has no effect on it
+        suspendedBySelf = false;
+        updateSuspension();
+    }
+
+    @Override
+    protected void onVisibilityChanged(View changedView, int visibility) {
+        super.onVisibilityChanged(changedView, visibility);
+        updateSuspension();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        updateSuspension();
+    }
+
+    private void updateSuspension() {
+        if (suspendWhenHidden && (getWindowVisibility() != VISIBLE || !isShown())) {
+            if (!suspendedBySelf && !Anvil.isSuspended(this)) {
+                suspendedBySelf = true;
+                Anvil.suspend(this);
+            }
+        } else if (suspendedBySelf) {
+            suspendedBySelf = false;
+            Anvil.resume(this);
+        }
     }
 
     @Override
     public void onDetachedFromWindow() {
         super.onDetachedFromWindow();
+        suspendedBySelf = false;
         Anvil.unmount(this);
     }
 
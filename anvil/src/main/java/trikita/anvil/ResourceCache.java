@@ -0,0 +1,259 @@
+package trikita.anvil;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.view.View;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ResourceCache is a process-wide cache of typefaces and drawables loaded
+ * by attribute setters, so that a font asset or a drawable resource used by
+ * many views is read and parsed once.
+ *
+ * Entries are kept in a bounded LRU. Drawables are cached as their constant
+ * states, every view gets a new drawable sharing the state, like drawables
+ * loaded by Resources do. Drawables loaded with different themes or
+ * configurations are cached separately, since themeable drawables resolve
+ * their attributes from the theme and resources depend on the configuration.
+ * Themes are referenced weakly, entries of collected themes are dropped.
+ * Drawables are dropped once the configuration of the application changes,
+ * and the cache is trimmed when the system asks for memory.
+ */
+public final class ResourceCache {
+
+    final static ComponentCallbacks2 callbacks = new ComponentCallbacks2() {
+        public void onTrimMemory(int level) {
+            trimMemory(level);
+        }
+
+        public void onConfigurationChanged(Configuration newConfig) {
+            clearDrawables();
+        }
+
+        public void onLowMemory() {
+            clear();
+        }
+    };
+
+    // Typefaces are keyed by asset paths, drawable constant states by DrawableKeys
+    private final static LinkedHashMap<Object, Object> cache = new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private static int capacity = 64;
+    private static int hits;
+    private static int misses;
+    private static boolean registered;
+    // Configurations the cached drawables have been loaded for, keys refer to
+    // them by identity. Activities may run with different configurations at
+    // the same time, each of them gets its own drawables.
+    private final static int MAX_CONFIGURATIONS = 4;
+    private final static ArrayList<Configuration> configurations = new ArrayList<>();
+    // Reused for lookups, keys are only allocated for new entries
+    private final static DrawableKey lookupKey = new DrawableKey();
+
+    private ResourceCache() {}
+
+    /** Sets the maximum number of cached typefaces and drawables */
+    public static synchronized void setCapacity(int capacity) {
+        ResourceCache.capacity = capacity;
+        trimToSize(capacity);
+    }
+
+    /** Returns the number of lookups served from the cache */
+    public static synchronized int hits() {
+        return hits;
+    }
+
+    /** Returns the number of lookups that had to load the resource */
+    public static synchronized int misses() {
+        return misses;
+    }
+
+    /** Drops all cached resources */
+    public static synchronized void clear() {
+        cache.clear();
+        configurations.clear();
+    }
+
+    /**
+     * Releases memory for the given level of {@code onTrimMemory()}. The cache
+     * is registered for the callbacks of the application by itself.
+     * @param level trim memory level
+     */
+    public static synchronized void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN ||
+                level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            clear();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            trimToSize(cache.size() / 2);
+        }
+    }
+
+    /** Returns the typeface of the font asset */
+    public static synchronized Typeface typeface(Context c, String assetPath) {
+        Object typeface = cache.get(assetPath);
+        if (typeface != null) {
+            hits++;
+            return (Typeface) typeface;
+        }
+        misses++;
+        register(c);
+        Typeface t = Typeface.createFromAsset(c.getAssets(), assetPath);
+        cache.put(assetPath, t);
+        return t;
+    }
+
+    /** Returns a new drawable of the resource, or null for the zero resource id */
+    @SuppressWarnings("deprecation")
+    public static synchronized Drawable drawable(Context c, int resId) {
+        if (resId == 0) {
+            return null;
+        }
+        Resources res = c.getResources();
+        Configuration configuration = configuration(res.getConfiguration());
+        // Drawables are not themed before Lollipop
+        Resources.Theme theme = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP ? c.getTheme() : null;
+        lookupKey.set(resId, configuration, theme);
+        Object state = cache.get(lookupKey);
+        lookupKey.set(0, null, null);
+        if (state != null) {
+            hits++;
+            if (theme != null) {
+                return ((Drawable.ConstantState) state).newDrawable(res, theme);
+            }
+            return ((Drawable.ConstantState) state).newDrawable(res);
+        }
+        misses++;
+        register(c);
+        Drawable d = theme != null ? c.getDrawable(resId) : res.getDrawable(resId);
+        Drawable.ConstantState cs = d != null ? d.getConstantState() : null;
+        if (cs != null) {
+            removeCollectedThemes();
+            DrawableKey key = new DrawableKey();
+            key.set(resId, configuration, theme);
+            key.themeRef = theme != null ? new WeakReference<>(theme) : null;
+            key.theme = null;
+            cache.put(key, cs);
+        }
+        return d;
+    }
+
+    /** Returns the known configuration equal to the given one, adding a copy if there is none */
+    private static Configuration configuration(Configuration current) {
+        for (int i = 0; i < configurations.size(); i++) {
+            if (current.diff(configurations.get(i)) == 0) {
+                return configurations.get(i);
+            }
+        }
+        if (configurations.size() == MAX_CONFIGURATIONS) {
+            clearDrawables();
+        }
+        Configuration copy = new Configuration(current);
+        configurations.add(copy);
+        return copy;
+    }
+
+    /**
+     * Returns true if the resource setters of the view may be replaced with
+     * drawables from the cache. Subclasses outside of the framework, such as
+     * AppCompat widgets, override resource setters to apply tints or to load
+     * vector drawables on older platforms, their setters are kept.
+     * @param v view to set a drawable resource to
+     * @return true if the view is a framework class
+     */
+    static boolean isFrameworkView(View v) {
+        return v.getClass().getName().startsWith("android.");
+    }
+
+    private static synchronized void clearDrawables() {
+        for (Iterator<Object> it = cache.keySet().iterator(); it.hasNext(); ) {
+            if (it.next() instanceof DrawableKey) {
+                it.remove();
+            }
+        }
+        configurations.clear();
+    }
+
+    private static void removeCollectedThemes() {
+        for (Iterator<Object> it = cache.keySet().iterator(); it.hasNext(); ) {
+            Object key = it.next();
+            if (key instanceof DrawableKey && ((DrawableKey) key).isCollected()) {
+                it.remove();
+            }
+        }
+    }
+
+    private static void trimToSize(int size) {
+        for (Iterator<Object> it = cache.keySet().iterator(); it.hasNext() && cache.size() > size; ) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static void register(Context c) {
+        if (!registered) {
+            registered = true;
+            c.getApplicationContext().registerComponentCallbacks(callbacks);
+        }
+    }
+
+    /**
+     * Resource id, configuration and the theme a drawable has been loaded
+     * with, configurations and themes are compared by identity. The lookup
+     * key references the theme directly, cached keys reference it weakly, so
+     * that the cache doesn't keep themes and their activities from being
+     * collected.
+     */
+    private final static class DrawableKey {
+        int resId;
+        Configuration configuration;
+        Resources.Theme theme;
+        WeakReference<Resources.Theme> themeRef;
+        int themeHash;
+
+        void set(int resId, Configuration configuration, Resources.Theme theme) {
+            this.resId = resId;
+            this.configuration = configuration;
+            this.theme = theme;
+            themeHash = System.identityHashCode(theme);
+        }
+
+        Resources.Theme theme() {
+            return themeRef != null ? themeRef.get() : theme;
+        }
+
+        /** Returns true if the theme of the key has been collected, such key never matches */
+        boolean isCollected() {
+            return themeRef != null && themeRef.get() == null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof DrawableKey)) {
+                return false;
+            }
+            DrawableKey k = (DrawableKey) o;
+            return resId == k.resId && configuration == k.configuration && themeHash == k.themeHash &&
+                    theme() == k.theme() && !isCollected() && !k.isCollected();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * resId + System.identityHashCode(configuration)) + themeHash;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package trikita.anvil;
+
+import android.view.View;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Signal is a value holder which can be passed to {@code attr()} instead of
+ * the value itself. The view attribute is subscribed to the signal once, then
+ * every write updates only the subscribed attributes through the regular
+ * attribute setters, without running renderables.
+ *
+ * Writes can happen on any thread. They are applied on the UI thread before
+ * the next frame, several writes in between are applied once with the last
+ * value. Like for AnimatedValue, a subscription lasts while the attribute
+ * is rendered with the same signal.
+ */
+public final class Signal<T> implements Anvil.Bindable {
+
+    private final static Queue<Signal<?>> pending = new ConcurrentLinkedQueue<>();
+    private final static AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final static Runnable flushRunnable = new Runnable() {
+        public void run() {
+            flush();
+        }
+    };
+
+    private volatile T value;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    // Subscribed attributes and the value they've got last time. UI thread only.
+    private final Bindings bindings = new Bindings(this);
+    private T applied;
+
+    public Signal(T value) {
+        this.value = value;
+        this.applied = value;
+    }
+
+    /** Returns the last written value */
+    public T get() {
+        return value;
+    }
+
+    /** Writes a new value, subscribed attributes are updated before the next frame */
+    public void set(T value) {
+        this.value = value;
+        if (dirty.compareAndSet(false, true)) {
+            pending.offer(this);
+            if (flushScheduled.compareAndSet(false, true)) {
+                Anvil.post(flushRunnable);
+            }
+        }
+    }
+
+    /** Applies the pending writes of all signals, must be called on the UI thread */
+    static void flush() {
+        flushScheduled.set(false);
+        Signal<?> s;
+        while ((s = pending.poll()) != null) {
+            s.apply();
+        }
+    }
+
+    private void apply() {
+        dirty.set(false);
+        T v = value;
+        T prev = applied;
+        applied = v;
+        if (v == null ? prev == null : v.equals(prev)) {
+            return;
+        }
+        int size = bindings.compact();
+        for (int i = 0; i < size; i++) {
+            View view = bindings.view(i);
+            if (view != null) {
+                Anvil.apply(view, bindings.id(i), v, prev);
+            }
+        }
+    }
+
+    public void bind(AttrStore s, int id) {
+        View v = s.view.get();
+        if (bindings.add(s, id) && v != null) {
+            Anvil.apply(v, id, applied, null);
+        }
+    }
+}
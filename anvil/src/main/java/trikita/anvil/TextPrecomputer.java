@@ -0,0 +1,111 @@
+package trikita.anvil;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.text.PrecomputedText;
+import android.widget.TextView;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * TextPrecomputer sets texts of the {@code precomputedText} attribute. The
+ * text is measured on a background thread with the current metrics params
+ * of the view, so that the layout of a long text doesn't happen on the UI
+ * thread. A result is only applied if the attribute still holds the text it
+ * has been computed for, results of outdated texts are dropped.
+ *
+ * PrecomputedText is available since API 28, older platforms set the text
+ * right away.
+ */
+final class TextPrecomputer {
+
+    /** Measures a text off the UI thread */
+    interface Measure {
+        CharSequence measure(CharSequence text);
+    }
+
+    private final static Executor POST = new Executor() {
+        public void execute(Runnable r) {
+            Anvil.post(r);
+        }
+    };
+
+    private static Executor executor;
+    private static Executor uiExecutor = POST;
+
+    private TextPrecomputer() {}
+
+    static void setText(TextView v, int id, CharSequence text) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.P || text == null || text.length() == 0) {
+            v.setText(text);
+            return;
+        }
+        Api28.precompute(v, id, text);
+    }
+
+    /** Measures the text in background and sets the result if the attribute still holds the text */
+    static void precompute(final TextView v, final int id, final CharSequence text, final Measure m) {
+        executor().execute(new Runnable() {
+            public void run() {
+                final CharSequence result = m.measure(text);
+                uiExecutor().execute(new Runnable() {
+                    public void run() {
+                        if (Anvil.attrValue(v, id) != text) {
+                            return;
+                        }
+                        try {
+                            v.setText(result);
+                        } catch (IllegalArgumentException e) {
+                            // Text appearance has been changed in the meantime
+                            v.setText(text);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /** Replaces the executors measuring texts and applying the results, null restores the default one */
+    static synchronized void setExecutors(Executor background, Executor ui) {
+        executor = background;
+        uiExecutor = ui != null ? ui : POST;
+    }
+
+    private static synchronized Executor uiExecutor() {
+        return uiExecutor;
+    }
+
+    private static synchronized Executor executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "anvil-text");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                }
+            });
+        }
+        return executor;
+    }
+
+    /** PrecomputedText is kept in a separate class which is never loaded on older platforms */
+    @TargetApi(Build.VERSION_CODES.P)
+    private final static class Api28 {
+        static void precompute(TextView v, int id, CharSequence text) {
+            if (text instanceof PrecomputedText) {
+                v.setText(text);
+                return;
+            }
+            // Params must be read on the UI thread, they may change before the result is ready
+            final PrecomputedText.Params params = v.getTextMetricsParams();
+            TextPrecomputer.precompute(v, id, text, new Measure() {
+                public CharSequence measure(CharSequence text) {
+                    return PrecomputedText.create(text, params);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package trikita.anvil;
+
+import android.content.Context;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ViewPool keeps views that Anvil removed during rendering, so that they can
+ * be reused instead of being constructed again when a view of the same class
+ * is needed later, e.g. when a conditional branch appears again.
+ *
+ * Pooled views have their attribute cache reset, so all attributes declared
+ * for the reused view are applied again. Attributes that are not declared
+ * keep the values they had before, except for listeners set with Anvil,
+ * which ignore events until they are declared again. The pool is used from
+ * the UI thread only.
+ * Views keep a reference to their Context, so a pool shared between
+ * activities should be cleared when an activity is destroyed.
+ */
+public final class ViewPool {
+
+    private final int defaultCapacity;
+    private final Map<Class<? extends View>, Integer> capacities = new HashMap<>();
+    private final Map<Class<? extends View>, ArrayList<View>> pool = new HashMap<>();
+
+    private int hits;
+    private int misses;
+
+    /**
+     * @param defaultCapacity maximum number of pooled views of a single class
+     */
+    public ViewPool(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /** Overrides the maximum number of pooled views of the given class, zero disables pooling */
+    public void setCapacity(Class<? extends View> c, int capacity) {
+        capacities.put(c, capacity);
+        ArrayList<View> views = pool.get(c);
+        while (views != null && views.size() > capacity) {
+            views.remove(views.size() - 1);
+        }
+    }
+
+    /** Returns the number of views that have been taken from the pool */
+    public int hits() {
+        return hits;
+    }
+
+    /** Returns the number of times no matching view was found in the pool */
+    public int misses() {
+        return misses;
+    }
+
+    /** Drops all pooled views */
+    public void clear() {
+        pool.clear();
+    }
+
+    View take(Context context, Class<? extends View> c) {
+        ArrayList<View> views = pool.get(c);
+        if (views != null) {
+            for (int i = views.size() - 1; i >= 0; i--) {
+                View v = views.get(i);
+                if (v.getContext() == context) {
+                    views.remove(i);
+                    hits++;
+                    return v;
+                }
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    boolean release(View v, AttrStore s) {
+        Class<? extends View> c = v.getClass();
+        Integer capacity = capacities.get(c);
+        ArrayList<View> views = pool.get(c);
+        if (views == null) {
+            views = new ArrayList<>();
+            pool.put(c, views);
+        }
+        if (views.size() >= (capacity != null ? capacity : defaultCapacity)) {
+            return false;
+        }
+        s.clear();
+        views.add(v);
+        return true;
+    }
+}
@@ -4,7 +4,6 @@ package trikita.anvil
 
 import android.animation.Animator
 import android.animation.AnimatorSet
-import android.graphics.Typeface
 import android.graphics.drawable.Drawable
 import android.text.Editable
 import android.text.TextWatcher
@@ -13,7 +12,7 @@ import android.view.Gravity
 import android.view.View
 import android.view.ViewGroup
 import android.widget.*
-import java.util.*
+import java.lang.ref.WeakReference
 
 // weight constants
 sealed class Size {
@@ -42,15 +41,21 @@ inline class Sp(val value: Float)
 inline class Dip(val value: Int)
 inline class Px(val value: Int)
 
-fun ViewScope.init(action: (View) -> Unit) = attr("init", action)
-fun ViewScope.size(w: Size, h: Size) = attr("size", w to h)
-fun ViewScope.tag(key: Int, value: Any?) = attr("tag", key to value)
+fun ViewScope.init(action: (View) -> Unit) = attr(CustomDslSetter.id(CustomDslAttrs.init), action)
+fun ViewScope.size(w: Size, h: Size) = attr(CustomDslSetter.id(CustomDslAttrs.size), packSize(w.layoutValue, h.layoutValue))
+fun ViewScope.tag(key: Int, value: Any?) {
+    val id = CustomDslSetter.id(CustomDslAttrs.tag)
+    val cached = cachedAttr(id)
+    if (cached !is KeyedTag || cached.key != key || cached.value != value) {
+        attr(id, KeyedTag(key, value))
+    }
+}
 
-fun ViewScope.padding(l: Dip, t: Dip, r: Dip, b: Dip) = attr("padding", listOf(l.value, t.value, r.value, b.value))
+fun ViewScope.padding(l: Dip, t: Dip, r: Dip, b: Dip) = attr(CustomDslSetter.id(CustomDslAttrs.padding), packDips(l.value, t.value, r.value, b.value))
 fun ViewScope.padding(p: Dip) = padding(p, p, p, p)
 fun ViewScope.padding(h: Dip, v: Dip) = padding(h, v, h, v)
 
-fun ViewScope.margin(l: Dip, t: Dip, r: Dip, b: Dip) = attr("margin", listOf(l.value, t.value, r.value, b.value))
+fun ViewScope.margin(l: Dip, t: Dip, r: Dip, b: Dip) = attr(CustomDslSetter.id(CustomDslAttrs.margin), packDips(l.value, t.value, r.value, b.value))
 fun ViewScope.margin(m: Dip) = margin(m, m, m, m)
 fun ViewScope.margin(h: Dip, v: Dip) = margin(h, v, h, v)
 
@@ -77,123 +82,364 @@ fun ViewScope.toEndOf(subject: Int) = align(RelativeLayout.END_OF, subject)
 fun ViewScope.toLeftOf(subject: Int) = align(RelativeLayout.LEFT_OF, subject)
 fun ViewScope.toRightOf(subject: Int) = align(RelativeLayout.RIGHT_OF, subject)
 fun ViewScope.toStartOf(subject: Int) = align(RelativeLayout.START_OF, subject)
-fun ViewScope.align(verb: Int, subject: Int) = attr("align", verb to subject)
+// Every rule has its own attribute, so that several rules of a view don't evict each other
+fun ViewScope.align(verb: Int, subject: Int) = attr(CustomDslSetter.alignId(verb), subject)
+
+fun ViewScope.anim(trigger: Boolean, animator: Animator) {
+    val id = CustomDslSetter.id(CustomDslAttrs.anim)
+    val cached = cachedAttr(id)
+    if (cached is AnimatorPair && cached.trigger == trigger) {
+        cached.animator = animator
+    } else {
+        attr(id, AnimatorPair(animator, trigger))
+    }
+}
+fun ViewScope.anim(trigger: Boolean, animatorIn: Animator, animatorOut: Animator) {
+    val id = CustomDslSetter.id(CustomDslAttrs.animInOut)
+    val cached = cachedAttr(id)
+    if (cached is AnimatorTriple && cached.trigger == trigger) {
+        cached.animatorIn = animatorIn
+        cached.animatorOut = animatorOut
+    } else {
+        attr(id, AnimatorTriple(animatorIn, animatorOut, trigger))
+    }
+}
+
+fun TextViewScope.textSize(sizeSp: Sp) = attr(CustomDslSetter.id(CustomDslAttrs.textSizeSp), sizeSp.value)
+fun TextViewScope.textSize(size: Dip) = attr(CustomDslSetter.id(CustomDslAttrs.textSizeDip), size.value)
+fun TextViewScope.textSize(sizePx: Px) = attr(CustomDslSetter.id(CustomDslAttrs.textSizePx), sizePx.value)
+fun TextViewScope.typeface(assetPath: String) = attr(CustomDslSetter.id(CustomDslAttrs.typeface), assetPath)
+fun TextViewScope.typeface(assetPath: String?, style: Int) {
+    val id = CustomDslSetter.id(CustomDslAttrs.typeface)
+    val cached = cachedAttr(id)
+    if (cached !is TypefaceStyle || cached.path != assetPath || cached.style != style) {
+        attr(id, TypefaceStyle(assetPath, style))
+    }
+}
+
+fun TextViewScope.compoundDrawables(l: Drawable, t: Drawable, r: Drawable, b: Drawable) =
+    drawablesAttr(CustomDslSetter.id(CustomDslAttrs.compoundDrawables), l, t, r, b)
+fun TextViewScope.compoundDrawablesWithIntrinsicBounds(l: Drawable, t: Drawable, r: Drawable, b: Drawable) =
+    drawablesAttr(CustomDslSetter.id(CustomDslAttrs.compoundDrawablesWithIntrinsicBounds), l, t, r, b)
+fun TextViewScope.compoundDrawablesWithIntrinsicBounds(l: Int, t: Int, r: Int, b: Int) {
+    val id = CustomDslSetter.id(CustomDslAttrs.compoundDrawablesWithIntrinsicBoundsResource)
+    val cached = cachedAttr(id)
+    if (cached !is DrawableResources || cached.l != l || cached.t != t || cached.r != r || cached.b != b) {
+        attr(id, DrawableResources(l, t, r, b))
+    }
+}
+fun TextViewScope.shadowLayer(radius: Float, dx: Float, dy: Float, color: Int) {
+    val id = CustomDslSetter.id(CustomDslAttrs.shadowLayer)
+    val cached = cachedAttr(id)
+    if (cached !is ShadowLayer || cached.radius != radius || cached.dx != dx || cached.dy != dy || cached.color != color) {
+        attr(id, ShadowLayer(radius, dx, dy, color))
+    }
+}
+
+private fun drawablesAttr(id: Int, l: Drawable, t: Drawable, r: Drawable, b: Drawable) {
+    val cached = cachedAttr(id)
+    if (cached !is Drawables || cached.l != l || cached.t != t || cached.r != r || cached.b != b) {
+        attr(id, Drawables(l, t, r, b))
+    }
+}
+
+// Multi-valued attributes are packed into primitives or kept in small value
+// classes. The DSL compares the latter with the cached value before creating
+// a new one, so unchanged attributes allocate nothing.
+
+/** Packs four dip values into a Long, 16 bits each */
+internal fun packDips(l: Int, t: Int, r: Int, b: Int): Long =
+    ((l.toLong() and 0xffff) shl 48) or ((t.toLong() and 0xffff) shl 32) or
+        ((r.toLong() and 0xffff) shl 16) or (b.toLong() and 0xffff)
+
+/** Returns the dip value with the given index (0 to 3) from a packed Long */
+internal fun unpackDip(packed: Long, index: Int): Int = (packed shl (index * 16) shr 48).toInt()
 
-fun ViewScope.anim(trigger: Boolean, animator: Animator) = attr("anim", AnimatorPair(animator, trigger))
-fun ViewScope.anim(trigger: Boolean, animatorIn: Animator, animatorOut: Animator) = attr("animInOut", AnimatorTriple(animatorIn, animatorOut, trigger))
+internal fun packSize(w: Int, h: Int): Long = (w.toLong() shl 32) or (h.toLong() and 0xffffffffL)
 
-fun TextViewScope.textSize(sizeSp: Sp) = attr("textSizeSp", sizeSp.value)
-fun TextViewScope.textSize(size: Dip) = attr("textSizeDip", size.value)
-fun TextViewScope.textSize(sizePx: Px) = attr("textSizePx", sizePx.value)
-fun TextViewScope.typeface(assetPath: String) = attr("typeface", assetPath)
-fun TextViewScope.typeface(assetPath: String?, style: Int) = attr("typeface", assetPath to style)
+private val Size.layoutValue: Int
+    get() = when (this) {
+        is Size.MATCH -> ViewGroup.LayoutParams.MATCH_PARENT
+        is Size.WRAP -> ViewGroup.LayoutParams.WRAP_CONTENT
+        is Size.EXACT -> size.value
+    }
 
-fun TextViewScope.compoundDrawables(l: Drawable, t: Drawable, r: Drawable, b: Drawable) = attr("compoundDrawables", listOf(l, t, r, b))
-fun TextViewScope.compoundDrawablesWithIntrinsicBounds(l: Drawable, t: Drawable, r: Drawable, b: Drawable) = attr("compoundDrawablesWithIntrinsicBounds", listOf(l, t, r, b))
-fun TextViewScope.compoundDrawablesWithIntrinsicBounds(l: Int, t: Int, r: Int, b: Int) = attr("compoundDrawablesWithIntrinsicBoundsResource", listOf(l, t, r, b))
-fun TextViewScope.shadowLayer(radius: Float, dx: Float, dy: Float, color: Int) = attr("shadowLayer", listOf<Number>(radius, dx, dy, color))
+internal data class KeyedTag(val key: Int, val value: Any?)
+internal data class TypefaceStyle(val path: String?, val style: Int)
+internal data class Drawables(val l: Drawable, val t: Drawable, val r: Drawable, val b: Drawable)
+internal data class DrawableResources(val l: Int, val t: Int, val r: Int, val b: Int)
+internal data class ShadowLayer(val radius: Float, val dx: Float, val dy: Float, val color: Int)
 
 fun ViewScope.visibility(visible: Boolean) = visibility(if (visible) View.VISIBLE else View.GONE)
 
-fun RadioGroupScope.check(id: Int) = attr("check", id)
+// Animated attributes are bound to the view once and updated by the value on every frame
+private val alphaId = Anvil.attrId("alpha")
+private val translationXId = Anvil.attrId("translationX")
+private val translationYId = Anvil.attrId("translationY")
+private val scaleXId = Anvil.attrId("scaleX")
+private val scaleYId = Anvil.attrId("scaleY")
+private val rotationId = Anvil.attrId("rotation")
+
+fun ViewScope.alpha(value: AnimatedValue) = attr(alphaId, value)
+fun ViewScope.translationX(value: AnimatedValue) = attr(translationXId, value)
+fun ViewScope.translationY(value: AnimatedValue) = attr(translationYId, value)
+fun ViewScope.scaleX(value: AnimatedValue) = attr(scaleXId, value)
+fun ViewScope.scaleY(value: AnimatedValue) = attr(scaleYId, value)
+fun ViewScope.rotation(value: AnimatedValue) = attr(rotationId, value)
 
-fun ViewScope.weight(weight: Float) = attr("weight", weight)
-fun ViewScope.layoutGravity(gravity: Int) = attr("layoutGravity", gravity)
+fun RadioGroupScope.check(id: Int) = attr(CustomDslSetter.id(CustomDslAttrs.check), id)
+
+fun ViewScope.weight(weight: Float) = attr(CustomDslSetter.id(CustomDslAttrs.weight), weight)
+fun ViewScope.layoutGravity(gravity: Int) = attr(CustomDslSetter.id(CustomDslAttrs.layoutGravity), gravity)
 
 typealias SeekBarChangeListener = (seekBar: SeekBar, progress: Int, fromUser: Boolean) -> Unit
-fun SeekBarScope.onSeekBarChange(listener: SeekBarChangeListener) = attr("onSeekBarChange", listener)
+fun SeekBarScope.onSeekBarChange(listener: SeekBarChangeListener) = attr(CustomDslSetter.id(CustomDslAttrs.onSeekBarChange), listener)
 
 typealias ItemSelectedListener = (parent: AdapterView<*>, view: View?, position: Int, id: Long) -> Unit
-fun AdapterViewScope.onItemSelected(listener: ItemSelectedListener) = attr("onItemSelected", listener)
-fun AutoCompleteTextViewScope.onItemSelected(listener: ItemSelectedListener) = attr("onItemSelected", listener)
+fun AdapterViewScope.onItemSelected(listener: ItemSelectedListener) = attr(CustomDslSetter.id(CustomDslAttrs.onItemSelected), listener)
+fun AutoCompleteTextViewScope.onItemSelected(listener: ItemSelectedListener) = attr(CustomDslSetter.id(CustomDslAttrs.onItemSelected), listener)
 
-fun TextViewScope.text(text: CharSequence?) = attr("text", text)
-fun TextViewScope.onTextChanged(watcher: (CharSequence) -> Unit) = attr("onTextChanged", watcher)
-fun TextViewScope.onTextChanged(watcher: TextWatcher) = attr("onTextChanged", watcher)
-fun TextViewScope.inputExtras(extras: Int) = attr("inputExtras", extras)
+fun TextViewScope.text(text: CharSequence?) = attr(CustomDslSetter.id(CustomDslAttrs.text), text)
+fun TextViewScope.text(text: Signal<out CharSequence?>) = attr(CustomDslSetter.id(CustomDslAttrs.text), text)
 
-object CustomDslSetter : Anvil.AttributeSetter<Any?> {
-    override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean = when (name) {
-        "init" -> when {
-            value is Function<*> -> {
-                if (Anvil.get(v, "_initialized") == null) {
-                    Anvil.set(v, "_initialized", true)
-                    (value as (View) -> Any?)(v)
-                }
+/**
+ * Sets the text measured on a background thread, see [PrecomputedText][android.text.PrecomputedText].
+ * The view keeps its previous text until the measurement is done.
+ */
+fun TextViewScope.precomputedText(text: CharSequence?) = attr(CustomDslSetter.id(CustomDslAttrs.precomputedText), text)
+
+fun TextViewScope.onTextChanged(watcher: (CharSequence) -> Unit) = attr(CustomDslSetter.id(CustomDslAttrs.onTextChanged), watcher)
+fun TextViewScope.onTextChanged(watcher: TextWatcher) = attr(CustomDslSetter.id(CustomDslAttrs.onTextChanged), watcher)
+fun TextViewScope.inputExtras(extras: Int) = attr(CustomDslSetter.id(CustomDslAttrs.inputExtras), extras)
+
+internal class LazyItems(val orientation: Int, val count: Int, val itemSize: Int, val item: LazyLayout.Item)
+
+abstract class LazyLayoutScope : ViewGroupScope() {
+    companion object : LazyLayoutScope()
+}
+
+/**
+ * Vertical list of [count] items, each [itemSize] high, of which only the
+ * ones visible in the enclosing scroll view are created and rendered.
+ */
+fun lazyColumn(count: Int, itemSize: Px, configure: LazyLayoutScope.() -> Unit = {}, item: (Int) -> Unit) =
+    lazyLayout(LinearLayout.VERTICAL, count, itemSize, configure, item)
+
+/** Horizontal counterpart of [lazyColumn] */
+fun lazyRow(count: Int, itemSize: Px, configure: LazyLayoutScope.() -> Unit = {}, item: (Int) -> Unit) =
+    lazyLayout(LinearLayout.HORIZONTAL, count, itemSize, configure, item)
+
+private fun lazyLayout(orientation: Int, count: Int, itemSize: Px, configure: LazyLayoutScope.() -> Unit, item: (Int) -> Unit) =
+    v<LazyLayout, LazyLayoutScope>(LazyLayoutScope) {
+        configure()
+        attr(CustomDslSetter.id(CustomDslAttrs.lazyItems), LazyItems(orientation, count, itemSize.value, LazyLayout.Item { item(it) }))
+    }
+
+fun LazyLayoutScope.prefetch(items: Int) = attr(CustomDslSetter.id(CustomDslAttrs.lazyPrefetch), items)
+
+/** Ordinals of the attributes handled by [CustomDslSetter]. */
+object CustomDslAttrs {
+    const val init = 0
+    const val tag = 1
+    const val size = 2
+    const val padding = 3
+    const val margin = 4
+    const val align = 5
+    const val anim = 6
+    const val animInOut = 7
+    const val textSizeSp = 8
+    const val textSizeDip = 9
+    const val textSizePx = 10
+    const val typeface = 11
+    const val compoundDrawables = 12
+    const val compoundDrawablesWithIntrinsicBounds = 13
+    const val compoundDrawablesWithIntrinsicBoundsResource = 14
+    const val shadowLayer = 15
+    const val check = 16
+    const val weight = 17
+    const val layoutGravity = 18
+    const val onSeekBarChange = 19
+    const val onItemSelected = 20
+    const val text = 21
+    const val onTextChanged = 22
+    const val inputExtras = 23
+    const val lazyItems = 24
+    const val lazyPrefetch = 25
+    const val precomputedText = 26
+}
+
+object CustomDslSetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+    private val attrs = Anvil.AttrTable(
+        "init",
+        "tag",
+        "size",
+        "padding",
+        "margin",
+        "align",
+        "anim",
+        "animInOut",
+        "textSizeSp",
+        "textSizeDip",
+        "textSizePx",
+        "typeface",
+        "compoundDrawables",
+        "compoundDrawablesWithIntrinsicBounds",
+        "compoundDrawablesWithIntrinsicBoundsResource",
+        "shadowLayer",
+        "check",
+        "weight",
+        "layoutGravity",
+        "onSeekBarChange",
+        "onItemSelected",
+        "text",
+        "onTextChanged",
+        "inputExtras",
+        "lazyItems",
+        "lazyPrefetch",
+        "precomputedText"
+    )
+
+    // RelativeLayout rules, one attribute per verb
+    private val alignAttrs = Anvil.AttrTable(*Array(RELATIVE_LAYOUT_VERBS) { "align:$it" })
+
+    fun id(ordinal: Int): Int = attrs.id(ordinal)
+
+    fun alignId(verb: Int): Int = alignAttrs.id(verb)
+
+    override fun setInt(v: View, id: Int, value: Int): Boolean = when (attrs.ordinal(id)) {
+        CustomDslAttrs.textSizeDip -> when (v) {
+            is TextView -> {
+                v.setTextSize(TypedValue.COMPLEX_UNIT_DIP, value.toFloat())
                 true
             }
             else -> false
         }
-        "tag" -> when {
-            value is Pair<*, *> -> {
-                v.setTag(value.first as Int, value.second)
+        CustomDslAttrs.textSizePx -> when (v) {
+            is TextView -> {
+                v.setTextSize(TypedValue.COMPLEX_UNIT_PX, value.toFloat())
                 true
             }
             else -> false
         }
-        "size" -> when {
-            value is Pair<*, *> -> {
-                val p = v.layoutParams
-                val width = value.first
-                val height = value.second
-                when (width) {
-                    is Size.EXACT -> {
-                        p.width = width.size.value
-                    }
-                    is Size.MATCH -> {
-                        p.width = ViewGroup.LayoutParams.MATCH_PARENT
-                    }
-                    is Size.WRAP -> {
-                        p.width = ViewGroup.LayoutParams.WRAP_CONTENT
-                    }
-                }
-                when (height) {
-                    is Size.EXACT -> {
-                        p.height = height.size.value
-                    }
-                    is Size.MATCH -> {
-                        p.height = ViewGroup.LayoutParams.MATCH_PARENT
-                    }
-                    is Size.WRAP -> {
-                        p.height = ViewGroup.LayoutParams.WRAP_CONTENT
-                    }
-                }
-                v.layoutParams = p
+        CustomDslAttrs.check -> when (v) {
+            is RadioGroup -> {
+                v.check(value)
                 true
             }
             else -> false
         }
-        "padding" -> when {
-            value is List<*> -> {
-                val (l, t, r, b) = value as List<Int>
-                v.setPadding(dip(l), dip(t), dip(r), dip(b))
+        CustomDslAttrs.layoutGravity -> setLayoutGravity(v, value)
+        CustomDslAttrs.lazyPrefetch -> when (v) {
+            is LazyLayout -> {
+                v.setPrefetch(value)
                 true
             }
             else -> false
         }
-        "margin" -> when {
-            v.layoutParams is ViewGroup.MarginLayoutParams && value is List<*> -> {
-                val p = v.layoutParams as ViewGroup.MarginLayoutParams
-                val (l, t, r, b) = value as List<Int>
-                p.leftMargin = dip(l)
-                p.topMargin = dip(t)
-                p.rightMargin = dip(r)
-                p.bottomMargin = dip(b)
-                v.layoutParams = p
+        -1 -> {
+            val verb = alignAttrs.ordinal(id)
+            val p = if (verb >= 0) Anvil.layoutParams(v) else null
+            if (p is RelativeLayout.LayoutParams) {
+                p.addRule(verb, value)
+                true
+            } else {
+                false
+            }
+        }
+        else -> false
+    }
+
+    override fun setFloat(v: View, id: Int, value: Float): Boolean = when (attrs.ordinal(id)) {
+        CustomDslAttrs.textSizeSp -> when (v) {
+            is TextView -> {
+                v.setTextSize(TypedValue.COMPLEX_UNIT_SP, value)
+                true
+            }
+            else -> false
+        }
+        CustomDslAttrs.weight -> setWeight(v, value)
+        else -> false
+    }
+
+    override fun setBoolean(v: View, id: Int, value: Boolean): Boolean = false
+
+    override fun setLong(v: View, id: Int, value: Long): Boolean = when (attrs.ordinal(id)) {
+        CustomDslAttrs.size -> {
+            val p = Anvil.layoutParams(v)
+            p.width = (value shr 32).toInt()
+            p.height = value.toInt()
+            true
+        }
+        CustomDslAttrs.padding -> {
+            v.setPadding(dip(unpackDip(value, 0)), dip(unpackDip(value, 1)), dip(unpackDip(value, 2)), dip(unpackDip(value, 3)))
+            true
+        }
+        CustomDslAttrs.margin -> when (val p = Anvil.layoutParams(v)) {
+            is ViewGroup.MarginLayoutParams -> {
+                p.leftMargin = dip(unpackDip(value, 0))
+                p.topMargin = dip(unpackDip(value, 1))
+                p.rightMargin = dip(unpackDip(value, 2))
+                p.bottomMargin = dip(unpackDip(value, 3))
                 true
             }
             else -> false
         }
-        "align" -> when {
-            v.layoutParams is RelativeLayout.LayoutParams && value is Pair<*, *> -> {
-                val p = v.layoutParams as RelativeLayout.LayoutParams
+        else -> false
+    }
+
+    private fun setWeight(v: View, weight: Float): Boolean = when (val p = Anvil.layoutParams(v)) {
+        is LinearLayout.LayoutParams -> {
+            p.weight = weight
+            true
+        }
+        else -> false
+    }
+
+    private fun setLayoutGravity(v: View, gravity: Int): Boolean = when (val p = Anvil.layoutParams(v)) {
+        is LinearLayout.LayoutParams -> {
+            p.gravity = gravity
+            true
+        }
+        is FrameLayout.LayoutParams -> {
+            p.gravity = gravity
+            true
+        }
+        else -> false
+    }
+
+    override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean =
+        set(v, Anvil.attrId(name), value, prevValue)
+
+    override fun set(v: View, id: Int, value: Any?, prevValue: Any?): Boolean = when (attrs.ordinal(id)) {
+        CustomDslAttrs.init -> when {
+            value is Function<*> -> {
+                val store = Anvil.store(v)
+                if (!store.initialized) {
+                    store.initialized = true
+                    (value as (View) -> Any?)(v)
+                }
+                true
+            }
+            else -> false
+        }
+        CustomDslAttrs.tag -> when {
+            value is KeyedTag -> {
+                v.setTag(value.key, value.value)
+                true
+            }
+            else -> false
+        }
+        CustomDslAttrs.size, CustomDslAttrs.padding, CustomDslAttrs.margin ->
+            value is Long && setLong(v, id, value)
+        CustomDslAttrs.align -> when (val p = if (value is Pair<*, *>) Anvil.layoutParams(v) else null) {
+            is RelativeLayout.LayoutParams -> {
                 val (verb, subject) = value as Pair<Int, Int>
                 p.addRule(verb, subject)
                 true
             }
             else -> false
         }
-        "anim" -> when {
+        CustomDslAttrs.anim -> when {
             value is AnimatorPair -> {
                 if(value.trigger) {
                     value.animator.apply {
@@ -209,7 +455,7 @@ object CustomDslSetter : Anvil.AttributeSetter<Any?> {
             }
             else -> false
         }
-        "animInOut" -> when (value) {
+        CustomDslAttrs.animInOut -> when (value) {
             is AnimatorTriple -> {
                 if (value.trigger) {
                     if (value.animatorIn !is AnimatorSet) {
@@ -228,118 +474,109 @@ object CustomDslSetter : Anvil.AttributeSetter<Any?> {
             }
             else -> false
         }
-        "textSizeSp" -> when {
+        CustomDslAttrs.textSizeSp -> when {
             v is TextView &&  value is Float-> {
                 v.setTextSize(TypedValue.COMPLEX_UNIT_SP, value)
                 true
             }
             else -> false
         }
-        "textSizeDip" -> when {
+        CustomDslAttrs.textSizeDip -> when {
             v is TextView && value is Int -> {
                 v.setTextSize(TypedValue.COMPLEX_UNIT_DIP, value.toFloat())
                 true
             }
             else -> false
         }
-        "textSizePx" -> when {
+        CustomDslAttrs.textSizePx -> when {
             v is TextView && value is Int -> {
                 v.setTextSize(TypedValue.COMPLEX_UNIT_PX, value.toFloat())
                 true
             }
             else -> false
         }
-        "typeface" -> when {
+        CustomDslAttrs.typeface -> when {
             v is TextView && value is String -> {
-                v.typeface = Typeface.createFromAsset(v.context.assets, value)
+                v.typeface = ResourceCache.typeface(v.context, value)
                 true
             }
-            v is TextView && value is Pair<*, *> -> {
-                val (path, style) = value as Pair<String?, Int>
-                val typeface = path?.let { Typeface.createFromAsset(v.context.assets, it) }
-                v.setTypeface(typeface, style)
+            v is TextView && value is TypefaceStyle -> {
+                val typeface = value.path?.let { ResourceCache.typeface(v.context, it) }
+                v.setTypeface(typeface, value.style)
                 true
             }
             else -> false
         }
-        "compoundDrawables" -> when {
-            v is TextView && value is List<*> -> {
-                val (l, t, r, b) = value as List<Drawable>
-                v.setCompoundDrawables(l, t, r, b)
+        CustomDslAttrs.compoundDrawables -> when {
+            v is TextView && value is Drawables -> {
+                v.setCompoundDrawables(value.l, value.t, value.r, value.b)
                 true
             }
             else -> false
         }
-        "compoundDrawablesWithIntrinsicBounds" -> when {
-            v is TextView && value is List<*> -> {
-                val (l, t, r, b) = value as List<Drawable>
-                v.setCompoundDrawablesWithIntrinsicBounds(l, t, r, b)
+        CustomDslAttrs.compoundDrawablesWithIntrinsicBounds -> when {
+            v is TextView && value is Drawables -> {
+                v.setCompoundDrawablesWithIntrinsicBounds(value.l, value.t, value.r, value.b)
                 true
             }
             else -> false
         }
-        "compoundDrawablesWithIntrinsicBoundsResource" -> when {
-            v is TextView && value is List<*> -> {
-                val (l, t, r, b) = value as List<Int>
-                v.setCompoundDrawablesWithIntrinsicBounds(l, t, r, b)
+        CustomDslAttrs.compoundDrawablesWithIntrinsicBoundsResource -> when {
+            v is TextView && value is DrawableResources -> {
+                if (ResourceCache.isFrameworkView(v)) {
+                    v.setCompoundDrawablesWithIntrinsicBounds(
+                        ResourceCache.drawable(v.context, value.l),
+                        ResourceCache.drawable(v.context, value.t),
+                        ResourceCache.drawable(v.context, value.r),
+                        ResourceCache.drawable(v.context, value.b))
+                } else {
+                    v.setCompoundDrawablesWithIntrinsicBounds(value.l, value.t, value.r, value.b)
+                }
                 true
             }
             else -> false
         }
-        "shadowLayer" -> when {
-            v is TextView && value is List<*> -> {
-                val (radius, dx, dy, color) = value as List<Number>
-                v.setShadowLayer(radius.toFloat(), dx.toFloat(), dy.toFloat(), color.toInt())
+        CustomDslAttrs.shadowLayer -> when {
+            v is TextView && value is ShadowLayer -> {
+                v.setShadowLayer(value.radius, value.dx, value.dy, value.color)
                 true
             }
             else -> false
         }
-        "check" -> when {
+        CustomDslAttrs.check -> when {
             v is RadioGroup && value is Int -> {
                 v.check(value)
                 true
             }
             else -> false
         }
-        "weight" -> when {
-            v.layoutParams is LinearLayout.LayoutParams && value is Float -> {
-                (v.layoutParams as LinearLayout.LayoutParams).weight = value
-                true
-            }
-            else -> false
-        }
-        "layoutGravity" -> when {
-            v.layoutParams is LinearLayout.LayoutParams && value is Int -> {
-                // TODO should we set new layoutParams back here?
-                (v.layoutParams as LinearLayout.LayoutParams).gravity = value
-                true
-            }
-            v.layoutParams is FrameLayout.LayoutParams && value is Int -> {
-                // TODO should we set new layoutParams back here?
-                (v.layoutParams as FrameLayout.LayoutParams).gravity = value
-                true
-            }
-            else -> false
-        }
-        "onSeekBarChange" -> when {
+        CustomDslAttrs.weight -> value is Float && setWeight(v, value)
+        CustomDslAttrs.layoutGravity -> value is Int && setLayoutGravity(v, value)
+        CustomDslAttrs.onSeekBarChange -> when {
             v is SeekBar && value is Function<*> -> {
-                v.setOnSeekBarChangeListener(SeekBarChangeWrapper(value as SeekBarChangeListener))
+                if (prevValue !is Function<*>) {
+                    v.setOnSeekBarChangeListener(SeekBarChangeWrapper(id))
+                }
                 true
             }
             else -> false
         }
-        "onItemSelected" -> when {
+        CustomDslAttrs.onItemSelected -> when {
             v is AdapterView<*> && value is Function<*> -> {
-                v.onItemSelectedListener = ItemSelectedWrapper(value as ItemSelectedListener)
+                if (prevValue !is Function<*>) {
+                    v.onItemSelectedListener = ItemSelectedWrapper(id)
+                }
                 true
             }
             v is AutoCompleteTextView && value is Function<*> -> {
-                v.onItemSelectedListener = ItemSelectedWrapper(value as ItemSelectedListener)
+                if (prevValue !is Function<*>) {
+                    v.onItemSelectedListener = ItemSelectedWrapper(id)
+                }
                 true
             }
             else -> false
         }
-        "text" -> when {
+        CustomDslAttrs.text -> when {
             v is TextView && value is CharSequence? -> {
                 if (v != TextWatcherProxy.currentInputTextView) {
                     v.text = value
@@ -349,33 +586,21 @@ object CustomDslSetter : Anvil.AttributeSetter<Any?> {
             // TODO do we need to process TextSwitcher here?
             else -> false
         }
-        "onTextChanged" -> when {
-            v is TextView && value is Function<*> -> {
-                value as (CharSequence) -> Unit
-                val existing = TextWatcherProxy.watchers.keys.firstOrNull { it.hasImpl(prevValue) }
-                if (existing != null) {
-                    existing.setImpl(value)
-                } else {
-                    val proxy = TextWatcherProxy(v).setImpl(value)
-                    TextWatcherProxy.watchers[proxy] = Unit
-                    v.addTextChangedListener(proxy)
-                }
+        CustomDslAttrs.precomputedText -> when {
+            v is TextView && value is CharSequence? -> {
+                TextPrecomputer.setText(v, id, value)
                 true
             }
-            v is TextView && value is TextWatcher -> {
-                val existing = TextWatcherProxy.watchers.keys.firstOrNull { it.hasImpl(prevValue) }
-                if (existing != null) {
-                    existing.setImpl(value)
-                } else {
-                    val proxy = TextWatcherProxy(v).setImpl(value)
-                    TextWatcherProxy.watchers[proxy] = Unit
-                    v.addTextChangedListener(proxy)
-                }
+            else -> false
+        }
+        CustomDslAttrs.onTextChanged -> when {
+            v is TextView && (value is Function<*> || value is TextWatcher) -> {
+                TextWatcherProxy.of(v)
                 true
             }
             else -> false
         }
-        "inputExtras" -> when {
+        CustomDslAttrs.inputExtras -> when {
             v is TextView && value is Int -> {
                 try {
                     v.setInputExtras(value)
@@ -390,10 +615,22 @@ object CustomDslSetter : Anvil.AttributeSetter<Any?> {
             }
             else -> false
         }
+        CustomDslAttrs.lazyItems -> when {
+            v is LazyLayout && value is LazyItems -> {
+                v.setOrientation(value.orientation)
+                v.setItems(value.count, value.itemSize, value.item)
+                true
+            }
+            else -> false
+        }
+        CustomDslAttrs.lazyPrefetch -> value is Int && setInt(v, id, value)
+        -1 -> value is Int && setInt(v, id, value)
         else -> false
     }
 }
 
+private const val RELATIVE_LAYOUT_VERBS = 22
+
 private class AnimatorTriple(var animatorIn: Animator, var animatorOut: Animator, val trigger: Boolean) {
 
     override fun hashCode(): Int {
@@ -434,71 +671,91 @@ private class AnimatorPair(var animator: Animator, var trigger: Boolean) {
     }
 }
 
-private class SeekBarChangeWrapper(private val listener: SeekBarChangeListener) : SeekBar.OnSeekBarChangeListener {
+// Wrappers are installed once per view and dispatch events to the listener
+// the attribute has been rendered with last time, like generated listeners do
+private class SeekBarChangeWrapper(private val id: Int) : SeekBar.OnSeekBarChangeListener {
     override fun onProgressChanged(seekBar: SeekBar, progress: Int, fromUser: Boolean) {
+        val listener = Anvil.attrValue(seekBar, id) as? SeekBarChangeListener ?: return
         listener(seekBar, progress, fromUser)
-        Anvil.render()
+        Anvil.renderFrom(seekBar)
     }
 
     override fun onStartTrackingTouch(seekBar: SeekBar?) {}
     override fun onStopTrackingTouch(seekBar: SeekBar?) {}
-
-    override fun hashCode(): Int = listener.hashCode()
-    override fun equals(other: Any?): Boolean = listener == other
 }
 
-private class ItemSelectedWrapper(private val listener: ItemSelectedListener) : AdapterView.OnItemSelectedListener {
+private class ItemSelectedWrapper(private val id: Int) : AdapterView.OnItemSelectedListener {
     override fun onItemSelected(parent: AdapterView<*>, view: View?, position: Int, id: Long) {
+        val listener = Anvil.attrValue(parent, this.id) as? ItemSelectedListener ?: return
         listener(parent, view, position, id)
-        Anvil.render()
+        Anvil.renderFrom(parent)
     }
 
     override fun onNothingSelected(parent: AdapterView<*>?) {}
-
-    override fun hashCode(): Int = listener.hashCode()
-    override fun equals(other: Any?): Boolean = listener == other
 }
 
 class TextWatcherProxy(private val view: TextView) : TextWatcher {
-    private var watcher: TextWatcher? = null
-    private var simpleWatcher: (CharSequence) -> Unit = {}
-    private var text: String = ""
+    // Characters about to be replaced by the same number of new ones, the
+    // only kind of change that may leave the text as it was
+    private var replaced: String? = null
 
     companion object {
-        val watchers = WeakHashMap<TextWatcherProxy, Unit>()
         var currentInputTextView: TextView? = null
+
+        /** Returns the proxy added to the text view, adding one if needed */
+        fun of(v: TextView): TextWatcherProxy {
+            val store = Anvil.store(v)
+            val existing = store.textWatcher?.get()
+            if (existing is TextWatcherProxy) {
+                return existing
+            }
+            val proxy = TextWatcherProxy(v)
+            store.textWatcher = WeakReference(proxy)
+            v.addTextChangedListener(proxy)
+            return proxy
+        }
     }
 
     override fun beforeTextChanged(s: CharSequence?, start: Int, count: Int, after: Int) {
-        watcher?.beforeTextChanged(s, start, count, after)
+        replaced = if (s != null && count == after && count > 0) s.subSequence(start, start + count).toString() else null
+        (watcher() as? TextWatcher)?.beforeTextChanged(s, start, count, after)
     }
 
     override fun afterTextChanged(s: Editable) {
-        watcher?.afterTextChanged(s)
+        (watcher() as? TextWatcher)?.afterTextChanged(s)
     }
 
     override fun onTextChanged(s: CharSequence, start: Int, before: Int, count: Int) {
-        val string = s.toString()
+        val watcher = watcher()
+        if (watcher == null || !changed(s, start, before, count)) {
+            return
+        }
         val old = currentInputTextView
         currentInputTextView = view
-        if (text != string) {
-            watcher?.onTextChanged(s, start, before, count)
-            simpleWatcher(s)
-            text = string
-            Anvil.render()
+        if (watcher is TextWatcher) {
+            watcher.onTextChanged(s, start, before, count)
+        } else {
+            (watcher as? (CharSequence) -> Unit)?.invoke(s)
         }
+        Anvil.renderFrom(view)
         currentInputTextView = old
     }
 
-    fun setImpl(watcher: TextWatcher): TextWatcherProxy = apply {
-        this.watcher = watcher
-        this.simpleWatcher = {}
-    }
-
-    fun setImpl(watcher: (CharSequence) -> Unit): TextWatcherProxy = apply {
-        this.watcher = null
-        this.simpleWatcher = watcher
+    /** Compares only the replaced range, so typing doesn't depend on the text length */
+    private fun changed(s: CharSequence, start: Int, before: Int, count: Int): Boolean {
+        if (before != count) {
+            return true
+        }
+        val prev = replaced ?: return count > 0
+        replaced = null
+        for (i in 0 until count) {
+            if (s[start + i] != prev[i]) {
+                return true
+            }
+        }
+        return false
     }
 
-    fun hasImpl(watcher: Any?): Boolean = watcher != null && (watcher == this.watcher || watcher == this.simpleWatcher)
+    // Watcher the attribute holds, none once the view is released to the pool
+    private fun watcher(): Any? = Anvil.attrValue(view, CustomDslSetter.id(CustomDslAttrs.onTextChanged))
 }
@@ -16,13 +16,28 @@ import kotlin.math.roundToInt
 import kotlin.reflect.KClass
 
 fun v(c: KClass<out View>, r: () -> Unit = {}) {
-    Anvil.currentMount().iterator.start(c.java, 0)
+    start(c.java)
     r()
     end()
 }
-inline fun <reified T: View> v(noinline r: () -> Unit = {}) = v(T::class, r)
 
-inline fun <reified T: View, reified S: ViewScope> v(s: S, noinline r: S.() -> Unit = {}) = v(T::class, r.bind(s))
+// Inlined, so that rendering a view allocates neither a KClass nor a closure.
+// The block is crossinline, a non-local return from it would skip end()
+inline fun <reified T: View> v(crossinline r: () -> Unit = {}) {
+    start(T::class.java)
+    r()
+    end()
+}
+
+inline fun <reified T: View, reified S: ViewScope> v(s: S, crossinline r: S.() -> Unit = {}) {
+    start(T::class.java)
+    s.r()
+    end()
+}
+
+@PublishedApi
+internal fun start(c: Class<out View>) = Anvil.currentMount().iterator.start(c, 0)
+
 
 fun xml(@LayoutRes layoutId: Int, r: () -> Unit = {}) {
     Anvil.currentMount().iterator.start(null, layoutId)
@@ -30,14 +45,52 @@ fun xml(@LayoutRes layoutId: Int, r: () -> Unit = {}) {
     end()
 }
 fun end() = Anvil.currentMount().iterator.end()
+
+/**
+ * Assigns a key to the next view. Keyed views are matched by key rather than
+ * by position, so when siblings are inserted, removed or reordered the view
+ * is moved into place instead of being recreated.
+ */
+fun key(value: Any) = Anvil.currentMount().iterator.key(value)
 fun skip() = Anvil.currentMount().iterator.skip()
 
+/**
+ * Executes the block only if some of the dependencies differ from the ones
+ * the block had at the same position on the last render. Otherwise the views
+ * declared in the block are skipped and keep their current state. The block
+ * can't return from the enclosing function, which would skip endMemo().
+ */
+inline fun memo(vararg deps: Any?, crossinline r: () -> Unit) {
+    if (beginMemo(deps)) {
+        r()
+        endMemo()
+    }
+}
+
+@PublishedApi
+internal fun beginMemo(deps: Array<out Any?>) = Anvil.currentMount().iterator.beginMemo(deps)
+
+@PublishedApi
+internal fun endMemo() = Anvil.currentMount().iterator.endMemo()
+
 fun <T, U> ((T) -> U).bind(value: T): () -> U = { this(value) }
 
 fun <T> attr(name: String, value: T?) {
     Anvil.currentMount().iterator.attr<T>(name, value)
 }
 
+fun <T> attr(id: Int, value: T?) {
+    Anvil.currentMount().iterator.attr<T>(id, value)
+}
+
+fun attr(id: Int, value: Int) = Anvil.currentMount().iterator.attrInt(id, value)
+fun attr(id: Int, value: Float) = Anvil.currentMount().iterator.attrFloat(id, value)
+fun attr(id: Int, value: Boolean) = Anvil.currentMount().iterator.attrBoolean(id, value)
+fun attr(id: Int, value: Long) = Anvil.currentMount().iterator.attrLong(id, value)
+
+/** Returns the value of the attribute cached for the current view, or null */
+internal fun cachedAttr(id: Int): Any? = Anvil.currentMount().iterator.cachedAttr(id)
+
 val r: Resources
     get() = Anvil.currentView<View>()!!.resources
 
@@ -138,12 +138,12 @@ import kotlin.Suppress
 import kotlin.Unit
 
 fun fragmentBreadCrumbs(configure: FragmentBreadCrumbsScope.() -> Unit = {}) =
-    v<FragmentBreadCrumbs>(configure.bind(FragmentBreadCrumbsScope))
+    v<FragmentBreadCrumbs, FragmentBreadCrumbsScope>(FragmentBreadCrumbsScope, configure)
 abstract class FragmentBreadCrumbsScope : ViewGroupScope() {
-  fun activity(arg: Activity): Unit = attr("activity", arg)
-  fun maxVisible(arg: Int): Unit = attr("maxVisible", arg)
+  fun activity(arg: Activity): Unit = attr(SdkSetter.id(SdkAttrs.activity), arg)
+  fun maxVisible(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxVisible), arg)
   fun onBreadCrumbClick(arg: ((arg0: FragmentManager.BackStackEntry, arg1: Int) -> Boolean)?): Unit
-      = attr("onBreadCrumbClick", arg)
+      = attr(SdkSetter.id(SdkAttrs.onBreadCrumbClick), arg)
   companion object : FragmentBreadCrumbsScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -151,11 +151,11 @@ abstract class FragmentBreadCrumbsScope : ViewGroupScope() {
 }
 
 fun mediaRouteButton(configure: MediaRouteButtonScope.() -> Unit = {}) =
-    v<MediaRouteButton>(configure.bind(MediaRouteButtonScope))
+    v<MediaRouteButton, MediaRouteButtonScope>(MediaRouteButtonScope, configure)
 abstract class MediaRouteButtonScope : ViewScope() {
   fun extendedSettingsClickListener(arg: View.OnClickListener): Unit =
-      attr("extendedSettingsClickListener", arg)
-  fun routeTypes(arg: Int): Unit = attr("routeTypes", arg)
+      attr(SdkSetter.id(SdkAttrs.extendedSettingsClickListener), arg)
+  fun routeTypes(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.routeTypes), arg)
   companion object : MediaRouteButtonScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -163,7 +163,7 @@ abstract class MediaRouteButtonScope : ViewScope() {
 }
 
 fun appWidgetHostView(configure: AppWidgetHostViewScope.() -> Unit = {}) =
-    v<AppWidgetHostView>(configure.bind(AppWidgetHostViewScope))
+    v<AppWidgetHostView, AppWidgetHostViewScope>(AppWidgetHostViewScope, configure)
 abstract class AppWidgetHostViewScope : FrameLayoutScope() {
   companion object : AppWidgetHostViewScope() {
     init {
@@ -172,22 +172,26 @@ abstract class AppWidgetHostViewScope : FrameLayoutScope() {
 }
 
 fun gestureOverlayView(configure: GestureOverlayViewScope.() -> Unit = {}) =
-    v<GestureOverlayView>(configure.bind(GestureOverlayViewScope))
+    v<GestureOverlayView, GestureOverlayViewScope>(GestureOverlayViewScope, configure)
 abstract class GestureOverlayViewScope : FrameLayoutScope() {
-  fun eventsInterceptionEnabled(arg: Boolean): Unit = attr("eventsInterceptionEnabled", arg)
-  fun fadeEnabled(arg: Boolean): Unit = attr("fadeEnabled", arg)
-  fun fadeOffset(arg: Long): Unit = attr("fadeOffset", arg)
-  fun gesture(arg: Gesture): Unit = attr("gesture", arg)
-  fun gestureColor(arg: Int): Unit = attr("gestureColor", arg)
-  fun gestureStrokeAngleThreshold(arg: Float): Unit = attr("gestureStrokeAngleThreshold", arg)
-  fun gestureStrokeLengthThreshold(arg: Float): Unit = attr("gestureStrokeLengthThreshold", arg)
-  fun gestureStrokeSquarenessTreshold(arg: Float): Unit = attr("gestureStrokeSquarenessTreshold",
+  fun eventsInterceptionEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.eventsInterceptionEnabled), arg)
+  fun fadeEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.fadeEnabled), arg)
+  fun fadeOffset(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.fadeOffset), arg)
+  fun gesture(arg: Gesture): Unit = attr(SdkSetter.id(SdkAttrs.gesture), arg)
+  fun gestureColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gestureColor), arg)
+  fun gestureStrokeAngleThreshold(arg: Float): Unit =
+      attr(SdkSetter.id(SdkAttrs.gestureStrokeAngleThreshold), arg)
+  fun gestureStrokeLengthThreshold(arg: Float): Unit =
+      attr(SdkSetter.id(SdkAttrs.gestureStrokeLengthThreshold), arg)
+  fun gestureStrokeSquarenessTreshold(arg: Float): Unit =
+      attr(SdkSetter.id(SdkAttrs.gestureStrokeSquarenessTreshold), arg)
+  fun gestureStrokeType(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gestureStrokeType), arg)
+  fun gestureStrokeWidth(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.gestureStrokeWidth), arg)
+  fun gestureVisible(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.gestureVisible), arg)
+  fun orientation(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.orientation), arg)
+  fun uncertainGestureColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.uncertainGestureColor),
       arg)
-  fun gestureStrokeType(arg: Int): Unit = attr("gestureStrokeType", arg)
-  fun gestureStrokeWidth(arg: Float): Unit = attr("gestureStrokeWidth", arg)
-  fun gestureVisible(arg: Boolean): Unit = attr("gestureVisible", arg)
-  fun orientation(arg: Int): Unit = attr("orientation", arg)
-  fun uncertainGestureColor(arg: Int): Unit = attr("uncertainGestureColor", arg)
   companion object : GestureOverlayViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -195,7 +199,7 @@ abstract class GestureOverlayViewScope : FrameLayoutScope() {
 }
 
 fun extractEditText(configure: ExtractEditTextScope.() -> Unit = {}) =
-    v<ExtractEditText>(configure.bind(ExtractEditTextScope))
+    v<ExtractEditText, ExtractEditTextScope>(ExtractEditTextScope, configure)
 abstract class ExtractEditTextScope : EditTextScope() {
   companion object : ExtractEditTextScope() {
     init {
@@ -204,16 +208,17 @@ abstract class ExtractEditTextScope : EditTextScope() {
 }
 
 fun keyboardView(configure: KeyboardViewScope.() -> Unit = {}) =
-    v<KeyboardView>(configure.bind(KeyboardViewScope))
+    v<KeyboardView, KeyboardViewScope>(KeyboardViewScope, configure)
 abstract class KeyboardViewScope : ViewScope() {
-  fun keyboard(arg: Keyboard): Unit = attr("keyboard", arg)
-  fun onKeyboardAction(arg: KeyboardView.OnKeyboardActionListener?): Unit = attr("onKeyboardAction",
-      arg)
-  fun popupParent(arg: View): Unit = attr("popupParent", arg)
-  fun previewEnabled(arg: Boolean): Unit = attr("previewEnabled", arg)
-  fun proximityCorrectionEnabled(arg: Boolean): Unit = attr("proximityCorrectionEnabled", arg)
-  fun shifted(arg: Boolean): Unit = attr("shifted", arg)
-  fun verticalCorrection(arg: Int): Unit = attr("verticalCorrection", arg)
+  fun keyboard(arg: Keyboard): Unit = attr(SdkSetter.id(SdkAttrs.keyboard), arg)
+  fun onKeyboardAction(arg: KeyboardView.OnKeyboardActionListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onKeyboardAction), arg)
+  fun popupParent(arg: View): Unit = attr(SdkSetter.id(SdkAttrs.popupParent), arg)
+  fun previewEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.previewEnabled), arg)
+  fun proximityCorrectionEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.proximityCorrectionEnabled), arg)
+  fun shifted(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.shifted), arg)
+  fun verticalCorrection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.verticalCorrection), arg)
   companion object : KeyboardViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -221,19 +226,23 @@ abstract class KeyboardViewScope : ViewScope() {
 }
 
 fun gLSurfaceView(configure: GLSurfaceViewScope.() -> Unit = {}) =
-    v<GLSurfaceView>(configure.bind(GLSurfaceViewScope))
+    v<GLSurfaceView, GLSurfaceViewScope>(GLSurfaceViewScope, configure)
 abstract class GLSurfaceViewScope : SurfaceViewScope() {
-  fun debugFlags(arg: Int): Unit = attr("debugFlags", arg)
-  fun eGLConfigChooser(arg: Boolean): Unit = attr("eGLConfigChooser", arg)
-  fun eGLConfigChooser(arg: GLSurfaceView.EGLConfigChooser): Unit = attr("eGLConfigChooser", arg)
-  fun eGLContextClientVersion(arg: Int): Unit = attr("eGLContextClientVersion", arg)
-  fun eGLContextFactory(arg: GLSurfaceView.EGLContextFactory): Unit = attr("eGLContextFactory", arg)
+  fun debugFlags(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.debugFlags), arg)
+  fun eGLConfigChooser(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.eGLConfigChooser), arg)
+  fun eGLConfigChooser(arg: GLSurfaceView.EGLConfigChooser): Unit =
+      attr(SdkSetter.id(SdkAttrs.eGLConfigChooser), arg)
+  fun eGLContextClientVersion(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.eGLContextClientVersion),
+      arg)
+  fun eGLContextFactory(arg: GLSurfaceView.EGLContextFactory): Unit =
+      attr(SdkSetter.id(SdkAttrs.eGLContextFactory), arg)
   fun eGLWindowSurfaceFactory(arg: GLSurfaceView.EGLWindowSurfaceFactory): Unit =
-      attr("eGLWindowSurfaceFactory", arg)
-  fun gLWrapper(arg: GLSurfaceView.GLWrapper): Unit = attr("gLWrapper", arg)
-  fun preserveEGLContextOnPause(arg: Boolean): Unit = attr("preserveEGLContextOnPause", arg)
-  fun renderMode(arg: Int): Unit = attr("renderMode", arg)
-  fun renderer(arg: GLSurfaceView.Renderer): Unit = attr("renderer", arg)
+      attr(SdkSetter.id(SdkAttrs.eGLWindowSurfaceFactory), arg)
+  fun gLWrapper(arg: GLSurfaceView.GLWrapper): Unit = attr(SdkSetter.id(SdkAttrs.gLWrapper), arg)
+  fun preserveEGLContextOnPause(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.preserveEGLContextOnPause), arg)
+  fun renderMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.renderMode), arg)
+  fun renderer(arg: GLSurfaceView.Renderer): Unit = attr(SdkSetter.id(SdkAttrs.renderer), arg)
   companion object : GLSurfaceViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -241,11 +250,11 @@ abstract class GLSurfaceViewScope : SurfaceViewScope() {
 }
 
 fun surfaceView(configure: SurfaceViewScope.() -> Unit = {}) =
-    v<SurfaceView>(configure.bind(SurfaceViewScope))
+    v<SurfaceView, SurfaceViewScope>(SurfaceViewScope, configure)
 abstract class SurfaceViewScope : ViewScope() {
-  fun secure(arg: Boolean): Unit = attr("secure", arg)
-  fun zOrderMediaOverlay(arg: Boolean): Unit = attr("zOrderMediaOverlay", arg)
-  fun zOrderOnTop(arg: Boolean): Unit = attr("zOrderOnTop", arg)
+  fun secure(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.secure), arg)
+  fun zOrderMediaOverlay(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.zOrderMediaOverlay), arg)
+  fun zOrderOnTop(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.zOrderOnTop), arg)
   companion object : SurfaceViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -253,124 +262,150 @@ abstract class SurfaceViewScope : ViewScope() {
 }
 
 fun textureView(configure: TextureViewScope.() -> Unit = {}) =
-    v<TextureView>(configure.bind(TextureViewScope))
+    v<TextureView, TextureViewScope>(TextureViewScope, configure)
 abstract class TextureViewScope : ViewScope() {
-  fun opaque(arg: Boolean): Unit = attr("opaque", arg)
-  fun surfaceTexture(arg: SurfaceTexture): Unit = attr("surfaceTexture", arg)
+  fun opaque(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.opaque), arg)
+  fun surfaceTexture(arg: SurfaceTexture): Unit = attr(SdkSetter.id(SdkAttrs.surfaceTexture), arg)
   fun surfaceTextureListener(arg: TextureView.SurfaceTextureListener): Unit =
-      attr("surfaceTextureListener", arg)
-  fun transform(arg: Matrix): Unit = attr("transform", arg)
+      attr(SdkSetter.id(SdkAttrs.surfaceTextureListener), arg)
+  fun transform(arg: Matrix): Unit = attr(SdkSetter.id(SdkAttrs.transform), arg)
   companion object : TextureViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun view(configure: ViewScope.() -> Unit = {}) = v<View>(configure.bind(ViewScope))
+fun view(configure: ViewScope.() -> Unit = {}) = v<View, ViewScope>(ViewScope, configure)
 abstract class ViewScope : RootViewScope() {
-  fun accessibilityDelegate(arg: View.AccessibilityDelegate?): Unit = attr("accessibilityDelegate",
+  fun accessibilityDelegate(arg: View.AccessibilityDelegate?): Unit =
+      attr(SdkSetter.id(SdkAttrs.accessibilityDelegate), arg)
+  fun accessibilityLiveRegion(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.accessibilityLiveRegion),
+      arg)
+  fun activated(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.activated), arg)
+  fun alpha(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.alpha), arg)
+  fun animation(arg: Animation): Unit = attr(SdkSetter.id(SdkAttrs.animation), arg)
+  fun background(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.background), arg)
+  fun backgroundColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.backgroundColor), arg)
+  fun backgroundResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.backgroundResource), arg)
+  fun bottom(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.bottom), arg)
+  fun cameraDistance(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.cameraDistance), arg)
+  fun clickable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.clickable), arg)
+  fun clipBounds(arg: Rect): Unit = attr(SdkSetter.id(SdkAttrs.clipBounds), arg)
+  fun contentDescription(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.contentDescription),
+      arg)
+  fun drawingCacheBackgroundColor(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.drawingCacheBackgroundColor), arg)
+  fun drawingCacheEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.drawingCacheEnabled),
       arg)
-  fun accessibilityLiveRegion(arg: Int): Unit = attr("accessibilityLiveRegion", arg)
-  fun activated(arg: Boolean): Unit = attr("activated", arg)
-  fun alpha(arg: Float): Unit = attr("alpha", arg)
-  fun animation(arg: Animation): Unit = attr("animation", arg)
-  fun background(arg: Drawable): Unit = attr("background", arg)
-  fun backgroundColor(arg: Int): Unit = attr("backgroundColor", arg)
-  fun backgroundResource(arg: Int): Unit = attr("backgroundResource", arg)
-  fun bottom(arg: Int): Unit = attr("bottom", arg)
-  fun cameraDistance(arg: Float): Unit = attr("cameraDistance", arg)
-  fun clickable(arg: Boolean): Unit = attr("clickable", arg)
-  fun clipBounds(arg: Rect): Unit = attr("clipBounds", arg)
-  fun contentDescription(arg: CharSequence): Unit = attr("contentDescription", arg)
-  fun drawingCacheBackgroundColor(arg: Int): Unit = attr("drawingCacheBackgroundColor", arg)
-  fun drawingCacheEnabled(arg: Boolean): Unit = attr("drawingCacheEnabled", arg)
-  fun drawingCacheQuality(arg: Int): Unit = attr("drawingCacheQuality", arg)
-  fun duplicateParentStateEnabled(arg: Boolean): Unit = attr("duplicateParentStateEnabled", arg)
-  fun enabled(arg: Boolean): Unit = attr("enabled", arg)
-  fun fadingEdgeLength(arg: Int): Unit = attr("fadingEdgeLength", arg)
-  fun filterTouchesWhenObscured(arg: Boolean): Unit = attr("filterTouchesWhenObscured", arg)
-  fun fitsSystemWindows(arg: Boolean): Unit = attr("fitsSystemWindows", arg)
-  fun focusable(arg: Boolean): Unit = attr("focusable", arg)
-  fun focusableInTouchMode(arg: Boolean): Unit = attr("focusableInTouchMode", arg)
-  fun hapticFeedbackEnabled(arg: Boolean): Unit = attr("hapticFeedbackEnabled", arg)
-  fun hasTransientState(arg: Boolean): Unit = attr("hasTransientState", arg)
-  fun horizontalFadingEdgeEnabled(arg: Boolean): Unit = attr("horizontalFadingEdgeEnabled", arg)
-  fun horizontalScrollBarEnabled(arg: Boolean): Unit = attr("horizontalScrollBarEnabled", arg)
-  fun hovered(arg: Boolean): Unit = attr("hovered", arg)
-  fun id(arg: Int): Unit = attr("id", arg)
-  fun importantForAccessibility(arg: Int): Unit = attr("importantForAccessibility", arg)
-  fun keepScreenOn(arg: Boolean): Unit = attr("keepScreenOn", arg)
-  fun labelFor(arg: Int): Unit = attr("labelFor", arg)
-  fun layerPaint(arg: Paint?): Unit = attr("layerPaint", arg)
-  fun layoutDirection(arg: Int): Unit = attr("layoutDirection", arg)
-  fun layoutParams(arg: ViewGroup.LayoutParams): Unit = attr("layoutParams", arg)
-  fun left(arg: Int): Unit = attr("left", arg)
-  fun longClickable(arg: Boolean): Unit = attr("longClickable", arg)
-  fun minimumHeight(arg: Int): Unit = attr("minimumHeight", arg)
-  fun minimumWidth(arg: Int): Unit = attr("minimumWidth", arg)
-  fun nextFocusDownId(arg: Int): Unit = attr("nextFocusDownId", arg)
-  fun nextFocusForwardId(arg: Int): Unit = attr("nextFocusForwardId", arg)
-  fun nextFocusLeftId(arg: Int): Unit = attr("nextFocusLeftId", arg)
-  fun nextFocusRightId(arg: Int): Unit = attr("nextFocusRightId", arg)
-  fun nextFocusUpId(arg: Int): Unit = attr("nextFocusUpId", arg)
-  fun onClick(arg: ((arg0: View) -> Unit)?): Unit = attr("onClick", arg)
+  fun drawingCacheQuality(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.drawingCacheQuality), arg)
+  fun duplicateParentStateEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.duplicateParentStateEnabled), arg)
+  fun enabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.enabled), arg)
+  fun fadingEdgeLength(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.fadingEdgeLength), arg)
+  fun filterTouchesWhenObscured(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.filterTouchesWhenObscured), arg)
+  fun fitsSystemWindows(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.fitsSystemWindows), arg)
+  fun focusable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.focusable), arg)
+  fun focusableInTouchMode(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.focusableInTouchMode),
+      arg)
+  fun hapticFeedbackEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.hapticFeedbackEnabled),
+      arg)
+  fun hasTransientState(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.hasTransientState), arg)
+  fun horizontalFadingEdgeEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.horizontalFadingEdgeEnabled), arg)
+  fun horizontalScrollBarEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.horizontalScrollBarEnabled), arg)
+  fun hovered(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.hovered), arg)
+  fun id(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.id), arg)
+  fun importantForAccessibility(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.importantForAccessibility), arg)
+  fun keepScreenOn(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.keepScreenOn), arg)
+  fun labelFor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.labelFor), arg)
+  fun layerPaint(arg: Paint?): Unit = attr(SdkSetter.id(SdkAttrs.layerPaint), arg)
+  fun layoutDirection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.layoutDirection), arg)
+  fun layoutParams(arg: ViewGroup.LayoutParams): Unit = attr(SdkSetter.id(SdkAttrs.layoutParams),
+      arg)
+  fun left(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.left), arg)
+  fun longClickable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.longClickable), arg)
+  fun minimumHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minimumHeight), arg)
+  fun minimumWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minimumWidth), arg)
+  fun nextFocusDownId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.nextFocusDownId), arg)
+  fun nextFocusForwardId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.nextFocusForwardId), arg)
+  fun nextFocusLeftId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.nextFocusLeftId), arg)
+  fun nextFocusRightId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.nextFocusRightId), arg)
+  fun nextFocusUpId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.nextFocusUpId), arg)
+  fun onClick(arg: ((arg0: View) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onClick), arg)
   fun onCreateContextMenu(arg: ((
     arg0: ContextMenu,
     arg1: View,
     arg2: ContextMenu.ContextMenuInfo
-  ) -> Unit)?): Unit = attr("onCreateContextMenu", arg)
-  fun onDrag(arg: ((arg0: View, arg1: DragEvent) -> Boolean)?): Unit = attr("onDrag", arg)
-  fun onFocusChange(arg: ((arg0: View, arg1: Boolean) -> Unit)?): Unit = attr("onFocusChange", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onCreateContextMenu), arg)
+  fun onDrag(arg: ((arg0: View, arg1: DragEvent) -> Boolean)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onDrag), arg)
+  fun onFocusChange(arg: ((arg0: View, arg1: Boolean) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onFocusChange), arg)
   fun onGenericMotion(arg: ((arg0: View, arg1: MotionEvent) -> Boolean)?): Unit =
-      attr("onGenericMotion", arg)
-  fun onHover(arg: ((arg0: View, arg1: MotionEvent) -> Boolean)?): Unit = attr("onHover", arg)
+      attr(SdkSetter.id(SdkAttrs.onGenericMotion), arg)
+  fun onHover(arg: ((arg0: View, arg1: MotionEvent) -> Boolean)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onHover), arg)
   fun onKey(arg: ((
     arg0: View,
     arg1: Int,
     arg2: KeyEvent
-  ) -> Boolean)?): Unit = attr("onKey", arg)
-  fun onLongClick(arg: ((arg0: View) -> Boolean)?): Unit = attr("onLongClick", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onKey), arg)
+  fun onLongClick(arg: ((arg0: View) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onLongClick),
+      arg)
   fun onSystemUiVisibilityChange(arg: ((arg0: Int) -> Unit)?): Unit =
-      attr("onSystemUiVisibilityChange", arg)
-  fun onTouch(arg: ((arg0: View, arg1: MotionEvent) -> Boolean)?): Unit = attr("onTouch", arg)
-  fun overScrollMode(arg: Int): Unit = attr("overScrollMode", arg)
-  fun pivotX(arg: Float): Unit = attr("pivotX", arg)
-  fun pivotY(arg: Float): Unit = attr("pivotY", arg)
-  fun pressed(arg: Boolean): Unit = attr("pressed", arg)
-  fun right(arg: Int): Unit = attr("right", arg)
-  fun rotation(arg: Float): Unit = attr("rotation", arg)
-  fun rotationX(arg: Float): Unit = attr("rotationX", arg)
-  fun rotationY(arg: Float): Unit = attr("rotationY", arg)
-  fun saveEnabled(arg: Boolean): Unit = attr("saveEnabled", arg)
-  fun saveFromParentEnabled(arg: Boolean): Unit = attr("saveFromParentEnabled", arg)
-  fun scaleX(arg: Float): Unit = attr("scaleX", arg)
-  fun scaleY(arg: Float): Unit = attr("scaleY", arg)
-  fun scrollBarDefaultDelayBeforeFade(arg: Int): Unit = attr("scrollBarDefaultDelayBeforeFade", arg)
-  fun scrollBarFadeDuration(arg: Int): Unit = attr("scrollBarFadeDuration", arg)
-  fun scrollBarSize(arg: Int): Unit = attr("scrollBarSize", arg)
-  fun scrollBarStyle(arg: Int): Unit = attr("scrollBarStyle", arg)
-  fun scrollContainer(arg: Boolean): Unit = attr("scrollContainer", arg)
-  fun scrollX(arg: Int): Unit = attr("scrollX", arg)
-  fun scrollY(arg: Int): Unit = attr("scrollY", arg)
-  fun scrollbarFadingEnabled(arg: Boolean): Unit = attr("scrollbarFadingEnabled", arg)
-  fun selected(arg: Boolean): Unit = attr("selected", arg)
-  fun soundEffectsEnabled(arg: Boolean): Unit = attr("soundEffectsEnabled", arg)
-  fun systemUiVisibility(arg: Int): Unit = attr("systemUiVisibility", arg)
-  fun tag(arg: Any): Unit = attr("tag", arg)
-  fun textAlignment(arg: Int): Unit = attr("textAlignment", arg)
-  fun textDirection(arg: Int): Unit = attr("textDirection", arg)
-  fun top(arg: Int): Unit = attr("top", arg)
-  fun touchDelegate(arg: TouchDelegate): Unit = attr("touchDelegate", arg)
-  fun translationX(arg: Float): Unit = attr("translationX", arg)
-  fun translationY(arg: Float): Unit = attr("translationY", arg)
-  fun verticalFadingEdgeEnabled(arg: Boolean): Unit = attr("verticalFadingEdgeEnabled", arg)
-  fun verticalScrollBarEnabled(arg: Boolean): Unit = attr("verticalScrollBarEnabled", arg)
-  fun verticalScrollbarPosition(arg: Int): Unit = attr("verticalScrollbarPosition", arg)
-  fun visibility(arg: Int): Unit = attr("visibility", arg)
-  fun willNotCacheDrawing(arg: Boolean): Unit = attr("willNotCacheDrawing", arg)
-  fun willNotDraw(arg: Boolean): Unit = attr("willNotDraw", arg)
-  fun x(arg: Float): Unit = attr("x", arg)
-  fun y(arg: Float): Unit = attr("y", arg)
+      attr(SdkSetter.id(SdkAttrs.onSystemUiVisibilityChange), arg)
+  fun onTouch(arg: ((arg0: View, arg1: MotionEvent) -> Boolean)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onTouch), arg)
+  fun overScrollMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.overScrollMode), arg)
+  fun pivotX(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.pivotX), arg)
+  fun pivotY(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.pivotY), arg)
+  fun pressed(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.pressed), arg)
+  fun right(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.right), arg)
+  fun rotation(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.rotation), arg)
+  fun rotationX(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.rotationX), arg)
+  fun rotationY(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.rotationY), arg)
+  fun saveEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.saveEnabled), arg)
+  fun saveFromParentEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.saveFromParentEnabled),
+      arg)
+  fun scaleX(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.scaleX), arg)
+  fun scaleY(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.scaleY), arg)
+  fun scrollBarDefaultDelayBeforeFade(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.scrollBarDefaultDelayBeforeFade), arg)
+  fun scrollBarFadeDuration(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.scrollBarFadeDuration),
+      arg)
+  fun scrollBarSize(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.scrollBarSize), arg)
+  fun scrollBarStyle(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.scrollBarStyle), arg)
+  fun scrollContainer(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.scrollContainer), arg)
+  fun scrollX(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.scrollX), arg)
+  fun scrollY(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.scrollY), arg)
+  fun scrollbarFadingEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.scrollbarFadingEnabled), arg)
+  fun selected(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.selected), arg)
+  fun soundEffectsEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.soundEffectsEnabled),
+      arg)
+  fun systemUiVisibility(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.systemUiVisibility), arg)
+  fun tag(arg: Any): Unit = attr(SdkSetter.id(SdkAttrs.tag), arg)
+  fun textAlignment(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.textAlignment), arg)
+  fun textDirection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.textDirection), arg)
+  fun top(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.top), arg)
+  fun touchDelegate(arg: TouchDelegate): Unit = attr(SdkSetter.id(SdkAttrs.touchDelegate), arg)
+  fun translationX(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.translationX), arg)
+  fun translationY(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.translationY), arg)
+  fun verticalFadingEdgeEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.verticalFadingEdgeEnabled), arg)
+  fun verticalScrollBarEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.verticalScrollBarEnabled), arg)
+  fun verticalScrollbarPosition(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.verticalScrollbarPosition), arg)
+  fun visibility(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.visibility), arg)
+  fun willNotCacheDrawing(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.willNotCacheDrawing),
+      arg)
+  fun willNotDraw(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.willNotDraw), arg)
+  fun x(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.x), arg)
+  fun y(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.y), arg)
   companion object : ViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -378,51 +413,64 @@ abstract class ViewScope : RootViewScope() {
 }
 
 fun viewGroup(configure: ViewGroupScope.() -> Unit = {}) =
-    v<ViewGroup>(configure.bind(ViewGroupScope))
+    v<ViewGroup, ViewGroupScope>(ViewGroupScope, configure)
 abstract class ViewGroupScope : ViewScope() {
-  fun addStatesFromChildren(arg: Boolean): Unit = attr("addStatesFromChildren", arg)
-  fun alwaysDrawnWithCacheEnabled(arg: Boolean): Unit = attr("alwaysDrawnWithCacheEnabled", arg)
-  fun animationCacheEnabled(arg: Boolean): Unit = attr("animationCacheEnabled", arg)
-  fun clipChildren(arg: Boolean): Unit = attr("clipChildren", arg)
-  fun clipToPadding(arg: Boolean): Unit = attr("clipToPadding", arg)
-  fun descendantFocusability(arg: Int): Unit = attr("descendantFocusability", arg)
-  fun layoutAnimation(arg: LayoutAnimationController): Unit = attr("layoutAnimation", arg)
+  fun addStatesFromChildren(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.addStatesFromChildren),
+      arg)
+  fun alwaysDrawnWithCacheEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.alwaysDrawnWithCacheEnabled), arg)
+  fun animationCacheEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.animationCacheEnabled),
+      arg)
+  fun clipChildren(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.clipChildren), arg)
+  fun clipToPadding(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.clipToPadding), arg)
+  fun descendantFocusability(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.descendantFocusability),
+      arg)
+  fun layoutAnimation(arg: LayoutAnimationController): Unit =
+      attr(SdkSetter.id(SdkAttrs.layoutAnimation), arg)
   fun layoutAnimationListener(arg: Animation.AnimationListener): Unit =
-      attr("layoutAnimationListener", arg)
-  fun layoutMode(arg: Int): Unit = attr("layoutMode", arg)
-  fun layoutTransition(arg: LayoutTransition): Unit = attr("layoutTransition", arg)
-  fun motionEventSplittingEnabled(arg: Boolean): Unit = attr("motionEventSplittingEnabled", arg)
-  fun onHierarchyChange(arg: ViewGroup.OnHierarchyChangeListener?): Unit = attr("onHierarchyChange",
+      attr(SdkSetter.id(SdkAttrs.layoutAnimationListener), arg)
+  fun layoutMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.layoutMode), arg)
+  fun layoutTransition(arg: LayoutTransition): Unit = attr(SdkSetter.id(SdkAttrs.layoutTransition),
+      arg)
+  fun motionEventSplittingEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.motionEventSplittingEnabled), arg)
+  fun onHierarchyChange(arg: ViewGroup.OnHierarchyChangeListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onHierarchyChange), arg)
+  fun persistentDrawingCache(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.persistentDrawingCache),
       arg)
-  fun persistentDrawingCache(arg: Int): Unit = attr("persistentDrawingCache", arg)
   companion object : ViewGroupScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun viewStub(configure: ViewStubScope.() -> Unit = {}) = v<ViewStub>(configure.bind(ViewStubScope))
+fun viewStub(configure: ViewStubScope.() -> Unit = {}) = v<ViewStub, ViewStubScope>(ViewStubScope, configure)
 abstract class ViewStubScope : ViewScope() {
-  fun inflatedId(arg: Int): Unit = attr("inflatedId", arg)
-  fun layoutInflater(arg: LayoutInflater): Unit = attr("layoutInflater", arg)
-  fun layoutResource(arg: Int): Unit = attr("layoutResource", arg)
-  fun onInflate(arg: ((arg0: ViewStub, arg1: View) -> Unit)?): Unit = attr("onInflate", arg)
+  fun inflatedId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.inflatedId), arg)
+  fun layoutInflater(arg: LayoutInflater): Unit = attr(SdkSetter.id(SdkAttrs.layoutInflater), arg)
+  fun layoutResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.layoutResource), arg)
+  fun onInflate(arg: ((arg0: ViewStub, arg1: View) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onInflate), arg)
   companion object : ViewStubScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun webView(configure: WebViewScope.() -> Unit = {}) = v<WebView>(configure.bind(WebViewScope))
+fun webView(configure: WebViewScope.() -> Unit = {}) = v<WebView, WebViewScope>(WebViewScope, configure)
 abstract class WebViewScope : AbsoluteLayoutScope() {
-  fun downloadListener(arg: DownloadListener): Unit = attr("downloadListener", arg)
-  fun findListener(arg: WebView.FindListener): Unit = attr("findListener", arg)
-  fun horizontalScrollbarOverlay(arg: Boolean): Unit = attr("horizontalScrollbarOverlay", arg)
-  fun initialScale(arg: Int): Unit = attr("initialScale", arg)
-  fun networkAvailable(arg: Boolean): Unit = attr("networkAvailable", arg)
-  fun verticalScrollbarOverlay(arg: Boolean): Unit = attr("verticalScrollbarOverlay", arg)
-  fun webChromeClient(arg: WebChromeClient): Unit = attr("webChromeClient", arg)
-  fun webViewClient(arg: WebViewClient): Unit = attr("webViewClient", arg)
+  fun downloadListener(arg: DownloadListener): Unit = attr(SdkSetter.id(SdkAttrs.downloadListener),
+      arg)
+  fun findListener(arg: WebView.FindListener): Unit = attr(SdkSetter.id(SdkAttrs.findListener), arg)
+  fun horizontalScrollbarOverlay(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.horizontalScrollbarOverlay), arg)
+  fun initialScale(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.initialScale), arg)
+  fun networkAvailable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.networkAvailable), arg)
+  fun verticalScrollbarOverlay(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.verticalScrollbarOverlay), arg)
+  fun webChromeClient(arg: WebChromeClient): Unit = attr(SdkSetter.id(SdkAttrs.webChromeClient),
+      arg)
+  fun webViewClient(arg: WebViewClient): Unit = attr(SdkSetter.id(SdkAttrs.webViewClient), arg)
   companion object : WebViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -430,28 +478,33 @@ abstract class WebViewScope : AbsoluteLayoutScope() {
 }
 
 fun absListView(configure: AbsListViewScope.() -> Unit = {}) =
-    v<AbsListView>(configure.bind(AbsListViewScope))
+    v<AbsListView, AbsListViewScope>(AbsListViewScope, configure)
 abstract class AbsListViewScope : AdapterViewScope() {
-  fun cacheColorHint(arg: Int): Unit = attr("cacheColorHint", arg)
-  fun choiceMode(arg: Int): Unit = attr("choiceMode", arg)
-  fun drawSelectorOnTop(arg: Boolean): Unit = attr("drawSelectorOnTop", arg)
-  fun fastScrollAlwaysVisible(arg: Boolean): Unit = attr("fastScrollAlwaysVisible", arg)
-  fun fastScrollEnabled(arg: Boolean): Unit = attr("fastScrollEnabled", arg)
-  fun filterText(arg: String): Unit = attr("filterText", arg)
-  fun friction(arg: Float): Unit = attr("friction", arg)
+  fun cacheColorHint(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.cacheColorHint), arg)
+  fun choiceMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.choiceMode), arg)
+  fun drawSelectorOnTop(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.drawSelectorOnTop), arg)
+  fun fastScrollAlwaysVisible(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.fastScrollAlwaysVisible), arg)
+  fun fastScrollEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.fastScrollEnabled), arg)
+  fun filterText(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.filterText), arg)
+  fun friction(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.friction), arg)
   fun multiChoiceModeListener(arg: AbsListView.MultiChoiceModeListener): Unit =
-      attr("multiChoiceModeListener", arg)
-  fun onScroll(arg: AbsListView.OnScrollListener?): Unit = attr("onScroll", arg)
-  fun recyclerListener(arg: AbsListView.RecyclerListener): Unit = attr("recyclerListener", arg)
-  fun remoteViewsAdapter(arg: Intent): Unit = attr("remoteViewsAdapter", arg)
-  fun scrollingCacheEnabled(arg: Boolean): Unit = attr("scrollingCacheEnabled", arg)
-  fun selector(arg: Drawable): Unit = attr("selector", arg)
-  fun selector(arg: Int): Unit = attr("selector", arg)
-  fun smoothScrollbarEnabled(arg: Boolean): Unit = attr("smoothScrollbarEnabled", arg)
-  fun stackFromBottom(arg: Boolean): Unit = attr("stackFromBottom", arg)
-  fun textFilterEnabled(arg: Boolean): Unit = attr("textFilterEnabled", arg)
-  fun transcriptMode(arg: Int): Unit = attr("transcriptMode", arg)
-  fun velocityScale(arg: Float): Unit = attr("velocityScale", arg)
+      attr(SdkSetter.id(SdkAttrs.multiChoiceModeListener), arg)
+  fun onScroll(arg: AbsListView.OnScrollListener?): Unit = attr(SdkSetter.id(SdkAttrs.onScroll),
+      arg)
+  fun recyclerListener(arg: AbsListView.RecyclerListener): Unit =
+      attr(SdkSetter.id(SdkAttrs.recyclerListener), arg)
+  fun remoteViewsAdapter(arg: Intent): Unit = attr(SdkSetter.id(SdkAttrs.remoteViewsAdapter), arg)
+  fun scrollingCacheEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.scrollingCacheEnabled),
+      arg)
+  fun selector(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.selector), arg)
+  fun selector(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.selector), arg)
+  fun smoothScrollbarEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.smoothScrollbarEnabled), arg)
+  fun stackFromBottom(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.stackFromBottom), arg)
+  fun textFilterEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.textFilterEnabled), arg)
+  fun transcriptMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.transcriptMode), arg)
+  fun velocityScale(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.velocityScale), arg)
   companion object : AbsListViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -459,11 +512,11 @@ abstract class AbsListViewScope : AdapterViewScope() {
 }
 
 fun absSeekBar(configure: AbsSeekBarScope.() -> Unit = {}) =
-    v<AbsSeekBar>(configure.bind(AbsSeekBarScope))
+    v<AbsSeekBar, AbsSeekBarScope>(AbsSeekBarScope, configure)
 abstract class AbsSeekBarScope : ProgressBarScope() {
-  fun keyProgressIncrement(arg: Int): Unit = attr("keyProgressIncrement", arg)
-  fun thumb(arg: Drawable): Unit = attr("thumb", arg)
-  fun thumbOffset(arg: Int): Unit = attr("thumbOffset", arg)
+  fun keyProgressIncrement(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.keyProgressIncrement), arg)
+  fun thumb(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.thumb), arg)
+  fun thumbOffset(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.thumbOffset), arg)
   companion object : AbsSeekBarScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -471,7 +524,7 @@ abstract class AbsSeekBarScope : ProgressBarScope() {
 }
 
 fun absSpinner(configure: AbsSpinnerScope.() -> Unit = {}) =
-    v<AbsSpinner>(configure.bind(AbsSpinnerScope))
+    v<AbsSpinner, AbsSpinnerScope>(AbsSpinnerScope, configure)
 abstract class AbsSpinnerScope : AdapterViewScope() {
   companion object : AbsSpinnerScope() {
     init {
@@ -480,7 +533,7 @@ abstract class AbsSpinnerScope : AdapterViewScope() {
 }
 
 fun absoluteLayout(configure: AbsoluteLayoutScope.() -> Unit = {}) =
-    v<AbsoluteLayout>(configure.bind(AbsoluteLayoutScope))
+    v<AbsoluteLayout, AbsoluteLayoutScope>(AbsoluteLayoutScope, configure)
 abstract class AbsoluteLayoutScope : ViewGroupScope() {
   companion object : AbsoluteLayoutScope() {
     init {
@@ -489,24 +542,25 @@ abstract class AbsoluteLayoutScope : ViewGroupScope() {
 }
 
 fun adapterView(configure: AdapterViewScope.() -> Unit = {}) =
-    v<AdapterView<*>>(configure.bind(AdapterViewScope))
+    v<AdapterView<*>, AdapterViewScope>(AdapterViewScope, configure)
 abstract class AdapterViewScope : ViewGroupScope() {
-  fun adapter(arg: Adapter): Unit = attr("adapter", arg)
-  fun emptyView(arg: View): Unit = attr("emptyView", arg)
+  fun adapter(arg: Adapter): Unit = attr(SdkSetter.id(SdkAttrs.adapter), arg)
+  fun emptyView(arg: View): Unit = attr(SdkSetter.id(SdkAttrs.emptyView), arg)
   fun onItemClick(arg: ((
     arg0: AdapterView<*>,
     arg1: View,
     arg2: Int,
     arg3: Long
-  ) -> Unit)?): Unit = attr("onItemClick", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onItemClick), arg)
   fun onItemLongClick(arg: ((
     arg0: AdapterView<*>,
     arg1: View,
     arg2: Int,
     arg3: Long
-  ) -> Boolean)?): Unit = attr("onItemLongClick", arg)
-  fun onItemSelected(arg: AdapterView.OnItemSelectedListener?): Unit = attr("onItemSelected", arg)
-  fun selection(arg: Int): Unit = attr("selection", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onItemLongClick), arg)
+  fun onItemSelected(arg: AdapterView.OnItemSelectedListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onItemSelected), arg)
+  fun selection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.selection), arg)
   companion object : AdapterViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -514,13 +568,13 @@ abstract class AdapterViewScope : ViewGroupScope() {
 }
 
 fun adapterViewAnimator(configure: AdapterViewAnimatorScope.() -> Unit = {}) =
-    v<AdapterViewAnimator>(configure.bind(AdapterViewAnimatorScope))
+    v<AdapterViewAnimator, AdapterViewAnimatorScope>(AdapterViewAnimatorScope, configure)
 abstract class AdapterViewAnimatorScope : AdapterViewScope() {
-  fun animateFirstView(arg: Boolean): Unit = attr("animateFirstView", arg)
-  fun displayedChild(arg: Int): Unit = attr("displayedChild", arg)
-  fun inAnimation(arg: ObjectAnimator): Unit = attr("inAnimation", arg)
-  fun outAnimation(arg: ObjectAnimator): Unit = attr("outAnimation", arg)
-  fun remoteViewsAdapter(arg: Intent): Unit = attr("remoteViewsAdapter", arg)
+  fun animateFirstView(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.animateFirstView), arg)
+  fun displayedChild(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.displayedChild), arg)
+  fun inAnimation(arg: ObjectAnimator): Unit = attr(SdkSetter.id(SdkAttrs.inAnimation), arg)
+  fun outAnimation(arg: ObjectAnimator): Unit = attr(SdkSetter.id(SdkAttrs.outAnimation), arg)
+  fun remoteViewsAdapter(arg: Intent): Unit = attr(SdkSetter.id(SdkAttrs.remoteViewsAdapter), arg)
   companion object : AdapterViewAnimatorScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -528,10 +582,10 @@ abstract class AdapterViewAnimatorScope : AdapterViewScope() {
 }
 
 fun adapterViewFlipper(configure: AdapterViewFlipperScope.() -> Unit = {}) =
-    v<AdapterViewFlipper>(configure.bind(AdapterViewFlipperScope))
+    v<AdapterViewFlipper, AdapterViewFlipperScope>(AdapterViewFlipperScope, configure)
 abstract class AdapterViewFlipperScope : AdapterViewAnimatorScope() {
-  fun autoStart(arg: Boolean): Unit = attr("autoStart", arg)
-  fun flipInterval(arg: Int): Unit = attr("flipInterval", arg)
+  fun autoStart(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.autoStart), arg)
+  fun flipInterval(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.flipInterval), arg)
   companion object : AdapterViewFlipperScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -539,7 +593,7 @@ abstract class AdapterViewFlipperScope : AdapterViewAnimatorScope() {
 }
 
 fun analogClock(configure: AnalogClockScope.() -> Unit = {}) =
-    v<AnalogClock>(configure.bind(AnalogClockScope))
+    v<AnalogClock, AnalogClockScope>(AnalogClockScope, configure)
 abstract class AnalogClockScope : ViewScope() {
   companion object : AnalogClockScope() {
     init {
@@ -548,34 +602,40 @@ abstract class AnalogClockScope : ViewScope() {
 }
 
 fun autoCompleteTextView(configure: AutoCompleteTextViewScope.() -> Unit = {}) =
-    v<AutoCompleteTextView>(configure.bind(AutoCompleteTextViewScope))
+    v<AutoCompleteTextView, AutoCompleteTextViewScope>(AutoCompleteTextViewScope, configure)
 abstract class AutoCompleteTextViewScope : EditTextScope() {
-  fun completionHint(arg: CharSequence): Unit = attr("completionHint", arg)
-  fun dropDownAnchor(arg: Int): Unit = attr("dropDownAnchor", arg)
-  fun dropDownBackgroundDrawable(arg: Drawable): Unit = attr("dropDownBackgroundDrawable", arg)
-  fun dropDownBackgroundResource(arg: Int): Unit = attr("dropDownBackgroundResource", arg)
-  fun dropDownHeight(arg: Int): Unit = attr("dropDownHeight", arg)
-  fun dropDownHorizontalOffset(arg: Int): Unit = attr("dropDownHorizontalOffset", arg)
-  fun dropDownVerticalOffset(arg: Int): Unit = attr("dropDownVerticalOffset", arg)
-  fun dropDownWidth(arg: Int): Unit = attr("dropDownWidth", arg)
-  fun listSelection(arg: Int): Unit = attr("listSelection", arg)
-  fun onDismiss(arg: (() -> Unit)?): Unit = attr("onDismiss", arg)
+  fun completionHint(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.completionHint), arg)
+  fun dropDownAnchor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownAnchor), arg)
+  fun dropDownBackgroundDrawable(arg: Drawable): Unit =
+      attr(SdkSetter.id(SdkAttrs.dropDownBackgroundDrawable), arg)
+  fun dropDownBackgroundResource(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.dropDownBackgroundResource), arg)
+  fun dropDownHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownHeight), arg)
+  fun dropDownHorizontalOffset(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.dropDownHorizontalOffset), arg)
+  fun dropDownVerticalOffset(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownVerticalOffset),
+      arg)
+  fun dropDownWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownWidth), arg)
+  fun listSelection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.listSelection), arg)
+  fun onDismiss(arg: (() -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onDismiss), arg)
   fun onItemClick(arg: ((
     arg0: AdapterView<*>,
     arg1: View,
     arg2: Int,
     arg3: Long
-  ) -> Unit)?): Unit = attr("onItemClick", arg)
-  fun onItemSelected(arg: AdapterView.OnItemSelectedListener?): Unit = attr("onItemSelected", arg)
-  fun threshold(arg: Int): Unit = attr("threshold", arg)
-  fun validator(arg: AutoCompleteTextView.Validator): Unit = attr("validator", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onItemClick), arg)
+  fun onItemSelected(arg: AdapterView.OnItemSelectedListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onItemSelected), arg)
+  fun threshold(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.threshold), arg)
+  fun validator(arg: AutoCompleteTextView.Validator): Unit = attr(SdkSetter.id(SdkAttrs.validator),
+      arg)
   companion object : AutoCompleteTextViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun button(configure: ButtonScope.() -> Unit = {}) = v<Button>(configure.bind(ButtonScope))
+fun button(configure: ButtonScope.() -> Unit = {}) = v<Button, ButtonScope>(ButtonScope, configure)
 abstract class ButtonScope : TextViewScope() {
   companion object : ButtonScope() {
     init {
@@ -584,36 +644,43 @@ abstract class ButtonScope : TextViewScope() {
 }
 
 fun calendarView(configure: CalendarViewScope.() -> Unit = {}) =
-    v<CalendarView>(configure.bind(CalendarViewScope))
+    v<CalendarView, CalendarViewScope>(CalendarViewScope, configure)
 abstract class CalendarViewScope : FrameLayoutScope() {
-  fun date(arg: Long): Unit = attr("date", arg)
-  fun dateTextAppearance(arg: Int): Unit = attr("dateTextAppearance", arg)
-  fun firstDayOfWeek(arg: Int): Unit = attr("firstDayOfWeek", arg)
-  fun focusedMonthDateColor(arg: Int): Unit = attr("focusedMonthDateColor", arg)
-  fun maxDate(arg: Long): Unit = attr("maxDate", arg)
-  fun minDate(arg: Long): Unit = attr("minDate", arg)
+  fun date(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.date), arg)
+  fun dateTextAppearance(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dateTextAppearance), arg)
+  fun firstDayOfWeek(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.firstDayOfWeek), arg)
+  fun focusedMonthDateColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.focusedMonthDateColor),
+      arg)
+  fun maxDate(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.maxDate), arg)
+  fun minDate(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.minDate), arg)
   fun onDateChange(arg: ((
     arg0: CalendarView,
     arg1: Int,
     arg2: Int,
     arg3: Int
-  ) -> Unit)?): Unit = attr("onDateChange", arg)
-  fun selectedDateVerticalBar(arg: Drawable): Unit = attr("selectedDateVerticalBar", arg)
-  fun selectedDateVerticalBar(arg: Int): Unit = attr("selectedDateVerticalBar", arg)
-  fun selectedWeekBackgroundColor(arg: Int): Unit = attr("selectedWeekBackgroundColor", arg)
-  fun showWeekNumber(arg: Boolean): Unit = attr("showWeekNumber", arg)
-  fun shownWeekCount(arg: Int): Unit = attr("shownWeekCount", arg)
-  fun unfocusedMonthDateColor(arg: Int): Unit = attr("unfocusedMonthDateColor", arg)
-  fun weekDayTextAppearance(arg: Int): Unit = attr("weekDayTextAppearance", arg)
-  fun weekNumberColor(arg: Int): Unit = attr("weekNumberColor", arg)
-  fun weekSeparatorLineColor(arg: Int): Unit = attr("weekSeparatorLineColor", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onDateChange), arg)
+  fun selectedDateVerticalBar(arg: Drawable): Unit =
+      attr(SdkSetter.id(SdkAttrs.selectedDateVerticalBar), arg)
+  fun selectedDateVerticalBar(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.selectedDateVerticalBar),
+      arg)
+  fun selectedWeekBackgroundColor(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.selectedWeekBackgroundColor), arg)
+  fun showWeekNumber(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.showWeekNumber), arg)
+  fun shownWeekCount(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.shownWeekCount), arg)
+  fun unfocusedMonthDateColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.unfocusedMonthDateColor),
+      arg)
+  fun weekDayTextAppearance(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.weekDayTextAppearance),
+      arg)
+  fun weekNumberColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.weekNumberColor), arg)
+  fun weekSeparatorLineColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.weekSeparatorLineColor),
+      arg)
   companion object : CalendarViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun checkBox(configure: CheckBoxScope.() -> Unit = {}) = v<CheckBox>(configure.bind(CheckBoxScope))
+fun checkBox(configure: CheckBoxScope.() -> Unit = {}) = v<CheckBox, CheckBoxScope>(CheckBoxScope, configure)
 abstract class CheckBoxScope : CompoundButtonScope() {
   companion object : CheckBoxScope() {
     init {
@@ -622,11 +689,11 @@ abstract class CheckBoxScope : CompoundButtonScope() {
 }
 
 fun checkedTextView(configure: CheckedTextViewScope.() -> Unit = {}) =
-    v<CheckedTextView>(configure.bind(CheckedTextViewScope))
+    v<CheckedTextView, CheckedTextViewScope>(CheckedTextViewScope, configure)
 abstract class CheckedTextViewScope : TextViewScope() {
-  fun checkMarkDrawable(arg: Drawable?): Unit = attr("checkMarkDrawable", arg)
-  fun checkMarkDrawable(arg: Int): Unit = attr("checkMarkDrawable", arg)
-  fun checked(arg: Boolean): Unit = attr("checked", arg)
+  fun checkMarkDrawable(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.checkMarkDrawable), arg)
+  fun checkMarkDrawable(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.checkMarkDrawable), arg)
+  fun checked(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.checked), arg)
   companion object : CheckedTextViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -634,11 +701,12 @@ abstract class CheckedTextViewScope : TextViewScope() {
 }
 
 fun chronometer(configure: ChronometerScope.() -> Unit = {}) =
-    v<Chronometer>(configure.bind(ChronometerScope))
+    v<Chronometer, ChronometerScope>(ChronometerScope, configure)
 abstract class ChronometerScope : TextViewScope() {
-  fun base(arg: Long): Unit = attr("base", arg)
-  fun format(arg: String): Unit = attr("format", arg)
-  fun onChronometerTick(arg: ((arg0: Chronometer) -> Unit)?): Unit = attr("onChronometerTick", arg)
+  fun base(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.base), arg)
+  fun format(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.format), arg)
+  fun onChronometerTick(arg: ((arg0: Chronometer) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onChronometerTick), arg)
   companion object : ChronometerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -646,13 +714,13 @@ abstract class ChronometerScope : TextViewScope() {
 }
 
 fun compoundButton(configure: CompoundButtonScope.() -> Unit = {}) =
-    v<CompoundButton>(configure.bind(CompoundButtonScope))
+    v<CompoundButton, CompoundButtonScope>(CompoundButtonScope, configure)
 abstract class CompoundButtonScope : ButtonScope() {
-  fun buttonDrawable(arg: Drawable?): Unit = attr("buttonDrawable", arg)
-  fun buttonDrawable(arg: Int): Unit = attr("buttonDrawable", arg)
-  fun checked(arg: Boolean): Unit = attr("checked", arg)
+  fun buttonDrawable(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.buttonDrawable), arg)
+  fun buttonDrawable(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.buttonDrawable), arg)
+  fun checked(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.checked), arg)
   fun onCheckedChange(arg: ((arg0: CompoundButton, arg1: Boolean) -> Unit)?): Unit =
-      attr("onCheckedChange", arg)
+      attr(SdkSetter.id(SdkAttrs.onCheckedChange), arg)
   companion object : CompoundButtonScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -660,12 +728,12 @@ abstract class CompoundButtonScope : ButtonScope() {
 }
 
 fun datePicker(configure: DatePickerScope.() -> Unit = {}) =
-    v<DatePicker>(configure.bind(DatePickerScope))
+    v<DatePicker, DatePickerScope>(DatePickerScope, configure)
 abstract class DatePickerScope : FrameLayoutScope() {
-  fun calendarViewShown(arg: Boolean): Unit = attr("calendarViewShown", arg)
-  fun maxDate(arg: Long): Unit = attr("maxDate", arg)
-  fun minDate(arg: Long): Unit = attr("minDate", arg)
-  fun spinnersShown(arg: Boolean): Unit = attr("spinnersShown", arg)
+  fun calendarViewShown(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.calendarViewShown), arg)
+  fun maxDate(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.maxDate), arg)
+  fun minDate(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.minDate), arg)
+  fun spinnersShown(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.spinnersShown), arg)
   companion object : DatePickerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -673,12 +741,12 @@ abstract class DatePickerScope : FrameLayoutScope() {
 }
 
 fun dialerFilter(configure: DialerFilterScope.() -> Unit = {}) =
-    v<DialerFilter>(configure.bind(DialerFilterScope))
+    v<DialerFilter, DialerFilterScope>(DialerFilterScope, configure)
 abstract class DialerFilterScope : RelativeLayoutScope() {
-  fun digitsWatcher(arg: TextWatcher): Unit = attr("digitsWatcher", arg)
-  fun filterWatcher(arg: TextWatcher): Unit = attr("filterWatcher", arg)
-  fun lettersWatcher(arg: TextWatcher): Unit = attr("lettersWatcher", arg)
-  fun mode(arg: Int): Unit = attr("mode", arg)
+  fun digitsWatcher(arg: TextWatcher): Unit = attr(SdkSetter.id(SdkAttrs.digitsWatcher), arg)
+  fun filterWatcher(arg: TextWatcher): Unit = attr(SdkSetter.id(SdkAttrs.filterWatcher), arg)
+  fun lettersWatcher(arg: TextWatcher): Unit = attr(SdkSetter.id(SdkAttrs.lettersWatcher), arg)
+  fun mode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.mode), arg)
   companion object : DialerFilterScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -686,7 +754,7 @@ abstract class DialerFilterScope : RelativeLayoutScope() {
 }
 
 fun digitalClock(configure: DigitalClockScope.() -> Unit = {}) =
-    v<DigitalClock>(configure.bind(DigitalClockScope))
+    v<DigitalClock, DigitalClockScope>(DigitalClockScope, configure)
 abstract class DigitalClockScope : TextViewScope() {
   companion object : DigitalClockScope() {
     init {
@@ -694,9 +762,9 @@ abstract class DigitalClockScope : TextViewScope() {
   }
 }
 
-fun editText(configure: EditTextScope.() -> Unit = {}) = v<EditText>(configure.bind(EditTextScope))
+fun editText(configure: EditTextScope.() -> Unit = {}) = v<EditText, EditTextScope>(EditTextScope, configure)
 abstract class EditTextScope : TextViewScope() {
-  fun selection(arg: Int): Unit = attr("selection", arg)
+  fun selection(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.selection), arg)
   companion object : EditTextScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -704,28 +772,30 @@ abstract class EditTextScope : TextViewScope() {
 }
 
 fun expandableListView(configure: ExpandableListViewScope.() -> Unit = {}) =
-    v<ExpandableListView>(configure.bind(ExpandableListViewScope))
+    v<ExpandableListView, ExpandableListViewScope>(ExpandableListViewScope, configure)
 abstract class ExpandableListViewScope : ListViewScope() {
-  fun adapter(arg: ExpandableListAdapter): Unit = attr("adapter", arg)
-  fun childDivider(arg: Drawable): Unit = attr("childDivider", arg)
-  fun childIndicator(arg: Drawable): Unit = attr("childIndicator", arg)
-  fun groupIndicator(arg: Drawable): Unit = attr("groupIndicator", arg)
+  fun adapter(arg: ExpandableListAdapter): Unit = attr(SdkSetter.id(SdkAttrs.adapter), arg)
+  fun childDivider(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.childDivider), arg)
+  fun childIndicator(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.childIndicator), arg)
+  fun groupIndicator(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.groupIndicator), arg)
   fun onChildClick(arg: ((
     arg0: ExpandableListView,
     arg1: View,
     arg2: Int,
     arg3: Int,
     arg4: Long
-  ) -> Boolean)?): Unit = attr("onChildClick", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onChildClick), arg)
   fun onGroupClick(arg: ((
     arg0: ExpandableListView,
     arg1: View,
     arg2: Int,
     arg3: Long
-  ) -> Boolean)?): Unit = attr("onGroupClick", arg)
-  fun onGroupCollapse(arg: ((arg0: Int) -> Unit)?): Unit = attr("onGroupCollapse", arg)
-  fun onGroupExpand(arg: ((arg0: Int) -> Unit)?): Unit = attr("onGroupExpand", arg)
-  fun selectedGroup(arg: Int): Unit = attr("selectedGroup", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onGroupClick), arg)
+  fun onGroupCollapse(arg: ((arg0: Int) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onGroupCollapse), arg)
+  fun onGroupExpand(arg: ((arg0: Int) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onGroupExpand),
+      arg)
+  fun selectedGroup(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.selectedGroup), arg)
   companion object : ExpandableListViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -733,24 +803,25 @@ abstract class ExpandableListViewScope : ListViewScope() {
 }
 
 fun frameLayout(configure: FrameLayoutScope.() -> Unit = {}) =
-    v<FrameLayout>(configure.bind(FrameLayoutScope))
+    v<FrameLayout, FrameLayoutScope>(FrameLayoutScope, configure)
 abstract class FrameLayoutScope : ViewGroupScope() {
-  fun foreground(arg: Drawable): Unit = attr("foreground", arg)
-  fun foregroundGravity(arg: Int): Unit = attr("foregroundGravity", arg)
-  fun measureAllChildren(arg: Boolean): Unit = attr("measureAllChildren", arg)
+  fun foreground(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.foreground), arg)
+  fun foregroundGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.foregroundGravity), arg)
+  fun measureAllChildren(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.measureAllChildren), arg)
   companion object : FrameLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun gallery(configure: GalleryScope.() -> Unit = {}) = v<Gallery>(configure.bind(GalleryScope))
+fun gallery(configure: GalleryScope.() -> Unit = {}) = v<Gallery, GalleryScope>(GalleryScope, configure)
 abstract class GalleryScope : AbsSpinnerScope() {
-  fun animationDuration(arg: Int): Unit = attr("animationDuration", arg)
-  fun callbackDuringFling(arg: Boolean): Unit = attr("callbackDuringFling", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun spacing(arg: Int): Unit = attr("spacing", arg)
-  fun unselectedAlpha(arg: Float): Unit = attr("unselectedAlpha", arg)
+  fun animationDuration(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.animationDuration), arg)
+  fun callbackDuringFling(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.callbackDuringFling),
+      arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun spacing(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.spacing), arg)
+  fun unselectedAlpha(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.unselectedAlpha), arg)
   companion object : GalleryScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -758,29 +829,30 @@ abstract class GalleryScope : AbsSpinnerScope() {
 }
 
 fun gridLayout(configure: GridLayoutScope.() -> Unit = {}) =
-    v<GridLayout>(configure.bind(GridLayoutScope))
+    v<GridLayout, GridLayoutScope>(GridLayoutScope, configure)
 abstract class GridLayoutScope : ViewGroupScope() {
-  fun alignmentMode(arg: Int): Unit = attr("alignmentMode", arg)
-  fun columnCount(arg: Int): Unit = attr("columnCount", arg)
-  fun columnOrderPreserved(arg: Boolean): Unit = attr("columnOrderPreserved", arg)
-  fun orientation(arg: Int): Unit = attr("orientation", arg)
-  fun rowCount(arg: Int): Unit = attr("rowCount", arg)
-  fun rowOrderPreserved(arg: Boolean): Unit = attr("rowOrderPreserved", arg)
-  fun useDefaultMargins(arg: Boolean): Unit = attr("useDefaultMargins", arg)
+  fun alignmentMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.alignmentMode), arg)
+  fun columnCount(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.columnCount), arg)
+  fun columnOrderPreserved(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.columnOrderPreserved),
+      arg)
+  fun orientation(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.orientation), arg)
+  fun rowCount(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.rowCount), arg)
+  fun rowOrderPreserved(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.rowOrderPreserved), arg)
+  fun useDefaultMargins(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.useDefaultMargins), arg)
   companion object : GridLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun gridView(configure: GridViewScope.() -> Unit = {}) = v<GridView>(configure.bind(GridViewScope))
+fun gridView(configure: GridViewScope.() -> Unit = {}) = v<GridView, GridViewScope>(GridViewScope, configure)
 abstract class GridViewScope : AbsListViewScope() {
-  fun columnWidth(arg: Int): Unit = attr("columnWidth", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun horizontalSpacing(arg: Int): Unit = attr("horizontalSpacing", arg)
-  fun numColumns(arg: Int): Unit = attr("numColumns", arg)
-  fun stretchMode(arg: Int): Unit = attr("stretchMode", arg)
-  fun verticalSpacing(arg: Int): Unit = attr("verticalSpacing", arg)
+  fun columnWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.columnWidth), arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun horizontalSpacing(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.horizontalSpacing), arg)
+  fun numColumns(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.numColumns), arg)
+  fun stretchMode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.stretchMode), arg)
+  fun verticalSpacing(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.verticalSpacing), arg)
   companion object : GridViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -788,10 +860,11 @@ abstract class GridViewScope : AbsListViewScope() {
 }
 
 fun horizontalScrollView(configure: HorizontalScrollViewScope.() -> Unit = {}) =
-    v<HorizontalScrollView>(configure.bind(HorizontalScrollViewScope))
+    v<HorizontalScrollView, HorizontalScrollViewScope>(HorizontalScrollViewScope, configure)
 abstract class HorizontalScrollViewScope : FrameLayoutScope() {
-  fun fillViewport(arg: Boolean): Unit = attr("fillViewport", arg)
-  fun smoothScrollingEnabled(arg: Boolean): Unit = attr("smoothScrollingEnabled", arg)
+  fun fillViewport(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.fillViewport), arg)
+  fun smoothScrollingEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.smoothScrollingEnabled), arg)
   companion object : HorizontalScrollViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -799,7 +872,7 @@ abstract class HorizontalScrollViewScope : FrameLayoutScope() {
 }
 
 fun imageButton(configure: ImageButtonScope.() -> Unit = {}) =
-    v<ImageButton>(configure.bind(ImageButtonScope))
+    v<ImageButton, ImageButtonScope>(ImageButtonScope, configure)
 abstract class ImageButtonScope : ImageViewScope() {
   companion object : ImageButtonScope() {
     init {
@@ -808,11 +881,11 @@ abstract class ImageButtonScope : ImageViewScope() {
 }
 
 fun imageSwitcher(configure: ImageSwitcherScope.() -> Unit = {}) =
-    v<ImageSwitcher>(configure.bind(ImageSwitcherScope))
+    v<ImageSwitcher, ImageSwitcherScope>(ImageSwitcherScope, configure)
 abstract class ImageSwitcherScope : ViewSwitcherScope() {
-  fun imageDrawable(arg: Drawable): Unit = attr("imageDrawable", arg)
-  fun imageResource(arg: Int): Unit = attr("imageResource", arg)
-  fun imageURI(arg: Uri): Unit = attr("imageURI", arg)
+  fun imageDrawable(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.imageDrawable), arg)
+  fun imageResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imageResource), arg)
+  fun imageURI(arg: Uri): Unit = attr(SdkSetter.id(SdkAttrs.imageURI), arg)
   companion object : ImageSwitcherScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -820,24 +893,25 @@ abstract class ImageSwitcherScope : ViewSwitcherScope() {
 }
 
 fun imageView(configure: ImageViewScope.() -> Unit = {}) =
-    v<ImageView>(configure.bind(ImageViewScope))
+    v<ImageView, ImageViewScope>(ImageViewScope, configure)
 abstract class ImageViewScope : ViewScope() {
-  fun adjustViewBounds(arg: Boolean): Unit = attr("adjustViewBounds", arg)
-  fun baseline(arg: Int): Unit = attr("baseline", arg)
-  fun baselineAlignBottom(arg: Boolean): Unit = attr("baselineAlignBottom", arg)
-  fun colorFilter(arg: ColorFilter): Unit = attr("colorFilter", arg)
-  fun colorFilter(arg: Int): Unit = attr("colorFilter", arg)
-  fun cropToPadding(arg: Boolean): Unit = attr("cropToPadding", arg)
-  fun imageAlpha(arg: Int): Unit = attr("imageAlpha", arg)
-  fun imageBitmap(arg: Bitmap): Unit = attr("imageBitmap", arg)
-  fun imageDrawable(arg: Drawable?): Unit = attr("imageDrawable", arg)
-  fun imageLevel(arg: Int): Unit = attr("imageLevel", arg)
-  fun imageMatrix(arg: Matrix): Unit = attr("imageMatrix", arg)
-  fun imageResource(arg: Int): Unit = attr("imageResource", arg)
-  fun imageURI(arg: Uri?): Unit = attr("imageURI", arg)
-  fun maxHeight(arg: Int): Unit = attr("maxHeight", arg)
-  fun maxWidth(arg: Int): Unit = attr("maxWidth", arg)
-  fun scaleType(arg: ImageView.ScaleType): Unit = attr("scaleType", arg)
+  fun adjustViewBounds(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.adjustViewBounds), arg)
+  fun baseline(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.baseline), arg)
+  fun baselineAlignBottom(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.baselineAlignBottom),
+      arg)
+  fun colorFilter(arg: ColorFilter): Unit = attr(SdkSetter.id(SdkAttrs.colorFilter), arg)
+  fun colorFilter(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.colorFilter), arg)
+  fun cropToPadding(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.cropToPadding), arg)
+  fun imageAlpha(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imageAlpha), arg)
+  fun imageBitmap(arg: Bitmap): Unit = attr(SdkSetter.id(SdkAttrs.imageBitmap), arg)
+  fun imageDrawable(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.imageDrawable), arg)
+  fun imageLevel(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imageLevel), arg)
+  fun imageMatrix(arg: Matrix): Unit = attr(SdkSetter.id(SdkAttrs.imageMatrix), arg)
+  fun imageResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imageResource), arg)
+  fun imageURI(arg: Uri?): Unit = attr(SdkSetter.id(SdkAttrs.imageURI), arg)
+  fun maxHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxHeight), arg)
+  fun maxWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxWidth), arg)
+  fun scaleType(arg: ImageView.ScaleType): Unit = attr(SdkSetter.id(SdkAttrs.scaleType), arg)
   companion object : ImageViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -845,35 +919,38 @@ abstract class ImageViewScope : ViewScope() {
 }
 
 fun linearLayout(configure: LinearLayoutScope.() -> Unit = {}) =
-    v<LinearLayout>(configure.bind(LinearLayoutScope))
+    v<LinearLayout, LinearLayoutScope>(LinearLayoutScope, configure)
 abstract class LinearLayoutScope : ViewGroupScope() {
-  fun baselineAligned(arg: Boolean): Unit = attr("baselineAligned", arg)
-  fun baselineAlignedChildIndex(arg: Int): Unit = attr("baselineAlignedChildIndex", arg)
-  fun dividerDrawable(arg: Drawable): Unit = attr("dividerDrawable", arg)
-  fun dividerPadding(arg: Int): Unit = attr("dividerPadding", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun horizontalGravity(arg: Int): Unit = attr("horizontalGravity", arg)
-  fun measureWithLargestChildEnabled(arg: Boolean): Unit = attr("measureWithLargestChildEnabled",
-      arg)
-  fun orientation(arg: Int): Unit = attr("orientation", arg)
-  fun showDividers(arg: Int): Unit = attr("showDividers", arg)
-  fun verticalGravity(arg: Int): Unit = attr("verticalGravity", arg)
-  fun weightSum(arg: Float): Unit = attr("weightSum", arg)
+  fun baselineAligned(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.baselineAligned), arg)
+  fun baselineAlignedChildIndex(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.baselineAlignedChildIndex), arg)
+  fun dividerDrawable(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.dividerDrawable), arg)
+  fun dividerPadding(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dividerPadding), arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun horizontalGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.horizontalGravity), arg)
+  fun measureWithLargestChildEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.measureWithLargestChildEnabled), arg)
+  fun orientation(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.orientation), arg)
+  fun showDividers(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.showDividers), arg)
+  fun verticalGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.verticalGravity), arg)
+  fun weightSum(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.weightSum), arg)
   companion object : LinearLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun listView(configure: ListViewScope.() -> Unit = {}) = v<ListView>(configure.bind(ListViewScope))
+fun listView(configure: ListViewScope.() -> Unit = {}) = v<ListView, ListViewScope>(ListViewScope, configure)
 abstract class ListViewScope : AbsListViewScope() {
-  fun divider(arg: Drawable?): Unit = attr("divider", arg)
-  fun dividerHeight(arg: Int): Unit = attr("dividerHeight", arg)
-  fun footerDividersEnabled(arg: Boolean): Unit = attr("footerDividersEnabled", arg)
-  fun headerDividersEnabled(arg: Boolean): Unit = attr("headerDividersEnabled", arg)
-  fun itemsCanFocus(arg: Boolean): Unit = attr("itemsCanFocus", arg)
-  fun overscrollFooter(arg: Drawable): Unit = attr("overscrollFooter", arg)
-  fun overscrollHeader(arg: Drawable): Unit = attr("overscrollHeader", arg)
+  fun divider(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.divider), arg)
+  fun dividerHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dividerHeight), arg)
+  fun footerDividersEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.footerDividersEnabled),
+      arg)
+  fun headerDividersEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.headerDividersEnabled),
+      arg)
+  fun itemsCanFocus(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.itemsCanFocus), arg)
+  fun overscrollFooter(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.overscrollFooter), arg)
+  fun overscrollHeader(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.overscrollHeader), arg)
   companion object : ListViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -881,10 +958,11 @@ abstract class ListViewScope : AbsListViewScope() {
 }
 
 fun mediaController(configure: MediaControllerScope.() -> Unit = {}) =
-    v<MediaController>(configure.bind(MediaControllerScope))
+    v<MediaController, MediaControllerScope>(MediaControllerScope, configure)
 abstract class MediaControllerScope : FrameLayoutScope() {
-  fun anchorView(arg: View): Unit = attr("anchorView", arg)
-  fun mediaPlayer(arg: MediaController.MediaPlayerControl): Unit = attr("mediaPlayer", arg)
+  fun anchorView(arg: View): Unit = attr(SdkSetter.id(SdkAttrs.anchorView), arg)
+  fun mediaPlayer(arg: MediaController.MediaPlayerControl): Unit =
+      attr(SdkSetter.id(SdkAttrs.mediaPlayer), arg)
   companion object : MediaControllerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -892,9 +970,10 @@ abstract class MediaControllerScope : FrameLayoutScope() {
 }
 
 fun multiAutoCompleteTextView(configure: MultiAutoCompleteTextViewScope.() -> Unit = {}) =
-    v<MultiAutoCompleteTextView>(configure.bind(MultiAutoCompleteTextViewScope))
+    v<MultiAutoCompleteTextView, MultiAutoCompleteTextViewScope>(MultiAutoCompleteTextViewScope, configure)
 abstract class MultiAutoCompleteTextViewScope : AutoCompleteTextViewScope() {
-  fun tokenizer(arg: MultiAutoCompleteTextView.Tokenizer): Unit = attr("tokenizer", arg)
+  fun tokenizer(arg: MultiAutoCompleteTextView.Tokenizer): Unit =
+      attr(SdkSetter.id(SdkAttrs.tokenizer), arg)
   companion object : MultiAutoCompleteTextViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -902,21 +981,23 @@ abstract class MultiAutoCompleteTextViewScope : AutoCompleteTextViewScope() {
 }
 
 fun numberPicker(configure: NumberPickerScope.() -> Unit = {}) =
-    v<NumberPicker>(configure.bind(NumberPickerScope))
+    v<NumberPicker, NumberPickerScope>(NumberPickerScope, configure)
 abstract class NumberPickerScope : LinearLayoutScope() {
-  fun displayedValues(arg: Array<String>): Unit = attr("displayedValues", arg)
-  fun formatter(arg: NumberPicker.Formatter): Unit = attr("formatter", arg)
-  fun maxValue(arg: Int): Unit = attr("maxValue", arg)
-  fun minValue(arg: Int): Unit = attr("minValue", arg)
-  fun onLongPressUpdateInterval(arg: Long): Unit = attr("onLongPressUpdateInterval", arg)
-  fun onScroll(arg: ((arg0: NumberPicker, arg1: Int) -> Unit)?): Unit = attr("onScroll", arg)
+  fun displayedValues(arg: Array<String>): Unit = attr(SdkSetter.id(SdkAttrs.displayedValues), arg)
+  fun formatter(arg: NumberPicker.Formatter): Unit = attr(SdkSetter.id(SdkAttrs.formatter), arg)
+  fun maxValue(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxValue), arg)
+  fun minValue(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minValue), arg)
+  fun onLongPressUpdateInterval(arg: Long): Unit =
+      attr(SdkSetter.id(SdkAttrs.onLongPressUpdateInterval), arg)
+  fun onScroll(arg: ((arg0: NumberPicker, arg1: Int) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onScroll), arg)
   fun onValueChanged(arg: ((
     arg0: NumberPicker,
     arg1: Int,
     arg2: Int
-  ) -> Unit)?): Unit = attr("onValueChanged", arg)
-  fun value(arg: Int): Unit = attr("value", arg)
-  fun wrapSelectorWheel(arg: Boolean): Unit = attr("wrapSelectorWheel", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onValueChanged), arg)
+  fun value(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.value), arg)
+  fun wrapSelectorWheel(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.wrapSelectorWheel), arg)
   companion object : NumberPickerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -924,15 +1005,16 @@ abstract class NumberPickerScope : LinearLayoutScope() {
 }
 
 fun progressBar(configure: ProgressBarScope.() -> Unit = {}) =
-    v<ProgressBar>(configure.bind(ProgressBarScope))
+    v<ProgressBar, ProgressBarScope>(ProgressBarScope, configure)
 abstract class ProgressBarScope : ViewScope() {
-  fun indeterminate(arg: Boolean): Unit = attr("indeterminate", arg)
-  fun indeterminateDrawable(arg: Drawable): Unit = attr("indeterminateDrawable", arg)
-  fun interpolator(arg: Interpolator): Unit = attr("interpolator", arg)
-  fun max(arg: Int): Unit = attr("max", arg)
-  fun progress(arg: Int): Unit = attr("progress", arg)
-  fun progressDrawable(arg: Drawable): Unit = attr("progressDrawable", arg)
-  fun secondaryProgress(arg: Int): Unit = attr("secondaryProgress", arg)
+  fun indeterminate(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.indeterminate), arg)
+  fun indeterminateDrawable(arg: Drawable): Unit =
+      attr(SdkSetter.id(SdkAttrs.indeterminateDrawable), arg)
+  fun interpolator(arg: Interpolator): Unit = attr(SdkSetter.id(SdkAttrs.interpolator), arg)
+  fun max(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.max), arg)
+  fun progress(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.progress), arg)
+  fun progressDrawable(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.progressDrawable), arg)
+  fun secondaryProgress(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.secondaryProgress), arg)
   companion object : ProgressBarScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -940,10 +1022,10 @@ abstract class ProgressBarScope : ViewScope() {
 }
 
 fun quickContactBadge(configure: QuickContactBadgeScope.() -> Unit = {}) =
-    v<QuickContactBadge>(configure.bind(QuickContactBadgeScope))
+    v<QuickContactBadge, QuickContactBadgeScope>(QuickContactBadgeScope, configure)
 abstract class QuickContactBadgeScope : ImageViewScope() {
-  fun excludeMimes(arg: Array<String>): Unit = attr("excludeMimes", arg)
-  fun mode(arg: Int): Unit = attr("mode", arg)
+  fun excludeMimes(arg: Array<String>): Unit = attr(SdkSetter.id(SdkAttrs.excludeMimes), arg)
+  fun mode(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.mode), arg)
   companion object : QuickContactBadgeScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -951,7 +1033,7 @@ abstract class QuickContactBadgeScope : ImageViewScope() {
 }
 
 fun radioButton(configure: RadioButtonScope.() -> Unit = {}) =
-    v<RadioButton>(configure.bind(RadioButtonScope))
+    v<RadioButton, RadioButtonScope>(RadioButtonScope, configure)
 abstract class RadioButtonScope : CompoundButtonScope() {
   companion object : RadioButtonScope() {
     init {
@@ -960,10 +1042,10 @@ abstract class RadioButtonScope : CompoundButtonScope() {
 }
 
 fun radioGroup(configure: RadioGroupScope.() -> Unit = {}) =
-    v<RadioGroup>(configure.bind(RadioGroupScope))
+    v<RadioGroup, RadioGroupScope>(RadioGroupScope, configure)
 abstract class RadioGroupScope : LinearLayoutScope() {
-  fun onCheckedChange(arg: ((arg0: RadioGroup, arg1: Int) -> Unit)?): Unit = attr("onCheckedChange",
-      arg)
+  fun onCheckedChange(arg: ((arg0: RadioGroup, arg1: Int) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onCheckedChange), arg)
   companion object : RadioGroupScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -971,17 +1053,17 @@ abstract class RadioGroupScope : LinearLayoutScope() {
 }
 
 fun ratingBar(configure: RatingBarScope.() -> Unit = {}) =
-    v<RatingBar>(configure.bind(RatingBarScope))
+    v<RatingBar, RatingBarScope>(RatingBarScope, configure)
 abstract class RatingBarScope : AbsSeekBarScope() {
-  fun isIndicator(arg: Boolean): Unit = attr("isIndicator", arg)
-  fun numStars(arg: Int): Unit = attr("numStars", arg)
+  fun isIndicator(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.isIndicator), arg)
+  fun numStars(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.numStars), arg)
   fun onRatingBarChange(arg: ((
     arg0: RatingBar,
     arg1: Float,
     arg2: Boolean
-  ) -> Unit)?): Unit = attr("onRatingBarChange", arg)
-  fun rating(arg: Float): Unit = attr("rating", arg)
-  fun stepSize(arg: Float): Unit = attr("stepSize", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onRatingBarChange), arg)
+  fun rating(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.rating), arg)
+  fun stepSize(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.stepSize), arg)
   companion object : RatingBarScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -989,12 +1071,12 @@ abstract class RatingBarScope : AbsSeekBarScope() {
 }
 
 fun relativeLayout(configure: RelativeLayoutScope.() -> Unit = {}) =
-    v<RelativeLayout>(configure.bind(RelativeLayoutScope))
+    v<RelativeLayout, RelativeLayoutScope>(RelativeLayoutScope, configure)
 abstract class RelativeLayoutScope : ViewGroupScope() {
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun horizontalGravity(arg: Int): Unit = attr("horizontalGravity", arg)
-  fun ignoreGravity(arg: Int): Unit = attr("ignoreGravity", arg)
-  fun verticalGravity(arg: Int): Unit = attr("verticalGravity", arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun horizontalGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.horizontalGravity), arg)
+  fun ignoreGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.ignoreGravity), arg)
+  fun verticalGravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.verticalGravity), arg)
   companion object : RelativeLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1002,10 +1084,11 @@ abstract class RelativeLayoutScope : ViewGroupScope() {
 }
 
 fun scrollView(configure: ScrollViewScope.() -> Unit = {}) =
-    v<ScrollView>(configure.bind(ScrollViewScope))
+    v<ScrollView, ScrollViewScope>(ScrollViewScope, configure)
 abstract class ScrollViewScope : FrameLayoutScope() {
-  fun fillViewport(arg: Boolean): Unit = attr("fillViewport", arg)
-  fun smoothScrollingEnabled(arg: Boolean): Unit = attr("smoothScrollingEnabled", arg)
+  fun fillViewport(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.fillViewport), arg)
+  fun smoothScrollingEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.smoothScrollingEnabled), arg)
   companion object : ScrollViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1013,33 +1096,40 @@ abstract class ScrollViewScope : FrameLayoutScope() {
 }
 
 fun searchView(configure: SearchViewScope.() -> Unit = {}) =
-    v<SearchView>(configure.bind(SearchViewScope))
+    v<SearchView, SearchViewScope>(SearchViewScope, configure)
 abstract class SearchViewScope : LinearLayoutScope() {
-  fun iconified(arg: Boolean): Unit = attr("iconified", arg)
-  fun iconifiedByDefault(arg: Boolean): Unit = attr("iconifiedByDefault", arg)
-  fun imeOptions(arg: Int): Unit = attr("imeOptions", arg)
-  fun inputType(arg: Int): Unit = attr("inputType", arg)
-  fun maxWidth(arg: Int): Unit = attr("maxWidth", arg)
-  fun onClose(arg: (() -> Boolean)?): Unit = attr("onClose", arg)
+  fun iconified(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.iconified), arg)
+  fun iconifiedByDefault(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.iconifiedByDefault), arg)
+  fun imeOptions(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imeOptions), arg)
+  fun inputType(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.inputType), arg)
+  fun maxWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxWidth), arg)
+  fun onClose(arg: (() -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onClose), arg)
   fun onQueryTextFocusChange(arg: ((arg0: View, arg1: Boolean) -> Unit)?): Unit =
-      attr("onQueryTextFocusChange", arg)
-  fun onQueryText(arg: SearchView.OnQueryTextListener?): Unit = attr("onQueryText", arg)
-  fun onSearchClick(arg: ((arg0: View) -> Unit)?): Unit = attr("onSearchClick", arg)
-  fun onSuggestion(arg: SearchView.OnSuggestionListener?): Unit = attr("onSuggestion", arg)
-  fun queryHint(arg: CharSequence?): Unit = attr("queryHint", arg)
-  fun queryRefinementEnabled(arg: Boolean): Unit = attr("queryRefinementEnabled", arg)
-  fun searchableInfo(arg: SearchableInfo): Unit = attr("searchableInfo", arg)
-  fun submitButtonEnabled(arg: Boolean): Unit = attr("submitButtonEnabled", arg)
-  fun suggestionsAdapter(arg: CursorAdapter): Unit = attr("suggestionsAdapter", arg)
+      attr(SdkSetter.id(SdkAttrs.onQueryTextFocusChange), arg)
+  fun onQueryText(arg: SearchView.OnQueryTextListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onQueryText), arg)
+  fun onSearchClick(arg: ((arg0: View) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onSearchClick),
+      arg)
+  fun onSuggestion(arg: SearchView.OnSuggestionListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onSuggestion), arg)
+  fun queryHint(arg: CharSequence?): Unit = attr(SdkSetter.id(SdkAttrs.queryHint), arg)
+  fun queryRefinementEnabled(arg: Boolean): Unit =
+      attr(SdkSetter.id(SdkAttrs.queryRefinementEnabled), arg)
+  fun searchableInfo(arg: SearchableInfo): Unit = attr(SdkSetter.id(SdkAttrs.searchableInfo), arg)
+  fun submitButtonEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.submitButtonEnabled),
+      arg)
+  fun suggestionsAdapter(arg: CursorAdapter): Unit = attr(SdkSetter.id(SdkAttrs.suggestionsAdapter),
+      arg)
   companion object : SearchViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun seekBar(configure: SeekBarScope.() -> Unit = {}) = v<SeekBar>(configure.bind(SeekBarScope))
+fun seekBar(configure: SeekBarScope.() -> Unit = {}) = v<SeekBar, SeekBarScope>(SeekBarScope, configure)
 abstract class SeekBarScope : AbsSeekBarScope() {
-  fun onSeekBarChange(arg: SeekBar.OnSeekBarChangeListener?): Unit = attr("onSeekBarChange", arg)
+  fun onSeekBarChange(arg: SeekBar.OnSeekBarChangeListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onSeekBarChange), arg)
   companion object : SeekBarScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1047,18 +1137,19 @@ abstract class SeekBarScope : AbsSeekBarScope() {
 }
 
 fun slidingDrawer(configure: SlidingDrawerScope.() -> Unit = {}) =
-    v<SlidingDrawer>(configure.bind(SlidingDrawerScope))
+    v<SlidingDrawer, SlidingDrawerScope>(SlidingDrawerScope, configure)
 abstract class SlidingDrawerScope : ViewGroupScope() {
-  fun onDrawerClose(arg: (() -> Unit)?): Unit = attr("onDrawerClose", arg)
-  fun onDrawerOpen(arg: (() -> Unit)?): Unit = attr("onDrawerOpen", arg)
-  fun onDrawerScroll(arg: SlidingDrawer.OnDrawerScrollListener?): Unit = attr("onDrawerScroll", arg)
+  fun onDrawerClose(arg: (() -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onDrawerClose), arg)
+  fun onDrawerOpen(arg: (() -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onDrawerOpen), arg)
+  fun onDrawerScroll(arg: SlidingDrawer.OnDrawerScrollListener?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onDrawerScroll), arg)
   companion object : SlidingDrawerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun space(configure: SpaceScope.() -> Unit = {}) = v<Space>(configure.bind(SpaceScope))
+fun space(configure: SpaceScope.() -> Unit = {}) = v<Space, SpaceScope>(SpaceScope, configure)
 abstract class SpaceScope : ViewScope() {
   companion object : SpaceScope() {
     init {
@@ -1066,16 +1157,20 @@ abstract class SpaceScope : ViewScope() {
   }
 }
 
-fun spinner(configure: SpinnerScope.() -> Unit = {}) = v<Spinner>(configure.bind(SpinnerScope))
+fun spinner(configure: SpinnerScope.() -> Unit = {}) = v<Spinner, SpinnerScope>(SpinnerScope, configure)
 abstract class SpinnerScope : AbsSpinnerScope() {
-  fun dropDownHorizontalOffset(arg: Int): Unit = attr("dropDownHorizontalOffset", arg)
-  fun dropDownVerticalOffset(arg: Int): Unit = attr("dropDownVerticalOffset", arg)
-  fun dropDownWidth(arg: Int): Unit = attr("dropDownWidth", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun popupBackgroundDrawable(arg: Drawable): Unit = attr("popupBackgroundDrawable", arg)
-  fun popupBackgroundResource(arg: Int): Unit = attr("popupBackgroundResource", arg)
-  fun prompt(arg: CharSequence): Unit = attr("prompt", arg)
-  fun promptId(arg: Int): Unit = attr("promptId", arg)
+  fun dropDownHorizontalOffset(arg: Int): Unit =
+      attr(SdkSetter.id(SdkAttrs.dropDownHorizontalOffset), arg)
+  fun dropDownVerticalOffset(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownVerticalOffset),
+      arg)
+  fun dropDownWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dropDownWidth), arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun popupBackgroundDrawable(arg: Drawable): Unit =
+      attr(SdkSetter.id(SdkAttrs.popupBackgroundDrawable), arg)
+  fun popupBackgroundResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.popupBackgroundResource),
+      arg)
+  fun prompt(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.prompt), arg)
+  fun promptId(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.promptId), arg)
   companion object : SpinnerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1083,7 +1178,7 @@ abstract class SpinnerScope : AbsSpinnerScope() {
 }
 
 fun stackView(configure: StackViewScope.() -> Unit = {}) =
-    v<StackView>(configure.bind(StackViewScope))
+    v<StackView, StackViewScope>(StackViewScope, configure)
 abstract class StackViewScope : AdapterViewAnimatorScope() {
   companion object : StackViewScope() {
     init {
@@ -1092,29 +1187,30 @@ abstract class StackViewScope : AdapterViewAnimatorScope() {
 }
 
 fun switchView(configure: SwitchViewScope.() -> Unit = {}) =
-    v<Switch>(configure.bind(SwitchViewScope))
+    v<Switch, SwitchViewScope>(SwitchViewScope, configure)
 abstract class SwitchViewScope : CompoundButtonScope() {
-  fun switchMinWidth(arg: Int): Unit = attr("switchMinWidth", arg)
-  fun switchPadding(arg: Int): Unit = attr("switchPadding", arg)
-  fun switchTypeface(arg: Typeface): Unit = attr("switchTypeface", arg)
-  fun textOff(arg: CharSequence): Unit = attr("textOff", arg)
-  fun textOn(arg: CharSequence): Unit = attr("textOn", arg)
-  fun thumbDrawable(arg: Drawable): Unit = attr("thumbDrawable", arg)
-  fun thumbResource(arg: Int): Unit = attr("thumbResource", arg)
-  fun thumbTextPadding(arg: Int): Unit = attr("thumbTextPadding", arg)
-  fun trackDrawable(arg: Drawable): Unit = attr("trackDrawable", arg)
-  fun trackResource(arg: Int): Unit = attr("trackResource", arg)
+  fun switchMinWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.switchMinWidth), arg)
+  fun switchPadding(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.switchPadding), arg)
+  fun switchTypeface(arg: Typeface): Unit = attr(SdkSetter.id(SdkAttrs.switchTypeface), arg)
+  fun textOff(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.textOff), arg)
+  fun textOn(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.textOn), arg)
+  fun thumbDrawable(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.thumbDrawable), arg)
+  fun thumbResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.thumbResource), arg)
+  fun thumbTextPadding(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.thumbTextPadding), arg)
+  fun trackDrawable(arg: Drawable): Unit = attr(SdkSetter.id(SdkAttrs.trackDrawable), arg)
+  fun trackResource(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.trackResource), arg)
   companion object : SwitchViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun tabHost(configure: TabHostScope.() -> Unit = {}) = v<TabHost>(configure.bind(TabHostScope))
+fun tabHost(configure: TabHostScope.() -> Unit = {}) = v<TabHost, TabHostScope>(TabHostScope, configure)
 abstract class TabHostScope : FrameLayoutScope() {
-  fun currentTab(arg: Int): Unit = attr("currentTab", arg)
-  fun currentTabByTag(arg: String): Unit = attr("currentTabByTag", arg)
-  fun onTabChanged(arg: ((arg0: String) -> Unit)?): Unit = attr("onTabChanged", arg)
+  fun currentTab(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.currentTab), arg)
+  fun currentTabByTag(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.currentTabByTag), arg)
+  fun onTabChanged(arg: ((arg0: String) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onTabChanged),
+      arg)
   companion object : TabHostScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1122,15 +1218,16 @@ abstract class TabHostScope : FrameLayoutScope() {
 }
 
 fun tabWidget(configure: TabWidgetScope.() -> Unit = {}) =
-    v<TabWidget>(configure.bind(TabWidgetScope))
+    v<TabWidget, TabWidgetScope>(TabWidgetScope, configure)
 abstract class TabWidgetScope : LinearLayoutScope() {
-  fun currentTab(arg: Int): Unit = attr("currentTab", arg)
-  fun dividerDrawable(arg: Int): Unit = attr("dividerDrawable", arg)
-  fun leftStripDrawable(arg: Drawable?): Unit = attr("leftStripDrawable", arg)
-  fun leftStripDrawable(arg: Int): Unit = attr("leftStripDrawable", arg)
-  fun rightStripDrawable(arg: Drawable?): Unit = attr("rightStripDrawable", arg)
-  fun rightStripDrawable(arg: Int): Unit = attr("rightStripDrawable", arg)
-  fun stripEnabled(arg: Boolean): Unit = attr("stripEnabled", arg)
+  fun currentTab(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.currentTab), arg)
+  fun dividerDrawable(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.dividerDrawable), arg)
+  fun leftStripDrawable(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.leftStripDrawable), arg)
+  fun leftStripDrawable(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.leftStripDrawable), arg)
+  fun rightStripDrawable(arg: Drawable?): Unit = attr(SdkSetter.id(SdkAttrs.rightStripDrawable),
+      arg)
+  fun rightStripDrawable(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.rightStripDrawable), arg)
+  fun stripEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.stripEnabled), arg)
   companion object : TabWidgetScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1138,17 +1235,17 @@ abstract class TabWidgetScope : LinearLayoutScope() {
 }
 
 fun tableLayout(configure: TableLayoutScope.() -> Unit = {}) =
-    v<TableLayout>(configure.bind(TableLayoutScope))
+    v<TableLayout, TableLayoutScope>(TableLayoutScope, configure)
 abstract class TableLayoutScope : LinearLayoutScope() {
-  fun shrinkAllColumns(arg: Boolean): Unit = attr("shrinkAllColumns", arg)
-  fun stretchAllColumns(arg: Boolean): Unit = attr("stretchAllColumns", arg)
+  fun shrinkAllColumns(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.shrinkAllColumns), arg)
+  fun stretchAllColumns(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.stretchAllColumns), arg)
   companion object : TableLayoutScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun tableRow(configure: TableRowScope.() -> Unit = {}) = v<TableRow>(configure.bind(TableRowScope))
+fun tableRow(configure: TableRowScope.() -> Unit = {}) = v<TableRow, TableRowScope>(TableRowScope, configure)
 abstract class TableRowScope : LinearLayoutScope() {
   companion object : TableRowScope() {
     init {
@@ -1157,11 +1254,11 @@ abstract class TableRowScope : LinearLayoutScope() {
 }
 
 fun textClock(configure: TextClockScope.() -> Unit = {}) =
-    v<TextClock>(configure.bind(TextClockScope))
+    v<TextClock, TextClockScope>(TextClockScope, configure)
 abstract class TextClockScope : TextViewScope() {
-  fun format12Hour(arg: CharSequence): Unit = attr("format12Hour", arg)
-  fun format24Hour(arg: CharSequence): Unit = attr("format24Hour", arg)
-  fun timeZone(arg: String): Unit = attr("timeZone", arg)
+  fun format12Hour(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.format12Hour), arg)
+  fun format24Hour(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.format24Hour), arg)
+  fun timeZone(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.timeZone), arg)
   companion object : TextClockScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1169,79 +1266,84 @@ abstract class TextClockScope : TextViewScope() {
 }
 
 fun textSwitcher(configure: TextSwitcherScope.() -> Unit = {}) =
-    v<TextSwitcher>(configure.bind(TextSwitcherScope))
+    v<TextSwitcher, TextSwitcherScope>(TextSwitcherScope, configure)
 abstract class TextSwitcherScope : ViewSwitcherScope() {
-  fun currentText(arg: CharSequence): Unit = attr("currentText", arg)
-  fun text(arg: CharSequence): Unit = attr("text", arg)
+  fun currentText(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.currentText), arg)
+  fun text(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.text), arg)
   companion object : TextSwitcherScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
   }
 }
 
-fun textView(configure: TextViewScope.() -> Unit = {}) = v<TextView>(configure.bind(TextViewScope))
+fun textView(configure: TextViewScope.() -> Unit = {}) = v<TextView, TextViewScope>(TextViewScope, configure)
 abstract class TextViewScope : ViewScope() {
-  fun allCaps(arg: Boolean): Unit = attr("allCaps", arg)
-  fun autoLinkMask(arg: Int): Unit = attr("autoLinkMask", arg)
-  fun compoundDrawablePadding(arg: Int): Unit = attr("compoundDrawablePadding", arg)
-  fun cursorVisible(arg: Boolean): Unit = attr("cursorVisible", arg)
+  fun allCaps(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.allCaps), arg)
+  fun autoLinkMask(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.autoLinkMask), arg)
+  fun compoundDrawablePadding(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.compoundDrawablePadding),
+      arg)
+  fun cursorVisible(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.cursorVisible), arg)
   fun customSelectionActionModeCallback(arg: ActionMode.Callback): Unit =
-      attr("customSelectionActionModeCallback", arg)
-  fun editableFactory(arg: Editable.Factory): Unit = attr("editableFactory", arg)
-  fun ellipsize(arg: TextUtils.TruncateAt): Unit = attr("ellipsize", arg)
-  fun ems(arg: Int): Unit = attr("ems", arg)
-  fun error(arg: CharSequence): Unit = attr("error", arg)
-  fun extractedText(arg: ExtractedText): Unit = attr("extractedText", arg)
-  fun filters(arg: Array<InputFilter>): Unit = attr("filters", arg)
-  fun freezesText(arg: Boolean): Unit = attr("freezesText", arg)
-  fun gravity(arg: Int): Unit = attr("gravity", arg)
-  fun height(arg: Int): Unit = attr("height", arg)
-  fun highlightColor(arg: Int): Unit = attr("highlightColor", arg)
-  fun hint(arg: CharSequence): Unit = attr("hint", arg)
-  fun hint(arg: Int): Unit = attr("hint", arg)
-  fun hintTextColor(arg: Int): Unit = attr("hintTextColor", arg)
-  fun hintTextColor(arg: ColorStateList): Unit = attr("hintTextColor", arg)
-  fun horizontallyScrolling(arg: Boolean): Unit = attr("horizontallyScrolling", arg)
-  fun imeOptions(arg: Int): Unit = attr("imeOptions", arg)
-  fun includeFontPadding(arg: Boolean): Unit = attr("includeFontPadding", arg)
-  fun inputType(arg: Int): Unit = attr("inputType", arg)
-  fun keyListener(arg: KeyListener): Unit = attr("keyListener", arg)
-  fun lines(arg: Int): Unit = attr("lines", arg)
-  fun linkTextColor(arg: Int): Unit = attr("linkTextColor", arg)
-  fun linkTextColor(arg: ColorStateList): Unit = attr("linkTextColor", arg)
-  fun linksClickable(arg: Boolean): Unit = attr("linksClickable", arg)
-  fun marqueeRepeatLimit(arg: Int): Unit = attr("marqueeRepeatLimit", arg)
-  fun maxEms(arg: Int): Unit = attr("maxEms", arg)
-  fun maxHeight(arg: Int): Unit = attr("maxHeight", arg)
-  fun maxLines(arg: Int): Unit = attr("maxLines", arg)
-  fun maxWidth(arg: Int): Unit = attr("maxWidth", arg)
-  fun minEms(arg: Int): Unit = attr("minEms", arg)
-  fun minHeight(arg: Int): Unit = attr("minHeight", arg)
-  fun minLines(arg: Int): Unit = attr("minLines", arg)
-  fun minWidth(arg: Int): Unit = attr("minWidth", arg)
-  fun movementMethod(arg: MovementMethod): Unit = attr("movementMethod", arg)
+      attr(SdkSetter.id(SdkAttrs.customSelectionActionModeCallback), arg)
+  fun editableFactory(arg: Editable.Factory): Unit = attr(SdkSetter.id(SdkAttrs.editableFactory),
+      arg)
+  fun ellipsize(arg: TextUtils.TruncateAt): Unit = attr(SdkSetter.id(SdkAttrs.ellipsize), arg)
+  fun ems(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.ems), arg)
+  fun error(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.error), arg)
+  fun extractedText(arg: ExtractedText): Unit = attr(SdkSetter.id(SdkAttrs.extractedText), arg)
+  fun filters(arg: Array<InputFilter>): Unit = attr(SdkSetter.id(SdkAttrs.filters), arg)
+  fun freezesText(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.freezesText), arg)
+  fun gravity(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.gravity), arg)
+  fun height(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.height), arg)
+  fun highlightColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.highlightColor), arg)
+  fun hint(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.hint), arg)
+  fun hint(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.hint), arg)
+  fun hintTextColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.hintTextColor), arg)
+  fun hintTextColor(arg: ColorStateList): Unit = attr(SdkSetter.id(SdkAttrs.hintTextColor), arg)
+  fun horizontallyScrolling(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.horizontallyScrolling),
+      arg)
+  fun imeOptions(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.imeOptions), arg)
+  fun includeFontPadding(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.includeFontPadding), arg)
+  fun inputType(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.inputType), arg)
+  fun keyListener(arg: KeyListener): Unit = attr(SdkSetter.id(SdkAttrs.keyListener), arg)
+  fun lines(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.lines), arg)
+  fun linkTextColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.linkTextColor), arg)
+  fun linkTextColor(arg: ColorStateList): Unit = attr(SdkSetter.id(SdkAttrs.linkTextColor), arg)
+  fun linksClickable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.linksClickable), arg)
+  fun marqueeRepeatLimit(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.marqueeRepeatLimit), arg)
+  fun maxEms(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxEms), arg)
+  fun maxHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxHeight), arg)
+  fun maxLines(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxLines), arg)
+  fun maxWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.maxWidth), arg)
+  fun minEms(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minEms), arg)
+  fun minHeight(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minHeight), arg)
+  fun minLines(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minLines), arg)
+  fun minWidth(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.minWidth), arg)
+  fun movementMethod(arg: MovementMethod): Unit = attr(SdkSetter.id(SdkAttrs.movementMethod), arg)
   fun onEditorAction(arg: ((
     arg0: TextView,
     arg1: Int,
     arg2: KeyEvent
-  ) -> Boolean)?): Unit = attr("onEditorAction", arg)
-  fun paintFlags(arg: Int): Unit = attr("paintFlags", arg)
-  fun privateImeOptions(arg: String): Unit = attr("privateImeOptions", arg)
-  fun rawInputType(arg: Int): Unit = attr("rawInputType", arg)
-  fun scroller(arg: Scroller): Unit = attr("scroller", arg)
-  fun selectAllOnFocus(arg: Boolean): Unit = attr("selectAllOnFocus", arg)
-  fun singleLine(arg: Boolean): Unit = attr("singleLine", arg)
-  fun spannableFactory(arg: Spannable.Factory): Unit = attr("spannableFactory", arg)
-  fun text(arg: Int): Unit = attr("text", arg)
-  fun textColor(arg: ColorStateList): Unit = attr("textColor", arg)
-  fun textColor(arg: Int): Unit = attr("textColor", arg)
-  fun textIsSelectable(arg: Boolean): Unit = attr("textIsSelectable", arg)
-  fun textKeepState(arg: CharSequence): Unit = attr("textKeepState", arg)
-  fun textLocale(arg: Locale): Unit = attr("textLocale", arg)
-  fun textScaleX(arg: Float): Unit = attr("textScaleX", arg)
-  fun transformationMethod(arg: TransformationMethod): Unit = attr("transformationMethod", arg)
-  fun typeface(arg: Typeface?): Unit = attr("typeface", arg)
-  fun width(arg: Int): Unit = attr("width", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onEditorAction), arg)
+  fun paintFlags(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.paintFlags), arg)
+  fun privateImeOptions(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.privateImeOptions), arg)
+  fun rawInputType(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.rawInputType), arg)
+  fun scroller(arg: Scroller): Unit = attr(SdkSetter.id(SdkAttrs.scroller), arg)
+  fun selectAllOnFocus(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.selectAllOnFocus), arg)
+  fun singleLine(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.singleLine), arg)
+  fun spannableFactory(arg: Spannable.Factory): Unit = attr(SdkSetter.id(SdkAttrs.spannableFactory),
+      arg)
+  fun text(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.text), arg)
+  fun textColor(arg: ColorStateList): Unit = attr(SdkSetter.id(SdkAttrs.textColor), arg)
+  fun textColor(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.textColor), arg)
+  fun textIsSelectable(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.textIsSelectable), arg)
+  fun textKeepState(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.textKeepState), arg)
+  fun textLocale(arg: Locale): Unit = attr(SdkSetter.id(SdkAttrs.textLocale), arg)
+  fun textScaleX(arg: Float): Unit = attr(SdkSetter.id(SdkAttrs.textScaleX), arg)
+  fun transformationMethod(arg: TransformationMethod): Unit =
+      attr(SdkSetter.id(SdkAttrs.transformationMethod), arg)
+  fun typeface(arg: Typeface?): Unit = attr(SdkSetter.id(SdkAttrs.typeface), arg)
+  fun width(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.width), arg)
   companion object : TextViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1249,16 +1351,16 @@ abstract class TextViewScope : ViewScope() {
 }
 
 fun timePicker(configure: TimePickerScope.() -> Unit = {}) =
-    v<TimePicker>(configure.bind(TimePickerScope))
+    v<TimePicker, TimePickerScope>(TimePickerScope, configure)
 abstract class TimePickerScope : FrameLayoutScope() {
-  fun currentHour(arg: Int): Unit = attr("currentHour", arg)
-  fun currentMinute(arg: Int): Unit = attr("currentMinute", arg)
-  fun is24HourView(arg: Boolean): Unit = attr("is24HourView", arg)
+  fun currentHour(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.currentHour), arg)
+  fun currentMinute(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.currentMinute), arg)
+  fun is24HourView(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.is24HourView), arg)
   fun onTimeChanged(arg: ((
     arg0: TimePicker,
     arg1: Int,
     arg2: Int
-  ) -> Unit)?): Unit = attr("onTimeChanged", arg)
+  ) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onTimeChanged), arg)
   companion object : TimePickerScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1266,10 +1368,10 @@ abstract class TimePickerScope : FrameLayoutScope() {
 }
 
 fun toggleButton(configure: ToggleButtonScope.() -> Unit = {}) =
-    v<ToggleButton>(configure.bind(ToggleButtonScope))
+    v<ToggleButton, ToggleButtonScope>(ToggleButtonScope, configure)
 abstract class ToggleButtonScope : CompoundButtonScope() {
-  fun textOff(arg: CharSequence): Unit = attr("textOff", arg)
-  fun textOn(arg: CharSequence): Unit = attr("textOn", arg)
+  fun textOff(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.textOff), arg)
+  fun textOn(arg: CharSequence): Unit = attr(SdkSetter.id(SdkAttrs.textOn), arg)
   companion object : ToggleButtonScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1277,7 +1379,7 @@ abstract class ToggleButtonScope : CompoundButtonScope() {
 }
 
 fun twoLineListItem(configure: TwoLineListItemScope.() -> Unit = {}) =
-    v<TwoLineListItem>(configure.bind(TwoLineListItemScope))
+    v<TwoLineListItem, TwoLineListItemScope>(TwoLineListItemScope, configure)
 abstract class TwoLineListItemScope : RelativeLayoutScope() {
   companion object : TwoLineListItemScope() {
     init {
@@ -1286,23 +1388,26 @@ abstract class TwoLineListItemScope : RelativeLayoutScope() {
 }
 
 fun videoView(configure: VideoViewScope.() -> Unit = {}) =
-    v<VideoView>(configure.bind(VideoViewScope))
+    v<VideoView, VideoViewScope>(VideoViewScope, configure)
 abstract class VideoViewScope : SurfaceViewScope() {
-  fun mediaController(arg: MediaController): Unit = attr("mediaController", arg)
-  fun onCompletion(arg: ((arg0: MediaPlayer) -> Unit)?): Unit = attr("onCompletion", arg)
+  fun mediaController(arg: MediaController): Unit = attr(SdkSetter.id(SdkAttrs.mediaController),
+      arg)
+  fun onCompletion(arg: ((arg0: MediaPlayer) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onCompletion), arg)
   fun onError(arg: ((
     arg0: MediaPlayer,
     arg1: Int,
     arg2: Int
-  ) -> Boolean)?): Unit = attr("onError", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onError), arg)
   fun onInfo(arg: ((
     arg0: MediaPlayer,
     arg1: Int,
     arg2: Int
-  ) -> Boolean)?): Unit = attr("onInfo", arg)
-  fun onPrepared(arg: ((arg0: MediaPlayer) -> Unit)?): Unit = attr("onPrepared", arg)
-  fun videoPath(arg: String): Unit = attr("videoPath", arg)
-  fun videoURI(arg: Uri): Unit = attr("videoURI", arg)
+  ) -> Boolean)?): Unit = attr(SdkSetter.id(SdkAttrs.onInfo), arg)
+  fun onPrepared(arg: ((arg0: MediaPlayer) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onPrepared), arg)
+  fun videoPath(arg: String): Unit = attr(SdkSetter.id(SdkAttrs.videoPath), arg)
+  fun videoURI(arg: Uri): Unit = attr(SdkSetter.id(SdkAttrs.videoURI), arg)
   companion object : VideoViewScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1310,12 +1415,12 @@ abstract class VideoViewScope : SurfaceViewScope() {
 }
 
 fun viewAnimator(configure: ViewAnimatorScope.() -> Unit = {}) =
-    v<ViewAnimator>(configure.bind(ViewAnimatorScope))
+    v<ViewAnimator, ViewAnimatorScope>(ViewAnimatorScope, configure)
 abstract class ViewAnimatorScope : FrameLayoutScope() {
-  fun animateFirstView(arg: Boolean): Unit = attr("animateFirstView", arg)
-  fun displayedChild(arg: Int): Unit = attr("displayedChild", arg)
-  fun inAnimation(arg: Animation): Unit = attr("inAnimation", arg)
-  fun outAnimation(arg: Animation): Unit = attr("outAnimation", arg)
+  fun animateFirstView(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.animateFirstView), arg)
+  fun displayedChild(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.displayedChild), arg)
+  fun inAnimation(arg: Animation): Unit = attr(SdkSetter.id(SdkAttrs.inAnimation), arg)
+  fun outAnimation(arg: Animation): Unit = attr(SdkSetter.id(SdkAttrs.outAnimation), arg)
   companion object : ViewAnimatorScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1323,10 +1428,10 @@ abstract class ViewAnimatorScope : FrameLayoutScope() {
 }
 
 fun viewFlipper(configure: ViewFlipperScope.() -> Unit = {}) =
-    v<ViewFlipper>(configure.bind(ViewFlipperScope))
+    v<ViewFlipper, ViewFlipperScope>(ViewFlipperScope, configure)
 abstract class ViewFlipperScope : ViewAnimatorScope() {
-  fun autoStart(arg: Boolean): Unit = attr("autoStart", arg)
-  fun flipInterval(arg: Int): Unit = attr("flipInterval", arg)
+  fun autoStart(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.autoStart), arg)
+  fun flipInterval(arg: Int): Unit = attr(SdkSetter.id(SdkAttrs.flipInterval), arg)
   companion object : ViewFlipperScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1334,9 +1439,9 @@ abstract class ViewFlipperScope : ViewAnimatorScope() {
 }
 
 fun viewSwitcher(configure: ViewSwitcherScope.() -> Unit = {}) =
-    v<ViewSwitcher>(configure.bind(ViewSwitcherScope))
+    v<ViewSwitcher, ViewSwitcherScope>(ViewSwitcherScope, configure)
 abstract class ViewSwitcherScope : ViewAnimatorScope() {
-  fun factory(arg: ViewSwitcher.ViewFactory): Unit = attr("factory", arg)
+  fun factory(arg: ViewSwitcher.ViewFactory): Unit = attr(SdkSetter.id(SdkAttrs.factory), arg)
   companion object : ViewSwitcherScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1344,9 +1449,9 @@ abstract class ViewSwitcherScope : ViewAnimatorScope() {
 }
 
 fun zoomButton(configure: ZoomButtonScope.() -> Unit = {}) =
-    v<ZoomButton>(configure.bind(ZoomButtonScope))
+    v<ZoomButton, ZoomButtonScope>(ZoomButtonScope, configure)
 abstract class ZoomButtonScope : ImageButtonScope() {
-  fun zoomSpeed(arg: Long): Unit = attr("zoomSpeed", arg)
+  fun zoomSpeed(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.zoomSpeed), arg)
   companion object : ZoomButtonScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1354,13 +1459,15 @@ abstract class ZoomButtonScope : ImageButtonScope() {
 }
 
 fun zoomControls(configure: ZoomControlsScope.() -> Unit = {}) =
-    v<ZoomControls>(configure.bind(ZoomControlsScope))
+    v<ZoomControls, ZoomControlsScope>(ZoomControlsScope, configure)
 abstract class ZoomControlsScope : LinearLayoutScope() {
-  fun isZoomInEnabled(arg: Boolean): Unit = attr("isZoomInEnabled", arg)
-  fun isZoomOutEnabled(arg: Boolean): Unit = attr("isZoomOutEnabled", arg)
-  fun onZoomInClick(arg: ((arg0: View) -> Unit)?): Unit = attr("onZoomInClick", arg)
-  fun onZoomOutClick(arg: ((arg0: View) -> Unit)?): Unit = attr("onZoomOutClick", arg)
-  fun zoomSpeed(arg: Long): Unit = attr("zoomSpeed", arg)
+  fun isZoomInEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.isZoomInEnabled), arg)
+  fun isZoomOutEnabled(arg: Boolean): Unit = attr(SdkSetter.id(SdkAttrs.isZoomOutEnabled), arg)
+  fun onZoomInClick(arg: ((arg0: View) -> Unit)?): Unit = attr(SdkSetter.id(SdkAttrs.onZoomInClick),
+      arg)
+  fun onZoomOutClick(arg: ((arg0: View) -> Unit)?): Unit =
+      attr(SdkSetter.id(SdkAttrs.onZoomOutClick), arg)
+  fun zoomSpeed(arg: Long): Unit = attr(SdkSetter.id(SdkAttrs.zoomSpeed), arg)
   companion object : ZoomControlsScope() {
     init {
       Anvil.registerAttributeSetter(SdkSetter)}
@@ -1374,42 +1481,146 @@ abstract class ZoomControlsScope : LinearLayoutScope() {
  * It contains views and their setters from API level 19.
  * Please, don't edit it manually unless for debugging.
  */
-object SdkSetter : Anvil.AttributeSetter<Any?> {
+object SdkSetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+  private val attrs: Anvil.AttrTable = Anvil.AttrTable("activity", "maxVisible",
+      "onBreadCrumbClick", "extendedSettingsClickListener", "routeTypes",
+      "eventsInterceptionEnabled", "fadeEnabled", "fadeOffset", "gesture", "gestureColor",
+      "gestureStrokeAngleThreshold", "gestureStrokeLengthThreshold",
+      "gestureStrokeSquarenessTreshold", "gestureStrokeType", "gestureStrokeWidth",
+      "gestureVisible", "orientation", "uncertainGestureColor", "keyboard", "onKeyboardAction",
+      "popupParent", "previewEnabled", "proximityCorrectionEnabled", "shifted",
+      "verticalCorrection", "debugFlags", "eGLConfigChooser", "eGLContextClientVersion",
+      "eGLContextFactory", "eGLWindowSurfaceFactory", "gLWrapper", "preserveEGLContextOnPause",
+      "renderMode", "renderer", "secure", "zOrderMediaOverlay", "zOrderOnTop", "opaque",
+      "surfaceTexture", "surfaceTextureListener", "transform", "accessibilityDelegate",
+      "accessibilityLiveRegion", "activated", "alpha", "animation", "background", "backgroundColor",
+      "backgroundResource", "bottom", "cameraDistance", "clickable", "clipBounds",
+      "contentDescription", "drawingCacheBackgroundColor", "drawingCacheEnabled",
+      "drawingCacheQuality", "duplicateParentStateEnabled", "enabled", "fadingEdgeLength",
+      "filterTouchesWhenObscured", "fitsSystemWindows", "focusable", "focusableInTouchMode",
+      "hapticFeedbackEnabled", "hasTransientState", "horizontalFadingEdgeEnabled",
+      "horizontalScrollBarEnabled", "hovered", "id", "importantForAccessibility", "keepScreenOn",
+      "labelFor", "layerPaint", "layoutDirection", "layoutParams", "left", "longClickable",
+      "minimumHeight", "minimumWidth", "nextFocusDownId", "nextFocusForwardId", "nextFocusLeftId",
+      "nextFocusRightId", "nextFocusUpId", "onClick", "onCreateContextMenu", "onDrag",
+      "onFocusChange", "onGenericMotion", "onHover", "onKey", "onLongClick",
+      "onSystemUiVisibilityChange", "onTouch", "overScrollMode", "pivotX", "pivotY", "pressed",
+      "right", "rotation", "rotationX", "rotationY", "saveEnabled", "saveFromParentEnabled",
+      "scaleX", "scaleY", "scrollBarDefaultDelayBeforeFade", "scrollBarFadeDuration",
+      "scrollBarSize", "scrollBarStyle", "scrollContainer", "scrollX", "scrollY",
+      "scrollbarFadingEnabled", "selected", "soundEffectsEnabled", "systemUiVisibility", "tag",
+      "textAlignment", "textDirection", "top", "touchDelegate", "translationX", "translationY",
+      "verticalFadingEdgeEnabled", "verticalScrollBarEnabled", "verticalScrollbarPosition",
+      "visibility", "willNotCacheDrawing", "willNotDraw", "x", "y", "addStatesFromChildren",
+      "alwaysDrawnWithCacheEnabled", "animationCacheEnabled", "clipChildren", "clipToPadding",
+      "descendantFocusability", "layoutAnimation", "layoutAnimationListener", "layoutMode",
+      "layoutTransition", "motionEventSplittingEnabled", "onHierarchyChange",
+      "persistentDrawingCache", "inflatedId", "layoutInflater", "layoutResource", "onInflate",
+      "downloadListener", "findListener", "horizontalScrollbarOverlay", "initialScale",
+      "networkAvailable", "verticalScrollbarOverlay", "webChromeClient", "webViewClient",
+      "cacheColorHint", "choiceMode", "drawSelectorOnTop", "fastScrollAlwaysVisible",
+      "fastScrollEnabled", "filterText", "friction", "multiChoiceModeListener", "onScroll",
+      "recyclerListener", "remoteViewsAdapter", "scrollingCacheEnabled", "selector",
+      "smoothScrollbarEnabled", "stackFromBottom", "textFilterEnabled", "transcriptMode",
+      "velocityScale", "keyProgressIncrement", "thumb", "thumbOffset", "adapter", "emptyView",
+      "onItemClick", "onItemLongClick", "onItemSelected", "selection", "animateFirstView",
+      "displayedChild", "inAnimation", "outAnimation", "autoStart", "flipInterval",
+      "completionHint", "dropDownAnchor", "dropDownBackgroundDrawable",
+      "dropDownBackgroundResource", "dropDownHeight", "dropDownHorizontalOffset",
+      "dropDownVerticalOffset", "dropDownWidth", "listSelection", "onDismiss", "threshold",
+      "validator", "date", "dateTextAppearance", "firstDayOfWeek", "focusedMonthDateColor",
+      "maxDate", "minDate", "onDateChange", "selectedDateVerticalBar",
+      "selectedWeekBackgroundColor", "showWeekNumber", "shownWeekCount", "unfocusedMonthDateColor",
+      "weekDayTextAppearance", "weekNumberColor", "weekSeparatorLineColor", "checkMarkDrawable",
+      "checked", "base", "format", "onChronometerTick", "buttonDrawable", "onCheckedChange",
+      "calendarViewShown", "spinnersShown", "digitsWatcher", "filterWatcher", "lettersWatcher",
+      "mode", "childDivider", "childIndicator", "groupIndicator", "onChildClick", "onGroupClick",
+      "onGroupCollapse", "onGroupExpand", "selectedGroup", "foreground", "foregroundGravity",
+      "measureAllChildren", "animationDuration", "callbackDuringFling", "gravity", "spacing",
+      "unselectedAlpha", "alignmentMode", "columnCount", "columnOrderPreserved", "rowCount",
+      "rowOrderPreserved", "useDefaultMargins", "columnWidth", "horizontalSpacing", "numColumns",
+      "stretchMode", "verticalSpacing", "fillViewport", "smoothScrollingEnabled", "imageDrawable",
+      "imageResource", "imageURI", "adjustViewBounds", "baseline", "baselineAlignBottom",
+      "colorFilter", "cropToPadding", "imageAlpha", "imageBitmap", "imageLevel", "imageMatrix",
+      "maxHeight", "maxWidth", "scaleType", "baselineAligned", "baselineAlignedChildIndex",
+      "dividerDrawable", "dividerPadding", "horizontalGravity", "measureWithLargestChildEnabled",
+      "showDividers", "verticalGravity", "weightSum", "divider", "dividerHeight",
+      "footerDividersEnabled", "headerDividersEnabled", "itemsCanFocus", "overscrollFooter",
+      "overscrollHeader", "anchorView", "mediaPlayer", "tokenizer", "displayedValues", "formatter",
+      "maxValue", "minValue", "onLongPressUpdateInterval", "onValueChanged", "value",
+      "wrapSelectorWheel", "indeterminate", "indeterminateDrawable", "interpolator", "max",
+      "progress", "progressDrawable", "secondaryProgress", "excludeMimes", "isIndicator",
+      "numStars", "onRatingBarChange", "rating", "stepSize", "ignoreGravity", "iconified",
+      "iconifiedByDefault", "imeOptions", "inputType", "onClose", "onQueryTextFocusChange",
+      "onQueryText", "onSearchClick", "onSuggestion", "queryHint", "queryRefinementEnabled",
+      "searchableInfo", "submitButtonEnabled", "suggestionsAdapter", "onSeekBarChange",
+      "onDrawerClose", "onDrawerOpen", "onDrawerScroll", "popupBackgroundDrawable",
+      "popupBackgroundResource", "prompt", "promptId", "switchMinWidth", "switchPadding",
+      "switchTypeface", "textOff", "textOn", "thumbDrawable", "thumbResource", "thumbTextPadding",
+      "trackDrawable", "trackResource", "currentTab", "currentTabByTag", "onTabChanged",
+      "leftStripDrawable", "rightStripDrawable", "stripEnabled", "shrinkAllColumns",
+      "stretchAllColumns", "format12Hour", "format24Hour", "timeZone", "currentText", "text",
+      "allCaps", "autoLinkMask", "compoundDrawablePadding", "cursorVisible",
+      "customSelectionActionModeCallback", "editableFactory", "ellipsize", "ems", "error",
+      "extractedText", "filters", "freezesText", "height", "highlightColor", "hint",
+      "hintTextColor", "horizontallyScrolling", "includeFontPadding", "keyListener", "lines",
+      "linkTextColor", "linksClickable", "marqueeRepeatLimit", "maxEms", "maxLines", "minEms",
+      "minHeight", "minLines", "minWidth", "movementMethod", "onEditorAction", "paintFlags",
+      "privateImeOptions", "rawInputType", "scroller", "selectAllOnFocus", "singleLine",
+      "spannableFactory", "textColor", "textIsSelectable", "textKeepState", "textLocale",
+      "textScaleX", "transformationMethod", "typeface", "width", "currentHour", "currentMinute",
+      "is24HourView", "onTimeChanged", "mediaController", "onCompletion", "onError", "onInfo",
+      "onPrepared", "videoPath", "videoURI", "factory", "zoomSpeed", "isZoomInEnabled",
+      "isZoomOutEnabled", "onZoomInClick", "onZoomOutClick")
+
   init {
     Anvil.registerAttributeSetter(this)
     Anvil.registerAttributeSetter(CustomDslSetter)
   }
 
+  /**
+   * Returns attribute id for the ordinal from [SdkAttrs]
+   */
+  fun id(ordinal: Int): Int = attrs.id(ordinal)
+
   override fun set(
     v: View,
     name: String,
     arg: Any?,
     old: Any?
-  ): Boolean = when (name) {
-    "activity" -> when {
+  ): Boolean = set(v, Anvil.attrId(name), arg, old)
+
+  override fun set(
+    v: View,
+    id: Int,
+    arg: Any?,
+    old: Any?
+  ): Boolean = when (attrs.ordinal(id)) {
+    SdkAttrs.activity -> when {
       v is FragmentBreadCrumbs && arg is Activity -> {
         v.setActivity(arg)
         true
       }
       else -> false
     }
-    "maxVisible" -> when {
+    SdkAttrs.maxVisible -> when {
       v is FragmentBreadCrumbs && arg is Int -> {
         v.setMaxVisible(arg)
         true
       }
       else -> false
     }
-    "onBreadCrumbClick" -> when {
+    SdkAttrs.onBreadCrumbClick -> when {
       v is FragmentBreadCrumbs -> when {
         arg == null -> {
           v.setOnBreadCrumbClickListener(null as? FragmentBreadCrumbs.OnBreadCrumbClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: FragmentManager.BackStackEntry, arg1: Int) -> Boolean
-          v.setOnBreadCrumbClickListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnBreadCrumbClickListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: FragmentManager.BackStackEntry, arg1: Int) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -1417,98 +1628,98 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "extendedSettingsClickListener" -> when {
+    SdkAttrs.extendedSettingsClickListener -> when {
       v is MediaRouteButton && arg is View.OnClickListener -> {
         v.setExtendedSettingsClickListener(arg)
         true
       }
       else -> false
     }
-    "routeTypes" -> when {
+    SdkAttrs.routeTypes -> when {
       v is MediaRouteButton && arg is Int -> {
         v.setRouteTypes(arg)
         true
       }
       else -> false
     }
-    "eventsInterceptionEnabled" -> when {
+    SdkAttrs.eventsInterceptionEnabled -> when {
       v is GestureOverlayView && arg is Boolean -> {
         v.setEventsInterceptionEnabled(arg)
         true
       }
       else -> false
     }
-    "fadeEnabled" -> when {
+    SdkAttrs.fadeEnabled -> when {
       v is GestureOverlayView && arg is Boolean -> {
         v.setFadeEnabled(arg)
         true
       }
       else -> false
     }
-    "fadeOffset" -> when {
+    SdkAttrs.fadeOffset -> when {
       v is GestureOverlayView && arg is Long -> {
         v.setFadeOffset(arg)
         true
       }
       else -> false
     }
-    "gesture" -> when {
+    SdkAttrs.gesture -> when {
       v is GestureOverlayView && arg is Gesture -> {
         v.setGesture(arg)
         true
       }
       else -> false
     }
-    "gestureColor" -> when {
+    SdkAttrs.gestureColor -> when {
       v is GestureOverlayView && arg is Int -> {
         v.setGestureColor(arg)
         true
       }
       else -> false
     }
-    "gestureStrokeAngleThreshold" -> when {
+    SdkAttrs.gestureStrokeAngleThreshold -> when {
       v is GestureOverlayView && arg is Float -> {
         v.setGestureStrokeAngleThreshold(arg)
         true
       }
       else -> false
     }
-    "gestureStrokeLengthThreshold" -> when {
+    SdkAttrs.gestureStrokeLengthThreshold -> when {
       v is GestureOverlayView && arg is Float -> {
         v.setGestureStrokeLengthThreshold(arg)
         true
       }
       else -> false
     }
-    "gestureStrokeSquarenessTreshold" -> when {
+    SdkAttrs.gestureStrokeSquarenessTreshold -> when {
       v is GestureOverlayView && arg is Float -> {
         v.setGestureStrokeSquarenessTreshold(arg)
         true
       }
       else -> false
     }
-    "gestureStrokeType" -> when {
+    SdkAttrs.gestureStrokeType -> when {
       v is GestureOverlayView && arg is Int -> {
         v.setGestureStrokeType(arg)
         true
       }
       else -> false
     }
-    "gestureStrokeWidth" -> when {
+    SdkAttrs.gestureStrokeWidth -> when {
       v is GestureOverlayView && arg is Float -> {
         v.setGestureStrokeWidth(arg)
         true
       }
       else -> false
     }
-    "gestureVisible" -> when {
+    SdkAttrs.gestureVisible -> when {
       v is GestureOverlayView && arg is Boolean -> {
         v.setGestureVisible(arg)
         true
       }
       else -> false
     }
-    "orientation" -> when {
+    SdkAttrs.orientation -> when {
       v is GestureOverlayView && arg is Int -> {
         v.setOrientation(arg)
         true
@@ -1523,94 +1734,111 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "uncertainGestureColor" -> when {
+    SdkAttrs.uncertainGestureColor -> when {
       v is GestureOverlayView && arg is Int -> {
         v.setUncertainGestureColor(arg)
         true
       }
       else -> false
     }
-    "keyboard" -> when {
+    SdkAttrs.keyboard -> when {
       v is KeyboardView && arg is Keyboard -> {
         v.setKeyboard(arg)
         true
       }
       else -> false
     }
-    "onKeyboardAction" -> when {
+    SdkAttrs.onKeyboardAction -> when {
       v is KeyboardView -> when {
         arg == null -> {
           v.setOnKeyboardActionListener(null as? KeyboardView.OnKeyboardActionListener?)
           true
         }
         arg is KeyboardView.OnKeyboardActionListener -> {
-          v.setOnKeyboardActionListener(object : KeyboardView.OnKeyboardActionListener {
-            override fun onKey(arg0: Int, arg1: IntArray): Unit = arg.onKey(arg0, arg1).also {
-                Anvil.render() }
+          if (old !is KeyboardView.OnKeyboardActionListener) {
+            v.setOnKeyboardActionListener(object : KeyboardView.OnKeyboardActionListener {
+              override fun onKey(arg0: Int, arg1: IntArray) {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.onKey(arg0, arg1)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onPress(arg0: Int): Unit = arg.onPress(arg0).also { Anvil.render() }
+              override fun onPress(arg0: Int) {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.onPress(arg0)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onRelease(arg0: Int): Unit = arg.onRelease(arg0).also { Anvil.render() }
+              override fun onRelease(arg0: Int) {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.onRelease(arg0)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onText(arg0: CharSequence): Unit = arg.onText(arg0).also { Anvil.render() }
+              override fun onText(arg0: CharSequence) {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.onText(arg0)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun swipeDown(): Unit = arg.swipeDown().also { Anvil.render() }
+              override fun swipeDown() {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.swipeDown()?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun swipeLeft(): Unit = arg.swipeLeft().also { Anvil.render() }
+              override fun swipeLeft() {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.swipeLeft()?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun swipeRight(): Unit = arg.swipeRight().also { Anvil.render() }
+              override fun swipeRight() {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.swipeRight()?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun swipeUp(): Unit = arg.swipeUp().also { Anvil.render() }
-          })
+              override fun swipeUp() {
+                (Anvil.attrValue(v, id) as? KeyboardView.OnKeyboardActionListener)?.swipeUp()?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "popupParent" -> when {
+    SdkAttrs.popupParent -> when {
       v is KeyboardView && arg is View -> {
         v.setPopupParent(arg)
         true
       }
       else -> false
     }
-    "previewEnabled" -> when {
+    SdkAttrs.previewEnabled -> when {
       v is KeyboardView && arg is Boolean -> {
         v.setPreviewEnabled(arg)
         true
       }
       else -> false
     }
-    "proximityCorrectionEnabled" -> when {
+    SdkAttrs.proximityCorrectionEnabled -> when {
       v is KeyboardView && arg is Boolean -> {
         v.setProximityCorrectionEnabled(arg)
         true
       }
       else -> false
     }
-    "shifted" -> when {
+    SdkAttrs.shifted -> when {
       v is KeyboardView && arg is Boolean -> {
         v.setShifted(arg)
         true
       }
       else -> false
     }
-    "verticalCorrection" -> when {
+    SdkAttrs.verticalCorrection -> when {
       v is KeyboardView && arg is Int -> {
         v.setVerticalCorrection(arg)
         true
       }
       else -> false
     }
-    "debugFlags" -> when {
+    SdkAttrs.debugFlags -> when {
       v is GLSurfaceView && arg is Int -> {
         v.setDebugFlags(arg)
         true
       }
       else -> false
     }
-    "eGLConfigChooser" -> when {
+    SdkAttrs.eGLConfigChooser -> when {
       v is GLSurfaceView && arg is Boolean -> {
         v.setEGLConfigChooser(arg)
         true
@@ -1621,961 +1849,972 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "eGLContextClientVersion" -> when {
+    SdkAttrs.eGLContextClientVersion -> when {
       v is GLSurfaceView && arg is Int -> {
         v.setEGLContextClientVersion(arg)
         true
       }
       else -> false
     }
-    "eGLContextFactory" -> when {
+    SdkAttrs.eGLContextFactory -> when {
       v is GLSurfaceView && arg is GLSurfaceView.EGLContextFactory -> {
         v.setEGLContextFactory(arg)
         true
       }
       else -> false
     }
-    "eGLWindowSurfaceFactory" -> when {
+    SdkAttrs.eGLWindowSurfaceFactory -> when {
       v is GLSurfaceView && arg is GLSurfaceView.EGLWindowSurfaceFactory -> {
         v.setEGLWindowSurfaceFactory(arg)
         true
       }
       else -> false
     }
-    "gLWrapper" -> when {
+    SdkAttrs.gLWrapper -> when {
       v is GLSurfaceView && arg is GLSurfaceView.GLWrapper -> {
         v.setGLWrapper(arg)
         true
       }
       else -> false
     }
-    "preserveEGLContextOnPause" -> when {
+    SdkAttrs.preserveEGLContextOnPause -> when {
       v is GLSurfaceView && arg is Boolean -> {
         v.setPreserveEGLContextOnPause(arg)
         true
       }
       else -> false
     }
-    "renderMode" -> when {
+    SdkAttrs.renderMode -> when {
       v is GLSurfaceView && arg is Int -> {
         v.setRenderMode(arg)
         true
       }
       else -> false
     }
-    "renderer" -> when {
+    SdkAttrs.renderer -> when {
       v is GLSurfaceView && arg is GLSurfaceView.Renderer -> {
         v.setRenderer(arg)
         true
       }
       else -> false
     }
-    "secure" -> when {
+    SdkAttrs.secure -> when {
       v is SurfaceView && arg is Boolean -> {
         v.setSecure(arg)
         true
       }
       else -> false
     }
-    "zOrderMediaOverlay" -> when {
+    SdkAttrs.zOrderMediaOverlay -> when {
       v is SurfaceView && arg is Boolean -> {
         v.setZOrderMediaOverlay(arg)
         true
       }
       else -> false
     }
-    "zOrderOnTop" -> when {
+    SdkAttrs.zOrderOnTop -> when {
       v is SurfaceView && arg is Boolean -> {
         v.setZOrderOnTop(arg)
         true
       }
       else -> false
     }
-    "opaque" -> when {
+    SdkAttrs.opaque -> when {
       v is TextureView && arg is Boolean -> {
         v.setOpaque(arg)
         true
       }
       else -> false
     }
-    "surfaceTexture" -> when {
+    SdkAttrs.surfaceTexture -> when {
       v is TextureView && arg is SurfaceTexture -> {
         v.setSurfaceTexture(arg)
         true
       }
       else -> false
     }
-    "surfaceTextureListener" -> when {
+    SdkAttrs.surfaceTextureListener -> when {
       v is TextureView && arg is TextureView.SurfaceTextureListener -> {
         v.setSurfaceTextureListener(arg)
         true
       }
       else -> false
     }
-    "transform" -> when {
+    SdkAttrs.transform -> when {
       v is TextureView && arg is Matrix -> {
         v.setTransform(arg)
         true
       }
       else -> false
     }
-    "accessibilityDelegate" -> when {
+    SdkAttrs.accessibilityDelegate -> when {
       (arg == null || arg is View.AccessibilityDelegate) -> {
         v.setAccessibilityDelegate(arg as View.AccessibilityDelegate)
         true
       }
       else -> false
     }
-    "accessibilityLiveRegion" -> when {
+    SdkAttrs.accessibilityLiveRegion -> when {
       arg is Int -> {
         v.setAccessibilityLiveRegion(arg)
         true
       }
       else -> false
     }
-    "activated" -> when {
+    SdkAttrs.activated -> when {
       arg is Boolean -> {
         v.setActivated(arg)
         true
       }
       else -> false
     }
-    "alpha" -> when {
+    SdkAttrs.alpha -> when {
       arg is Float -> {
         v.setAlpha(arg)
         true
       }
       else -> false
     }
-    "animation" -> when {
+    SdkAttrs.animation -> when {
       arg is Animation -> {
         v.setAnimation(arg)
         true
       }
       else -> false
     }
-    "background" -> when {
+    SdkAttrs.background -> when {
       arg is Drawable -> {
         v.setBackground(arg)
         true
       }
       else -> false
     }
-    "backgroundColor" -> when {
+    SdkAttrs.backgroundColor -> when {
       arg is Int -> {
         v.setBackgroundColor(arg)
         true
       }
       else -> false
     }
-    "backgroundResource" -> when {
+    SdkAttrs.backgroundResource -> when {
       arg is Int -> {
-        v.setBackgroundResource(arg)
+        if (ResourceCache.isFrameworkView(v)) {
+          v.setBackgroundDrawable(ResourceCache.drawable(v.context, arg))
+        } else {
+          v.setBackgroundResource(arg)
+        }
         true
       }
       else -> false
     }
-    "bottom" -> when {
+    SdkAttrs.bottom -> when {
       arg is Int -> {
         v.setBottom(arg)
         true
       }
       else -> false
     }
-    "cameraDistance" -> when {
+    SdkAttrs.cameraDistance -> when {
       arg is Float -> {
         v.setCameraDistance(arg)
         true
       }
       else -> false
     }
-    "clickable" -> when {
+    SdkAttrs.clickable -> when {
       arg is Boolean -> {
         v.setClickable(arg)
         true
       }
       else -> false
     }
-    "clipBounds" -> when {
+    SdkAttrs.clipBounds -> when {
       arg is Rect -> {
         v.setClipBounds(arg)
         true
       }
       else -> false
     }
-    "contentDescription" -> when {
+    SdkAttrs.contentDescription -> when {
       arg is CharSequence -> {
         v.setContentDescription(arg)
         true
       }
       else -> false
     }
-    "drawingCacheBackgroundColor" -> when {
+    SdkAttrs.drawingCacheBackgroundColor -> when {
       arg is Int -> {
         v.setDrawingCacheBackgroundColor(arg)
         true
       }
       else -> false
     }
-    "drawingCacheEnabled" -> when {
+    SdkAttrs.drawingCacheEnabled -> when {
       arg is Boolean -> {
         v.setDrawingCacheEnabled(arg)
         true
       }
       else -> false
     }
-    "drawingCacheQuality" -> when {
+    SdkAttrs.drawingCacheQuality -> when {
       arg is Int -> {
         v.setDrawingCacheQuality(arg)
         true
       }
       else -> false
     }
-    "duplicateParentStateEnabled" -> when {
+    SdkAttrs.duplicateParentStateEnabled -> when {
       arg is Boolean -> {
         v.setDuplicateParentStateEnabled(arg)
         true
       }
       else -> false
     }
-    "enabled" -> when {
+    SdkAttrs.enabled -> when {
       arg is Boolean -> {
         v.setEnabled(arg)
         true
       }
       else -> false
     }
-    "fadingEdgeLength" -> when {
+    SdkAttrs.fadingEdgeLength -> when {
       arg is Int -> {
         v.setFadingEdgeLength(arg)
         true
       }
       else -> false
     }
-    "filterTouchesWhenObscured" -> when {
+    SdkAttrs.filterTouchesWhenObscured -> when {
       arg is Boolean -> {
         v.setFilterTouchesWhenObscured(arg)
         true
       }
       else -> false
     }
-    "fitsSystemWindows" -> when {
+    SdkAttrs.fitsSystemWindows -> when {
       arg is Boolean -> {
         v.setFitsSystemWindows(arg)
         true
       }
       else -> false
     }
-    "focusable" -> when {
+    SdkAttrs.focusable -> when {
       arg is Boolean -> {
         v.setFocusable(arg)
         true
       }
       else -> false
     }
-    "focusableInTouchMode" -> when {
+    SdkAttrs.focusableInTouchMode -> when {
       arg is Boolean -> {
         v.setFocusableInTouchMode(arg)
         true
       }
       else -> false
     }
-    "hapticFeedbackEnabled" -> when {
+    SdkAttrs.hapticFeedbackEnabled -> when {
       arg is Boolean -> {
         v.setHapticFeedbackEnabled(arg)
         true
       }
       else -> false
     }
-    "hasTransientState" -> when {
+    SdkAttrs.hasTransientState -> when {
       arg is Boolean -> {
         v.setHasTransientState(arg)
         true
       }
       else -> false
     }
-    "horizontalFadingEdgeEnabled" -> when {
+    SdkAttrs.horizontalFadingEdgeEnabled -> when {
       arg is Boolean -> {
         v.setHorizontalFadingEdgeEnabled(arg)
         true
       }
       else -> false
     }
-    "horizontalScrollBarEnabled" -> when {
+    SdkAttrs.horizontalScrollBarEnabled -> when {
       arg is Boolean -> {
         v.setHorizontalScrollBarEnabled(arg)
         true
       }
       else -> false
     }
-    "hovered" -> when {
+    SdkAttrs.hovered -> when {
       arg is Boolean -> {
         v.setHovered(arg)
         true
       }
       else -> false
     }
-    "id" -> when {
+    SdkAttrs.id -> when {
       arg is Int -> {
         v.setId(arg)
         true
       }
       else -> false
     }
-    "importantForAccessibility" -> when {
+    SdkAttrs.importantForAccessibility -> when {
       arg is Int -> {
         v.setImportantForAccessibility(arg)
         true
       }
       else -> false
     }
-    "keepScreenOn" -> when {
+    SdkAttrs.keepScreenOn -> when {
       arg is Boolean -> {
         v.setKeepScreenOn(arg)
         true
       }
       else -> false
     }
-    "labelFor" -> when {
+    SdkAttrs.labelFor -> when {
       arg is Int -> {
         v.setLabelFor(arg)
         true
       }
       else -> false
     }
-    "layerPaint" -> when {
+    SdkAttrs.layerPaint -> when {
       (arg == null || arg is Paint) -> {
         v.setLayerPaint(arg as Paint)
         true
       }
       else -> false
     }
-    "layoutDirection" -> when {
+    SdkAttrs.layoutDirection -> when {
       arg is Int -> {
         v.setLayoutDirection(arg)
         true
       }
       else -> false
     }
-    "layoutParams" -> when {
+    SdkAttrs.layoutParams -> when {
       arg is ViewGroup.LayoutParams -> {
-        v.setLayoutParams(arg)
+        Anvil.setLayoutParams(v, arg)
         true
       }
       else -> false
     }
-    "left" -> when {
+    SdkAttrs.left -> when {
       arg is Int -> {
         v.setLeft(arg)
         true
       }
       else -> false
     }
-    "longClickable" -> when {
+    SdkAttrs.longClickable -> when {
       arg is Boolean -> {
         v.setLongClickable(arg)
         true
       }
       else -> false
     }
-    "minimumHeight" -> when {
+    SdkAttrs.minimumHeight -> when {
       arg is Int -> {
         v.setMinimumHeight(arg)
         true
       }
       else -> false
     }
-    "minimumWidth" -> when {
+    SdkAttrs.minimumWidth -> when {
       arg is Int -> {
         v.setMinimumWidth(arg)
         true
       }
       else -> false
     }
-    "nextFocusDownId" -> when {
+    SdkAttrs.nextFocusDownId -> when {
       arg is Int -> {
         v.setNextFocusDownId(arg)
         true
       }
       else -> false
     }
-    "nextFocusForwardId" -> when {
+    SdkAttrs.nextFocusForwardId -> when {
       arg is Int -> {
         v.setNextFocusForwardId(arg)
         true
       }
       else -> false
     }
-    "nextFocusLeftId" -> when {
+    SdkAttrs.nextFocusLeftId -> when {
       arg is Int -> {
         v.setNextFocusLeftId(arg)
         true
       }
       else -> false
     }
-    "nextFocusRightId" -> when {
+    SdkAttrs.nextFocusRightId -> when {
       arg is Int -> {
         v.setNextFocusRightId(arg)
         true
       }
       else -> false
     }
-    "nextFocusUpId" -> when {
+    SdkAttrs.nextFocusUpId -> when {
       arg is Int -> {
         v.setNextFocusUpId(arg)
         true
       }
       else -> false
     }
-    "onClick" -> when {
+    SdkAttrs.onClick -> when {
       arg == null -> {
         v.setOnClickListener(null as? View.OnClickListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View) -> Unit
-        v.setOnClickListener { arg0 ->
-          arg(arg0).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnClickListener { arg0 ->
+            (Anvil.attrValue(v, id) as? (arg0: View) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+          }
         }
         true
       }
       else -> false
     }
-    "onCreateContextMenu" -> when {
+    SdkAttrs.onCreateContextMenu -> when {
       arg == null -> {
         v.setOnCreateContextMenuListener(null as? View.OnCreateContextMenuListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (
-          arg0: ContextMenu,
-          arg1: View,
-          arg2: ContextMenu.ContextMenuInfo
-        ) -> Unit
-        v.setOnCreateContextMenuListener { arg0, arg1, arg2 ->
-          arg(arg0, arg1, arg2).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnCreateContextMenuListener { arg0, arg1, arg2 ->
+            (Anvil.attrValue(v, id) as? (arg0: ContextMenu, arg1: View, arg2: ContextMenu.ContextMenuInfo) -> Unit)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) }
+          }
         }
         true
       }
       else -> false
     }
-    "onDrag" -> when {
+    SdkAttrs.onDrag -> when {
       arg == null -> {
         v.setOnDragListener(null as? View.OnDragListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View, arg1: DragEvent) -> Boolean
-        v.setOnDragListener { arg0, arg1 ->
-          arg(arg0, arg1).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnDragListener { arg0, arg1 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: DragEvent) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "onFocusChange" -> when {
+    SdkAttrs.onFocusChange -> when {
       arg == null -> {
         v.setOnFocusChangeListener(null as? View.OnFocusChangeListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View, arg1: Boolean) -> Unit
-        v.setOnFocusChangeListener { arg0, arg1 ->
-          arg(arg0, arg1).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnFocusChangeListener { arg0, arg1 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: Boolean) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+          }
         }
         true
       }
       else -> false
     }
-    "onGenericMotion" -> when {
+    SdkAttrs.onGenericMotion -> when {
       arg == null -> {
         v.setOnGenericMotionListener(null as? View.OnGenericMotionListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View, arg1: MotionEvent) -> Boolean
-        v.setOnGenericMotionListener { arg0, arg1 ->
-          arg(arg0, arg1).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnGenericMotionListener { arg0, arg1 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: MotionEvent) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "onHover" -> when {
+    SdkAttrs.onHover -> when {
       arg == null -> {
         v.setOnHoverListener(null as? View.OnHoverListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View, arg1: MotionEvent) -> Boolean
-        v.setOnHoverListener { arg0, arg1 ->
-          arg(arg0, arg1).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnHoverListener { arg0, arg1 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: MotionEvent) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "onKey" -> when {
+    SdkAttrs.onKey -> when {
       arg == null -> {
         v.setOnKeyListener(null as? View.OnKeyListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (
-          arg0: View,
-          arg1: Int,
-          arg2: KeyEvent
-        ) -> Boolean
-        v.setOnKeyListener { arg0, arg1, arg2 ->
-          arg(arg0, arg1, arg2).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnKeyListener { arg0, arg1, arg2 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: Int, arg2: KeyEvent) -> Boolean)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "onLongClick" -> when {
+    SdkAttrs.onLongClick -> when {
       arg == null -> {
         v.setOnLongClickListener(null as? View.OnLongClickListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View) -> Boolean
-        v.setOnLongClickListener { arg0 ->
-          arg(arg0).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnLongClickListener { arg0 ->
+            (Anvil.attrValue(v, id) as? (arg0: View) -> Boolean)?.invoke(arg0)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "onSystemUiVisibilityChange" -> when {
+    SdkAttrs.onSystemUiVisibilityChange -> when {
       arg == null -> {
         v.setOnSystemUiVisibilityChangeListener(null as? View.OnSystemUiVisibilityChangeListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: Int) -> Unit
-        v.setOnSystemUiVisibilityChangeListener { arg0 ->
-          arg(arg0).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnSystemUiVisibilityChangeListener { arg0 ->
+            (Anvil.attrValue(v, id) as? (arg0: Int) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+          }
         }
         true
       }
       else -> false
     }
-    "onTouch" -> when {
+    SdkAttrs.onTouch -> when {
       arg == null -> {
         v.setOnTouchListener(null as? View.OnTouchListener?)
         true
       }
       arg is Function<*> -> {
-        arg as (arg0: View, arg1: MotionEvent) -> Boolean
-        v.setOnTouchListener { arg0, arg1 ->
-          arg(arg0, arg1).also { Anvil.render() }
+        if (old !is Function<*>) {
+          v.setOnTouchListener { arg0, arg1 ->
+            (Anvil.attrValue(v, id) as? (arg0: View, arg1: MotionEvent) -> Boolean)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) } ?: false
+          }
         }
         true
       }
       else -> false
     }
-    "overScrollMode" -> when {
+    SdkAttrs.overScrollMode -> when {
       arg is Int -> {
         v.setOverScrollMode(arg)
         true
       }
       else -> false
     }
-    "pivotX" -> when {
+    SdkAttrs.pivotX -> when {
       arg is Float -> {
         v.setPivotX(arg)
         true
       }
       else -> false
     }
-    "pivotY" -> when {
+    SdkAttrs.pivotY -> when {
       arg is Float -> {
         v.setPivotY(arg)
         true
       }
       else -> false
     }
-    "pressed" -> when {
+    SdkAttrs.pressed -> when {
       arg is Boolean -> {
         v.setPressed(arg)
         true
       }
       else -> false
     }
-    "right" -> when {
+    SdkAttrs.right -> when {
       arg is Int -> {
         v.setRight(arg)
         true
       }
       else -> false
     }
-    "rotation" -> when {
+    SdkAttrs.rotation -> when {
       arg is Float -> {
         v.setRotation(arg)
         true
       }
       else -> false
     }
-    "rotationX" -> when {
+    SdkAttrs.rotationX -> when {
       arg is Float -> {
         v.setRotationX(arg)
         true
       }
       else -> false
     }
-    "rotationY" -> when {
+    SdkAttrs.rotationY -> when {
       arg is Float -> {
         v.setRotationY(arg)
         true
       }
       else -> false
     }
-    "saveEnabled" -> when {
+    SdkAttrs.saveEnabled -> when {
       arg is Boolean -> {
         v.setSaveEnabled(arg)
         true
       }
       else -> false
     }
-    "saveFromParentEnabled" -> when {
+    SdkAttrs.saveFromParentEnabled -> when {
       arg is Boolean -> {
         v.setSaveFromParentEnabled(arg)
         true
       }
       else -> false
     }
-    "scaleX" -> when {
+    SdkAttrs.scaleX -> when {
       arg is Float -> {
         v.setScaleX(arg)
         true
       }
       else -> false
     }
-    "scaleY" -> when {
+    SdkAttrs.scaleY -> when {
       arg is Float -> {
         v.setScaleY(arg)
         true
       }
       else -> false
     }
-    "scrollBarDefaultDelayBeforeFade" -> when {
+    SdkAttrs.scrollBarDefaultDelayBeforeFade -> when {
       arg is Int -> {
         v.setScrollBarDefaultDelayBeforeFade(arg)
         true
       }
       else -> false
     }
-    "scrollBarFadeDuration" -> when {
+    SdkAttrs.scrollBarFadeDuration -> when {
       arg is Int -> {
         v.setScrollBarFadeDuration(arg)
         true
       }
       else -> false
     }
-    "scrollBarSize" -> when {
+    SdkAttrs.scrollBarSize -> when {
       arg is Int -> {
         v.setScrollBarSize(arg)
         true
       }
       else -> false
     }
-    "scrollBarStyle" -> when {
+    SdkAttrs.scrollBarStyle -> when {
       arg is Int -> {
         v.setScrollBarStyle(arg)
         true
       }
       else -> false
     }
-    "scrollContainer" -> when {
+    SdkAttrs.scrollContainer -> when {
       arg is Boolean -> {
         v.setScrollContainer(arg)
         true
       }
       else -> false
     }
-    "scrollX" -> when {
+    SdkAttrs.scrollX -> when {
       arg is Int -> {
         v.setScrollX(arg)
         true
       }
       else -> false
     }
-    "scrollY" -> when {
+    SdkAttrs.scrollY -> when {
       arg is Int -> {
         v.setScrollY(arg)
         true
       }
       else -> false
     }
-    "scrollbarFadingEnabled" -> when {
+    SdkAttrs.scrollbarFadingEnabled -> when {
       arg is Boolean -> {
         v.setScrollbarFadingEnabled(arg)
         true
       }
       else -> false
     }
-    "selected" -> when {
+    SdkAttrs.selected -> when {
       arg is Boolean -> {
         v.setSelected(arg)
         true
       }
       else -> false
     }
-    "soundEffectsEnabled" -> when {
+    SdkAttrs.soundEffectsEnabled -> when {
       arg is Boolean -> {
         v.setSoundEffectsEnabled(arg)
         true
       }
       else -> false
     }
-    "systemUiVisibility" -> when {
+    SdkAttrs.systemUiVisibility -> when {
       arg is Int -> {
         v.setSystemUiVisibility(arg)
         true
       }
       else -> false
     }
-    "tag" -> when {
+    SdkAttrs.tag -> when {
       arg is Any -> {
         v.setTag(arg)
         true
       }
       else -> false
     }
-    "textAlignment" -> when {
+    SdkAttrs.textAlignment -> when {
       arg is Int -> {
         v.setTextAlignment(arg)
         true
       }
       else -> false
     }
-    "textDirection" -> when {
+    SdkAttrs.textDirection -> when {
       arg is Int -> {
         v.setTextDirection(arg)
         true
       }
       else -> false
     }
-    "top" -> when {
+    SdkAttrs.top -> when {
       arg is Int -> {
         v.setTop(arg)
         true
       }
       else -> false
     }
-    "touchDelegate" -> when {
+    SdkAttrs.touchDelegate -> when {
       arg is TouchDelegate -> {
         v.setTouchDelegate(arg)
         true
       }
       else -> false
     }
-    "translationX" -> when {
+    SdkAttrs.translationX -> when {
       arg is Float -> {
         v.setTranslationX(arg)
         true
       }
       else -> false
     }
-    "translationY" -> when {
+    SdkAttrs.translationY -> when {
       arg is Float -> {
         v.setTranslationY(arg)
         true
       }
       else -> false
     }
-    "verticalFadingEdgeEnabled" -> when {
+    SdkAttrs.verticalFadingEdgeEnabled -> when {
       arg is Boolean -> {
         v.setVerticalFadingEdgeEnabled(arg)
         true
       }
       else -> false
     }
-    "verticalScrollBarEnabled" -> when {
+    SdkAttrs.verticalScrollBarEnabled -> when {
       arg is Boolean -> {
         v.setVerticalScrollBarEnabled(arg)
         true
       }
       else -> false
     }
-    "verticalScrollbarPosition" -> when {
+    SdkAttrs.verticalScrollbarPosition -> when {
       arg is Int -> {
         v.setVerticalScrollbarPosition(arg)
         true
       }
       else -> false
     }
-    "visibility" -> when {
+    SdkAttrs.visibility -> when {
       arg is Int -> {
         v.setVisibility(arg)
         true
       }
       else -> false
     }
-    "willNotCacheDrawing" -> when {
+    SdkAttrs.willNotCacheDrawing -> when {
       arg is Boolean -> {
         v.setWillNotCacheDrawing(arg)
         true
       }
       else -> false
     }
-    "willNotDraw" -> when {
+    SdkAttrs.willNotDraw -> when {
       arg is Boolean -> {
         v.setWillNotDraw(arg)
         true
       }
       else -> false
     }
-    "x" -> when {
+    SdkAttrs.x -> when {
       arg is Float -> {
         v.setX(arg)
         true
       }
       else -> false
     }
-    "y" -> when {
+    SdkAttrs.y -> when {
       arg is Float -> {
         v.setY(arg)
         true
       }
       else -> false
     }
-    "addStatesFromChildren" -> when {
+    SdkAttrs.addStatesFromChildren -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setAddStatesFromChildren(arg)
         true
       }
       else -> false
     }
-    "alwaysDrawnWithCacheEnabled" -> when {
+    SdkAttrs.alwaysDrawnWithCacheEnabled -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setAlwaysDrawnWithCacheEnabled(arg)
         true
       }
       else -> false
     }
-    "animationCacheEnabled" -> when {
+    SdkAttrs.animationCacheEnabled -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setAnimationCacheEnabled(arg)
         true
       }
       else -> false
     }
-    "clipChildren" -> when {
+    SdkAttrs.clipChildren -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setClipChildren(arg)
         true
       }
       else -> false
     }
-    "clipToPadding" -> when {
+    SdkAttrs.clipToPadding -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setClipToPadding(arg)
         true
       }
       else -> false
     }
-    "descendantFocusability" -> when {
+    SdkAttrs.descendantFocusability -> when {
       v is ViewGroup && arg is Int -> {
         v.setDescendantFocusability(arg)
         true
       }
       else -> false
     }
-    "layoutAnimation" -> when {
+    SdkAttrs.layoutAnimation -> when {
       v is ViewGroup && arg is LayoutAnimationController -> {
         v.setLayoutAnimation(arg)
         true
       }
       else -> false
     }
-    "layoutAnimationListener" -> when {
+    SdkAttrs.layoutAnimationListener -> when {
       v is ViewGroup && arg is Animation.AnimationListener -> {
         v.setLayoutAnimationListener(arg)
         true
       }
       else -> false
     }
-    "layoutMode" -> when {
+    SdkAttrs.layoutMode -> when {
       v is ViewGroup && arg is Int -> {
         v.setLayoutMode(arg)
         true
       }
       else -> false
     }
-    "layoutTransition" -> when {
+    SdkAttrs.layoutTransition -> when {
       v is ViewGroup && arg is LayoutTransition -> {
         v.setLayoutTransition(arg)
         true
       }
       else -> false
     }
-    "motionEventSplittingEnabled" -> when {
+    SdkAttrs.motionEventSplittingEnabled -> when {
       v is ViewGroup && arg is Boolean -> {
         v.setMotionEventSplittingEnabled(arg)
         true
       }
       else -> false
     }
-    "onHierarchyChange" -> when {
+    SdkAttrs.onHierarchyChange -> when {
       v is ViewGroup -> when {
         arg == null -> {
           v.setOnHierarchyChangeListener(null as? ViewGroup.OnHierarchyChangeListener?)
           true
         }
         arg is ViewGroup.OnHierarchyChangeListener -> {
-          v.setOnHierarchyChangeListener(object : ViewGroup.OnHierarchyChangeListener {
-            override fun onChildViewAdded(arg0: View, arg1: View): Unit = arg.onChildViewAdded(arg0,
-                arg1).also { Anvil.render() }
+          if (old !is ViewGroup.OnHierarchyChangeListener) {
+            v.setOnHierarchyChangeListener(object : ViewGroup.OnHierarchyChangeListener {
+              override fun onChildViewAdded(arg0: View, arg1: View) {
+                (Anvil.attrValue(v, id) as? ViewGroup.OnHierarchyChangeListener)?.onChildViewAdded(arg0, arg1)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onChildViewRemoved(arg0: View, arg1: View): Unit =
-                arg.onChildViewRemoved(arg0, arg1).also { Anvil.render() }
-          })
+              override fun onChildViewRemoved(arg0: View, arg1: View) {
+                (Anvil.attrValue(v, id) as? ViewGroup.OnHierarchyChangeListener)?.onChildViewRemoved(arg0, arg1)?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "persistentDrawingCache" -> when {
+    SdkAttrs.persistentDrawingCache -> when {
       v is ViewGroup && arg is Int -> {
         v.setPersistentDrawingCache(arg)
         true
       }
       else -> false
     }
-    "inflatedId" -> when {
+    SdkAttrs.inflatedId -> when {
       v is ViewStub && arg is Int -> {
         v.setInflatedId(arg)
         true
       }
       else -> false
     }
-    "layoutInflater" -> when {
+    SdkAttrs.layoutInflater -> when {
       v is ViewStub && arg is LayoutInflater -> {
         v.setLayoutInflater(arg)
         true
       }
       else -> false
     }
-    "layoutResource" -> when {
+    SdkAttrs.layoutResource -> when {
       v is ViewStub && arg is Int -> {
         v.setLayoutResource(arg)
         true
       }
       else -> false
     }
-    "onInflate" -> when {
+    SdkAttrs.onInflate -> when {
       v is ViewStub -> when {
         arg == null -> {
           v.setOnInflateListener(null as? ViewStub.OnInflateListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: ViewStub, arg1: View) -> Unit
-          v.setOnInflateListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnInflateListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: ViewStub, arg1: View) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -2583,136 +2822,136 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "downloadListener" -> when {
+    SdkAttrs.downloadListener -> when {
       v is WebView && arg is DownloadListener -> {
         v.setDownloadListener(arg)
         true
       }
       else -> false
     }
-    "findListener" -> when {
+    SdkAttrs.findListener -> when {
       v is WebView && arg is WebView.FindListener -> {
         v.setFindListener(arg)
         true
       }
       else -> false
     }
-    "horizontalScrollbarOverlay" -> when {
+    SdkAttrs.horizontalScrollbarOverlay -> when {
       v is WebView && arg is Boolean -> {
         v.setHorizontalScrollbarOverlay(arg)
         true
       }
       else -> false
     }
-    "initialScale" -> when {
+    SdkAttrs.initialScale -> when {
       v is WebView && arg is Int -> {
         v.setInitialScale(arg)
         true
       }
       else -> false
     }
-    "networkAvailable" -> when {
+    SdkAttrs.networkAvailable -> when {
       v is WebView && arg is Boolean -> {
         v.setNetworkAvailable(arg)
         true
       }
       else -> false
     }
-    "verticalScrollbarOverlay" -> when {
+    SdkAttrs.verticalScrollbarOverlay -> when {
       v is WebView && arg is Boolean -> {
         v.setVerticalScrollbarOverlay(arg)
         true
       }
       else -> false
     }
-    "webChromeClient" -> when {
+    SdkAttrs.webChromeClient -> when {
       v is WebView && arg is WebChromeClient -> {
         v.setWebChromeClient(arg)
         true
       }
       else -> false
     }
-    "webViewClient" -> when {
+    SdkAttrs.webViewClient -> when {
       v is WebView && arg is WebViewClient -> {
         v.setWebViewClient(arg)
         true
       }
       else -> false
     }
-    "cacheColorHint" -> when {
+    SdkAttrs.cacheColorHint -> when {
       v is AbsListView && arg is Int -> {
         v.setCacheColorHint(arg)
         true
       }
       else -> false
     }
-    "choiceMode" -> when {
+    SdkAttrs.choiceMode -> when {
       v is AbsListView && arg is Int -> {
         v.setChoiceMode(arg)
         true
       }
       else -> false
     }
-    "drawSelectorOnTop" -> when {
+    SdkAttrs.drawSelectorOnTop -> when {
       v is AbsListView && arg is Boolean -> {
         v.setDrawSelectorOnTop(arg)
         true
       }
       else -> false
     }
-    "fastScrollAlwaysVisible" -> when {
+    SdkAttrs.fastScrollAlwaysVisible -> when {
       v is AbsListView && arg is Boolean -> {
         v.setFastScrollAlwaysVisible(arg)
         true
       }
       else -> false
     }
-    "fastScrollEnabled" -> when {
+    SdkAttrs.fastScrollEnabled -> when {
       v is AbsListView && arg is Boolean -> {
         v.setFastScrollEnabled(arg)
         true
       }
       else -> false
     }
-    "filterText" -> when {
+    SdkAttrs.filterText -> when {
       v is AbsListView && arg is String -> {
         v.setFilterText(arg)
         true
       }
       else -> false
     }
-    "friction" -> when {
+    SdkAttrs.friction -> when {
       v is AbsListView && arg is Float -> {
         v.setFriction(arg)
         true
       }
       else -> false
     }
-    "multiChoiceModeListener" -> when {
+    SdkAttrs.multiChoiceModeListener -> when {
       v is AbsListView && arg is AbsListView.MultiChoiceModeListener -> {
         v.setMultiChoiceModeListener(arg)
         true
       }
       else -> false
     }
-    "onScroll" -> when {
+    SdkAttrs.onScroll -> when {
       v is AbsListView -> when {
         arg == null -> {
           v.setOnScrollListener(null as? AbsListView.OnScrollListener?)
           true
         }
         arg is AbsListView.OnScrollListener -> {
-          v.setOnScrollListener(object : AbsListView.OnScrollListener {
-            override fun onScroll(
-              arg0: AbsListView,
-              arg1: Int,
-              arg2: Int,
-              arg3: Int
-            ): Unit = arg.onScroll(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is AbsListView.OnScrollListener) {
+            v.setOnScrollListener(object : AbsListView.OnScrollListener {
+              override fun onScroll(arg0: AbsListView, arg1: Int, arg2: Int, arg3: Int) {
+                (Anvil.attrValue(v, id) as? AbsListView.OnScrollListener)?.onScroll(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onScrollStateChanged(arg0: AbsListView, arg1: Int): Unit =
-                arg.onScrollStateChanged(arg0, arg1).also { Anvil.render() }
-          })
+              override fun onScrollStateChanged(arg0: AbsListView, arg1: Int) {
+                (Anvil.attrValue(v, id) as? AbsListView.OnScrollListener)?.onScrollStateChanged(arg0, arg1)?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
@@ -2723,9 +2962,10 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: NumberPicker, arg1: Int) -> Unit
-          v.setOnScrollListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnScrollListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: NumberPicker, arg1: Int) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -2733,14 +2973,14 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "recyclerListener" -> when {
+    SdkAttrs.recyclerListener -> when {
       v is AbsListView && arg is AbsListView.RecyclerListener -> {
         v.setRecyclerListener(arg)
         true
       }
       else -> false
     }
-    "remoteViewsAdapter" -> when {
+    SdkAttrs.remoteViewsAdapter -> when {
       v is AbsListView && arg is Intent -> {
         v.setRemoteViewsAdapter(arg)
         true
@@ -2751,14 +2991,14 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "scrollingCacheEnabled" -> when {
+    SdkAttrs.scrollingCacheEnabled -> when {
       v is AbsListView && arg is Boolean -> {
         v.setScrollingCacheEnabled(arg)
         true
       }
       else -> false
     }
-    "selector" -> when {
+    SdkAttrs.selector -> when {
       v is AbsListView && arg is Drawable -> {
         v.setSelector(arg)
         true
@@ -2769,63 +3009,63 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "smoothScrollbarEnabled" -> when {
+    SdkAttrs.smoothScrollbarEnabled -> when {
       v is AbsListView && arg is Boolean -> {
         v.setSmoothScrollbarEnabled(arg)
         true
       }
       else -> false
     }
-    "stackFromBottom" -> when {
+    SdkAttrs.stackFromBottom -> when {
       v is AbsListView && arg is Boolean -> {
         v.setStackFromBottom(arg)
         true
       }
       else -> false
     }
-    "textFilterEnabled" -> when {
+    SdkAttrs.textFilterEnabled -> when {
       v is AbsListView && arg is Boolean -> {
         v.setTextFilterEnabled(arg)
         true
       }
       else -> false
     }
-    "transcriptMode" -> when {
+    SdkAttrs.transcriptMode -> when {
       v is AbsListView && arg is Int -> {
         v.setTranscriptMode(arg)
         true
       }
       else -> false
     }
-    "velocityScale" -> when {
+    SdkAttrs.velocityScale -> when {
       v is AbsListView && arg is Float -> {
         v.setVelocityScale(arg)
         true
       }
       else -> false
     }
-    "keyProgressIncrement" -> when {
+    SdkAttrs.keyProgressIncrement -> when {
       v is AbsSeekBar && arg is Int -> {
         v.setKeyProgressIncrement(arg)
         true
       }
       else -> false
     }
-    "thumb" -> when {
+    SdkAttrs.thumb -> when {
       v is AbsSeekBar && arg is Drawable -> {
         v.setThumb(arg)
         true
       }
       else -> false
     }
-    "thumbOffset" -> when {
+    SdkAttrs.thumbOffset -> when {
       v is AbsSeekBar && arg is Int -> {
         v.setThumbOffset(arg)
         true
       }
       else -> false
     }
-    "adapter" -> when {
+    SdkAttrs.adapter -> when {
       v is AdapterView<*> && arg is Adapter -> {
         (v as android.widget.AdapterView<android.widget.Adapter>).setAdapter(arg)
         true
@@ -2836,14 +3076,14 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "emptyView" -> when {
+    SdkAttrs.emptyView -> when {
       v is AdapterView<*> && arg is View -> {
         (v as android.widget.AdapterView<android.widget.Adapter>).setEmptyView(arg)
         true
       }
       else -> false
     }
-    "onItemClick" -> when {
+    SdkAttrs.onItemClick -> when {
       v is AdapterView<*> -> when {
         arg == null -> {
           (v as android.widget.AdapterView<android.widget.Adapter>).setOnItemClickListener(null as?
@@ -2851,14 +3091,10 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: AdapterView<*>,
-            arg1: View,
-            arg2: Int,
-            arg3: Long
-          ) -> Unit
-          v.setOnItemClickListener { arg0, arg1, arg2, arg3 ->
-            arg(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnItemClickListener { arg0, arg1, arg2, arg3 ->
+              (Anvil.attrValue(v, id) as? (arg0: AdapterView<*>, arg1: View, arg2: Int, arg3: Long) -> Unit)?.invoke(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -2870,14 +3106,10 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: AdapterView<*>,
-            arg1: View,
-            arg2: Int,
-            arg3: Long
-          ) -> Unit
-          v.setOnItemClickListener { arg0, arg1, arg2, arg3 ->
-            arg(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnItemClickListener { arg0, arg1, arg2, arg3 ->
+              (Anvil.attrValue(v, id) as? (arg0: AdapterView<*>, arg1: View, arg2: Int, arg3: Long) -> Unit)?.invoke(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -2885,7 +3117,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onItemLongClick" -> when {
+    SdkAttrs.onItemLongClick -> when {
       v is AdapterView<*> -> when {
         arg == null -> {
           (v as android.widget.AdapterView<android.widget.Adapter>).setOnItemLongClickListener(null
@@ -2893,14 +3125,10 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: AdapterView<*>,
-            arg1: View,
-            arg2: Int,
-            arg3: Long
-          ) -> Boolean
-          v.setOnItemLongClickListener { arg0, arg1, arg2, arg3 ->
-            arg(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnItemLongClickListener { arg0, arg1, arg2, arg3 ->
+              (Anvil.attrValue(v, id) as? (arg0: AdapterView<*>, arg1: View, arg2: Int, arg3: Long) -> Boolean)?.invoke(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -2908,7 +3136,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onItemSelected" -> when {
+    SdkAttrs.onItemSelected -> when {
       v is AdapterView<*> -> when {
         arg == null -> {
           (v as android.widget.AdapterView<android.widget.Adapter>).setOnItemSelectedListener(null
@@ -2916,17 +3144,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is AdapterView.OnItemSelectedListener -> {
-          v.setOnItemSelectedListener(object : AdapterView.OnItemSelectedListener {
-            override fun onItemSelected(
-              arg0: AdapterView<*>,
-              arg1: View,
-              arg2: Int,
-              arg3: Long
-            ): Unit = arg.onItemSelected(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is AdapterView.OnItemSelectedListener) {
+            v.setOnItemSelectedListener(object : AdapterView.OnItemSelectedListener {
+              override fun onItemSelected(arg0: AdapterView<*>, arg1: View, arg2: Int, arg3: Long) {
+                (Anvil.attrValue(v, id) as? AdapterView.OnItemSelectedListener)?.onItemSelected(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onNothingSelected(arg0: AdapterView<*>): Unit =
-                arg.onNothingSelected(arg0).also { Anvil.render() }
-          })
+              override fun onNothingSelected(arg0: AdapterView<*>) {
+                (Anvil.attrValue(v, id) as? AdapterView.OnItemSelectedListener)?.onNothingSelected(arg0)?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
@@ -2937,24 +3165,24 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is AdapterView.OnItemSelectedListener -> {
-          v.setOnItemSelectedListener(object : AdapterView.OnItemSelectedListener {
-            override fun onItemSelected(
-              arg0: AdapterView<*>,
-              arg1: View,
-              arg2: Int,
-              arg3: Long
-            ): Unit = arg.onItemSelected(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is AdapterView.OnItemSelectedListener) {
+            v.setOnItemSelectedListener(object : AdapterView.OnItemSelectedListener {
+              override fun onItemSelected(arg0: AdapterView<*>, arg1: View, arg2: Int, arg3: Long) {
+                (Anvil.attrValue(v, id) as? AdapterView.OnItemSelectedListener)?.onItemSelected(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onNothingSelected(arg0: AdapterView<*>): Unit =
-                arg.onNothingSelected(arg0).also { Anvil.render() }
-          })
+              override fun onNothingSelected(arg0: AdapterView<*>) {
+                (Anvil.attrValue(v, id) as? AdapterView.OnItemSelectedListener)?.onNothingSelected(arg0)?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "selection" -> when {
+    SdkAttrs.selection -> when {
       v is AdapterView<*> && arg is Int -> {
         (v as android.widget.AdapterView<android.widget.Adapter>).setSelection(arg)
         true
@@ -2965,7 +3193,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "animateFirstView" -> when {
+    SdkAttrs.animateFirstView -> when {
       v is AdapterViewAnimator && arg is Boolean -> {
         v.setAnimateFirstView(arg)
         true
@@ -2976,7 +3204,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "displayedChild" -> when {
+    SdkAttrs.displayedChild -> when {
       v is AdapterViewAnimator && arg is Int -> {
         v.setDisplayedChild(arg)
         true
@@ -2987,7 +3215,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "inAnimation" -> when {
+    SdkAttrs.inAnimation -> when {
       v is ViewAnimator && arg is Animation -> {
         v.setInAnimation(arg)
         true
@@ -2998,7 +3226,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "outAnimation" -> when {
+    SdkAttrs.outAnimation -> when {
       v is ViewAnimator && arg is Animation -> {
         v.setOutAnimation(arg)
         true
@@ -3009,7 +3237,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "autoStart" -> when {
+    SdkAttrs.autoStart -> when {
       v is AdapterViewFlipper && arg is Boolean -> {
         v.setAutoStart(arg)
         true
@@ -3020,7 +3248,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "flipInterval" -> when {
+    SdkAttrs.flipInterval -> when {
       v is AdapterViewFlipper && arg is Int -> {
         v.setFlipInterval(arg)
         true
@@ -3031,42 +3259,42 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "completionHint" -> when {
+    SdkAttrs.completionHint -> when {
       v is AutoCompleteTextView && arg is CharSequence -> {
         v.setCompletionHint(arg)
         true
       }
       else -> false
     }
-    "dropDownAnchor" -> when {
+    SdkAttrs.dropDownAnchor -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownAnchor(arg)
         true
       }
       else -> false
     }
-    "dropDownBackgroundDrawable" -> when {
+    SdkAttrs.dropDownBackgroundDrawable -> when {
       v is AutoCompleteTextView && arg is Drawable -> {
         v.setDropDownBackgroundDrawable(arg)
         true
       }
       else -> false
     }
-    "dropDownBackgroundResource" -> when {
+    SdkAttrs.dropDownBackgroundResource -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownBackgroundResource(arg)
         true
       }
       else -> false
     }
-    "dropDownHeight" -> when {
+    SdkAttrs.dropDownHeight -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownHeight(arg)
         true
       }
       else -> false
     }
-    "dropDownHorizontalOffset" -> when {
+    SdkAttrs.dropDownHorizontalOffset -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownHorizontalOffset(arg)
         true
@@ -3077,7 +3305,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "dropDownVerticalOffset" -> when {
+    SdkAttrs.dropDownVerticalOffset -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownVerticalOffset(arg)
         true
@@ -3088,7 +3316,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "dropDownWidth" -> when {
+    SdkAttrs.dropDownWidth -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setDropDownWidth(arg)
         true
@@ -3099,23 +3327,24 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "listSelection" -> when {
+    SdkAttrs.listSelection -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setListSelection(arg)
         true
       }
       else -> false
     }
-    "onDismiss" -> when {
+    SdkAttrs.onDismiss -> when {
       v is AutoCompleteTextView -> when {
         arg == null -> {
           v.setOnDismissListener(null as? AutoCompleteTextView.OnDismissListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Unit
-          v.setOnDismissListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnDismissListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Unit)?.invoke()?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3123,49 +3352,49 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "threshold" -> when {
+    SdkAttrs.threshold -> when {
       v is AutoCompleteTextView && arg is Int -> {
         v.setThreshold(arg)
         true
       }
       else -> false
     }
-    "validator" -> when {
+    SdkAttrs.validator -> when {
       v is AutoCompleteTextView && arg is AutoCompleteTextView.Validator -> {
         v.setValidator(arg)
         true
       }
       else -> false
     }
-    "date" -> when {
+    SdkAttrs.date -> when {
       v is CalendarView && arg is Long -> {
         v.setDate(arg)
         true
       }
       else -> false
     }
-    "dateTextAppearance" -> when {
+    SdkAttrs.dateTextAppearance -> when {
       v is CalendarView && arg is Int -> {
         v.setDateTextAppearance(arg)
         true
       }
       else -> false
     }
-    "firstDayOfWeek" -> when {
+    SdkAttrs.firstDayOfWeek -> when {
       v is CalendarView && arg is Int -> {
         v.setFirstDayOfWeek(arg)
         true
       }
       else -> false
     }
-    "focusedMonthDateColor" -> when {
+    SdkAttrs.focusedMonthDateColor -> when {
       v is CalendarView && arg is Int -> {
         v.setFocusedMonthDateColor(arg)
         true
       }
       else -> false
     }
-    "maxDate" -> when {
+    SdkAttrs.maxDate -> when {
       v is CalendarView && arg is Long -> {
         v.setMaxDate(arg)
         true
@@ -3176,7 +3405,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "minDate" -> when {
+    SdkAttrs.minDate -> when {
       v is CalendarView && arg is Long -> {
         v.setMinDate(arg)
         true
@@ -3187,21 +3416,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onDateChange" -> when {
+    SdkAttrs.onDateChange -> when {
       v is CalendarView -> when {
         arg == null -> {
           v.setOnDateChangeListener(null as? CalendarView.OnDateChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: CalendarView,
-            arg1: Int,
-            arg2: Int,
-            arg3: Int
-          ) -> Unit
-          v.setOnDateChangeListener { arg0, arg1, arg2, arg3 ->
-            arg(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnDateChangeListener { arg0, arg1, arg2, arg3 ->
+              (Anvil.attrValue(v, id) as? (arg0: CalendarView, arg1: Int, arg2: Int, arg3: Int) -> Unit)?.invoke(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3209,7 +3434,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "selectedDateVerticalBar" -> when {
+    SdkAttrs.selectedDateVerticalBar -> when {
       v is CalendarView && arg is Drawable -> {
         v.setSelectedDateVerticalBar(arg)
         true
@@ -3220,56 +3445,56 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "selectedWeekBackgroundColor" -> when {
+    SdkAttrs.selectedWeekBackgroundColor -> when {
       v is CalendarView && arg is Int -> {
         v.setSelectedWeekBackgroundColor(arg)
         true
       }
       else -> false
     }
-    "showWeekNumber" -> when {
+    SdkAttrs.showWeekNumber -> when {
       v is CalendarView && arg is Boolean -> {
         v.setShowWeekNumber(arg)
         true
       }
       else -> false
     }
-    "shownWeekCount" -> when {
+    SdkAttrs.shownWeekCount -> when {
       v is CalendarView && arg is Int -> {
         v.setShownWeekCount(arg)
         true
       }
       else -> false
     }
-    "unfocusedMonthDateColor" -> when {
+    SdkAttrs.unfocusedMonthDateColor -> when {
       v is CalendarView && arg is Int -> {
         v.setUnfocusedMonthDateColor(arg)
         true
       }
       else -> false
     }
-    "weekDayTextAppearance" -> when {
+    SdkAttrs.weekDayTextAppearance -> when {
       v is CalendarView && arg is Int -> {
         v.setWeekDayTextAppearance(arg)
         true
       }
       else -> false
     }
-    "weekNumberColor" -> when {
+    SdkAttrs.weekNumberColor -> when {
       v is CalendarView && arg is Int -> {
         v.setWeekNumberColor(arg)
         true
       }
       else -> false
     }
-    "weekSeparatorLineColor" -> when {
+    SdkAttrs.weekSeparatorLineColor -> when {
       v is CalendarView && arg is Int -> {
         v.setWeekSeparatorLineColor(arg)
         true
       }
       else -> false
     }
-    "checkMarkDrawable" -> when {
+    SdkAttrs.checkMarkDrawable -> when {
       v is CheckedTextView && (arg == null || arg is Drawable) -> {
         v.setCheckMarkDrawable(arg as Drawable)
         true
@@ -3280,7 +3505,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "checked" -> when {
+    SdkAttrs.checked -> when {
       v is CheckedTextView && arg is Boolean -> {
         v.setChecked(arg)
         true
@@ -3291,30 +3516,31 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "base" -> when {
+    SdkAttrs.base -> when {
       v is Chronometer && arg is Long -> {
         v.setBase(arg)
         true
       }
       else -> false
     }
-    "format" -> when {
+    SdkAttrs.format -> when {
       v is Chronometer && arg is String -> {
         v.setFormat(arg)
         true
       }
       else -> false
     }
-    "onChronometerTick" -> when {
+    SdkAttrs.onChronometerTick -> when {
       v is Chronometer -> when {
         arg == null -> {
           v.setOnChronometerTickListener(null as? Chronometer.OnChronometerTickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Chronometer) -> Unit
-          v.setOnChronometerTickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnChronometerTickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: Chronometer) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3322,7 +3548,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "buttonDrawable" -> when {
+    SdkAttrs.buttonDrawable -> when {
       v is CompoundButton && (arg == null || arg is Drawable) -> {
         v.setButtonDrawable(arg as Drawable)
         true
@@ -3333,16 +3559,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onCheckedChange" -> when {
+    SdkAttrs.onCheckedChange -> when {
       v is CompoundButton -> when {
         arg == null -> {
           v.setOnCheckedChangeListener(null as? CompoundButton.OnCheckedChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: CompoundButton, arg1: Boolean) -> Unit
-          v.setOnCheckedChangeListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCheckedChangeListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: CompoundButton, arg1: Boolean) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3354,9 +3581,10 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: RadioGroup, arg1: Int) -> Unit
-          v.setOnCheckedChangeListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCheckedChangeListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: RadioGroup, arg1: Int) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3364,42 +3592,42 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "calendarViewShown" -> when {
+    SdkAttrs.calendarViewShown -> when {
       v is DatePicker && arg is Boolean -> {
         v.setCalendarViewShown(arg)
         true
       }
       else -> false
     }
-    "spinnersShown" -> when {
+    SdkAttrs.spinnersShown -> when {
       v is DatePicker && arg is Boolean -> {
         v.setSpinnersShown(arg)
         true
       }
       else -> false
     }
-    "digitsWatcher" -> when {
+    SdkAttrs.digitsWatcher -> when {
       v is DialerFilter && arg is TextWatcher -> {
         v.setDigitsWatcher(arg)
         true
       }
       else -> false
     }
-    "filterWatcher" -> when {
+    SdkAttrs.filterWatcher -> when {
       v is DialerFilter && arg is TextWatcher -> {
         v.setFilterWatcher(arg)
         true
       }
       else -> false
     }
-    "lettersWatcher" -> when {
+    SdkAttrs.lettersWatcher -> when {
       v is DialerFilter && arg is TextWatcher -> {
         v.setLettersWatcher(arg)
         true
       }
       else -> false
     }
-    "mode" -> when {
+    SdkAttrs.mode -> when {
       v is DialerFilter && arg is Int -> {
         v.setMode(arg)
         true
@@ -3410,43 +3638,38 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "childDivider" -> when {
+    SdkAttrs.childDivider -> when {
       v is ExpandableListView && arg is Drawable -> {
         v.setChildDivider(arg)
         true
       }
       else -> false
     }
-    "childIndicator" -> when {
+    SdkAttrs.childIndicator -> when {
       v is ExpandableListView && arg is Drawable -> {
         v.setChildIndicator(arg)
         true
       }
       else -> false
     }
-    "groupIndicator" -> when {
+    SdkAttrs.groupIndicator -> when {
       v is ExpandableListView && arg is Drawable -> {
         v.setGroupIndicator(arg)
         true
       }
       else -> false
     }
-    "onChildClick" -> when {
+    SdkAttrs.onChildClick -> when {
       v is ExpandableListView -> when {
         arg == null -> {
           v.setOnChildClickListener(null as? ExpandableListView.OnChildClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: ExpandableListView,
-            arg1: View,
-            arg2: Int,
-            arg3: Int,
-            arg4: Long
-          ) -> Boolean
-          v.setOnChildClickListener { arg0, arg1, arg2, arg3, arg4 ->
-            arg(arg0, arg1, arg2, arg3, arg4).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnChildClickListener { arg0, arg1, arg2, arg3, arg4 ->
+              (Anvil.attrValue(v, id) as? (arg0: ExpandableListView, arg1: View, arg2: Int, arg3: Int, arg4: Long) -> Boolean)?.invoke(arg0, arg1, arg2, arg3, arg4)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -3454,21 +3677,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onGroupClick" -> when {
+    SdkAttrs.onGroupClick -> when {
       v is ExpandableListView -> when {
         arg == null -> {
           v.setOnGroupClickListener(null as? ExpandableListView.OnGroupClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: ExpandableListView,
-            arg1: View,
-            arg2: Int,
-            arg3: Long
-          ) -> Boolean
-          v.setOnGroupClickListener { arg0, arg1, arg2, arg3 ->
-            arg(arg0, arg1, arg2, arg3).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnGroupClickListener { arg0, arg1, arg2, arg3 ->
+              (Anvil.attrValue(v, id) as? (arg0: ExpandableListView, arg1: View, arg2: Int, arg3: Long) -> Boolean)?.invoke(arg0, arg1, arg2, arg3)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -3476,16 +3695,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onGroupCollapse" -> when {
+    SdkAttrs.onGroupCollapse -> when {
       v is ExpandableListView -> when {
         arg == null -> {
           v.setOnGroupCollapseListener(null as? ExpandableListView.OnGroupCollapseListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Int) -> Unit
-          v.setOnGroupCollapseListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnGroupCollapseListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: Int) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3493,16 +3713,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onGroupExpand" -> when {
+    SdkAttrs.onGroupExpand -> when {
       v is ExpandableListView -> when {
         arg == null -> {
           v.setOnGroupExpandListener(null as? ExpandableListView.OnGroupExpandListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: Int) -> Unit
-          v.setOnGroupExpandListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnGroupExpandListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: Int) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -3510,49 +3731,49 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "selectedGroup" -> when {
+    SdkAttrs.selectedGroup -> when {
       v is ExpandableListView && arg is Int -> {
         v.setSelectedGroup(arg)
         true
       }
       else -> false
     }
-    "foreground" -> when {
+    SdkAttrs.foreground -> when {
       v is FrameLayout && arg is Drawable -> {
         v.setForeground(arg)
         true
       }
       else -> false
     }
-    "foregroundGravity" -> when {
+    SdkAttrs.foregroundGravity -> when {
       v is FrameLayout && arg is Int -> {
         v.setForegroundGravity(arg)
         true
       }
       else -> false
     }
-    "measureAllChildren" -> when {
+    SdkAttrs.measureAllChildren -> when {
       v is FrameLayout && arg is Boolean -> {
         v.setMeasureAllChildren(arg)
         true
       }
       else -> false
     }
-    "animationDuration" -> when {
+    SdkAttrs.animationDuration -> when {
       v is Gallery && arg is Int -> {
         v.setAnimationDuration(arg)
         true
       }
       else -> false
     }
-    "callbackDuringFling" -> when {
+    SdkAttrs.callbackDuringFling -> when {
       v is Gallery && arg is Boolean -> {
         v.setCallbackDuringFling(arg)
         true
       }
       else -> false
     }
-    "gravity" -> when {
+    SdkAttrs.gravity -> when {
       v is Gallery && arg is Int -> {
         v.setGravity(arg)
         true
@@ -3579,98 +3800,98 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "spacing" -> when {
+    SdkAttrs.spacing -> when {
       v is Gallery && arg is Int -> {
         v.setSpacing(arg)
         true
       }
       else -> false
     }
-    "unselectedAlpha" -> when {
+    SdkAttrs.unselectedAlpha -> when {
       v is Gallery && arg is Float -> {
         v.setUnselectedAlpha(arg)
         true
       }
       else -> false
     }
-    "alignmentMode" -> when {
+    SdkAttrs.alignmentMode -> when {
       v is GridLayout && arg is Int -> {
         v.setAlignmentMode(arg)
         true
       }
       else -> false
     }
-    "columnCount" -> when {
+    SdkAttrs.columnCount -> when {
       v is GridLayout && arg is Int -> {
         v.setColumnCount(arg)
         true
       }
       else -> false
     }
-    "columnOrderPreserved" -> when {
+    SdkAttrs.columnOrderPreserved -> when {
       v is GridLayout && arg is Boolean -> {
         v.setColumnOrderPreserved(arg)
         true
       }
       else -> false
     }
-    "rowCount" -> when {
+    SdkAttrs.rowCount -> when {
       v is GridLayout && arg is Int -> {
         v.setRowCount(arg)
         true
       }
       else -> false
     }
-    "rowOrderPreserved" -> when {
+    SdkAttrs.rowOrderPreserved -> when {
       v is GridLayout && arg is Boolean -> {
         v.setRowOrderPreserved(arg)
         true
       }
       else -> false
     }
-    "useDefaultMargins" -> when {
+    SdkAttrs.useDefaultMargins -> when {
       v is GridLayout && arg is Boolean -> {
         v.setUseDefaultMargins(arg)
         true
       }
       else -> false
     }
-    "columnWidth" -> when {
+    SdkAttrs.columnWidth -> when {
       v is GridView && arg is Int -> {
         v.setColumnWidth(arg)
         true
       }
       else -> false
     }
-    "horizontalSpacing" -> when {
+    SdkAttrs.horizontalSpacing -> when {
       v is GridView && arg is Int -> {
         v.setHorizontalSpacing(arg)
         true
       }
       else -> false
     }
-    "numColumns" -> when {
+    SdkAttrs.numColumns -> when {
       v is GridView && arg is Int -> {
         v.setNumColumns(arg)
         true
       }
       else -> false
     }
-    "stretchMode" -> when {
+    SdkAttrs.stretchMode -> when {
       v is GridView && arg is Int -> {
         v.setStretchMode(arg)
         true
       }
       else -> false
     }
-    "verticalSpacing" -> when {
+    SdkAttrs.verticalSpacing -> when {
       v is GridView && arg is Int -> {
         v.setVerticalSpacing(arg)
         true
       }
       else -> false
     }
-    "fillViewport" -> when {
+    SdkAttrs.fillViewport -> when {
       v is HorizontalScrollView && arg is Boolean -> {
         v.setFillViewport(arg)
         true
@@ -3681,7 +3902,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "smoothScrollingEnabled" -> when {
+    SdkAttrs.smoothScrollingEnabled -> when {
       v is HorizontalScrollView && arg is Boolean -> {
         v.setSmoothScrollingEnabled(arg)
         true
@@ -3692,7 +3913,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "imageDrawable" -> when {
+    SdkAttrs.imageDrawable -> when {
       v is ImageSwitcher && arg is Drawable -> {
         v.setImageDrawable(arg)
         true
@@ -3703,18 +3924,22 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "imageResource" -> when {
+    SdkAttrs.imageResource -> when {
       v is ImageSwitcher && arg is Int -> {
         v.setImageResource(arg)
         true
       }
       v is ImageView && arg is Int -> {
-        v.setImageResource(arg)
+        if (ResourceCache.isFrameworkView(v)) {
+          v.setImageDrawable(ResourceCache.drawable(v.context, arg))
+        } else {
+          v.setImageResource(arg)
+        }
         true
       }
       else -> false
     }
-    "imageURI" -> when {
+    SdkAttrs.imageURI -> when {
       v is ImageSwitcher && arg is Uri -> {
         v.setImageURI(arg)
         true
@@ -3725,28 +3950,28 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "adjustViewBounds" -> when {
+    SdkAttrs.adjustViewBounds -> when {
       v is ImageView && arg is Boolean -> {
         v.setAdjustViewBounds(arg)
         true
       }
       else -> false
     }
-    "baseline" -> when {
+    SdkAttrs.baseline -> when {
       v is ImageView && arg is Int -> {
         v.setBaseline(arg)
         true
       }
       else -> false
     }
-    "baselineAlignBottom" -> when {
+    SdkAttrs.baselineAlignBottom -> when {
       v is ImageView && arg is Boolean -> {
         v.setBaselineAlignBottom(arg)
         true
       }
       else -> false
     }
-    "colorFilter" -> when {
+    SdkAttrs.colorFilter -> when {
       v is ImageView && arg is ColorFilter -> {
         v.setColorFilter(arg)
         true
@@ -3757,42 +3982,42 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "cropToPadding" -> when {
+    SdkAttrs.cropToPadding -> when {
       v is ImageView && arg is Boolean -> {
         v.setCropToPadding(arg)
         true
       }
       else -> false
     }
-    "imageAlpha" -> when {
+    SdkAttrs.imageAlpha -> when {
       v is ImageView && arg is Int -> {
         v.setImageAlpha(arg)
         true
       }
       else -> false
     }
-    "imageBitmap" -> when {
+    SdkAttrs.imageBitmap -> when {
       v is ImageView && arg is Bitmap -> {
         v.setImageBitmap(arg)
         true
       }
       else -> false
     }
-    "imageLevel" -> when {
+    SdkAttrs.imageLevel -> when {
       v is ImageView && arg is Int -> {
         v.setImageLevel(arg)
         true
       }
       else -> false
     }
-    "imageMatrix" -> when {
+    SdkAttrs.imageMatrix -> when {
       v is ImageView && arg is Matrix -> {
         v.setImageMatrix(arg)
         true
       }
       else -> false
     }
-    "maxHeight" -> when {
+    SdkAttrs.maxHeight -> when {
       v is ImageView && arg is Int -> {
         v.setMaxHeight(arg)
         true
@@ -3803,7 +4028,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "maxWidth" -> when {
+    SdkAttrs.maxWidth -> when {
       v is ImageView && arg is Int -> {
         v.setMaxWidth(arg)
         true
@@ -3818,28 +4043,28 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "scaleType" -> when {
+    SdkAttrs.scaleType -> when {
       v is ImageView && arg is ImageView.ScaleType -> {
         v.setScaleType(arg)
         true
       }
       else -> false
     }
-    "baselineAligned" -> when {
+    SdkAttrs.baselineAligned -> when {
       v is LinearLayout && arg is Boolean -> {
         v.setBaselineAligned(arg)
         true
       }
       else -> false
     }
-    "baselineAlignedChildIndex" -> when {
+    SdkAttrs.baselineAlignedChildIndex -> when {
       v is LinearLayout && arg is Int -> {
         v.setBaselineAlignedChildIndex(arg)
         true
       }
       else -> false
     }
-    "dividerDrawable" -> when {
+    SdkAttrs.dividerDrawable -> when {
       v is LinearLayout && arg is Drawable -> {
         v.setDividerDrawable(arg)
         true
@@ -3850,14 +4075,14 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "dividerPadding" -> when {
+    SdkAttrs.dividerPadding -> when {
       v is LinearLayout && arg is Int -> {
         v.setDividerPadding(arg)
         true
       }
       else -> false
     }
-    "horizontalGravity" -> when {
+    SdkAttrs.horizontalGravity -> when {
       v is LinearLayout && arg is Int -> {
         v.setHorizontalGravity(arg)
         true
@@ -3868,21 +4093,21 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "measureWithLargestChildEnabled" -> when {
+    SdkAttrs.measureWithLargestChildEnabled -> when {
       v is LinearLayout && arg is Boolean -> {
         v.setMeasureWithLargestChildEnabled(arg)
         true
       }
       else -> false
     }
-    "showDividers" -> when {
+    SdkAttrs.showDividers -> when {
       v is LinearLayout && arg is Int -> {
         v.setShowDividers(arg)
         true
       }
       else -> false
     }
-    "verticalGravity" -> when {
+    SdkAttrs.verticalGravity -> when {
       v is LinearLayout && arg is Int -> {
         v.setVerticalGravity(arg)
         true
@@ -3893,132 +4118,129 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "weightSum" -> when {
+    SdkAttrs.weightSum -> when {
       v is LinearLayout && arg is Float -> {
         v.setWeightSum(arg)
         true
       }
       else -> false
     }
-    "divider" -> when {
+    SdkAttrs.divider -> when {
       v is ListView && (arg == null || arg is Drawable) -> {
         v.setDivider(arg as Drawable)
         true
       }
       else -> false
     }
-    "dividerHeight" -> when {
+    SdkAttrs.dividerHeight -> when {
       v is ListView && arg is Int -> {
         v.setDividerHeight(arg)
         true
       }
       else -> false
     }
-    "footerDividersEnabled" -> when {
+    SdkAttrs.footerDividersEnabled -> when {
       v is ListView && arg is Boolean -> {
         v.setFooterDividersEnabled(arg)
         true
       }
       else -> false
     }
-    "headerDividersEnabled" -> when {
+    SdkAttrs.headerDividersEnabled -> when {
       v is ListView && arg is Boolean -> {
         v.setHeaderDividersEnabled(arg)
         true
       }
       else -> false
     }
-    "itemsCanFocus" -> when {
+    SdkAttrs.itemsCanFocus -> when {
       v is ListView && arg is Boolean -> {
         v.setItemsCanFocus(arg)
         true
       }
       else -> false
     }
-    "overscrollFooter" -> when {
+    SdkAttrs.overscrollFooter -> when {
       v is ListView && arg is Drawable -> {
         v.setOverscrollFooter(arg)
         true
       }
       else -> false
     }
-    "overscrollHeader" -> when {
+    SdkAttrs.overscrollHeader -> when {
       v is ListView && arg is Drawable -> {
         v.setOverscrollHeader(arg)
         true
       }
       else -> false
     }
-    "anchorView" -> when {
+    SdkAttrs.anchorView -> when {
       v is MediaController && arg is View -> {
         v.setAnchorView(arg)
         true
       }
       else -> false
     }
-    "mediaPlayer" -> when {
+    SdkAttrs.mediaPlayer -> when {
       v is MediaController && arg is MediaController.MediaPlayerControl -> {
         v.setMediaPlayer(arg)
         true
       }
       else -> false
     }
-    "tokenizer" -> when {
+    SdkAttrs.tokenizer -> when {
       v is MultiAutoCompleteTextView && arg is MultiAutoCompleteTextView.Tokenizer -> {
         v.setTokenizer(arg)
         true
       }
       else -> false
     }
-    "displayedValues" -> when {
+    SdkAttrs.displayedValues -> when {
       v is NumberPicker && arg is Array<*> -> {
         v.setDisplayedValues(arg as Array<String>)
         true
       }
       else -> false
     }
-    "formatter" -> when {
+    SdkAttrs.formatter -> when {
       v is NumberPicker && arg is NumberPicker.Formatter -> {
         v.setFormatter(arg)
         true
       }
       else -> false
     }
-    "maxValue" -> when {
+    SdkAttrs.maxValue -> when {
       v is NumberPicker && arg is Int -> {
         v.setMaxValue(arg)
         true
       }
       else -> false
     }
-    "minValue" -> when {
+    SdkAttrs.minValue -> when {
       v is NumberPicker && arg is Int -> {
         v.setMinValue(arg)
         true
       }
       else -> false
     }
-    "onLongPressUpdateInterval" -> when {
+    SdkAttrs.onLongPressUpdateInterval -> when {
       v is NumberPicker && arg is Long -> {
         v.setOnLongPressUpdateInterval(arg)
         true
       }
       else -> false
     }
-    "onValueChanged" -> when {
+    SdkAttrs.onValueChanged -> when {
       v is NumberPicker -> when {
         arg == null -> {
           v.setOnValueChangedListener(null as? NumberPicker.OnValueChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: NumberPicker,
-            arg1: Int,
-            arg2: Int
-          ) -> Unit
-          v.setOnValueChangedListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnValueChangedListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: NumberPicker, arg1: Int, arg2: Int) -> Unit)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4026,104 +4248,101 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "value" -> when {
+    SdkAttrs.value -> when {
       v is NumberPicker && arg is Int -> {
         v.setValue(arg)
         true
       }
       else -> false
     }
-    "wrapSelectorWheel" -> when {
+    SdkAttrs.wrapSelectorWheel -> when {
       v is NumberPicker && arg is Boolean -> {
         v.setWrapSelectorWheel(arg)
         true
       }
       else -> false
     }
-    "indeterminate" -> when {
+    SdkAttrs.indeterminate -> when {
       v is ProgressBar && arg is Boolean -> {
         v.setIndeterminate(arg)
         true
       }
       else -> false
     }
-    "indeterminateDrawable" -> when {
+    SdkAttrs.indeterminateDrawable -> when {
       v is ProgressBar && arg is Drawable -> {
         v.setIndeterminateDrawable(arg)
         true
       }
       else -> false
     }
-    "interpolator" -> when {
+    SdkAttrs.interpolator -> when {
       v is ProgressBar && arg is Interpolator -> {
         v.setInterpolator(arg)
         true
       }
       else -> false
     }
-    "max" -> when {
+    SdkAttrs.max -> when {
       v is ProgressBar && arg is Int -> {
         v.setMax(arg)
         true
       }
       else -> false
     }
-    "progress" -> when {
+    SdkAttrs.progress -> when {
       v is ProgressBar && arg is Int -> {
         v.setProgress(arg)
         true
       }
       else -> false
     }
-    "progressDrawable" -> when {
+    SdkAttrs.progressDrawable -> when {
       v is ProgressBar && arg is Drawable -> {
         v.setProgressDrawable(arg)
         true
       }
       else -> false
     }
-    "secondaryProgress" -> when {
+    SdkAttrs.secondaryProgress -> when {
       v is ProgressBar && arg is Int -> {
         v.setSecondaryProgress(arg)
         true
       }
       else -> false
     }
-    "excludeMimes" -> when {
+    SdkAttrs.excludeMimes -> when {
       v is QuickContactBadge && arg is Array<*> -> {
         v.setExcludeMimes(arg as Array<String>)
         true
       }
       else -> false
     }
-    "isIndicator" -> when {
+    SdkAttrs.isIndicator -> when {
       v is RatingBar && arg is Boolean -> {
         v.setIsIndicator(arg)
         true
       }
       else -> false
     }
-    "numStars" -> when {
+    SdkAttrs.numStars -> when {
       v is RatingBar && arg is Int -> {
         v.setNumStars(arg)
         true
       }
       else -> false
     }
-    "onRatingBarChange" -> when {
+    SdkAttrs.onRatingBarChange -> when {
       v is RatingBar -> when {
         arg == null -> {
           v.setOnRatingBarChangeListener(null as? RatingBar.OnRatingBarChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: RatingBar,
-            arg1: Float,
-            arg2: Boolean
-          ) -> Unit
-          v.setOnRatingBarChangeListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnRatingBarChangeListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: RatingBar, arg1: Float, arg2: Boolean) -> Unit)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4131,42 +4350,42 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "rating" -> when {
+    SdkAttrs.rating -> when {
       v is RatingBar && arg is Float -> {
         v.setRating(arg)
         true
       }
       else -> false
     }
-    "stepSize" -> when {
+    SdkAttrs.stepSize -> when {
       v is RatingBar && arg is Float -> {
         v.setStepSize(arg)
         true
       }
       else -> false
     }
-    "ignoreGravity" -> when {
+    SdkAttrs.ignoreGravity -> when {
       v is RelativeLayout && arg is Int -> {
         v.setIgnoreGravity(arg)
         true
       }
       else -> false
     }
-    "iconified" -> when {
+    SdkAttrs.iconified -> when {
       v is SearchView && arg is Boolean -> {
         v.setIconified(arg)
         true
       }
       else -> false
     }
-    "iconifiedByDefault" -> when {
+    SdkAttrs.iconifiedByDefault -> when {
       v is SearchView && arg is Boolean -> {
         v.setIconifiedByDefault(arg)
         true
       }
       else -> false
     }
-    "imeOptions" -> when {
+    SdkAttrs.imeOptions -> when {
       v is SearchView && arg is Int -> {
         v.setImeOptions(arg)
         true
@@ -4177,7 +4396,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "inputType" -> when {
+    SdkAttrs.inputType -> when {
       v is SearchView && arg is Int -> {
         v.setInputType(arg)
         true
@@ -4188,16 +4407,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onClose" -> when {
+    SdkAttrs.onClose -> when {
       v is SearchView -> when {
         arg == null -> {
           v.setOnCloseListener(null as? SearchView.OnCloseListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Boolean
-          v.setOnCloseListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCloseListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Boolean)?.invoke()?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -4205,16 +4425,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onQueryTextFocusChange" -> when {
+    SdkAttrs.onQueryTextFocusChange -> when {
       v is SearchView -> when {
         arg == null -> {
           v.setOnQueryTextFocusChangeListener(null as? View.OnFocusChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: View, arg1: Boolean) -> Unit
-          v.setOnQueryTextFocusChangeListener { arg0, arg1 ->
-            arg(arg0, arg1).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnQueryTextFocusChangeListener { arg0, arg1 ->
+              (Anvil.attrValue(v, id) as? (arg0: View, arg1: Boolean) -> Unit)?.invoke(arg0, arg1)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4222,36 +4443,37 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onQueryText" -> when {
+    SdkAttrs.onQueryText -> when {
       v is SearchView -> when {
         arg == null -> {
           v.setOnQueryTextListener(null as? SearchView.OnQueryTextListener?)
           true
         }
         arg is SearchView.OnQueryTextListener -> {
-          v.setOnQueryTextListener(object : SearchView.OnQueryTextListener {
-            override fun onQueryTextChange(arg0: String): Boolean =
-                arg.onQueryTextChange(arg0).also { Anvil.render() }
+          if (old !is SearchView.OnQueryTextListener) {
+            v.setOnQueryTextListener(object : SearchView.OnQueryTextListener {
+              override fun onQueryTextChange(arg0: String): Boolean = (Anvil.attrValue(v, id) as? SearchView.OnQueryTextListener)?.onQueryTextChange(arg0)?.also { Anvil.renderFrom(v) } ?: false
 
-            override fun onQueryTextSubmit(arg0: String): Boolean =
-                arg.onQueryTextSubmit(arg0).also { Anvil.render() }
-          })
+              override fun onQueryTextSubmit(arg0: String): Boolean = (Anvil.attrValue(v, id) as? SearchView.OnQueryTextListener)?.onQueryTextSubmit(arg0)?.also { Anvil.renderFrom(v) } ?: false
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "onSearchClick" -> when {
+    SdkAttrs.onSearchClick -> when {
       v is SearchView -> when {
         arg == null -> {
           v.setOnSearchClickListener(null as? View.OnClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: View) -> Unit
-          v.setOnSearchClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnSearchClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: View) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4259,97 +4481,100 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onSuggestion" -> when {
+    SdkAttrs.onSuggestion -> when {
       v is SearchView -> when {
         arg == null -> {
           v.setOnSuggestionListener(null as? SearchView.OnSuggestionListener?)
           true
         }
         arg is SearchView.OnSuggestionListener -> {
-          v.setOnSuggestionListener(object : SearchView.OnSuggestionListener {
-            override fun onSuggestionClick(arg0: Int): Boolean = arg.onSuggestionClick(arg0).also {
-                Anvil.render() }
+          if (old !is SearchView.OnSuggestionListener) {
+            v.setOnSuggestionListener(object : SearchView.OnSuggestionListener {
+              override fun onSuggestionClick(arg0: Int): Boolean = (Anvil.attrValue(v, id) as? SearchView.OnSuggestionListener)?.onSuggestionClick(arg0)?.also { Anvil.renderFrom(v) } ?: false
 
-            override fun onSuggestionSelect(arg0: Int): Boolean =
-                arg.onSuggestionSelect(arg0).also { Anvil.render() }
-          })
+              override fun onSuggestionSelect(arg0: Int): Boolean = (Anvil.attrValue(v, id) as? SearchView.OnSuggestionListener)?.onSuggestionSelect(arg0)?.also { Anvil.renderFrom(v) } ?: false
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "queryHint" -> when {
+    SdkAttrs.queryHint -> when {
       v is SearchView && (arg == null || arg is CharSequence) -> {
         v.setQueryHint(arg as CharSequence)
         true
       }
       else -> false
     }
-    "queryRefinementEnabled" -> when {
+    SdkAttrs.queryRefinementEnabled -> when {
       v is SearchView && arg is Boolean -> {
         v.setQueryRefinementEnabled(arg)
         true
       }
       else -> false
     }
-    "searchableInfo" -> when {
+    SdkAttrs.searchableInfo -> when {
       v is SearchView && arg is SearchableInfo -> {
         v.setSearchableInfo(arg)
         true
       }
       else -> false
     }
-    "submitButtonEnabled" -> when {
+    SdkAttrs.submitButtonEnabled -> when {
       v is SearchView && arg is Boolean -> {
         v.setSubmitButtonEnabled(arg)
         true
       }
       else -> false
     }
-    "suggestionsAdapter" -> when {
+    SdkAttrs.suggestionsAdapter -> when {
       v is SearchView && arg is CursorAdapter -> {
         v.setSuggestionsAdapter(arg)
         true
       }
       else -> false
     }
-    "onSeekBarChange" -> when {
+    SdkAttrs.onSeekBarChange -> when {
       v is SeekBar -> when {
         arg == null -> {
           v.setOnSeekBarChangeListener(null as? SeekBar.OnSeekBarChangeListener?)
           true
         }
         arg is SeekBar.OnSeekBarChangeListener -> {
-          v.setOnSeekBarChangeListener(object : SeekBar.OnSeekBarChangeListener {
-            override fun onProgressChanged(
-              arg0: SeekBar,
-              arg1: Int,
-              arg2: Boolean
-            ): Unit = arg.onProgressChanged(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is SeekBar.OnSeekBarChangeListener) {
+            v.setOnSeekBarChangeListener(object : SeekBar.OnSeekBarChangeListener {
+              override fun onProgressChanged(arg0: SeekBar, arg1: Int, arg2: Boolean) {
+                (Anvil.attrValue(v, id) as? SeekBar.OnSeekBarChangeListener)?.onProgressChanged(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onStartTrackingTouch(arg0: SeekBar): Unit =
-                arg.onStartTrackingTouch(arg0).also { Anvil.render() }
+              override fun onStartTrackingTouch(arg0: SeekBar) {
+                (Anvil.attrValue(v, id) as? SeekBar.OnSeekBarChangeListener)?.onStartTrackingTouch(arg0)?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onStopTrackingTouch(arg0: SeekBar): Unit =
-                arg.onStopTrackingTouch(arg0).also { Anvil.render() }
-          })
+              override fun onStopTrackingTouch(arg0: SeekBar) {
+                (Anvil.attrValue(v, id) as? SeekBar.OnSeekBarChangeListener)?.onStopTrackingTouch(arg0)?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "onDrawerClose" -> when {
+    SdkAttrs.onDrawerClose -> when {
       v is SlidingDrawer -> when {
         arg == null -> {
           v.setOnDrawerCloseListener(null as? SlidingDrawer.OnDrawerCloseListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Unit
-          v.setOnDrawerCloseListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnDrawerCloseListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Unit)?.invoke()?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4357,16 +4582,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onDrawerOpen" -> when {
+    SdkAttrs.onDrawerOpen -> when {
       v is SlidingDrawer -> when {
         arg == null -> {
           v.setOnDrawerOpenListener(null as? SlidingDrawer.OnDrawerOpenListener?)
           true
         }
         arg is Function<*> -> {
-          arg as () -> Unit
-          v.setOnDrawerOpenListener {  ->
-            arg().also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnDrawerOpenListener {  ->
+              (Anvil.attrValue(v, id) as? () -> Unit)?.invoke()?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4374,74 +4600,80 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onDrawerScroll" -> when {
+    SdkAttrs.onDrawerScroll -> when {
       v is SlidingDrawer -> when {
         arg == null -> {
           v.setOnDrawerScrollListener(null as? SlidingDrawer.OnDrawerScrollListener?)
           true
         }
         arg is SlidingDrawer.OnDrawerScrollListener -> {
-          v.setOnDrawerScrollListener(object : SlidingDrawer.OnDrawerScrollListener {
-            override fun onScrollEnded(): Unit = arg.onScrollEnded().also { Anvil.render() }
+          if (old !is SlidingDrawer.OnDrawerScrollListener) {
+            v.setOnDrawerScrollListener(object : SlidingDrawer.OnDrawerScrollListener {
+              override fun onScrollEnded() {
+                (Anvil.attrValue(v, id) as? SlidingDrawer.OnDrawerScrollListener)?.onScrollEnded()?.also { Anvil.renderFrom(v) }
+              }
 
-            override fun onScrollStarted(): Unit = arg.onScrollStarted().also { Anvil.render() }
-          })
+              override fun onScrollStarted() {
+                (Anvil.attrValue(v, id) as? SlidingDrawer.OnDrawerScrollListener)?.onScrollStarted()?.also { Anvil.renderFrom(v) }
+              }
+            })
+          }
           true
         }
         else -> false
       }
       else -> false
     }
-    "popupBackgroundDrawable" -> when {
+    SdkAttrs.popupBackgroundDrawable -> when {
       v is Spinner && arg is Drawable -> {
         v.setPopupBackgroundDrawable(arg)
         true
       }
       else -> false
     }
-    "popupBackgroundResource" -> when {
+    SdkAttrs.popupBackgroundResource -> when {
       v is Spinner && arg is Int -> {
         v.setPopupBackgroundResource(arg)
         true
       }
       else -> false
     }
-    "prompt" -> when {
+    SdkAttrs.prompt -> when {
       v is Spinner && arg is CharSequence -> {
         v.setPrompt(arg)
         true
       }
       else -> false
     }
-    "promptId" -> when {
+    SdkAttrs.promptId -> when {
       v is Spinner && arg is Int -> {
         v.setPromptId(arg)
         true
       }
       else -> false
     }
-    "switchMinWidth" -> when {
+    SdkAttrs.switchMinWidth -> when {
       v is Switch && arg is Int -> {
         v.setSwitchMinWidth(arg)
         true
       }
       else -> false
     }
-    "switchPadding" -> when {
+    SdkAttrs.switchPadding -> when {
       v is Switch && arg is Int -> {
         v.setSwitchPadding(arg)
         true
       }
       else -> false
     }
-    "switchTypeface" -> when {
+    SdkAttrs.switchTypeface -> when {
       v is Switch && arg is Typeface -> {
         v.setSwitchTypeface(arg)
         true
       }
       else -> false
     }
-    "textOff" -> when {
+    SdkAttrs.textOff -> when {
       v is Switch && arg is CharSequence -> {
         v.setTextOff(arg)
         true
@@ -4452,7 +4684,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "textOn" -> when {
+    SdkAttrs.textOn -> when {
       v is Switch && arg is CharSequence -> {
         v.setTextOn(arg)
         true
@@ -4463,42 +4695,42 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "thumbDrawable" -> when {
+    SdkAttrs.thumbDrawable -> when {
       v is Switch && arg is Drawable -> {
         v.setThumbDrawable(arg)
         true
       }
       else -> false
     }
-    "thumbResource" -> when {
+    SdkAttrs.thumbResource -> when {
       v is Switch && arg is Int -> {
         v.setThumbResource(arg)
         true
       }
       else -> false
     }
-    "thumbTextPadding" -> when {
+    SdkAttrs.thumbTextPadding -> when {
       v is Switch && arg is Int -> {
         v.setThumbTextPadding(arg)
         true
       }
       else -> false
     }
-    "trackDrawable" -> when {
+    SdkAttrs.trackDrawable -> when {
       v is Switch && arg is Drawable -> {
         v.setTrackDrawable(arg)
         true
       }
       else -> false
     }
-    "trackResource" -> when {
+    SdkAttrs.trackResource -> when {
       v is Switch && arg is Int -> {
         v.setTrackResource(arg)
         true
       }
       else -> false
     }
-    "currentTab" -> when {
+    SdkAttrs.currentTab -> when {
       v is TabHost && arg is Int -> {
         v.setCurrentTab(arg)
         true
@@ -4509,23 +4741,24 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "currentTabByTag" -> when {
+    SdkAttrs.currentTabByTag -> when {
       v is TabHost && arg is String -> {
         v.setCurrentTabByTag(arg)
         true
       }
       else -> false
     }
-    "onTabChanged" -> when {
+    SdkAttrs.onTabChanged -> when {
       v is TabHost -> when {
         arg == null -> {
           v.setOnTabChangedListener(null as? TabHost.OnTabChangeListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: String) -> Unit
-          v.setOnTabChangedListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnTabChangedListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: String) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -4533,7 +4766,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "leftStripDrawable" -> when {
+    SdkAttrs.leftStripDrawable -> when {
       v is TabWidget && (arg == null || arg is Drawable) -> {
         v.setLeftStripDrawable(arg as Drawable)
         true
@@ -4544,7 +4777,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "rightStripDrawable" -> when {
+    SdkAttrs.rightStripDrawable -> when {
       v is TabWidget && (arg == null || arg is Drawable) -> {
         v.setRightStripDrawable(arg as Drawable)
         true
@@ -4555,56 +4788,56 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "stripEnabled" -> when {
+    SdkAttrs.stripEnabled -> when {
       v is TabWidget && arg is Boolean -> {
         v.setStripEnabled(arg)
         true
       }
       else -> false
     }
-    "shrinkAllColumns" -> when {
+    SdkAttrs.shrinkAllColumns -> when {
       v is TableLayout && arg is Boolean -> {
         v.setShrinkAllColumns(arg)
         true
       }
       else -> false
     }
-    "stretchAllColumns" -> when {
+    SdkAttrs.stretchAllColumns -> when {
       v is TableLayout && arg is Boolean -> {
         v.setStretchAllColumns(arg)
         true
       }
       else -> false
     }
-    "format12Hour" -> when {
+    SdkAttrs.format12Hour -> when {
       v is TextClock && arg is CharSequence -> {
         v.setFormat12Hour(arg)
         true
       }
       else -> false
     }
-    "format24Hour" -> when {
+    SdkAttrs.format24Hour -> when {
       v is TextClock && arg is CharSequence -> {
         v.setFormat24Hour(arg)
         true
       }
       else -> false
     }
-    "timeZone" -> when {
+    SdkAttrs.timeZone -> when {
       v is TextClock && arg is String -> {
         v.setTimeZone(arg)
         true
       }
       else -> false
     }
-    "currentText" -> when {
+    SdkAttrs.currentText -> when {
       v is TextSwitcher && arg is CharSequence -> {
         v.setCurrentText(arg)
         true
       }
       else -> false
     }
-    "text" -> when {
+    SdkAttrs.text -> when {
       v is TextSwitcher && arg is CharSequence -> {
         v.setText(arg)
         true
@@ -4615,105 +4848,105 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "allCaps" -> when {
+    SdkAttrs.allCaps -> when {
       v is TextView && arg is Boolean -> {
         v.setAllCaps(arg)
         true
       }
       else -> false
     }
-    "autoLinkMask" -> when {
+    SdkAttrs.autoLinkMask -> when {
       v is TextView && arg is Int -> {
         v.setAutoLinkMask(arg)
         true
       }
       else -> false
     }
-    "compoundDrawablePadding" -> when {
+    SdkAttrs.compoundDrawablePadding -> when {
       v is TextView && arg is Int -> {
         v.setCompoundDrawablePadding(arg)
         true
       }
       else -> false
     }
-    "cursorVisible" -> when {
+    SdkAttrs.cursorVisible -> when {
       v is TextView && arg is Boolean -> {
         v.setCursorVisible(arg)
         true
       }
       else -> false
     }
-    "customSelectionActionModeCallback" -> when {
+    SdkAttrs.customSelectionActionModeCallback -> when {
       v is TextView && arg is ActionMode.Callback -> {
         v.setCustomSelectionActionModeCallback(arg)
         true
       }
       else -> false
     }
-    "editableFactory" -> when {
+    SdkAttrs.editableFactory -> when {
       v is TextView && arg is Editable.Factory -> {
         v.setEditableFactory(arg)
         true
       }
       else -> false
     }
-    "ellipsize" -> when {
+    SdkAttrs.ellipsize -> when {
       v is TextView && arg is TextUtils.TruncateAt -> {
         v.setEllipsize(arg)
         true
       }
       else -> false
     }
-    "ems" -> when {
+    SdkAttrs.ems -> when {
       v is TextView && arg is Int -> {
         v.setEms(arg)
         true
       }
       else -> false
     }
-    "error" -> when {
+    SdkAttrs.error -> when {
       v is TextView && arg is CharSequence -> {
         v.setError(arg)
         true
       }
       else -> false
     }
-    "extractedText" -> when {
+    SdkAttrs.extractedText -> when {
       v is TextView && arg is ExtractedText -> {
         v.setExtractedText(arg)
         true
       }
       else -> false
     }
-    "filters" -> when {
+    SdkAttrs.filters -> when {
       v is TextView && arg is Array<*> -> {
         v.setFilters(arg as Array<InputFilter>)
         true
       }
       else -> false
     }
-    "freezesText" -> when {
+    SdkAttrs.freezesText -> when {
       v is TextView && arg is Boolean -> {
         v.setFreezesText(arg)
         true
       }
       else -> false
     }
-    "height" -> when {
+    SdkAttrs.height -> when {
       v is TextView && arg is Int -> {
         v.setHeight(arg)
         true
       }
       else -> false
     }
-    "highlightColor" -> when {
+    SdkAttrs.highlightColor -> when {
       v is TextView && arg is Int -> {
         v.setHighlightColor(arg)
         true
       }
       else -> false
     }
-    "hint" -> when {
+    SdkAttrs.hint -> when {
       v is TextView && arg is CharSequence -> {
         v.setHint(arg)
         true
@@ -4724,7 +4957,7 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "hintTextColor" -> when {
+    SdkAttrs.hintTextColor -> when {
       v is TextView && arg is ColorStateList -> {
         v.setHintTextColor(arg)
         true
@@ -4735,35 +4968,35 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "horizontallyScrolling" -> when {
+    SdkAttrs.horizontallyScrolling -> when {
       v is TextView && arg is Boolean -> {
         v.setHorizontallyScrolling(arg)
         true
       }
       else -> false
     }
-    "includeFontPadding" -> when {
+    SdkAttrs.includeFontPadding -> when {
       v is TextView && arg is Boolean -> {
         v.setIncludeFontPadding(arg)
         true
       }
       else -> false
     }
-    "keyListener" -> when {
+    SdkAttrs.keyListener -> when {
       v is TextView && arg is KeyListener -> {
         v.setKeyListener(arg)
         true
       }
       else -> false
     }
-    "lines" -> when {
+    SdkAttrs.lines -> when {
       v is TextView && arg is Int -> {
         v.setLines(arg)
         true
       }
       else -> false
     }
-    "linkTextColor" -> when {
+    SdkAttrs.linkTextColor -> when {
       v is TextView && arg is ColorStateList -> {
         v.setLinkTextColor(arg)
         true
@@ -4774,83 +5007,80 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "linksClickable" -> when {
+    SdkAttrs.linksClickable -> when {
       v is TextView && arg is Boolean -> {
         v.setLinksClickable(arg)
         true
       }
       else -> false
     }
-    "marqueeRepeatLimit" -> when {
+    SdkAttrs.marqueeRepeatLimit -> when {
       v is TextView && arg is Int -> {
         v.setMarqueeRepeatLimit(arg)
         true
       }
       else -> false
     }
-    "maxEms" -> when {
+    SdkAttrs.maxEms -> when {
       v is TextView && arg is Int -> {
         v.setMaxEms(arg)
         true
       }
       else -> false
     }
-    "maxLines" -> when {
+    SdkAttrs.maxLines -> when {
       v is TextView && arg is Int -> {
         v.setMaxLines(arg)
         true
       }
       else -> false
     }
-    "minEms" -> when {
+    SdkAttrs.minEms -> when {
       v is TextView && arg is Int -> {
         v.setMinEms(arg)
         true
       }
       else -> false
     }
-    "minHeight" -> when {
+    SdkAttrs.minHeight -> when {
       v is TextView && arg is Int -> {
         v.setMinHeight(arg)
         true
       }
       else -> false
     }
-    "minLines" -> when {
+    SdkAttrs.minLines -> when {
       v is TextView && arg is Int -> {
         v.setMinLines(arg)
         true
       }
       else -> false
     }
-    "minWidth" -> when {
+    SdkAttrs.minWidth -> when {
       v is TextView && arg is Int -> {
         v.setMinWidth(arg)
         true
       }
       else -> false
     }
-    "movementMethod" -> when {
+    SdkAttrs.movementMethod -> when {
       v is TextView && arg is MovementMethod -> {
         v.setMovementMethod(arg)
         true
       }
       else -> false
     }
-    "onEditorAction" -> when {
+    SdkAttrs.onEditorAction -> when {
       v is TextView -> when {
         arg == null -> {
           v.setOnEditorActionListener(null as? TextView.OnEditorActionListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: TextView,
-            arg1: Int,
-            arg2: KeyEvent
-          ) -> Boolean
-          v.setOnEditorActionListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnEditorActionListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: TextView, arg1: Int, arg2: KeyEvent) -> Boolean)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -4858,56 +5088,56 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "paintFlags" -> when {
+    SdkAttrs.paintFlags -> when {
       v is TextView && arg is Int -> {
         v.setPaintFlags(arg)
         true
       }
       else -> false
     }
-    "privateImeOptions" -> when {
+    SdkAttrs.privateImeOptions -> when {
       v is TextView && arg is String -> {
         v.setPrivateImeOptions(arg)
         true
       }
       else -> false
     }
-    "rawInputType" -> when {
+    SdkAttrs.rawInputType -> when {
       v is TextView && arg is Int -> {
         v.setRawInputType(arg)
         true
       }
       else -> false
     }
-    "scroller" -> when {
+    SdkAttrs.scroller -> when {
       v is TextView && arg is Scroller -> {
         v.setScroller(arg)
         true
       }
       else -> false
     }
-    "selectAllOnFocus" -> when {
+    SdkAttrs.selectAllOnFocus -> when {
       v is TextView && arg is Boolean -> {
         v.setSelectAllOnFocus(arg)
         true
       }
       else -> false
     }
-    "singleLine" -> when {
+    SdkAttrs.singleLine -> when {
       v is TextView && arg is Boolean -> {
         v.setSingleLine(arg)
         true
       }
       else -> false
     }
-    "spannableFactory" -> when {
+    SdkAttrs.spannableFactory -> when {
       v is TextView && arg is Spannable.Factory -> {
         v.setSpannableFactory(arg)
         true
       }
       else -> false
     }
-    "textColor" -> when {
+    SdkAttrs.textColor -> when {
       v is TextView && arg is ColorStateList -> {
         v.setTextColor(arg)
         true
@@ -4918,90 +5148,87 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "textIsSelectable" -> when {
+    SdkAttrs.textIsSelectable -> when {
       v is TextView && arg is Boolean -> {
         v.setTextIsSelectable(arg)
         true
       }
       else -> false
     }
-    "textKeepState" -> when {
+    SdkAttrs.textKeepState -> when {
       v is TextView && arg is CharSequence -> {
         v.setTextKeepState(arg)
         true
       }
       else -> false
     }
-    "textLocale" -> when {
+    SdkAttrs.textLocale -> when {
       v is TextView && arg is Locale -> {
         v.setTextLocale(arg)
         true
       }
       else -> false
     }
-    "textScaleX" -> when {
+    SdkAttrs.textScaleX -> when {
       v is TextView && arg is Float -> {
         v.setTextScaleX(arg)
         true
       }
       else -> false
     }
-    "transformationMethod" -> when {
+    SdkAttrs.transformationMethod -> when {
       v is TextView && arg is TransformationMethod -> {
         v.setTransformationMethod(arg)
         true
       }
       else -> false
     }
-    "typeface" -> when {
+    SdkAttrs.typeface -> when {
       v is TextView && (arg == null || arg is Typeface) -> {
         v.setTypeface(arg as Typeface)
         true
       }
       else -> false
     }
-    "width" -> when {
+    SdkAttrs.width -> when {
       v is TextView && arg is Int -> {
         v.setWidth(arg)
         true
       }
       else -> false
     }
-    "currentHour" -> when {
+    SdkAttrs.currentHour -> when {
       v is TimePicker && arg is Int -> {
         v.setCurrentHour(arg)
         true
       }
       else -> false
     }
-    "currentMinute" -> when {
+    SdkAttrs.currentMinute -> when {
       v is TimePicker && arg is Int -> {
         v.setCurrentMinute(arg)
         true
       }
       else -> false
     }
-    "is24HourView" -> when {
+    SdkAttrs.is24HourView -> when {
       v is TimePicker && arg is Boolean -> {
         v.setIs24HourView(arg)
         true
       }
       else -> false
     }
-    "onTimeChanged" -> when {
+    SdkAttrs.onTimeChanged -> when {
       v is TimePicker -> when {
         arg == null -> {
           v.setOnTimeChangedListener(null as? TimePicker.OnTimeChangedListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: TimePicker,
-            arg1: Int,
-            arg2: Int
-          ) -> Unit
-          v.setOnTimeChangedListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnTimeChangedListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: TimePicker, arg1: Int, arg2: Int) -> Unit)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -5009,23 +5236,24 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "mediaController" -> when {
+    SdkAttrs.mediaController -> when {
       v is VideoView && arg is MediaController -> {
         v.setMediaController(arg)
         true
       }
       else -> false
     }
-    "onCompletion" -> when {
+    SdkAttrs.onCompletion -> when {
       v is VideoView -> when {
         arg == null -> {
           v.setOnCompletionListener(null as? MediaPlayer.OnCompletionListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MediaPlayer) -> Unit
-          v.setOnCompletionListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnCompletionListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MediaPlayer) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -5033,20 +5261,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onError" -> when {
+    SdkAttrs.onError -> when {
       v is VideoView -> when {
         arg == null -> {
           v.setOnErrorListener(null as? MediaPlayer.OnErrorListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: MediaPlayer,
-            arg1: Int,
-            arg2: Int
-          ) -> Boolean
-          v.setOnErrorListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnErrorListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: MediaPlayer, arg1: Int, arg2: Int) -> Boolean)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -5054,20 +5279,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onInfo" -> when {
+    SdkAttrs.onInfo -> when {
       v is VideoView -> when {
         arg == null -> {
           v.setOnInfoListener(null as? MediaPlayer.OnInfoListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (
-            arg0: MediaPlayer,
-            arg1: Int,
-            arg2: Int
-          ) -> Boolean
-          v.setOnInfoListener { arg0, arg1, arg2 ->
-            arg(arg0, arg1, arg2).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnInfoListener { arg0, arg1, arg2 ->
+              (Anvil.attrValue(v, id) as? (arg0: MediaPlayer, arg1: Int, arg2: Int) -> Boolean)?.invoke(arg0, arg1, arg2)?.also { Anvil.renderFrom(v) } ?: false
+            }
           }
           true
         }
@@ -5075,16 +5297,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onPrepared" -> when {
+    SdkAttrs.onPrepared -> when {
       v is VideoView -> when {
         arg == null -> {
           v.setOnPreparedListener(null as? MediaPlayer.OnPreparedListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: MediaPlayer) -> Unit
-          v.setOnPreparedListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnPreparedListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: MediaPlayer) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -5092,28 +5315,28 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "videoPath" -> when {
+    SdkAttrs.videoPath -> when {
       v is VideoView && arg is String -> {
         v.setVideoPath(arg)
         true
       }
       else -> false
     }
-    "videoURI" -> when {
+    SdkAttrs.videoURI -> when {
       v is VideoView && arg is Uri -> {
         v.setVideoURI(arg)
         true
       }
       else -> false
     }
-    "factory" -> when {
+    SdkAttrs.factory -> when {
       v is ViewSwitcher && arg is ViewSwitcher.ViewFactory -> {
         v.setFactory(arg)
         true
       }
       else -> false
     }
-    "zoomSpeed" -> when {
+    SdkAttrs.zoomSpeed -> when {
       v is ZoomButton && arg is Long -> {
         v.setZoomSpeed(arg)
         true
@@ -5124,30 +5347,31 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "isZoomInEnabled" -> when {
+    SdkAttrs.isZoomInEnabled -> when {
       v is ZoomControls && arg is Boolean -> {
         v.setIsZoomInEnabled(arg)
         true
       }
       else -> false
     }
-    "isZoomOutEnabled" -> when {
+    SdkAttrs.isZoomOutEnabled -> when {
       v is ZoomControls && arg is Boolean -> {
         v.setIsZoomOutEnabled(arg)
         true
       }
       else -> false
     }
-    "onZoomInClick" -> when {
+    SdkAttrs.onZoomInClick -> when {
       v is ZoomControls -> when {
         arg == null -> {
           v.setOnZoomInClickListener(null as? View.OnClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: View) -> Unit
-          v.setOnZoomInClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnZoomInClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: View) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -5155,16 +5379,17 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
       }
       else -> false
     }
-    "onZoomOutClick" -> when {
+    SdkAttrs.onZoomOutClick -> when {
       v is ZoomControls -> when {
         arg == null -> {
           v.setOnZoomOutClickListener(null as? View.OnClickListener?)
           true
         }
         arg is Function<*> -> {
-          arg as (arg0: View) -> Unit
-          v.setOnZoomOutClickListener { arg0 ->
-            arg(arg0).also { Anvil.render() }
+          if (old !is Function<*>) {
+            v.setOnZoomOutClickListener { arg0 ->
+              (Anvil.attrValue(v, id) as? (arg0: View) -> Unit)?.invoke(arg0)?.also { Anvil.renderFrom(v) }
+            }
           }
           true
         }
@@ -5174,4 +5399,2471 @@ object SdkSetter : Anvil.AttributeSetter<Any?> {
     }
     else -> false
   }
+
+  override fun setInt(
+    v: View,
+    id: Int,
+    arg: Int
+  ): Boolean = when (attrs.ordinal(id)) {
+    SdkAttrs.maxVisible -> when {
+      v is FragmentBreadCrumbs -> {
+        v.setMaxVisible(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.routeTypes -> when {
+      v is MediaRouteButton -> {
+        v.setRouteTypes(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureColor -> when {
+      v is GestureOverlayView -> {
+        v.setGestureColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureStrokeType -> when {
+      v is GestureOverlayView -> {
+        v.setGestureStrokeType(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.orientation -> when {
+      v is GestureOverlayView -> {
+        v.setOrientation(arg)
+        true
+      }
+      v is GridLayout -> {
+        v.setOrientation(arg)
+        true
+      }
+      v is LinearLayout -> {
+        v.setOrientation(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.uncertainGestureColor -> when {
+      v is GestureOverlayView -> {
+        v.setUncertainGestureColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.verticalCorrection -> when {
+      v is KeyboardView -> {
+        v.setVerticalCorrection(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.debugFlags -> when {
+      v is GLSurfaceView -> {
+        v.setDebugFlags(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.eGLContextClientVersion -> when {
+      v is GLSurfaceView -> {
+        v.setEGLContextClientVersion(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.renderMode -> when {
+      v is GLSurfaceView -> {
+        v.setRenderMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.accessibilityLiveRegion -> when {
+      else -> {
+        v.setAccessibilityLiveRegion(arg)
+        true
+      }
+    }
+    SdkAttrs.backgroundColor -> when {
+      else -> {
+        v.setBackgroundColor(arg)
+        true
+      }
+    }
+    SdkAttrs.backgroundResource -> when {
+      else -> {
+        if (ResourceCache.isFrameworkView(v)) {
+          v.setBackgroundDrawable(ResourceCache.drawable(v.context, arg))
+        } else {
+          v.setBackgroundResource(arg)
+        }
+        true
+      }
+    }
+    SdkAttrs.bottom -> when {
+      else -> {
+        v.setBottom(arg)
+        true
+      }
+    }
+    SdkAttrs.drawingCacheBackgroundColor -> when {
+      else -> {
+        v.setDrawingCacheBackgroundColor(arg)
+        true
+      }
+    }
+    SdkAttrs.drawingCacheQuality -> when {
+      else -> {
+        v.setDrawingCacheQuality(arg)
+        true
+      }
+    }
+    SdkAttrs.fadingEdgeLength -> when {
+      else -> {
+        v.setFadingEdgeLength(arg)
+        true
+      }
+    }
+    SdkAttrs.id -> when {
+      else -> {
+        v.setId(arg)
+        true
+      }
+    }
+    SdkAttrs.importantForAccessibility -> when {
+      else -> {
+        v.setImportantForAccessibility(arg)
+        true
+      }
+    }
+    SdkAttrs.labelFor -> when {
+      else -> {
+        v.setLabelFor(arg)
+        true
+      }
+    }
+    SdkAttrs.layoutDirection -> when {
+      else -> {
+        v.setLayoutDirection(arg)
+        true
+      }
+    }
+    SdkAttrs.left -> when {
+      else -> {
+        v.setLeft(arg)
+        true
+      }
+    }
+    SdkAttrs.minimumHeight -> when {
+      else -> {
+        v.setMinimumHeight(arg)
+        true
+      }
+    }
+    SdkAttrs.minimumWidth -> when {
+      else -> {
+        v.setMinimumWidth(arg)
+        true
+      }
+    }
+    SdkAttrs.nextFocusDownId -> when {
+      else -> {
+        v.setNextFocusDownId(arg)
+        true
+      }
+    }
+    SdkAttrs.nextFocusForwardId -> when {
+      else -> {
+        v.setNextFocusForwardId(arg)
+        true
+      }
+    }
+    SdkAttrs.nextFocusLeftId -> when {
+      else -> {
+        v.setNextFocusLeftId(arg)
+        true
+      }
+    }
+    SdkAttrs.nextFocusRightId -> when {
+      else -> {
+        v.setNextFocusRightId(arg)
+        true
+      }
+    }
+    SdkAttrs.nextFocusUpId -> when {
+      else -> {
+        v.setNextFocusUpId(arg)
+        true
+      }
+    }
+    SdkAttrs.overScrollMode -> when {
+      else -> {
+        v.setOverScrollMode(arg)
+        true
+      }
+    }
+    SdkAttrs.right -> when {
+      else -> {
+        v.setRight(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollBarDefaultDelayBeforeFade -> when {
+      else -> {
+        v.setScrollBarDefaultDelayBeforeFade(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollBarFadeDuration -> when {
+      else -> {
+        v.setScrollBarFadeDuration(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollBarSize -> when {
+      else -> {
+        v.setScrollBarSize(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollBarStyle -> when {
+      else -> {
+        v.setScrollBarStyle(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollX -> when {
+      else -> {
+        v.setScrollX(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollY -> when {
+      else -> {
+        v.setScrollY(arg)
+        true
+      }
+    }
+    SdkAttrs.systemUiVisibility -> when {
+      else -> {
+        v.setSystemUiVisibility(arg)
+        true
+      }
+    }
+    SdkAttrs.textAlignment -> when {
+      else -> {
+        v.setTextAlignment(arg)
+        true
+      }
+    }
+    SdkAttrs.textDirection -> when {
+      else -> {
+        v.setTextDirection(arg)
+        true
+      }
+    }
+    SdkAttrs.top -> when {
+      else -> {
+        v.setTop(arg)
+        true
+      }
+    }
+    SdkAttrs.verticalScrollbarPosition -> when {
+      else -> {
+        v.setVerticalScrollbarPosition(arg)
+        true
+      }
+    }
+    SdkAttrs.visibility -> when {
+      else -> {
+        v.setVisibility(arg)
+        true
+      }
+    }
+    SdkAttrs.descendantFocusability -> when {
+      v is ViewGroup -> {
+        v.setDescendantFocusability(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.layoutMode -> when {
+      v is ViewGroup -> {
+        v.setLayoutMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.persistentDrawingCache -> when {
+      v is ViewGroup -> {
+        v.setPersistentDrawingCache(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.inflatedId -> when {
+      v is ViewStub -> {
+        v.setInflatedId(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.layoutResource -> when {
+      v is ViewStub -> {
+        v.setLayoutResource(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.initialScale -> when {
+      v is WebView -> {
+        v.setInitialScale(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.cacheColorHint -> when {
+      v is AbsListView -> {
+        v.setCacheColorHint(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.choiceMode -> when {
+      v is AbsListView -> {
+        v.setChoiceMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selector -> when {
+      v is AbsListView -> {
+        v.setSelector(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.transcriptMode -> when {
+      v is AbsListView -> {
+        v.setTranscriptMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.keyProgressIncrement -> when {
+      v is AbsSeekBar -> {
+        v.setKeyProgressIncrement(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.thumbOffset -> when {
+      v is AbsSeekBar -> {
+        v.setThumbOffset(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selection -> when {
+      v is AdapterView<*> -> {
+        (v as android.widget.AdapterView<android.widget.Adapter>).setSelection(arg)
+        true
+      }
+      v is EditText -> {
+        v.setSelection(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.displayedChild -> when {
+      v is AdapterViewAnimator -> {
+        v.setDisplayedChild(arg)
+        true
+      }
+      v is ViewAnimator -> {
+        v.setDisplayedChild(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.flipInterval -> when {
+      v is AdapterViewFlipper -> {
+        v.setFlipInterval(arg)
+        true
+      }
+      v is ViewFlipper -> {
+        v.setFlipInterval(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownAnchor -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownAnchor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownBackgroundResource -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownBackgroundResource(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownHeight -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownHeight(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownHorizontalOffset -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownHorizontalOffset(arg)
+        true
+      }
+      v is Spinner -> {
+        v.setDropDownHorizontalOffset(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownVerticalOffset -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownVerticalOffset(arg)
+        true
+      }
+      v is Spinner -> {
+        v.setDropDownVerticalOffset(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dropDownWidth -> when {
+      v is AutoCompleteTextView -> {
+        v.setDropDownWidth(arg)
+        true
+      }
+      v is Spinner -> {
+        v.setDropDownWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.listSelection -> when {
+      v is AutoCompleteTextView -> {
+        v.setListSelection(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.threshold -> when {
+      v is AutoCompleteTextView -> {
+        v.setThreshold(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dateTextAppearance -> when {
+      v is CalendarView -> {
+        v.setDateTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.firstDayOfWeek -> when {
+      v is CalendarView -> {
+        v.setFirstDayOfWeek(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.focusedMonthDateColor -> when {
+      v is CalendarView -> {
+        v.setFocusedMonthDateColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selectedDateVerticalBar -> when {
+      v is CalendarView -> {
+        v.setSelectedDateVerticalBar(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selectedWeekBackgroundColor -> when {
+      v is CalendarView -> {
+        v.setSelectedWeekBackgroundColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.shownWeekCount -> when {
+      v is CalendarView -> {
+        v.setShownWeekCount(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.unfocusedMonthDateColor -> when {
+      v is CalendarView -> {
+        v.setUnfocusedMonthDateColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.weekDayTextAppearance -> when {
+      v is CalendarView -> {
+        v.setWeekDayTextAppearance(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.weekNumberColor -> when {
+      v is CalendarView -> {
+        v.setWeekNumberColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.weekSeparatorLineColor -> when {
+      v is CalendarView -> {
+        v.setWeekSeparatorLineColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.checkMarkDrawable -> when {
+      v is CheckedTextView -> {
+        v.setCheckMarkDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.buttonDrawable -> when {
+      v is CompoundButton -> {
+        v.setButtonDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.mode -> when {
+      v is DialerFilter -> {
+        v.setMode(arg)
+        true
+      }
+      v is QuickContactBadge -> {
+        v.setMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selectedGroup -> when {
+      v is ExpandableListView -> {
+        v.setSelectedGroup(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.foregroundGravity -> when {
+      v is FrameLayout -> {
+        v.setForegroundGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.animationDuration -> when {
+      v is Gallery -> {
+        v.setAnimationDuration(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gravity -> when {
+      v is Gallery -> {
+        v.setGravity(arg)
+        true
+      }
+      v is GridView -> {
+        v.setGravity(arg)
+        true
+      }
+      v is LinearLayout -> {
+        v.setGravity(arg)
+        true
+      }
+      v is RelativeLayout -> {
+        v.setGravity(arg)
+        true
+      }
+      v is Spinner -> {
+        v.setGravity(arg)
+        true
+      }
+      v is TextView -> {
+        v.setGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.spacing -> when {
+      v is Gallery -> {
+        v.setSpacing(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.alignmentMode -> when {
+      v is GridLayout -> {
+        v.setAlignmentMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.columnCount -> when {
+      v is GridLayout -> {
+        v.setColumnCount(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.rowCount -> when {
+      v is GridLayout -> {
+        v.setRowCount(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.columnWidth -> when {
+      v is GridView -> {
+        v.setColumnWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.horizontalSpacing -> when {
+      v is GridView -> {
+        v.setHorizontalSpacing(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.numColumns -> when {
+      v is GridView -> {
+        v.setNumColumns(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.stretchMode -> when {
+      v is GridView -> {
+        v.setStretchMode(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.verticalSpacing -> when {
+      v is GridView -> {
+        v.setVerticalSpacing(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.imageResource -> when {
+      v is ImageSwitcher -> {
+        v.setImageResource(arg)
+        true
+      }
+      v is ImageView -> {
+        if (ResourceCache.isFrameworkView(v)) {
+          v.setImageDrawable(ResourceCache.drawable(v.context, arg))
+        } else {
+          v.setImageResource(arg)
+        }
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.baseline -> when {
+      v is ImageView -> {
+        v.setBaseline(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.colorFilter -> when {
+      v is ImageView -> {
+        v.setColorFilter(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.imageAlpha -> when {
+      v is ImageView -> {
+        v.setImageAlpha(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.imageLevel -> when {
+      v is ImageView -> {
+        v.setImageLevel(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxHeight -> when {
+      v is ImageView -> {
+        v.setMaxHeight(arg)
+        true
+      }
+      v is TextView -> {
+        v.setMaxHeight(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxWidth -> when {
+      v is ImageView -> {
+        v.setMaxWidth(arg)
+        true
+      }
+      v is SearchView -> {
+        v.setMaxWidth(arg)
+        true
+      }
+      v is TextView -> {
+        v.setMaxWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.baselineAlignedChildIndex -> when {
+      v is LinearLayout -> {
+        v.setBaselineAlignedChildIndex(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dividerDrawable -> when {
+      v is TabWidget -> {
+        v.setDividerDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dividerPadding -> when {
+      v is LinearLayout -> {
+        v.setDividerPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.horizontalGravity -> when {
+      v is LinearLayout -> {
+        v.setHorizontalGravity(arg)
+        true
+      }
+      v is RelativeLayout -> {
+        v.setHorizontalGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.showDividers -> when {
+      v is LinearLayout -> {
+        v.setShowDividers(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.verticalGravity -> when {
+      v is LinearLayout -> {
+        v.setVerticalGravity(arg)
+        true
+      }
+      v is RelativeLayout -> {
+        v.setVerticalGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.dividerHeight -> when {
+      v is ListView -> {
+        v.setDividerHeight(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxValue -> when {
+      v is NumberPicker -> {
+        v.setMaxValue(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minValue -> when {
+      v is NumberPicker -> {
+        v.setMinValue(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.value -> when {
+      v is NumberPicker -> {
+        v.setValue(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.max -> when {
+      v is ProgressBar -> {
+        v.setMax(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.progress -> when {
+      v is ProgressBar -> {
+        v.setProgress(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.secondaryProgress -> when {
+      v is ProgressBar -> {
+        v.setSecondaryProgress(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.numStars -> when {
+      v is RatingBar -> {
+        v.setNumStars(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.ignoreGravity -> when {
+      v is RelativeLayout -> {
+        v.setIgnoreGravity(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.imeOptions -> when {
+      v is SearchView -> {
+        v.setImeOptions(arg)
+        true
+      }
+      v is TextView -> {
+        v.setImeOptions(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.inputType -> when {
+      v is SearchView -> {
+        v.setInputType(arg)
+        true
+      }
+      v is TextView -> {
+        v.setInputType(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.popupBackgroundResource -> when {
+      v is Spinner -> {
+        v.setPopupBackgroundResource(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.promptId -> when {
+      v is Spinner -> {
+        v.setPromptId(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.switchMinWidth -> when {
+      v is Switch -> {
+        v.setSwitchMinWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.switchPadding -> when {
+      v is Switch -> {
+        v.setSwitchPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.thumbResource -> when {
+      v is Switch -> {
+        v.setThumbResource(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.thumbTextPadding -> when {
+      v is Switch -> {
+        v.setThumbTextPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.trackResource -> when {
+      v is Switch -> {
+        v.setTrackResource(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.currentTab -> when {
+      v is TabHost -> {
+        v.setCurrentTab(arg)
+        true
+      }
+      v is TabWidget -> {
+        v.setCurrentTab(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.leftStripDrawable -> when {
+      v is TabWidget -> {
+        v.setLeftStripDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.rightStripDrawable -> when {
+      v is TabWidget -> {
+        v.setRightStripDrawable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.text -> when {
+      v is TextView -> {
+        v.setText(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.autoLinkMask -> when {
+      v is TextView -> {
+        v.setAutoLinkMask(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.compoundDrawablePadding -> when {
+      v is TextView -> {
+        v.setCompoundDrawablePadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.ems -> when {
+      v is TextView -> {
+        v.setEms(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.height -> when {
+      v is TextView -> {
+        v.setHeight(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.highlightColor -> when {
+      v is TextView -> {
+        v.setHighlightColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.hint -> when {
+      v is TextView -> {
+        v.setHint(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.hintTextColor -> when {
+      v is TextView -> {
+        v.setHintTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.lines -> when {
+      v is TextView -> {
+        v.setLines(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.linkTextColor -> when {
+      v is TextView -> {
+        v.setLinkTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.marqueeRepeatLimit -> when {
+      v is TextView -> {
+        v.setMarqueeRepeatLimit(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxEms -> when {
+      v is TextView -> {
+        v.setMaxEms(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxLines -> when {
+      v is TextView -> {
+        v.setMaxLines(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minEms -> when {
+      v is TextView -> {
+        v.setMinEms(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minHeight -> when {
+      v is TextView -> {
+        v.setMinHeight(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minLines -> when {
+      v is TextView -> {
+        v.setMinLines(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minWidth -> when {
+      v is TextView -> {
+        v.setMinWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.paintFlags -> when {
+      v is TextView -> {
+        v.setPaintFlags(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.rawInputType -> when {
+      v is TextView -> {
+        v.setRawInputType(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.textColor -> when {
+      v is TextView -> {
+        v.setTextColor(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.width -> when {
+      v is TextView -> {
+        v.setWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.currentHour -> when {
+      v is TimePicker -> {
+        v.setCurrentHour(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.currentMinute -> when {
+      v is TimePicker -> {
+        v.setCurrentMinute(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setFloat(
+    v: View,
+    id: Int,
+    arg: Float
+  ): Boolean = when (attrs.ordinal(id)) {
+    SdkAttrs.gestureStrokeAngleThreshold -> when {
+      v is GestureOverlayView -> {
+        v.setGestureStrokeAngleThreshold(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureStrokeLengthThreshold -> when {
+      v is GestureOverlayView -> {
+        v.setGestureStrokeLengthThreshold(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureStrokeSquarenessTreshold -> when {
+      v is GestureOverlayView -> {
+        v.setGestureStrokeSquarenessTreshold(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureStrokeWidth -> when {
+      v is GestureOverlayView -> {
+        v.setGestureStrokeWidth(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.alpha -> when {
+      else -> {
+        v.setAlpha(arg)
+        true
+      }
+    }
+    SdkAttrs.cameraDistance -> when {
+      else -> {
+        v.setCameraDistance(arg)
+        true
+      }
+    }
+    SdkAttrs.pivotX -> when {
+      else -> {
+        v.setPivotX(arg)
+        true
+      }
+    }
+    SdkAttrs.pivotY -> when {
+      else -> {
+        v.setPivotY(arg)
+        true
+      }
+    }
+    SdkAttrs.rotation -> when {
+      else -> {
+        v.setRotation(arg)
+        true
+      }
+    }
+    SdkAttrs.rotationX -> when {
+      else -> {
+        v.setRotationX(arg)
+        true
+      }
+    }
+    SdkAttrs.rotationY -> when {
+      else -> {
+        v.setRotationY(arg)
+        true
+      }
+    }
+    SdkAttrs.scaleX -> when {
+      else -> {
+        v.setScaleX(arg)
+        true
+      }
+    }
+    SdkAttrs.scaleY -> when {
+      else -> {
+        v.setScaleY(arg)
+        true
+      }
+    }
+    SdkAttrs.translationX -> when {
+      else -> {
+        v.setTranslationX(arg)
+        true
+      }
+    }
+    SdkAttrs.translationY -> when {
+      else -> {
+        v.setTranslationY(arg)
+        true
+      }
+    }
+    SdkAttrs.x -> when {
+      else -> {
+        v.setX(arg)
+        true
+      }
+    }
+    SdkAttrs.y -> when {
+      else -> {
+        v.setY(arg)
+        true
+      }
+    }
+    SdkAttrs.friction -> when {
+      v is AbsListView -> {
+        v.setFriction(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.velocityScale -> when {
+      v is AbsListView -> {
+        v.setVelocityScale(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.unselectedAlpha -> when {
+      v is Gallery -> {
+        v.setUnselectedAlpha(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.weightSum -> when {
+      v is LinearLayout -> {
+        v.setWeightSum(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.rating -> when {
+      v is RatingBar -> {
+        v.setRating(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.stepSize -> when {
+      v is RatingBar -> {
+        v.setStepSize(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.textScaleX -> when {
+      v is TextView -> {
+        v.setTextScaleX(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setBoolean(
+    v: View,
+    id: Int,
+    arg: Boolean
+  ): Boolean = when (attrs.ordinal(id)) {
+    SdkAttrs.eventsInterceptionEnabled -> when {
+      v is GestureOverlayView -> {
+        v.setEventsInterceptionEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.fadeEnabled -> when {
+      v is GestureOverlayView -> {
+        v.setFadeEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.gestureVisible -> when {
+      v is GestureOverlayView -> {
+        v.setGestureVisible(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.previewEnabled -> when {
+      v is KeyboardView -> {
+        v.setPreviewEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.proximityCorrectionEnabled -> when {
+      v is KeyboardView -> {
+        v.setProximityCorrectionEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.shifted -> when {
+      v is KeyboardView -> {
+        v.setShifted(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.eGLConfigChooser -> when {
+      v is GLSurfaceView -> {
+        v.setEGLConfigChooser(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.preserveEGLContextOnPause -> when {
+      v is GLSurfaceView -> {
+        v.setPreserveEGLContextOnPause(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.secure -> when {
+      v is SurfaceView -> {
+        v.setSecure(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.zOrderMediaOverlay -> when {
+      v is SurfaceView -> {
+        v.setZOrderMediaOverlay(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.zOrderOnTop -> when {
+      v is SurfaceView -> {
+        v.setZOrderOnTop(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.opaque -> when {
+      v is TextureView -> {
+        v.setOpaque(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.activated -> when {
+      else -> {
+        v.setActivated(arg)
+        true
+      }
+    }
+    SdkAttrs.clickable -> when {
+      else -> {
+        v.setClickable(arg)
+        true
+      }
+    }
+    SdkAttrs.drawingCacheEnabled -> when {
+      else -> {
+        v.setDrawingCacheEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.duplicateParentStateEnabled -> when {
+      else -> {
+        v.setDuplicateParentStateEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.enabled -> when {
+      else -> {
+        v.setEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.filterTouchesWhenObscured -> when {
+      else -> {
+        v.setFilterTouchesWhenObscured(arg)
+        true
+      }
+    }
+    SdkAttrs.fitsSystemWindows -> when {
+      else -> {
+        v.setFitsSystemWindows(arg)
+        true
+      }
+    }
+    SdkAttrs.focusable -> when {
+      else -> {
+        v.setFocusable(arg)
+        true
+      }
+    }
+    SdkAttrs.focusableInTouchMode -> when {
+      else -> {
+        v.setFocusableInTouchMode(arg)
+        true
+      }
+    }
+    SdkAttrs.hapticFeedbackEnabled -> when {
+      else -> {
+        v.setHapticFeedbackEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.hasTransientState -> when {
+      else -> {
+        v.setHasTransientState(arg)
+        true
+      }
+    }
+    SdkAttrs.horizontalFadingEdgeEnabled -> when {
+      else -> {
+        v.setHorizontalFadingEdgeEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.horizontalScrollBarEnabled -> when {
+      else -> {
+        v.setHorizontalScrollBarEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.hovered -> when {
+      else -> {
+        v.setHovered(arg)
+        true
+      }
+    }
+    SdkAttrs.keepScreenOn -> when {
+      else -> {
+        v.setKeepScreenOn(arg)
+        true
+      }
+    }
+    SdkAttrs.longClickable -> when {
+      else -> {
+        v.setLongClickable(arg)
+        true
+      }
+    }
+    SdkAttrs.pressed -> when {
+      else -> {
+        v.setPressed(arg)
+        true
+      }
+    }
+    SdkAttrs.saveEnabled -> when {
+      else -> {
+        v.setSaveEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.saveFromParentEnabled -> when {
+      else -> {
+        v.setSaveFromParentEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollContainer -> when {
+      else -> {
+        v.setScrollContainer(arg)
+        true
+      }
+    }
+    SdkAttrs.scrollbarFadingEnabled -> when {
+      else -> {
+        v.setScrollbarFadingEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.selected -> when {
+      else -> {
+        v.setSelected(arg)
+        true
+      }
+    }
+    SdkAttrs.soundEffectsEnabled -> when {
+      else -> {
+        v.setSoundEffectsEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.verticalFadingEdgeEnabled -> when {
+      else -> {
+        v.setVerticalFadingEdgeEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.verticalScrollBarEnabled -> when {
+      else -> {
+        v.setVerticalScrollBarEnabled(arg)
+        true
+      }
+    }
+    SdkAttrs.willNotCacheDrawing -> when {
+      else -> {
+        v.setWillNotCacheDrawing(arg)
+        true
+      }
+    }
+    SdkAttrs.willNotDraw -> when {
+      else -> {
+        v.setWillNotDraw(arg)
+        true
+      }
+    }
+    SdkAttrs.addStatesFromChildren -> when {
+      v is ViewGroup -> {
+        v.setAddStatesFromChildren(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.alwaysDrawnWithCacheEnabled -> when {
+      v is ViewGroup -> {
+        v.setAlwaysDrawnWithCacheEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.animationCacheEnabled -> when {
+      v is ViewGroup -> {
+        v.setAnimationCacheEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.clipChildren -> when {
+      v is ViewGroup -> {
+        v.setClipChildren(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.clipToPadding -> when {
+      v is ViewGroup -> {
+        v.setClipToPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.motionEventSplittingEnabled -> when {
+      v is ViewGroup -> {
+        v.setMotionEventSplittingEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.horizontalScrollbarOverlay -> when {
+      v is WebView -> {
+        v.setHorizontalScrollbarOverlay(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.networkAvailable -> when {
+      v is WebView -> {
+        v.setNetworkAvailable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.verticalScrollbarOverlay -> when {
+      v is WebView -> {
+        v.setVerticalScrollbarOverlay(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.drawSelectorOnTop -> when {
+      v is AbsListView -> {
+        v.setDrawSelectorOnTop(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.fastScrollAlwaysVisible -> when {
+      v is AbsListView -> {
+        v.setFastScrollAlwaysVisible(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.fastScrollEnabled -> when {
+      v is AbsListView -> {
+        v.setFastScrollEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.scrollingCacheEnabled -> when {
+      v is AbsListView -> {
+        v.setScrollingCacheEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.smoothScrollbarEnabled -> when {
+      v is AbsListView -> {
+        v.setSmoothScrollbarEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.stackFromBottom -> when {
+      v is AbsListView -> {
+        v.setStackFromBottom(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.textFilterEnabled -> when {
+      v is AbsListView -> {
+        v.setTextFilterEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.animateFirstView -> when {
+      v is AdapterViewAnimator -> {
+        v.setAnimateFirstView(arg)
+        true
+      }
+      v is ViewAnimator -> {
+        v.setAnimateFirstView(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.autoStart -> when {
+      v is AdapterViewFlipper -> {
+        v.setAutoStart(arg)
+        true
+      }
+      v is ViewFlipper -> {
+        v.setAutoStart(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.showWeekNumber -> when {
+      v is CalendarView -> {
+        v.setShowWeekNumber(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.checked -> when {
+      v is CheckedTextView -> {
+        v.setChecked(arg)
+        true
+      }
+      v is CompoundButton -> {
+        v.setChecked(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.calendarViewShown -> when {
+      v is DatePicker -> {
+        v.setCalendarViewShown(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.spinnersShown -> when {
+      v is DatePicker -> {
+        v.setSpinnersShown(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.measureAllChildren -> when {
+      v is FrameLayout -> {
+        v.setMeasureAllChildren(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.callbackDuringFling -> when {
+      v is Gallery -> {
+        v.setCallbackDuringFling(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.columnOrderPreserved -> when {
+      v is GridLayout -> {
+        v.setColumnOrderPreserved(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.rowOrderPreserved -> when {
+      v is GridLayout -> {
+        v.setRowOrderPreserved(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.useDefaultMargins -> when {
+      v is GridLayout -> {
+        v.setUseDefaultMargins(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.fillViewport -> when {
+      v is HorizontalScrollView -> {
+        v.setFillViewport(arg)
+        true
+      }
+      v is ScrollView -> {
+        v.setFillViewport(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.smoothScrollingEnabled -> when {
+      v is HorizontalScrollView -> {
+        v.setSmoothScrollingEnabled(arg)
+        true
+      }
+      v is ScrollView -> {
+        v.setSmoothScrollingEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.adjustViewBounds -> when {
+      v is ImageView -> {
+        v.setAdjustViewBounds(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.baselineAlignBottom -> when {
+      v is ImageView -> {
+        v.setBaselineAlignBottom(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.cropToPadding -> when {
+      v is ImageView -> {
+        v.setCropToPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.baselineAligned -> when {
+      v is LinearLayout -> {
+        v.setBaselineAligned(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.measureWithLargestChildEnabled -> when {
+      v is LinearLayout -> {
+        v.setMeasureWithLargestChildEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.footerDividersEnabled -> when {
+      v is ListView -> {
+        v.setFooterDividersEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.headerDividersEnabled -> when {
+      v is ListView -> {
+        v.setHeaderDividersEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.itemsCanFocus -> when {
+      v is ListView -> {
+        v.setItemsCanFocus(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.wrapSelectorWheel -> when {
+      v is NumberPicker -> {
+        v.setWrapSelectorWheel(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.indeterminate -> when {
+      v is ProgressBar -> {
+        v.setIndeterminate(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.isIndicator -> when {
+      v is RatingBar -> {
+        v.setIsIndicator(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.iconified -> when {
+      v is SearchView -> {
+        v.setIconified(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.iconifiedByDefault -> when {
+      v is SearchView -> {
+        v.setIconifiedByDefault(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.queryRefinementEnabled -> when {
+      v is SearchView -> {
+        v.setQueryRefinementEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.submitButtonEnabled -> when {
+      v is SearchView -> {
+        v.setSubmitButtonEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.stripEnabled -> when {
+      v is TabWidget -> {
+        v.setStripEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.shrinkAllColumns -> when {
+      v is TableLayout -> {
+        v.setShrinkAllColumns(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.stretchAllColumns -> when {
+      v is TableLayout -> {
+        v.setStretchAllColumns(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.allCaps -> when {
+      v is TextView -> {
+        v.setAllCaps(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.cursorVisible -> when {
+      v is TextView -> {
+        v.setCursorVisible(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.freezesText -> when {
+      v is TextView -> {
+        v.setFreezesText(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.horizontallyScrolling -> when {
+      v is TextView -> {
+        v.setHorizontallyScrolling(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.includeFontPadding -> when {
+      v is TextView -> {
+        v.setIncludeFontPadding(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.linksClickable -> when {
+      v is TextView -> {
+        v.setLinksClickable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.selectAllOnFocus -> when {
+      v is TextView -> {
+        v.setSelectAllOnFocus(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.singleLine -> when {
+      v is TextView -> {
+        v.setSingleLine(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.textIsSelectable -> when {
+      v is TextView -> {
+        v.setTextIsSelectable(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.is24HourView -> when {
+      v is TimePicker -> {
+        v.setIs24HourView(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.isZoomInEnabled -> when {
+      v is ZoomControls -> {
+        v.setIsZoomInEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.isZoomOutEnabled -> when {
+      v is ZoomControls -> {
+        v.setIsZoomOutEnabled(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+
+  override fun setLong(
+    v: View,
+    id: Int,
+    arg: Long
+  ): Boolean = when (attrs.ordinal(id)) {
+    SdkAttrs.fadeOffset -> when {
+      v is GestureOverlayView -> {
+        v.setFadeOffset(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.date -> when {
+      v is CalendarView -> {
+        v.setDate(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.maxDate -> when {
+      v is CalendarView -> {
+        v.setMaxDate(arg)
+        true
+      }
+      v is DatePicker -> {
+        v.setMaxDate(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.minDate -> when {
+      v is CalendarView -> {
+        v.setMinDate(arg)
+        true
+      }
+      v is DatePicker -> {
+        v.setMinDate(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.base -> when {
+      v is Chronometer -> {
+        v.setBase(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.onLongPressUpdateInterval -> when {
+      v is NumberPicker -> {
+        v.setOnLongPressUpdateInterval(arg)
+        true
+      }
+      else -> false
+    }
+    SdkAttrs.zoomSpeed -> when {
+      v is ZoomButton -> {
+        v.setZoomSpeed(arg)
+        true
+      }
+      v is ZoomControls -> {
+        v.setZoomSpeed(arg)
+        true
+      }
+      else -> false
+    }
+    else -> false
+  }
+}
+
+/**
+ * Ordinals of the attributes handled by [SdkSetter].
+ */
+object SdkAttrs {
+  const val activity: Int = 0
+  const val maxVisible: Int = 1
+  const val onBreadCrumbClick: Int = 2
+  const val extendedSettingsClickListener: Int = 3
+  const val routeTypes: Int = 4
+  const val eventsInterceptionEnabled: Int = 5
+  const val fadeEnabled: Int = 6
+  const val fadeOffset: Int = 7
+  const val gesture: Int = 8
+  const val gestureColor: Int = 9
+  const val gestureStrokeAngleThreshold: Int = 10
+  const val gestureStrokeLengthThreshold: Int = 11
+  const val gestureStrokeSquarenessTreshold: Int = 12
+  const val gestureStrokeType: Int = 13
+  const val gestureStrokeWidth: Int = 14
+  const val gestureVisible: Int = 15
+  const val orientation: Int = 16
+  const val uncertainGestureColor: Int = 17
+  const val keyboard: Int = 18
+  const val onKeyboardAction: Int = 19
+  const val popupParent: Int = 20
+  const val previewEnabled: Int = 21
+  const val proximityCorrectionEnabled: Int = 22
+  const val shifted: Int = 23
+  const val verticalCorrection: Int = 24
+  const val debugFlags: Int = 25
+  const val eGLConfigChooser: Int = 26
+  const val eGLContextClientVersion: Int = 27
+  const val eGLContextFactory: Int = 28
+  const val eGLWindowSurfaceFactory: Int = 29
+  const val gLWrapper: Int = 30
+  const val preserveEGLContextOnPause: Int = 31
+  const val renderMode: Int = 32
+  const val renderer: Int = 33
+  const val secure: Int = 34
+  const val zOrderMediaOverlay: Int = 35
+  const val zOrderOnTop: Int = 36
+  const val opaque: Int = 37
+  const val surfaceTexture: Int = 38
+  const val surfaceTextureListener: Int = 39
+  const val transform: Int = 40
+  const val accessibilityDelegate: Int = 41
+  const val accessibilityLiveRegion: Int = 42
+  const val activated: Int = 43
+  const val alpha: Int = 44
+  const val animation: Int = 45
+  const val background: Int = 46
+  const val backgroundColor: Int = 47
+  const val backgroundResource: Int = 48
+  const val bottom: Int = 49
+  const val cameraDistance: Int = 50
+  const val clickable: Int = 51
+  const val clipBounds: Int = 52
+  const val contentDescription: Int = 53
+  const val drawingCacheBackgroundColor: Int = 54
+  const val drawingCacheEnabled: Int = 55
+  const val drawingCacheQuality: Int = 56
+  const val duplicateParentStateEnabled: Int = 57
+  const val enabled: Int = 58
+  const val fadingEdgeLength: Int = 59
+  const val filterTouchesWhenObscured: Int = 60
+  const val fitsSystemWindows: Int = 61
+  const val focusable: Int = 62
+  const val focusableInTouchMode: Int = 63
+  const val hapticFeedbackEnabled: Int = 64
+  const val hasTransientState: Int = 65
+  const val horizontalFadingEdgeEnabled: Int = 66
+  const val horizontalScrollBarEnabled: Int = 67
+  const val hovered: Int = 68
+  const val id: Int = 69
+  const val importantForAccessibility: Int = 70
+  const val keepScreenOn: Int = 71
+  const val labelFor: Int = 72
+  const val layerPaint: Int = 73
+  const val layoutDirection: Int = 74
+  const val layoutParams: Int = 75
+  const val left: Int = 76
+  const val longClickable: Int = 77
+  const val minimumHeight: Int = 78
+  const val minimumWidth: Int = 79
+  const val nextFocusDownId: Int = 80
+  const val nextFocusForwardId: Int = 81
+  const val nextFocusLeftId: Int = 82
+  const val nextFocusRightId: Int = 83
+  const val nextFocusUpId: Int = 84
+  const val onClick: Int = 85
+  const val onCreateContextMenu: Int = 86
+  const val onDrag: Int = 87
+  const val onFocusChange: Int = 88
+  const val onGenericMotion: Int = 89
+  const val onHover: Int = 90
+  const val onKey: Int = 91
+  const val onLongClick: Int = 92
+  const val onSystemUiVisibilityChange: Int = 93
+  const val onTouch: Int = 94
+  const val overScrollMode: Int = 95
+  const val pivotX: Int = 96
+  const val pivotY: Int = 97
+  const val pressed: Int = 98
+  const val right: Int = 99
+  const val rotation: Int = 100
+  const val rotationX: Int = 101
+  const val rotationY: Int = 102
+  const val saveEnabled: Int = 103
+  const val saveFromParentEnabled: Int = 104
+  const val scaleX: Int = 105
+  const val scaleY: Int = 106
+  const val scrollBarDefaultDelayBeforeFade: Int = 107
+  const val scrollBarFadeDuration: Int = 108
+  const val scrollBarSize: Int = 109
+  const val scrollBarStyle: Int = 110
+  const val scrollContainer: Int = 111
+  const val scrollX: Int = 112
+  const val scrollY: Int = 113
+  const val scrollbarFadingEnabled: Int = 114
+  const val selected: Int = 115
+  const val soundEffectsEnabled: Int = 116
+  const val systemUiVisibility: Int = 117
+  const val tag: Int = 118
+  const val textAlignment: Int = 119
+  const val textDirection: Int = 120
+  const val top: Int = 121
+  const val touchDelegate: Int = 122
+  const val translationX: Int = 123
+  const val translationY: Int = 124
+  const val verticalFadingEdgeEnabled: Int = 125
+  const val verticalScrollBarEnabled: Int = 126
+  const val verticalScrollbarPosition: Int = 127
+  const val visibility: Int = 128
+  const val willNotCacheDrawing: Int = 129
+  const val willNotDraw: Int = 130
+  const val x: Int = 131
+  const val y: Int = 132
+  const val addStatesFromChildren: Int = 133
+  const val alwaysDrawnWithCacheEnabled: Int = 134
+  const val animationCacheEnabled: Int = 135
+  const val clipChildren: Int = 136
+  const val clipToPadding: Int = 137
+  const val descendantFocusability: Int = 138
+  const val layoutAnimation: Int = 139
+  const val layoutAnimationListener: Int = 140
+  const val layoutMode: Int = 141
+  const val layoutTransition: Int = 142
+  const val motionEventSplittingEnabled: Int = 143
+  const val onHierarchyChange: Int = 144
+  const val persistentDrawingCache: Int = 145
+  const val inflatedId: Int = 146
+  const val layoutInflater: Int = 147
+  const val layoutResource: Int = 148
+  const val onInflate: Int = 149
+  const val downloadListener: Int = 150
+  const val findListener: Int = 151
+  const val horizontalScrollbarOverlay: Int = 152
+  const val initialScale: Int = 153
+  const val networkAvailable: Int = 154
+  const val verticalScrollbarOverlay: Int = 155
+  const val webChromeClient: Int = 156
+  const val webViewClient: Int = 157
+  const val cacheColorHint: Int = 158
+  const val choiceMode: Int = 159
+  const val drawSelectorOnTop: Int = 160
+  const val fastScrollAlwaysVisible: Int = 161
+  const val fastScrollEnabled: Int = 162
+  const val filterText: Int = 163
+  const val friction: Int = 164
+  const val multiChoiceModeListener: Int = 165
+  const val onScroll: Int = 166
+  const val recyclerListener: Int = 167
+  const val remoteViewsAdapter: Int = 168
+  const val scrollingCacheEnabled: Int = 169
+  const val selector: Int = 170
+  const val smoothScrollbarEnabled: Int = 171
+  const val stackFromBottom: Int = 172
+  const val textFilterEnabled: Int = 173
+  const val transcriptMode: Int = 174
+  const val velocityScale: Int = 175
+  const val keyProgressIncrement: Int = 176
+  const val thumb: Int = 177
+  const val thumbOffset: Int = 178
+  const val adapter: Int = 179
+  const val emptyView: Int = 180
+  const val onItemClick: Int = 181
+  const val onItemLongClick: Int = 182
+  const val onItemSelected: Int = 183
+  const val selection: Int = 184
+  const val animateFirstView: Int = 185
+  const val displayedChild: Int = 186
+  const val inAnimation: Int = 187
+  const val outAnimation: Int = 188
+  const val autoStart: Int = 189
+  const val flipInterval: Int = 190
+  const val completionHint: Int = 191
+  const val dropDownAnchor: Int = 192
+  const val dropDownBackgroundDrawable: Int = 193
+  const val dropDownBackgroundResource: Int = 194
+  const val dropDownHeight: Int = 195
+  const val dropDownHorizontalOffset: Int = 196
+  const val dropDownVerticalOffset: Int = 197
+  const val dropDownWidth: Int = 198
+  const val listSelection: Int = 199
+  const val onDismiss: Int = 200
+  const val threshold: Int = 201
+  const val validator: Int = 202
+  const val date: Int = 203
+  const val dateTextAppearance: Int = 204
+  const val firstDayOfWeek: Int = 205
+  const val focusedMonthDateColor: Int = 206
+  const val maxDate: Int = 207
+  const val minDate: Int = 208
+  const val onDateChange: Int = 209
+  const val selectedDateVerticalBar: Int = 210
+  const val selectedWeekBackgroundColor: Int = 211
+  const val showWeekNumber: Int = 212
+  const val shownWeekCount: Int = 213
+  const val unfocusedMonthDateColor: Int = 214
+  const val weekDayTextAppearance: Int = 215
+  const val weekNumberColor: Int = 216
+  const val weekSeparatorLineColor: Int = 217
+  const val checkMarkDrawable: Int = 218
+  const val checked: Int = 219
+  const val base: Int = 220
+  const val format: Int = 221
+  const val onChronometerTick: Int = 222
+  const val buttonDrawable: Int = 223
+  const val onCheckedChange: Int = 224
+  const val calendarViewShown: Int = 225
+  const val spinnersShown: Int = 226
+  const val digitsWatcher: Int = 227
+  const val filterWatcher: Int = 228
+  const val lettersWatcher: Int = 229
+  const val mode: Int = 230
+  const val childDivider: Int = 231
+  const val childIndicator: Int = 232
+  const val groupIndicator: Int = 233
+  const val onChildClick: Int = 234
+  const val onGroupClick: Int = 235
+  const val onGroupCollapse: Int = 236
+  const val onGroupExpand: Int = 237
+  const val selectedGroup: Int = 238
+  const val foreground: Int = 239
+  const val foregroundGravity: Int = 240
+  const val measureAllChildren: Int = 241
+  const val animationDuration: Int = 242
+  const val callbackDuringFling: Int = 243
+  const val gravity: Int = 244
+  const val spacing: Int = 245
+  const val unselectedAlpha: Int = 246
+  const val alignmentMode: Int = 247
+  const val columnCount: Int = 248
+  const val columnOrderPreserved: Int = 249
+  const val rowCount: Int = 250
+  const val rowOrderPreserved: Int = 251
+  const val useDefaultMargins: Int = 252
+  const val columnWidth: Int = 253
+  const val horizontalSpacing: Int = 254
+  const val numColumns: Int = 255
+  const val stretchMode: Int = 256
+  const val verticalSpacing: Int = 257
+  const val fillViewport: Int = 258
+  const val smoothScrollingEnabled: Int = 259
+  const val imageDrawable: Int = 260
+  const val imageResource: Int = 261
+  const val imageURI: Int = 262
+  const val adjustViewBounds: Int = 263
+  const val baseline: Int = 264
+  const val baselineAlignBottom: Int = 265
+  const val colorFilter: Int = 266
+  const val cropToPadding: Int = 267
+  const val imageAlpha: Int = 268
+  const val imageBitmap: Int = 269
+  const val imageLevel: Int = 270
+  const val imageMatrix: Int = 271
+  const val maxHeight: Int = 272
+  const val maxWidth: Int = 273
+  const val scaleType: Int = 274
+  const val baselineAligned: Int = 275
+  const val baselineAlignedChildIndex: Int = 276
+  const val dividerDrawable: Int = 277
+  const val dividerPadding: Int = 278
+  const val horizontalGravity: Int = 279
+  const val measureWithLargestChildEnabled: Int = 280
+  const val showDividers: Int = 281
+  const val verticalGravity: Int = 282
+  const val weightSum: Int = 283
+  const val divider: Int = 284
+  const val dividerHeight: Int = 285
+  const val footerDividersEnabled: Int = 286
+  const val headerDividersEnabled: Int = 287
+  const val itemsCanFocus: Int = 288
+  const val overscrollFooter: Int = 289
+  const val overscrollHeader: Int = 290
+  const val anchorView: Int = 291
+  const val mediaPlayer: Int = 292
+  const val tokenizer: Int = 293
+  const val displayedValues: Int = 294
+  const val formatter: Int = 295
+  const val maxValue: Int = 296
+  const val minValue: Int = 297
+  const val onLongPressUpdateInterval: Int = 298
+  const val onValueChanged: Int = 299
+  const val value: Int = 300
+  const val wrapSelectorWheel: Int = 301
+  const val indeterminate: Int = 302
+  const val indeterminateDrawable: Int = 303
+  const val interpolator: Int = 304
+  const val max: Int = 305
+  const val progress: Int = 306
+  const val progressDrawable: Int = 307
+  const val secondaryProgress: Int = 308
+  const val excludeMimes: Int = 309
+  const val isIndicator: Int = 310
+  const val numStars: Int = 311
+  const val onRatingBarChange: Int = 312
+  const val rating: Int = 313
+  const val stepSize: Int = 314
+  const val ignoreGravity: Int = 315
+  const val iconified: Int = 316
+  const val iconifiedByDefault: Int = 317
+  const val imeOptions: Int = 318
+  const val inputType: Int = 319
+  const val onClose: Int = 320
+  const val onQueryTextFocusChange: Int = 321
+  const val onQueryText: Int = 322
+  const val onSearchClick: Int = 323
+  const val onSuggestion: Int = 324
+  const val queryHint: Int = 325
+  const val queryRefinementEnabled: Int = 326
+  const val searchableInfo: Int = 327
+  const val submitButtonEnabled: Int = 328
+  const val suggestionsAdapter: Int = 329
+  const val onSeekBarChange: Int = 330
+  const val onDrawerClose: Int = 331
+  const val onDrawerOpen: Int = 332
+  const val onDrawerScroll: Int = 333
+  const val popupBackgroundDrawable: Int = 334
+  const val popupBackgroundResource: Int = 335
+  const val prompt: Int = 336
+  const val promptId: Int = 337
+  const val switchMinWidth: Int = 338
+  const val switchPadding: Int = 339
+  const val switchTypeface: Int = 340
+  const val textOff: Int = 341
+  const val textOn: Int = 342
+  const val thumbDrawable: Int = 343
+  const val thumbResource: Int = 344
+  const val thumbTextPadding: Int = 345
+  const val trackDrawable: Int = 346
+  const val trackResource: Int = 347
+  const val currentTab: Int = 348
+  const val currentTabByTag: Int = 349
+  const val onTabChanged: Int = 350
+  const val leftStripDrawable: Int = 351
+  const val rightStripDrawable: Int = 352
+  const val stripEnabled: Int = 353
+  const val shrinkAllColumns: Int = 354
+  const val stretchAllColumns: Int = 355
+  const val format12Hour: Int = 356
+  const val format24Hour: Int = 357
+  const val timeZone: Int = 358
+  const val currentText: Int = 359
+  const val text: Int = 360
+  const val allCaps: Int = 361
+  const val autoLinkMask: Int = 362
+  const val compoundDrawablePadding: Int = 363
+  const val cursorVisible: Int = 364
+  const val customSelectionActionModeCallback: Int = 365
+  const val editableFactory: Int = 366
+  const val ellipsize: Int = 367
+  const val ems: Int = 368
+  const val error: Int = 369
+  const val extractedText: Int = 370
+  const val filters: Int = 371
+  const val freezesText: Int = 372
+  const val height: Int = 373
+  const val highlightColor: Int = 374
+  const val hint: Int = 375
+  const val hintTextColor: Int = 376
+  const val horizontallyScrolling: Int = 377
+  const val includeFontPadding: Int = 378
+  const val keyListener: Int = 379
+  const val lines: Int = 380
+  const val linkTextColor: Int = 381
+  const val linksClickable: Int = 382
+  const val marqueeRepeatLimit: Int = 383
+  const val maxEms: Int = 384
+  const val maxLines: Int = 385
+  const val minEms: Int = 386
+  const val minHeight: Int = 387
+  const val minLines: Int = 388
+  const val minWidth: Int = 389
+  const val movementMethod: Int = 390
+  const val onEditorAction: Int = 391
+  const val paintFlags: Int = 392
+  const val privateImeOptions: Int = 393
+  const val rawInputType: Int = 394
+  const val scroller: Int = 395
+  const val selectAllOnFocus: Int = 396
+  const val singleLine: Int = 397
+  const val spannableFactory: Int = 398
+  const val textColor: Int = 399
+  const val textIsSelectable: Int = 400
+  const val textKeepState: Int = 401
+  const val textLocale: Int = 402
+  const val textScaleX: Int = 403
+  const val transformationMethod: Int = 404
+  const val typeface: Int = 405
+  const val width: Int = 406
+  const val currentHour: Int = 407
+  const val currentMinute: Int = 408
+  const val is24HourView: Int = 409
+  const val onTimeChanged: Int = 410
+  const val mediaController: Int = 411
+  const val onCompletion: Int = 412
+  const val onError: Int = 413
+  const val onInfo: Int = 414
+  const val onPrepared: Int = 415
+  const val videoPath: Int = 416
+  const val videoURI: Int = 417
+  const val factory: Int = 418
+  const val zoomSpeed: Int = 419
+  const val isZoomInEnabled: Int = 420
+  const val isZoomOutEnabled: Int = 421
+  const val onZoomInClick: Int = 422
+  const val onZoomOutClick: Int = 423
 }
@@ -0,0 +1,51 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class AnimatedValueTest : Utils() {
+    private val animated = AnimatedValue(0f)
+    private var bound = true
+    private var renders = 0
+
+    private val r = Anvil.Renderable {
+        renders++
+        v<MockView> {
+            if (bound) {
+                attr("foo", animated)
+            } else {
+                attr("foo", "plain")
+            }
+        }
+    }
+
+    @Test
+    fun testValueIsAppliedWithoutRender() {
+        Anvil.mount(container, r)
+        assertEquals(1, changedAttrs["foo"])
+        animated.snapTo(1f)
+        animated.snapTo(2f)
+        assertEquals(3, changedAttrs["foo"])
+        assertEquals(1, renders)
+        assertEquals(2f, animated.get())
+    }
+
+    @Test
+    fun testBindingIsKeptAcrossRenders() {
+        Anvil.mount(container, r)
+        Anvil.render()
+        Anvil.render()
+        assertEquals(1, changedAttrs["foo"])
+        animated.snapTo(1f)
+        assertEquals(2, changedAttrs["foo"])
+    }
+
+    @Test
+    fun testReplacedValueIsUnbound() {
+        Anvil.mount(container, r)
+        bound = false
+        Anvil.render()
+        assertEquals(2, changedAttrs["foo"])
+        animated.snapTo(1f)
+        assertEquals(2, changedAttrs["foo"])
+    }
+}
@@ -0,0 +1,42 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class AttrIdTest : Utils() {
+    private var fooValue = "a"
+    private var useId = true
+
+    @Test
+    fun testAttrIdIsStable() {
+        val id = Anvil.attrId("someAttribute")
+        assertEquals(id, Anvil.attrId("someAttribute"))
+        assertNotEquals(id, Anvil.attrId("otherAttribute"))
+        assertEquals("someAttribute", Anvil.attrName(id))
+    }
+
+    @Test
+    fun testAttrTableMapsOrdinals() {
+        val table = Anvil.AttrTable("first", "second")
+        assertEquals(Anvil.attrId("first"), table.id(0))
+        assertEquals(1, table.ordinal(Anvil.attrId("second")))
+        assertEquals(-1, table.ordinal(Anvil.attrId("third")))
+    }
+
+    @Test
+    fun testNameAndIdShareCachedValue() {
+        val textId = Anvil.attrId("text")
+        Anvil.mount(container) {
+            v<MockView> {
+                if (useId) attr(textId, fooValue) else attr("text", fooValue)
+            }
+        }
+        assertEquals(1, changedAttrs["text"])
+        useId = false
+        Anvil.render()
+        assertEquals(1, changedAttrs["text"])
+        fooValue = "b"
+        Anvil.render()
+        assertEquals(2, changedAttrs["text"])
+        assertEquals("b", (container!!.getChildAt(0) as MockView).text)
+    }
+}
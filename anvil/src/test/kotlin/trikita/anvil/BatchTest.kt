@@ -0,0 +1,41 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class BatchTest : Utils() {
+    private var renders = 0
+
+    @Test
+    fun testBatchCoalescesRenders() {
+        Anvil.mount(container) { renders++ }
+        Anvil.batch {
+            Anvil.render()
+            Anvil.render()
+            Anvil.batch { Anvil.render() }
+            assertEquals(1, renders)
+        }
+        assertEquals(2, renders)
+    }
+
+    @Test
+    fun testBatchWithoutRequestsDoesNotRender() {
+        Anvil.mount(container) { renders++ }
+        Anvil.batch { }
+        assertEquals(1, renders)
+    }
+
+    @Test
+    fun testBatchMergesInvalidations() {
+        val second = MockLayout(context)
+        var secondRenders = 0
+        Anvil.mount(container) { renders++ }
+        Anvil.mount(second) { secondRenders++ }
+        Anvil.batch {
+            Anvil.invalidate(second)
+            Anvil.invalidate(second)
+        }
+        assertEquals(1, renders)
+        assertEquals(2, secondRenders)
+        Anvil.unmount(second)
+    }
+}
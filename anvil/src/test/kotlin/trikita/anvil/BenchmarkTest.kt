@@ -1,7 +1,10 @@
 package trikita.anvil
 
 import trikita.anvil.Anvil.Renderable
+import java.lang.management.ManagementFactory
 import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
 
 class BenchmarkTest : Utils() {
     private var mode = 0
@@ -42,6 +45,76 @@ class BenchmarkTest : Utils() {
         println("render/big-changes: " + (System.currentTimeMillis() - start) * 1000 / N + "us")
     }
 
+    @Test
+    fun testNoChangesRenderDoesNotAllocate() {
+        // Same tree as above without the per-render allocations of the
+        // renderable itself: tags are cached and the group lambda is inlined
+        val r = Renderable {
+            for (i in 0..9) {
+                cachedGroup(i) {
+                    for (j in 0..9) {
+                        cachedItem(i * 10 + j)
+                    }
+                }
+            }
+        }
+        Anvil.mount(container, r)
+        repeat(1000) { Anvil.render() }
+        // Measuring allocates a little by itself
+        val calibration = allocatedBytes()
+        val overhead = allocatedBytes() - calibration
+        val before = allocatedBytes()
+        for (i in 0 until ALLOC_RENDERS) {
+            Anvil.render()
+        }
+        val bytes = allocatedBytes() - before - overhead
+        assertEquals(0, bytes / ALLOC_RENDERS)
+    }
+
+    @Test
+    fun testAttributeStoreFootprint() {
+        // Same attributes as every item of a 10k-view tree: anvil marker, id and tag
+        val ids = Array<Any>(VIEWS) { it }
+        val tags = Array<Any>(VIEWS) { "item$it" }
+        val idAttr = Anvil.attrId("id")
+        val tagAttr = Anvil.attrId("tag")
+
+        var before = usedHeap()
+        val legacy = Array<Map<String, Any>>(VIEWS) {
+            HashMap<String, Any>().apply {
+                put("_anvil", 1)
+                put("id", ids[it])
+                put("tag", tags[it])
+            }
+        }
+        val legacyBytes = usedHeap() - before
+
+        before = usedHeap()
+        val compact = Array(VIEWS) {
+            AttrStore().apply {
+                anvil = true
+                put(idAttr, ids[it])
+                put(tagAttr, tags[it])
+            }
+        }
+        val compactBytes = usedHeap() - before
+
+        // Keep both representations reachable until measured
+        assertEquals(legacy.size, compact.size)
+        assertTrue(compactBytes < legacyBytes, "attr store takes $compactBytes bytes, maps take $legacyBytes")
+    }
+
+    private fun allocatedBytes(): Long {
+        val bean = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+        return bean.getThreadAllocatedBytes(Thread.currentThread().id)
+    }
+
+    private fun usedHeap(): Long {
+        val runtime = Runtime.getRuntime()
+        repeat(3) { System.gc() }
+        return runtime.totalMemory() - runtime.freeMemory()
+    }
+
     private fun transform(i: Int): Int {
         when (mode) {
             0 -> return i
@@ -66,7 +139,25 @@ class BenchmarkTest : Utils() {
         }
     }
 
+    private inline fun cachedGroup(i: Int, r: () -> Unit) {
+        v<MockLayout, ViewScope>(ViewScope) {
+            id(i * 100)
+            tag("layout")
+            r()
+        }
+    }
+
+    private fun cachedItem(i: Int) {
+        v<MockView, ViewScope>(ViewScope) {
+            id(i)
+            tag(ITEM_TAGS[i])
+        }
+    }
+
     companion object {
         private const val N = 100000
+        private const val VIEWS = 10000
+        private const val ALLOC_RENDERS = 10000
+        private val ITEM_TAGS = Array(100) { "item$it" }
     }
 }
@@ -0,0 +1,73 @@
+package trikita.anvil
+
+import org.junit.After
+import kotlin.test.*
+
+class EventScopeTest : Utils() {
+    private var firstRenders = 0
+    private var secondRenders = 0
+
+    @After
+    fun resetScope() {
+        Anvil.setEventScope(Anvil.EVENTS_RENDER_ALL)
+    }
+
+    @Test
+    fun testEventsRenderAllMountsByDefault() {
+        val second = MockLayout(context)
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.mount(second) { secondRenders++ }
+
+        Anvil.renderFrom(second)
+        assertEquals(2, firstRenders)
+        assertEquals(2, secondRenders)
+
+        Anvil.unmount(second)
+    }
+
+    @Test
+    fun testEventsRenderOnlyOwner() {
+        Anvil.setEventScope(Anvil.EVENTS_RENDER_OWNER)
+        val second = MockLayout(context)
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.mount(second) { secondRenders++ }
+
+        Anvil.renderFrom(second)
+        assertEquals(1, firstRenders)
+        assertEquals(2, secondRenders)
+
+        // Global render stays available for the shared state
+        Anvil.render()
+        assertEquals(2, firstRenders)
+        assertEquals(3, secondRenders)
+
+        Anvil.unmount(second)
+    }
+
+    @Test
+    fun testOwnerIsCachedWhileMounted() {
+        Anvil.setEventScope(Anvil.EVENTS_RENDER_OWNER)
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.renderFrom(container)
+        assertEquals(2, firstRenders)
+
+        // A new mount of the same view replaces the cached one
+        Anvil.mount(container) { secondRenders++ }
+        Anvil.renderFrom(container)
+        assertEquals(2, firstRenders)
+        assertEquals(2, secondRenders)
+    }
+
+    @Test
+    fun testEventsOutsideOfMountsRenderAll() {
+        Anvil.setEventScope(Anvil.EVENTS_RENDER_OWNER)
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.renderFrom(MockView(context))
+        assertEquals(2, firstRenders)
+    }
+
+    @Test
+    fun testUnknownScopeIsRejected() {
+        assertFailsWith<IllegalArgumentException> { Anvil.setEventScope(42) }
+    }
+}
@@ -0,0 +1,42 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class InvalidateTest : Utils() {
+    private var firstRenders = 0
+    private var secondRenders = 0
+
+    @Test
+    fun testInvalidateRendersOnlyDirtyMount() {
+        val second = MockLayout(context)
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.mount(second) { secondRenders++ }
+        assertEquals(1, firstRenders)
+        assertEquals(1, secondRenders)
+
+        Anvil.invalidate(second)
+        assertEquals(1, firstRenders)
+        assertEquals(2, secondRenders)
+
+        Anvil.render()
+        assertEquals(2, firstRenders)
+        assertEquals(3, secondRenders)
+
+        Anvil.unmount(second)
+    }
+
+    @Test
+    fun testRenderDirtySkipsCleanMounts() {
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.renderDirty()
+        assertEquals(1, firstRenders)
+    }
+
+    @Test
+    fun testInvalidateUnmountedViewIsIgnored() {
+        Anvil.mount(container) { firstRenders++ }
+        Anvil.unmount(container)
+        Anvil.invalidate(container)
+        assertEquals(1, firstRenders)
+    }
+}
@@ -0,0 +1,60 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class KeyTest : Utils() {
+    private var items = listOf("a", "b", "c")
+
+    private val r = Anvil.Renderable {
+        for (item in items) {
+            key(item)
+            v<MockView> {
+                attr("text", item)
+            }
+        }
+    }
+
+    private fun children(): List<Any?> =
+        (0 until container!!.childCount).map { container!!.getChildAt(it) }
+
+    @Test
+    fun testInsertedItemKeepsExistingViews() {
+        Anvil.mount(container, r)
+        val before = children()
+        assertEquals(3, createdViews[MockView::class.java])
+        assertEquals(3, changedAttrs["text"])
+
+        items = listOf("z", "a", "b", "c")
+        Anvil.render()
+        assertEquals(4, createdViews[MockView::class.java])
+        assertEquals(4, changedAttrs["text"])
+        assertEquals(before, children().drop(1))
+    }
+
+    @Test
+    fun testReorderedItemsAreMoved() {
+        Anvil.mount(container, r)
+        val before = children()
+
+        items = listOf("c", "a", "b")
+        Anvil.render()
+        assertEquals(3, createdViews[MockView::class.java])
+        assertEquals(3, changedAttrs["text"])
+        assertEquals(listOf(before[2], before[0], before[1]), children())
+    }
+
+    @Test
+    fun testRemovedItemsAreDropped() {
+        Anvil.mount(container, r)
+        val before = children()
+
+        items = listOf("a", "c")
+        Anvil.render()
+        assertEquals(listOf(before[0], before[2]), children())
+
+        items = listOf()
+        Anvil.render()
+        assertEquals(0, container!!.childCount)
+        assertEquals(3, createdViews[MockView::class.java])
+    }
+}
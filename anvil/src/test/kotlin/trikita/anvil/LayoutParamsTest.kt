@@ -0,0 +1,78 @@
+package trikita.anvil
+
+import android.content.Context
+import android.view.View
+import android.view.ViewGroup
+import android.widget.LinearLayout
+import kotlin.test.*
+
+class LayoutParamsTest : Utils() {
+    class ParamsView(c: Context?) : View(c) {
+        var params: ViewGroup.LayoutParams? = LinearLayout.LayoutParams(0, 0)
+        var commits = 0
+        var committedWeight = 0f
+
+        override fun getLayoutParams(): ViewGroup.LayoutParams? = params
+
+        override fun setLayoutParams(p: ViewGroup.LayoutParams?) {
+            params = p
+            commits++
+            committedWeight = (p as? LinearLayout.LayoutParams)?.weight ?: 0f
+        }
+    }
+
+    private var weight = 1f
+    private var view: ParamsView? = null
+
+    @Test
+    fun testLayoutAttrsAreCommittedOnce() {
+        Anvil.mount(container) {
+            v<ParamsView, ViewScope>(ViewScope) {
+                view = Anvil.currentView()
+                size(Size.MATCH, Size.WRAP)
+                weight(weight)
+            }
+        }
+        val p = view!!.params as LinearLayout.LayoutParams
+        assertEquals(1, view!!.commits)
+        assertEquals(ViewGroup.LayoutParams.MATCH_PARENT, p.width)
+        assertEquals(ViewGroup.LayoutParams.WRAP_CONTENT, p.height)
+        assertEquals(1f, p.weight)
+
+        Anvil.render()
+        assertEquals(1, view!!.commits)
+
+        weight = 2f
+        Anvil.render()
+        assertEquals(2, view!!.commits)
+        assertEquals(2f, p.weight)
+    }
+
+    @Test
+    fun testLayoutParamsOutsideOfRender() {
+        val v = ParamsView(context)
+        val p = LinearLayout.LayoutParams(0, 0)
+        Anvil.setLayoutParams(v, p)
+        assertSame(p, v.params)
+        assertEquals(1, v.commits)
+        // Caller changes the params and sets them back by itself
+        assertSame(p, Anvil.layoutParams(v))
+        assertEquals(1, v.commits)
+    }
+
+    @Test
+    fun testBoundLayoutAttrIsCommittedAfterChange() {
+        val animated = AnimatedValue(1f)
+        Anvil.mount(container) {
+            v<ParamsView, ViewScope>(ViewScope) {
+                view = Anvil.currentView()
+                attr(CustomDslSetter.id(CustomDslAttrs.weight), animated)
+            }
+        }
+        assertEquals(1, view!!.commits)
+        animated.snapTo(2f)
+        // Params are set back once the setter has changed them
+        assertEquals(2, view!!.commits)
+        assertEquals(2f, view!!.committedWeight)
+    }
+}
@@ -0,0 +1,84 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class LazyLayoutTest : Utils() {
+    private val rendered = mutableListOf<Int>()
+
+    private val r = Anvil.Renderable {
+        lazyColumn(1000, Px(10)) { position ->
+            rendered.add(position)
+            v<MockView>()
+        }
+    }
+
+    @Test
+    fun testNothingIsRenderedBeforeViewportIsKnown() {
+        Anvil.mount(container, r)
+        assertTrue(rendered.isEmpty())
+    }
+
+    @Test
+    fun testOnlyVisibleItemsAreRendered() {
+        val lazy = LazyLayout(context)
+        lazy.setItems(1000, 10, LazyLayout.Item { position -> rendered.add(position); v<MockView>() })
+        assertTrue(lazy.setViewport(0, 100))
+        Anvil.render(lazy)
+        // Ten visible items, one partially visible and two prefetched on both sides
+        assertEquals((0 until 15).toList(), rendered.sorted())
+
+        rendered.clear()
+        assertFalse(lazy.setViewport(5, 105))
+        assertTrue(lazy.setViewport(500, 600))
+        Anvil.render(lazy)
+        assertEquals((48 until 63).toList(), rendered.sorted())
+        Anvil.unmount(lazy)
+    }
+
+    @Test
+    fun testChildrenKeepTheirPositionsWhileScrolling() {
+        val lazy = LazyLayout(context)
+        lazy.setItems(1000, 10, LazyLayout.Item { v<MockView>() })
+        lazy.setViewport(100, 200)
+        Anvil.render(lazy)
+        val before = (0 until 15).map { lazy.positionOf(it) }
+        lazy.setViewport(110, 210)
+        Anvil.render(lazy)
+        val after = (0 until 15).map { lazy.positionOf(it) }
+        // Only the child of the item scrolled out gets the new item
+        assertEquals(1, before.zip(after).count { (b, a) -> b != a })
+        assertEquals(before.sorted().first() + 15, after.sorted().last())
+        Anvil.unmount(lazy)
+    }
+
+    @Test
+    fun testWindowIsClampedToItemCount() {
+        val lazy = LazyLayout(context)
+        lazy.setItems(5, 10, LazyLayout.Item { position -> rendered.add(position); v<MockView>() })
+        lazy.setViewport(0, 100)
+        Anvil.render(lazy)
+        assertEquals((0 until 5).toList(), rendered.sorted())
+        Anvil.unmount(lazy)
+    }
+
+    @Test
+    fun testItemWithoutViewIsRejected() {
+        val lazy = LazyLayout(context)
+        lazy.setItems(5, 10, LazyLayout.Item { })
+        lazy.setViewport(0, 100)
+        assertFailsWith<IllegalStateException> { Anvil.render(lazy) }
+        Anvil.unmount(lazy)
+    }
+
+    @Test
+    fun testItemWithSeveralViewsIsRejected() {
+        val lazy = LazyLayout(context)
+        lazy.setItems(5, 10, LazyLayout.Item {
+            v<MockView>()
+            v<MockView>()
+        })
+        lazy.setViewport(0, 100)
+        assertFailsWith<IllegalStateException> { Anvil.render(lazy) }
+        Anvil.unmount(lazy)
+    }
+}
@@ -0,0 +1,65 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class MemoTest : Utils() {
+    private var header = "header"
+    private var footer = "footer"
+    private var headerRenders = 0
+
+    private val r = Anvil.Renderable {
+        memo(header) {
+            headerRenders++
+            v<MockLayout> {
+                v<MockView> { attr("text", header) }
+                v<MockView>()
+            }
+        }
+        v<MockView> { attr("text", footer) }
+    }
+
+    @Test
+    fun testUnchangedDepsSkipBlock() {
+        Anvil.mount(container, r)
+        assertEquals(1, headerRenders)
+        assertEquals(2, container!!.childCount)
+
+        footer = "changed"
+        Anvil.render()
+        assertEquals(1, headerRenders)
+        assertEquals(2, container!!.childCount)
+        assertEquals(2, (container!!.getChildAt(0) as MockLayout).childCount)
+        assertEquals("changed", (container!!.getChildAt(1) as MockView).text)
+        assertEquals(3, createdViews[MockView::class.java])
+    }
+
+    @Test
+    fun testChangedDepsRenderBlock() {
+        Anvil.mount(container, r)
+        header = "changed"
+        Anvil.render()
+        assertEquals(2, headerRenders)
+        val layout = container!!.getChildAt(0) as MockLayout
+        assertEquals("changed", (layout.getChildAt(0) as MockView).text)
+        assertEquals(3, createdViews[MockView::class.java])
+    }
+
+    @Test
+    fun testShiftedBlockIsRendered() {
+        var prefix = false
+        Anvil.mount(container) {
+            if (prefix) {
+                v<MockView>()
+            }
+            memo(header) {
+                headerRenders++
+                v<MockLayout>()
+            }
+        }
+        prefix = true
+        Anvil.render()
+        assertEquals(2, headerRenders)
+        Anvil.render()
+        assertEquals(2, headerRenders)
+    }
+}
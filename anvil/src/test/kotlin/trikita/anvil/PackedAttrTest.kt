@@ -0,0 +1,39 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class PackedAttrTest : Utils() {
+    @Test
+    fun testPackedDips() {
+        val packed = packDips(1, -2, 32767, -32768)
+        assertEquals(1, unpackDip(packed, 0))
+        assertEquals(-2, unpackDip(packed, 1))
+        assertEquals(32767, unpackDip(packed, 2))
+        assertEquals(-32768, unpackDip(packed, 3))
+        assertEquals(packDips(1, -2, 32767, -32768), packed)
+        assertNotEquals(packDips(1, -2, 32767, 0), packed)
+    }
+
+    @Test
+    fun testPackedSize() {
+        val packed = packSize(-1, 200)
+        assertEquals(-1, (packed shr 32).toInt())
+        assertEquals(200, packed.toInt())
+    }
+
+    @Test
+    fun testUnchangedKeyedTagIsNotReapplied() {
+        var value = "foo"
+        Anvil.mount(container) {
+            v<MockView, ViewScope>(ViewScope) {
+                tag(1, value)
+            }
+        }
+        assertEquals(1, changedAttrs["tag"])
+        Anvil.render()
+        assertEquals(1, changedAttrs["tag"])
+        value = "bar"
+        Anvil.render()
+        assertEquals(2, changedAttrs["tag"])
+    }
+}
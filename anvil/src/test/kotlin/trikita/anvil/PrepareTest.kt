@@ -0,0 +1,80 @@
+package trikita.anvil
+
+import android.content.Context
+import org.mockito.Mockito
+import java.util.concurrent.TimeUnit
+import kotlin.test.*
+
+class PrepareTest : Utils() {
+    class OtherLayout(c: Context?) : MockLayout(c)
+
+    private fun awaitReady(prepared: Anvil.Prepared) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (!prepared.isReady()) {
+            assertTrue(System.nanoTime() < deadline, "views have not been prepared")
+            Thread.sleep(1)
+        }
+    }
+
+    @Test
+    fun testPreparedRenderableIsMounted() {
+        var text = "foo"
+        val prepared = Anvil.prepareAsync(context, MockLayout::class.java) {
+            v<MockView> { attr("text", text) }
+        }
+        awaitReady(prepared)
+        text = "bar"
+        prepared.mount(container)
+        // Prepared view is adopted and catches up with the changes
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(1, container!!.childCount)
+        assertEquals(2, changedAttrs["text"])
+
+        text = "baz"
+        Anvil.render()
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(3, changedAttrs["text"])
+    }
+
+    @Test
+    fun testAttributesAreAppliedAgainForAnotherHost() {
+        val prepared = Anvil.prepareAsync(context, MockLayout::class.java) {
+            v<MockView> { attr("text", "foo") }
+        }
+        awaitReady(prepared)
+        val other = OtherLayout(context)
+        prepared.mount(other)
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(1, other.childCount)
+        assertEquals(2, changedAttrs["text"])
+        Anvil.unmount(other)
+    }
+
+    @Test
+    fun testPreparedViewsAreAdoptedOnce() {
+        val prepared = Anvil.prepareAsync(context, MockLayout::class.java) {
+            v<MockView>()
+        }
+        awaitReady(prepared)
+        prepared.mount(container)
+        assertEquals(1, createdViews[MockView::class.java])
+        // Second mount point can't adopt the same views and renders synchronously
+        val other = MockLayout(context)
+        prepared.mount(other)
+        assertEquals(1, other.childCount)
+        assertEquals(2, createdViews[MockView::class.java])
+        Anvil.unmount(other)
+    }
+
+    @Test
+    fun testViewsOfAnotherContextAreNotAdopted() {
+        val prepared = Anvil.prepareAsync(Mockito.mock(Context::class.java), MockLayout::class.java) {
+            v<MockView>()
+        }
+        awaitReady(prepared)
+        prepared.mount(container)
+        // Views are created again with the context of the container
+        assertEquals(1, container!!.childCount)
+        assertEquals(2, createdViews[MockView::class.java])
+    }
+}
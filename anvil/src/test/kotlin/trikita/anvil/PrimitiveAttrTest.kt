@@ -0,0 +1,126 @@
+package trikita.anvil
+
+import android.content.Context
+import android.view.View
+import android.widget.TextView
+import kotlin.test.*
+
+class PrimitiveAttrTest : Utils() {
+    private var value = 1
+
+    @BeforeTest
+    fun resetCounters() {
+        CountingSetter.primitive = 0
+        CountingSetter.boxed = 0
+        BoxedOnlySetter.boxed = 0
+        BoxedOnlySetter.prevValues.clear()
+        Anvil.registerAttributeSetter(CountingSetter)
+        Anvil.registerAttributeSetter(BoxedOnlySetter)
+    }
+
+    @Test
+    fun testPrimitiveAttrIsCachedUnboxed() {
+        Anvil.mount(container) {
+            v<MockView> { attr(CountingSetter.id, value) }
+        }
+        assertEquals(1, CountingSetter.primitive)
+        Anvil.render()
+        Anvil.render()
+        assertEquals(1, CountingSetter.primitive)
+        value = 2
+        Anvil.render()
+        assertEquals(2, CountingSetter.primitive)
+        assertEquals(0, CountingSetter.boxed)
+    }
+
+    @Test
+    fun testPrimitiveAndBoxedValuesAreNotMixed() {
+        var boxed = false
+        Anvil.mount(container) {
+            v<MockView> {
+                if (boxed) attr<Int>(CountingSetter.id, value) else attr(CountingSetter.id, value)
+            }
+        }
+        boxed = true
+        Anvil.render()
+        assertEquals(1, CountingSetter.primitive)
+        assertEquals(1, CountingSetter.boxed)
+        Anvil.render()
+        assertEquals(1, CountingSetter.boxed)
+    }
+
+    @Test
+    fun testRejectedPrimitiveIsPassedBoxed() {
+        Anvil.mount(container) {
+            v<MockView> { attr(BoxedOnlySetter.id, value) }
+        }
+        assertEquals(1, BoxedOnlySetter.boxed)
+        assertEquals(1, BoxedOnlySetter.prevValues.size)
+        assertNull(BoxedOnlySetter.prevValues[0])
+        Anvil.render()
+        assertEquals(1, BoxedOnlySetter.boxed)
+        value = 2
+        Anvil.render()
+        assertEquals(2, BoxedOnlySetter.boxed)
+        assertEquals(1, BoxedOnlySetter.prevValues[1])
+    }
+
+    @Test
+    fun testInputExtrasReachesCustomSetter() {
+        Anvil.registerAttributeSetter(CustomDslSetter)
+        Anvil.mount(container) {
+            v<ExtrasTextView> { attr(CustomDslSetter.id(CustomDslAttrs.inputExtras), 42) }
+        }
+        assertEquals(42, (container!!.getChildAt(0) as ExtrasTextView).extras)
+    }
+
+    class ExtrasTextView(c: Context?) : TextView(c) {
+        var extras = 0
+
+        override fun setInputExtras(xmlResId: Int) {
+            extras = xmlResId
+        }
+    }
+
+    /** Primitive setter which accepts the attribute only through the boxed entry point */
+    object BoxedOnlySetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+        val id = Anvil.attrId("boxedOnly")
+        var boxed = 0
+        val prevValues = mutableListOf<Any?>()
+
+        override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean =
+            set(v, Anvil.attrId(name), value, prevValue)
+
+        override fun set(v: View, id: Int, value: Any?, prevValue: Any?): Boolean =
+            (id == this.id && value is Int).also {
+                if (it) {
+                    boxed++
+                    prevValues.add(prevValue)
+                }
+            }
+
+        override fun setInt(v: View, id: Int, value: Int): Boolean = false
+        override fun setFloat(v: View, id: Int, value: Float): Boolean = false
+        override fun setBoolean(v: View, id: Int, value: Boolean): Boolean = false
+        override fun setLong(v: View, id: Int, value: Long): Boolean = false
+    }
+
+    object CountingSetter : Anvil.AttributeIdSetter<Any?>, Anvil.PrimitiveAttributeSetter {
+        val id = Anvil.attrId("primitiveCounter")
+        var primitive = 0
+        var boxed = 0
+
+        override fun set(v: View, name: String, value: Any?, prevValue: Any?): Boolean =
+            set(v, Anvil.attrId(name), value, prevValue)
+
+        override fun set(v: View, id: Int, value: Any?, prevValue: Any?): Boolean =
+            (id == this.id).also { if (it) boxed++ }
+
+        override fun setInt(v: View, id: Int, value: Int): Boolean =
+            (id == this.id).also { if (it) primitive++ }
+
+        override fun setFloat(v: View, id: Int, value: Float): Boolean = false
+        override fun setBoolean(v: View, id: Int, value: Boolean): Boolean = false
+        override fun setLong(v: View, id: Int, value: Long): Boolean = false
+    }
+}
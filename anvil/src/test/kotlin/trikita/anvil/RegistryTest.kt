@@ -0,0 +1,86 @@
+package trikita.anvil
+
+import android.view.ViewGroup
+import android.view.ViewParent
+import kotlin.test.*
+
+class RegistryTest : Utils() {
+    private var parentRenders = 0
+    private var nestedRenders = 0
+
+    @Test
+    fun testNestedMountIsRenderedOncePerPass() {
+        val nested = MockLayout(context)
+        Anvil.mount(container) {
+            parentRenders++
+            // Like withId(), the nested mount is re-mounted by every parent render
+            Anvil.mount(nested) { nestedRenders++ }
+        }
+        assertEquals(1, parentRenders)
+        assertEquals(1, nestedRenders)
+        Anvil.render()
+        assertEquals(2, parentRenders)
+        assertEquals(2, nestedRenders)
+        Anvil.render()
+        assertEquals(3, parentRenders)
+        assertEquals(3, nestedRenders)
+        Anvil.unmount(nested)
+    }
+
+    @Test
+    fun testMountsAddedWhileRenderingAreRenderedOnce() {
+        val mounts = (0..4).map { MockLayout(context) }
+        Anvil.mount(container) {
+            parentRenders++
+            if (parentRenders == 2) {
+                mounts.forEach { Anvil.mount(it) { nestedRenders++ } }
+            }
+        }
+        Anvil.render()
+        assertEquals(5, nestedRenders)
+        Anvil.render()
+        assertEquals(10, nestedRenders)
+        mounts.forEach { Anvil.unmount(it) }
+        Anvil.render()
+        assertEquals(10, nestedRenders)
+    }
+
+    @Test
+    fun testUnmountRemovesNestedMounts() {
+        val nested = NestedLayout(container!!)
+        Anvil.mount(container) { parentRenders++ }
+        Anvil.mount(nested) { nestedRenders++ }
+        Anvil.unmount(container)
+        Anvil.render()
+        assertEquals(1, parentRenders)
+        assertEquals(1, nestedRenders)
+    }
+
+    @Test
+    fun testUnmountRemovesNestedMountsMountedBeforeTheParent() {
+        val nested = NestedLayout(container!!)
+        // Without a mounted parent the nested mount has no parent link
+        Anvil.mount(nested) { nestedRenders++ }
+        Anvil.mount(container) { parentRenders++ }
+        Anvil.unmount(container)
+        Anvil.render()
+        assertEquals(1, parentRenders)
+        assertEquals(1, nestedRenders)
+    }
+
+    @Test
+    fun testUnmountKeepsUnrelatedMounts() {
+        val other = NestedLayout(MockLayout(context))
+        Anvil.mount(other) { nestedRenders++ }
+        Anvil.mount(container) { parentRenders++ }
+        Anvil.unmount(container)
+        Anvil.render()
+        assertEquals(2, nestedRenders)
+        Anvil.unmount(other)
+    }
+
+    /** Layout placed inside of a parent, as if it had been added to it */
+    class NestedLayout(private val parentView: ViewGroup) : MockLayout(parentView.context) {
+        override fun getParent(): ViewParent = parentView
+    }
+}
@@ -0,0 +1,61 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class RenderLogTest : Utils() {
+    private val text = Anvil.attrId("text")
+    private val id = Anvil.attrId("id")
+
+    private fun log(cls: Class<*>, key: Any?, textValue: String?, idValue: Int) = RenderLog(0).apply {
+        if (key != null) key(key)
+        start(cls, 0)
+        attr(text, textValue)
+        attrPrimitive(RenderLog.ATTR_INT, id, idValue.toLong())
+        end()
+    }
+
+    @Test
+    fun testUnchangedLogHasEmptyPatch() {
+        val prev = log(MockView::class.java, null, "foo", 1)
+        val next = log(MockView::class.java, null, "foo", 1)
+        assertTrue(next.sameStructure(prev))
+        assertEquals(0, next.diff(prev)[0])
+    }
+
+    @Test
+    fun testPatchContainsChangedAttributes() {
+        val prev = log(MockView::class.java, null, "foo", 1)
+        val next = log(MockView::class.java, null, "bar", 1)
+        val patch = next.diff(prev)
+        assertEquals(1, patch[0])
+        // First view after the mount root, the attribute follows its start
+        assertEquals(1, patch[1])
+        assertEquals(1, patch[2])
+
+        val nextId = log(MockView::class.java, null, "foo", 2)
+        assertEquals(1, nextId.diff(prev)[0])
+        assertEquals(2, nextId.diff(prev)[2])
+    }
+
+    @Test
+    fun testNullValuesAreAlwaysPatched() {
+        val prev = log(MockView::class.java, null, null, 1)
+        val next = log(MockView::class.java, null, null, 1)
+        assertEquals(1, next.diff(prev)[0])
+    }
+
+    @Test
+    fun testStructureChanges() {
+        val prev = log(MockView::class.java, "a", "foo", 1)
+        assertFalse(log(MockLayout::class.java, "a", "foo", 1).sameStructure(prev))
+        assertFalse(log(MockView::class.java, "b", "foo", 1).sameStructure(prev))
+        assertFalse(log(MockView::class.java, null, "foo", 1).sameStructure(prev))
+        assertTrue(log(MockView::class.java, "a", "bar", 2).sameStructure(prev))
+    }
+
+    @Test
+    fun testNodeCountIncludesMountRoot() {
+        assertEquals(1, RenderLog(0).nodeCount())
+        assertEquals(2, log(MockView::class.java, null, "foo", 1).nodeCount())
+    }
+}
@@ -0,0 +1,47 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class RenderOnFrameTest : Utils() {
+    private var renders = 0
+
+    @AfterTest
+    fun resetPolicy() {
+        Anvil.setRenderPolicy(Anvil.RENDER_IMMEDIATE)
+        Anvil.renderFrame()
+    }
+
+    @Test
+    fun testRequestsAreCoalescedIntoOneFrame() {
+        Anvil.mount(container) { renders++ }
+        Anvil.setRenderPolicy(Anvil.RENDER_ON_FRAME)
+        Anvil.render()
+        Anvil.invalidate(container)
+        Anvil.render()
+        assertEquals(1, renders)
+
+        Anvil.renderFrame()
+        assertEquals(2, renders)
+        // Dirty pass is merged into the full one, which drains the queue
+        assertEquals(0, Anvil.dirtyMountCount())
+
+        Anvil.renderFrame()
+        assertEquals(2, renders)
+    }
+
+    @Test
+    fun testInvalidatedMountIsRenderedOnce() {
+        val second = MockLayout(context)
+        var secondRenders = 0
+        Anvil.mount(container) { renders++ }
+        Anvil.mount(second) { secondRenders++ }
+        Anvil.setRenderPolicy(Anvil.RENDER_ON_FRAME)
+        Anvil.invalidate(second)
+        Anvil.invalidate(second)
+        Anvil.renderFrame()
+        assertEquals(1, renders)
+        assertEquals(2, secondRenders)
+        assertEquals(0, Anvil.dirtyMountCount())
+        Anvil.unmount(second)
+    }
+}
@@ -0,0 +1,110 @@
+package trikita.anvil
+
+import android.content.ComponentCallbacks2
+import android.content.Context
+import android.content.res.Configuration
+import android.content.res.Resources
+import android.graphics.drawable.Drawable
+import org.mockito.Mockito
+import kotlin.test.*
+
+class ResourceCacheTest : Utils() {
+    private val res = Mockito.mock(Resources::class.java)
+    private val c = Mockito.mock(Context::class.java)
+    private var hits = 0
+    private var misses = 0
+
+    @BeforeTest
+    fun mockResources() {
+        val state = Mockito.mock(Drawable.ConstantState::class.java)
+        val drawable = Mockito.mock(Drawable::class.java)
+        Mockito.`when`(state.newDrawable(res)).thenAnswer { Mockito.mock(Drawable::class.java) }
+        Mockito.`when`(drawable.constantState).thenReturn(state)
+        @Suppress("DEPRECATION")
+        Mockito.`when`(res.getDrawable(Mockito.anyInt())).thenReturn(drawable)
+        Mockito.`when`(res.configuration).thenReturn(Configuration())
+        Mockito.`when`(c.resources).thenReturn(res)
+        Mockito.`when`(c.applicationContext).thenReturn(c)
+        ResourceCache.clear()
+        hits = ResourceCache.hits()
+        misses = ResourceCache.misses()
+    }
+
+    @AfterTest
+    fun resetCapacity() {
+        ResourceCache.setCapacity(64)
+        ResourceCache.clear()
+    }
+
+    private fun load(vararg ids: Int) {
+        for (id in ids) {
+            assertNotNull(ResourceCache.drawable(c, id))
+        }
+    }
+
+    private fun assertCounters(hits: Int, misses: Int) {
+        assertEquals(hits, ResourceCache.hits() - this.hits)
+        assertEquals(misses, ResourceCache.misses() - this.misses)
+    }
+
+    @Test
+    fun testDrawableIsLoadedOnce() {
+        load(1, 1, 1)
+        assertCounters(2, 1)
+        // Every view gets its own drawable sharing the constant state
+        assertNotSame(ResourceCache.drawable(c, 1), ResourceCache.drawable(c, 1))
+        @Suppress("DEPRECATION")
+        Mockito.verify(res, Mockito.times(1)).getDrawable(1)
+    }
+
+    @Test
+    fun testZeroResourceIsNotLoaded() {
+        assertNull(ResourceCache.drawable(c, 0))
+        assertCounters(0, 0)
+    }
+
+    @Test
+    fun testLeastRecentlyUsedEntryIsEvicted() {
+        ResourceCache.setCapacity(2)
+        load(1, 2, 1, 3)
+        assertCounters(1, 3)
+        // 2 has been used least recently
+        load(1, 3, 2)
+        assertCounters(3, 4)
+    }
+
+    @Test
+    fun testTrimMemory() {
+        load(1, 2, 3, 4)
+        ResourceCache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+        load(1, 2, 3, 4)
+        assertCounters(4, 4)
+
+        // Running low keeps the most recently used half
+        ResourceCache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+        load(3, 4, 1)
+        assertCounters(6, 5)
+
+        ResourceCache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+        load(1)
+        assertCounters(6, 6)
+
+        ResourceCache.trimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+        load(1)
+        assertCounters(6, 7)
+    }
+
+    @Test
+    fun testConfigurationChangeDropsDrawables() {
+        load(1, 1)
+        assertCounters(1, 1)
+        ResourceCache.callbacks.onConfigurationChanged(Configuration())
+        load(1)
+        assertCounters(1, 2)
+    }
+
+    @Test
+    fun testOnlyFrameworkViewsUseCache() {
+        assertFalse(ResourceCache.isFrameworkView(MockView(context)))
+    }
+}
@@ -0,0 +1,69 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class ShadowTest : Utils() {
+    private val r = Anvil.Renderable {
+        v<MockView> {}
+        v<MockView> {}
+    }
+
+    @Test
+    fun testViewAddedOutsideOfAnvilIsKept() {
+        Anvil.mount(container, r)
+        val foreign = MockView(context)
+        container!!.addView(foreign, 2)
+        Anvil.render()
+        assertEquals(3, container!!.childCount)
+        assertSame(foreign, container!!.getChildAt(2))
+        assertEquals(2, createdViews[MockView::class.java])
+    }
+
+    @Test
+    fun testViewRemovedOutsideOfAnvilIsRecreated() {
+        Anvil.mount(container, r)
+        val second = container!!.getChildAt(1)
+        container!!.removeView(container!!.getChildAt(0))
+        Anvil.render()
+        assertEquals(2, container!!.childCount)
+        assertSame(second, container!!.getChildAt(0))
+        assertEquals(3, createdViews[MockView::class.java])
+    }
+
+    @Test
+    fun testShadowFollowsRemovedViews() {
+        var count = 3
+        Anvil.mount(container) {
+            for (i in 0 until count) {
+                v<MockView> {}
+            }
+        }
+        assertEquals(3, container!!.childCount)
+        count = 1
+        Anvil.render()
+        assertEquals(1, container!!.childCount)
+        count = 2
+        Anvil.render()
+        assertEquals(2, container!!.childCount)
+        assertEquals(4, createdViews[MockView::class.java])
+    }
+
+    @Test
+    fun testViewReplacedOutsideOfAnvilIsKept() {
+        var count = 2
+        Anvil.mount(container) {
+            for (i in 0 until count) {
+                v<MockView> {}
+            }
+        }
+        // Same number of children, so only the identity check can notice it
+        val foreign = MockView(context)
+        container!!.removeView(container!!.getChildAt(1))
+        container!!.addView(foreign, 1)
+        count = 1
+        Anvil.render()
+        assertEquals(2, container!!.childCount)
+        assertSame(foreign, container!!.getChildAt(1))
+        assertNull(Anvil.peekStore(foreign))
+    }
+}
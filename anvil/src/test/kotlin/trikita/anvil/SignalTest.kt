@@ -0,0 +1,48 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class SignalTest : Utils() {
+    private val signal = Signal("a")
+    private var renders = 0
+
+    private val r = Anvil.Renderable {
+        renders++
+        v<MockView> {
+            attr("foo", signal)
+        }
+    }
+
+    @Test
+    fun testWriteUpdatesAttributeWithoutRender() {
+        Anvil.mount(container, r)
+        assertEquals(1, changedAttrs["foo"])
+        signal.set("b")
+        Signal.flush()
+        assertEquals(2, changedAttrs["foo"])
+        assertEquals(1, renders)
+    }
+
+    @Test
+    fun testWritesBetweenFramesAreAppliedOnce() {
+        Anvil.mount(container, r)
+        signal.set("b")
+        signal.set("c")
+        Signal.flush()
+        assertEquals(2, changedAttrs["foo"])
+        assertEquals("c", signal.get())
+        signal.set("c")
+        Signal.flush()
+        assertEquals(2, changedAttrs["foo"])
+    }
+
+    @Test
+    fun testRenderKeepsSubscription() {
+        Anvil.mount(container, r)
+        Anvil.render()
+        assertEquals(1, changedAttrs["foo"])
+        signal.set("b")
+        Signal.flush()
+        assertEquals(2, changedAttrs["foo"])
+    }
+}
@@ -0,0 +1,45 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class SuspendTest : Utils() {
+    private var renders = 0
+
+    @Test
+    fun testSuspendedMountCatchesUpOnce() {
+        Anvil.mount(container) { renders++ }
+        Anvil.suspend(container)
+        Anvil.render()
+        Anvil.render()
+        Anvil.invalidate(container)
+        assertEquals(1, renders)
+
+        Anvil.resume(container)
+        assertEquals(2, renders)
+        Anvil.resume(container)
+        assertEquals(2, renders)
+        Anvil.render()
+        assertEquals(3, renders)
+    }
+
+    @Test
+    fun testResumedMountWithoutRequestsIsNotRendered() {
+        Anvil.mount(container) { renders++ }
+        Anvil.suspend(container)
+        Anvil.resume(container)
+        assertEquals(1, renders)
+    }
+
+    @Test
+    fun testSuspendedMountDoesNotAffectOthers() {
+        val other = MockLayout(context)
+        var otherRenders = 0
+        Anvil.mount(container) { renders++ }
+        Anvil.mount(other) { otherRenders++ }
+        Anvil.suspend(container)
+        Anvil.render()
+        assertEquals(1, renders)
+        assertEquals(2, otherRenders)
+        Anvil.unmount(other)
+    }
+}
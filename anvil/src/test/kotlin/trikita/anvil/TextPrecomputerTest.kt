@@ -0,0 +1,51 @@
+package trikita.anvil
+
+import android.widget.TextView
+import org.mockito.Mockito
+import java.util.concurrent.Executor
+import kotlin.test.*
+
+class TextPrecomputerTest : Utils() {
+    private val id = CustomDslSetter.id(CustomDslAttrs.precomputedText)
+    private val v = Mockito.mock(TextView::class.java)
+    private val posted = mutableListOf<Runnable>()
+    private val measure = TextPrecomputer.Measure { "measured $it" }
+
+    @BeforeTest
+    fun setExecutors() {
+        TextPrecomputer.setExecutors(Executor { it.run() }, Executor { posted.add(it) })
+    }
+
+    @AfterTest
+    fun resetExecutors() {
+        TextPrecomputer.setExecutors(null, null)
+    }
+
+    @Test
+    fun testTextIsSetRightAwayBeforeApi28() {
+        TextPrecomputer.setExecutors(Executor { fail("text must not be measured in background") }, null)
+        TextPrecomputer.setText(v, id, "foo")
+        Mockito.verify(v).setText("foo")
+    }
+
+    @Test
+    fun testResultIsSetOnUiThread() {
+        val text = "foo"
+        Anvil.store(v).put(id, text)
+        TextPrecomputer.precompute(v, id, text, measure)
+        Mockito.verify(v, Mockito.never()).setText(Mockito.any<CharSequence>())
+        assertEquals(1, posted.size)
+        posted[0].run()
+        Mockito.verify(v).setText("measured foo")
+    }
+
+    @Test
+    fun testOutdatedResultIsDropped() {
+        val text = "foo"
+        Anvil.store(v).put(id, text)
+        TextPrecomputer.precompute(v, id, text, measure)
+        Anvil.store(v).put(id, "bar")
+        posted.forEach { it.run() }
+        Mockito.verify(v, Mockito.never()).setText(Mockito.any<CharSequence>())
+    }
+}
@@ -0,0 +1,57 @@
+package trikita.anvil
+
+import android.widget.TextView
+import kotlin.test.*
+
+class TextWatcherTest : Utils() {
+    private var changes = 0
+
+    private fun watched(): TextWatcherProxy {
+        val v = TextView(context)
+        Anvil.store(v).put(CustomDslSetter.id(CustomDslAttrs.onTextChanged), { _: CharSequence -> changes++ })
+        return TextWatcherProxy.of(v)
+    }
+
+    @Test
+    fun testProxyIsAddedOnce() {
+        val v = TextView(context)
+        val proxy = TextWatcherProxy.of(v)
+        assertSame(proxy, TextWatcherProxy.of(v))
+    }
+
+    @Test
+    fun testTypingIsReported() {
+        val proxy = watched()
+        proxy.beforeTextChanged("ab", 2, 0, 1)
+        proxy.onTextChanged("abc", 2, 0, 1)
+        assertEquals(1, changes)
+        proxy.beforeTextChanged("abc", 2, 1, 0)
+        proxy.onTextChanged("ab", 2, 1, 0)
+        assertEquals(2, changes)
+    }
+
+    @Test
+    fun testReplacingWithSameTextIsIgnored() {
+        val proxy = watched()
+        proxy.beforeTextChanged("hello", 0, 5, 5)
+        proxy.onTextChanged("hello", 0, 5, 5)
+        assertEquals(0, changes)
+        proxy.beforeTextChanged("hello", 1, 1, 1)
+        proxy.onTextChanged("hallo", 1, 1, 1)
+        assertEquals(1, changes)
+    }
+
+    @Test
+    fun testPooledViewIgnoresTyping() {
+        val v = TextView(context)
+        val store = Anvil.store(v)
+        store.put(CustomDslSetter.id(CustomDslAttrs.onTextChanged), { _: CharSequence -> changes++ })
+        val proxy = TextWatcherProxy.of(v)
+        assertTrue(ViewPool(1).release(v, store))
+        proxy.beforeTextChanged("ab", 2, 0, 1)
+        proxy.onTextChanged("abc", 2, 0, 1)
+        assertEquals(0, changes)
+        // Rendering the pooled view again keeps the same proxy
+        assertSame(proxy, TextWatcherProxy.of(v))
+    }
+}
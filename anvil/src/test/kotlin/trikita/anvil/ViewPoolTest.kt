@@ -0,0 +1,72 @@
+package trikita.anvil
+
+import kotlin.test.*
+
+class ViewPoolTest : Utils() {
+    private var showView = true
+    private val pool = ViewPool(4)
+
+    @BeforeTest
+    fun setPool() {
+        Anvil.setViewPool(pool)
+    }
+
+    @AfterTest
+    fun resetPool() {
+        Anvil.setViewPool(null)
+    }
+
+    @Test
+    fun testRemovedViewIsReused() {
+        Anvil.mount(container) {
+            if (showView) {
+                v<MockView> {
+                    attr("text", "foo")
+                }
+            }
+        }
+        val view = container!!.getChildAt(0)
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(1, pool.misses())
+
+        showView = false
+        Anvil.render()
+        assertEquals(0, container!!.childCount)
+
+        showView = true
+        Anvil.render()
+        assertSame(view, container!!.getChildAt(0))
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(1, pool.hits())
+        // Attribute cache is reset, so the attribute is applied again
+        assertEquals(2, changedAttrs["text"])
+    }
+
+    @Test
+    fun testViewReplacedByAnotherClassIsReused() {
+        Anvil.mount(container) {
+            if (showView) v<MockView>() else v<MockLayout>()
+        }
+        showView = false
+        Anvil.render()
+        showView = true
+        Anvil.render()
+        assertEquals(1, createdViews[MockView::class.java])
+        assertEquals(1, createdViews[MockLayout::class.java])
+        assertEquals(1, pool.hits())
+    }
+
+    @Test
+    fun testCapacityLimitsPooledViews() {
+        pool.setCapacity(Utils.MockView::class.java, 0)
+        Anvil.mount(container) {
+            if (showView) v<MockView>()
+        }
+        showView = false
+        Anvil.render()
+        showView = true
+        Anvil.render()
+        assertEquals(2, createdViews[MockView::class.java])
+        assertEquals(0, pool.hits())
+    }
+}
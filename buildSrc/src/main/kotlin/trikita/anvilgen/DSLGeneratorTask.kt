@@ -111,11 +111,30 @@ open class DSLGeneratorTask : DefaultTask() {
     private fun renderModel(model: DslModel) {
         val fileSpec = FileSpec.builder(packageName, camelCaseName)
 
-        val setterBody = CodeBlock.builder().beginControlFlow("return when (name)")
-        model.views
+        val setterType = ClassName(PACKAGE, "${camelCaseName}Setter")
+        val attrsType = ClassName(PACKAGE, "${camelCaseName}Attrs")
+
+        val attrsByName = model.views
             .flatMap { it.attrs }
             .groupBy { it.name }
             .mapValues { (_, it) -> it.sortedBy { it.type.simpleName } }
+
+        // Ordinals are stable for the generated code, setter maps them to attribute ids at runtime
+        val attrsObject = TypeSpec.objectBuilder(attrsType)
+            .addKdoc("Ordinals of the attributes handled by [%T].", setterType)
+            .addModifiers(KModifier.PUBLIC)
+            .addProperties(attrsByName.keys.mapIndexed { ordinal, name ->
+                PropertySpec.builder(name, INT, KModifier.CONST)
+                    .initializer("%L", ordinal)
+                    .build()
+            })
+            .build()
+
+        val setterBody = CodeBlock.builder().beginControlFlow("return when (attrs.ordinal(id))")
+        val primitiveBodies = PRIMITIVES.keys.associateWith {
+            CodeBlock.builder().beginControlFlow("return when (attrs.ordinal(id))")
+        }
+        attrsByName
             .forEach { (name, attrs) ->
                 val filtered = attrs.filter { a ->
                     !attrs.any { b ->
@@ -124,7 +143,7 @@ open class DSLGeneratorTask : DefaultTask() {
                     }
                 }
 
-                setterBody.beginControlFlow("%S -> when", name)
+                setterBody.beginControlFlow("%T.%N -> when", attrsType, name)
                 filtered.forEach {
                     val code = it.buildCode()
                     if(code != null) {
@@ -134,10 +153,28 @@ open class DSLGeneratorTask : DefaultTask() {
 
                 setterBody.add("else -> false\n")
                 setterBody.endControlFlow()
+
+                primitiveBodies.forEach { (type, body) ->
+                    // Setters declared in View have no type check, so they go last as "else" branch
+                    val primitive = filtered
+                        .filter { !it.isListener && !it.isNullable && it.type == type }
+                        .sortedBy { it.setter.declaringClass.canonicalName == VIEW_CNAME }
+                    if (primitive.isNotEmpty()) {
+                        body.beginControlFlow("%T.%N -> when", attrsType, name)
+                        primitive.forEach { body.add(it.buildPrimitiveSetter()) }
+                        if (primitive.none { it.setter.declaringClass.canonicalName == VIEW_CNAME }) {
+                            body.add("else -> false\n")
+                        }
+                        body.endControlFlow()
+                    }
+                }
             }
         setterBody
             .add("else -> false\n")
             .endControlFlow()
+        primitiveBodies.values.forEach {
+            it.add("else -> false\n").endControlFlow()
+        }
 
         val initializer = CodeBlock.builder()
             .add("Anvil.registerAttributeSetter(this)\n")
@@ -145,15 +182,25 @@ open class DSLGeneratorTask : DefaultTask() {
             initializer.add("Anvil.registerAttributeSetter(%M)\n", manualSetter)
         }
 
-        val setterObject = TypeSpec.objectBuilder(ClassName(PACKAGE, "${camelCaseName}Setter"))
+        val setterObject = TypeSpec.objectBuilder(setterType)
             .addKdoc("""DSL for creating views and settings their attributes.
                 |This file has been generated by
                 |{@code gradle $name}
                 |$javadocContains.
                 |Please, don't edit it manually unless for debugging.""".trimMargin())
             .addModifiers(KModifier.PUBLIC)
-            .addSuperinterface(ANVIL.nestedClass("AttributeSetter").parameterizedBy(ANY_N))
+            .addSuperinterface(ANVIL.nestedClass("AttributeIdSetter").parameterizedBy(ANY_N))
+            .addSuperinterface(ANVIL.nestedClass("PrimitiveAttributeSetter"))
+            .addProperty(PropertySpec.builder("attrs", ATTR_TABLE, KModifier.PRIVATE)
+                .initializer("%T(%L)", ATTR_TABLE, attrsByName.keys.map { CodeBlock.of("%S", it) }.joinToCode())
+                .build())
             .addInitializerBlock(initializer.build())
+            .addFunction(FunSpec.builder("id")
+                .addKdoc("Returns attribute id for the ordinal from [%T]\n", attrsType)
+                .addParameter("ordinal", INT)
+                .returns(INT)
+                .addCode("return attrs.id(ordinal)\n")
+                .build())
             .addFunction(FunSpec.builder("set")
                 .addParameter("v", VIEW)
                 .addParameter("name", STRING)
@@ -161,12 +208,30 @@ open class DSLGeneratorTask : DefaultTask() {
                 .addParameter("old", ANY_N)
                 .returns(BOOLEAN)
                 .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
+                .addCode("return set(v, %T.attrId(name), arg, old)\n", ANVIL)
+                .build())
+            .addFunction(FunSpec.builder("set")
+                .addParameter("v", VIEW)
+                .addParameter("id", INT)
+                .addParameter("arg", ANY_N)
+                .addParameter("old", ANY_N)
+                .returns(BOOLEAN)
+                .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
                 .addCode(setterBody.build())
                 .build())
+            .addFunctions(primitiveBodies.map { (type, body) ->
+                FunSpec.builder(PRIMITIVES.getValue(type))
+                    .addParameter("v", VIEW)
+                    .addParameter("id", INT)
+                    .addParameter("arg", type)
+                    .returns(BOOLEAN)
+                    .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
+                    .addCode(body.build())
+                    .build()
+            })
             .build()
 
         val attr = MemberName(PACKAGE, "attr")
-        val bind = MemberName(PACKAGE, "bind")
         val v = MemberName(PACKAGE, "v")
 
         model.views.forEach { view ->
@@ -190,7 +255,7 @@ open class DSLGeneratorTask : DefaultTask() {
                     FunSpec.builder(it.name)
                         .addParameter("arg", type)
                         .returns(UNIT)
-                        .addCode(CodeBlock.of("return %M(%S, arg)", attr, it.name))
+                        .addCode(CodeBlock.of("return %M(%T.id(%T.%N), arg)", attr, setterType, attrsType, it.name))
                         .build()
                 }
 
@@ -201,7 +266,7 @@ open class DSLGeneratorTask : DefaultTask() {
                         LambdaTypeName.get(receiver = scopeType, returnType = UNIT))
                         .defaultValue("{}")
                         .build())
-                .addCode(CodeBlock.of("return %M<%T>(configure.%M(%T))", v, viewType, bind, scopeType))
+                .addCode(CodeBlock.of("return %M<%T, %T>(%T, configure)", v, viewType, scopeType, scopeType))
                 .build())
             fileSpec.addType(TypeSpec.classBuilder(scopeType)
                 .addModifiers(KModifier.PUBLIC, KModifier.ABSTRACT)
@@ -238,6 +303,7 @@ open class DSLGeneratorTask : DefaultTask() {
 
         fileSpec
             .addType(setterObject)
+            .addType(attrsObject)
             .addAnnotation(AnnotationSpec.builder(Suppress::class)
                 .addMember("\"DEPRECATION\", \"UNCHECKED_CAST\", \"MemberVisibilityCanBePrivate\", \"unused\"")
                 .useSiteTarget(AnnotationSpec.UseSiteTarget.FILE)
@@ -336,17 +402,19 @@ open class DSLGeneratorTask : DefaultTask() {
         }
 
         val samLike = functions.size == 1
+        // Listener is installed once per view, it dispatches events to the value
+        // the attribute has been rendered with last time, so fresh lambdas only
+        // replace the cached value
+        val delegateType = if (samLike) functions.first().asTypeName() else type.asTypeName()
 
         val body = buildCodeBlock {
-            if(samLike) {
-                add("arg as %T\n", functions.first().asTypeName())
-            }
+            beginControlFlow("if (old !is %T)", checkedType)
             if (samLike && type.isInterface) {
                 val function = functions.first()
                 val args = function.parameterSpecs.joinToString { it.name }
 
                 beginControlFlow("v.${setter.name} { $args ->")
-                add(function.buildListenerCode(putReturn = false, functionalType = true))
+                add(function.buildListenerCode(delegateType, putReturn = false, functionalType = true))
                 endControlFlow()
             } else {
                 val listener = TypeSpec.anonymousClassBuilder().apply {
@@ -356,11 +424,12 @@ open class DSLGeneratorTask : DefaultTask() {
                         superclass(type)
                     }
                     functions
-                        .map { it.buildListenerFunction(functionalType = samLike) }
+                        .map { it.buildListenerFunction(delegateType, functionalType = samLike) }
                         .forEach { addFunction(it) }
                 }.build()
                 addStatement("v.${setter.name}(%L)", listener)
             }
+            endControlFlow()
         }
 
         return buildCodeBlock {
@@ -400,26 +469,69 @@ open class DSLGeneratorTask : DefaultTask() {
         }
     }
 
-    private fun KFunction<*>.buildListenerFunction(functionalType: Boolean): FunSpec {
+    private fun KFunction<*>.buildListenerFunction(delegateType: TypeName, functionalType: Boolean): FunSpec {
         return FunSpec.builder(name)
             .addModifiers(KModifier.PUBLIC, KModifier.OVERRIDE)
             .returns(returnType.asTypeName())
             .addParameters(parameterSpecs)
-            .addCode(buildListenerCode(putReturn = true, functionalType = functionalType))
+            .addCode(buildListenerCode(delegateType, putReturn = true, functionalType = functionalType))
             .build()
     }
 
-    private fun KFunction<*>.buildListenerCode(putReturn: Boolean, functionalType: Boolean): CodeBlock = buildCodeBlock {
+    private fun KFunction<*>.buildListenerCode(delegateType: TypeName, putReturn: Boolean, functionalType: Boolean): CodeBlock = buildCodeBlock {
         val args = parameterSpecs.joinToString { it.name }
-        if(putReturn) {
+        // Views reused from the pool keep their listeners while the attribute
+        // is gone, their events are ignored
+        val default = defaultReturn()
+        if(putReturn && default != null) {
             add("return ")
         }
-        // TODO this can blow up if listener method has method named "arg"
-        add("arg")
-        if(!functionalType) {
-            add(".%L", name)
+        add("(%T.attrValue(v, id) as? %T)", ANVIL, delegateType)
+        if(functionalType) {
+            add("?.invoke($args)")
+        } else {
+            add("?.%L($args)", name)
+        }
+        add("?.also·{ %T.renderFrom(v) }", ANVIL)
+        if(default != null) {
+            add(" ?: %L", default)
         }
-        add("($args).also·{ %T.render() }\n", ANVIL)
+        add("\n")
+    }
+
+    /** Returns the value a listener returns when there is no delegate, null for Unit */
+    private fun KFunction<*>.defaultReturn(): String? = when(returnType.classifier) {
+        Unit::class -> null
+        Boolean::class -> "false"
+        // Listeners returning one of their arguments, like insets, pass it through
+        else -> parameterSpecs.first { it.type == returnType.asTypeName() }.name
+    }
+
+    private fun AttrModel.buildPrimitiveSetter(): CodeBlock {
+        val viewClass = setter.declaringClass.canonicalName
+        val builder = CodeBlock.builder()
+
+        return if (viewClass == VIEW_CNAME) {
+            builder
+                .beginControlFlow("else ->")
+                .add(setterStatement("v", "arg"))
+                .addStatement("true")
+                .endControlFlow()
+        } else {
+            val viewType = setter.declaringClass.kotlin
+            // TODO toParametrizedType
+            val v = if(viewType.typeParameters.isEmpty()) {
+                "v"
+            } else {
+                "(v as ${viewType.asClassName().parameterizedBy(viewType.typeParameters)})"
+            }
+
+            builder
+                .beginControlFlow("v is %T ->", viewType.starProjectedType.asTypeName())
+                .add(setterStatement(v, "arg"))
+                .addStatement("true")
+                .endControlFlow()
+        }.build()
     }
 
     private fun AttrModel.buildSetter(): CodeBlock? {
@@ -440,10 +552,17 @@ open class DSLGeneratorTask : DefaultTask() {
         val t = type.toParametrizedType()
 
         // TODO check if getter is present and if so, use property assignment, else use setter call
-        return if (viewClass == VIEW_CNAME) {
+        return if (viewClass == VIEW_CNAME && setter.name == "setLayoutParams") {
+            // Layout params are committed once per view by the render cycle
+            builder
+                .beginControlFlow("$checkArgLiteral ->", type.starProjectedType.asTypeName())
+                .addStatement("%T.setLayoutParams(v, $argAsParam)", ANVIL, t)
+                .addStatement("true")
+                .endControlFlow()
+        } else if (viewClass == VIEW_CNAME) {
             builder
                 .beginControlFlow("$checkArgLiteral ->", type.starProjectedType.asTypeName())
-                .addStatement("v.${setter.name}($argAsParam)", t)
+                .add(setterStatement("v", argAsParam, t))
                 .addStatement("true")
                 .endControlFlow()
         } else {
@@ -458,11 +577,25 @@ open class DSLGeneratorTask : DefaultTask() {
 
             builder
                 .beginControlFlow("v is %T && $checkArgLiteral ->", setter.declaringClass.kotlin.starProjectedType.asTypeName(), type.starProjectedType.asTypeName())
-                .addStatement("$v.${setter.name}($argAsParam)", t)
+                .add(setterStatement(v, argAsParam, t))
                 .addStatement("true")
                 .endControlFlow()
         }.build()
     }
+
+    private fun AttrModel.setterStatement(v: String, arg: String, vararg args: Any): CodeBlock {
+        val drawableSetter = CACHED_DRAWABLE_SETTERS["${setter.declaringClass.canonicalName}.${setter.name}"]
+        if (drawableSetter == null) {
+            return CodeBlock.of("$v.${setter.name}($arg)\n", *args)
+        }
+        return CodeBlock.builder()
+            .beginControlFlow("if (%T.isFrameworkView($v))", RESOURCE_CACHE)
+            .add("$v.$drawableSetter(%T.drawable($v.context, $arg))\n", RESOURCE_CACHE)
+            .nextControlFlow("else")
+            .add("$v.${setter.name}($arg)\n", *args)
+            .endControlFlow()
+            .build()
+    }
 }
 
 data class DslModel(
@@ -571,5 +704,22 @@ private const val ROOT_VIEW_SCOPE = "RootViewScope"
 private val ANY_N: ClassName = ANY.copy(nullable = true)
 private val FUNCTION_STAR: TypeName = ClassName("kotlin", "Function").parameterizedBy(STAR)
 private val ANVIL: ClassName = ClassName(PACKAGE, "Anvil")
+private val ATTR_TABLE: ClassName = ANVIL.nestedClass("AttrTable")
+private val RESOURCE_CACHE: ClassName = ClassName(PACKAGE, "ResourceCache")
+
+// Resource setters replaced with their drawable counterparts for framework views, so that drawables are loaded
+// through the shared cache
+private val CACHED_DRAWABLE_SETTERS: Map<String, String> = mapOf(
+    "android.view.View.setBackgroundResource" to "setBackgroundDrawable",
+    "android.widget.ImageView.setImageResource" to "setImageDrawable"
+)
+
+// Primitive attribute types which have unboxed entry points in the setter
+private val PRIMITIVES: Map<KClass<*>, String> = linkedMapOf(
+    Int::class to "setInt",
+    Float::class to "setFloat",
+    Boolean::class to "setBoolean",
+    Long::class to "setLong"
+)
 private val VIEW: ClassName = ClassName("android.view", "View")
 